@@ -37,6 +37,16 @@ export default defineConfig({
             link: "/extensions/adventure",
             description: "Support for `net.kyori:adventure` types",
           },
+          {
+            text: "Binary Snapshots",
+            link: "/extensions/binary",
+            description: "Pre-parsed configuration snapshots",
+          },
+          {
+            text: "Annotation Processor",
+            link: "/extensions/processor",
+            description: "Compile-time generation of configuration classes",
+          },
         ],
       },
     ],
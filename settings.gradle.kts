@@ -1,3 +1,3 @@
 rootProject.name = "warp-config"
 
-sequenceOf("warp", "warp-adventure", "warp-yaml").forEach { include(it) }
+sequenceOf("warp", "warp-adventure", "warp-binary", "warp-processor", "warp-yaml").forEach { include(it) }
@@ -158,6 +158,11 @@ final class MiniMessageDeserializer implements Deserializer<Component> {
 
     final String string = node.asString();
 
+    if (parameters.length == 0) {
+      // Without placeholders the component never changes, so it only needs to be parsed once
+      return Renderer.of(miniMessage.deserialize(string));
+    }
+
     return (rendererContext) -> {
       final Object[] arguments = rendererContext.arguments();
       final TagResolver[] tagResolvers = new TagResolver[placeholders.length];
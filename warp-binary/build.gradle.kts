@@ -0,0 +1,24 @@
+import com.vanniktech.maven.publish.JavaLibrary
+import com.vanniktech.maven.publish.JavadocJar
+import com.vanniktech.maven.publish.SourcesJar
+
+plugins {
+    id("warp.library-conventions")
+    id("com.vanniktech.maven.publish") version "0.36.0"
+}
+
+dependencies {
+    api(project(":warp"))
+
+    acceptanceTestImplementation(project(":warp-yaml"))
+    acceptanceTestImplementation(testFixtures(project(":warp-yaml")))
+}
+
+mavenPublishing {
+    configure(JavaLibrary(
+        javadocJar = JavadocJar.Javadoc(),
+        sourcesJar = SourcesJar.Sources(),
+    ))
+    signAllPublications()
+    publishToMavenCentral()
+}
@@ -0,0 +1,193 @@
+package me.sparky983.warp.binary;
+
+import static me.sparky983.warp.yaml.ConfigurationNodes.sourceIsMix;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import me.sparky983.warp.Configuration;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.Property;
+import me.sparky983.warp.Warp;
+import me.sparky983.warp.yaml.YamlConfigurationSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BinaryConfigurationSourceTest {
+  static final String MIX_YAML =
+      """
+        no value:
+        null value: null
+        true: true
+        false: false
+        integer: 10
+        decimal: 10.0
+        string: some string
+        list:
+          - 10
+          - some string
+        map:
+          key: value
+        """;
+
+  @TempDir Path tempDirPath;
+
+  @Test
+  void testWrite_Null() {
+    final ConfigurationNode node = ConfigurationNode.map();
+
+    assertThrows(
+        NullPointerException.class,
+        () -> BinaryConfigurationWriter.write(null, tempDirPath.resolve("null.bin")));
+    assertThrows(
+        NullPointerException.class, () -> BinaryConfigurationWriter.write(node, (Path) null));
+    assertThrows(
+        NullPointerException.class,
+        () -> BinaryConfigurationWriter.write(null, new ByteArrayOutputStream()));
+    assertThrows(
+        NullPointerException.class,
+        () -> BinaryConfigurationWriter.write(node, (OutputStream) null));
+  }
+
+  @Test
+  void testOf_Null() {
+    assertThrows(NullPointerException.class, () -> BinaryConfigurationSource.of(null));
+  }
+
+  @Test
+  void testOf_Invalid() {
+    final BinaryConfigurationSource source =
+        BinaryConfigurationSource.of(ByteBuffer.wrap(MIX_YAML.getBytes()));
+
+    assertThrows(ConfigurationException.class, source::configuration);
+  }
+
+  @Test
+  void testOf() throws IOException, ConfigurationException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryConfigurationWriter.write(mix(), output);
+
+    assertTrue(sourceIsMix(BinaryConfigurationSource.of(ByteBuffer.wrap(output.toByteArray()))));
+  }
+
+  @Test
+  void testReadPath_Null() {
+    assertThrows(NullPointerException.class, () -> BinaryConfigurationSource.read((Path) null));
+  }
+
+  @Test
+  void testReadPath_NotFound() throws IOException, ConfigurationException {
+    final Path notFound = tempDirPath.resolve("not-found.bin");
+
+    assertFalse(Files.exists(notFound));
+    assertEquals(Optional.empty(), BinaryConfigurationSource.read(notFound).configuration());
+  }
+
+  @Test
+  void testReadPath_Directory() throws IOException {
+    final Path directory = tempDirPath.resolve("dir");
+    Files.createDirectory(directory);
+
+    assertThrows(IOException.class, () -> BinaryConfigurationSource.read(directory));
+  }
+
+  @Test
+  void testReadPath() throws IOException, ConfigurationException {
+    final Path snapshot = tempDirPath.resolve("mix.bin");
+    BinaryConfigurationWriter.write(mix(), snapshot);
+
+    assertTrue(sourceIsMix(BinaryConfigurationSource.read(snapshot)));
+  }
+
+  @Test
+  void testReadPath_Replaced() throws IOException, ConfigurationException {
+    final Path snapshot = tempDirPath.resolve("mix.bin");
+    BinaryConfigurationWriter.write(mix(), snapshot);
+    final BinaryConfigurationSource source = BinaryConfigurationSource.read(snapshot);
+
+    // The old snapshot is still mapped by the source, so it must not be modified
+    BinaryConfigurationWriter.write(ConfigurationNode.map(), snapshot);
+
+    assertTrue(sourceIsMix(source));
+    assertEquals(
+        Optional.of(ConfigurationNode.map()),
+        BinaryConfigurationSource.read(snapshot).configuration());
+    try (final Stream<Path> files = Files.list(tempDirPath)) {
+      assertEquals(List.of(snapshot), files.toList());
+    }
+  }
+
+  @Test
+  void testReadFile_Null() {
+    assertThrows(NullPointerException.class, () -> BinaryConfigurationSource.read((File) null));
+  }
+
+  @Test
+  void testReadFile() throws IOException, ConfigurationException {
+    final Path snapshot = tempDirPath.resolve("mix.bin");
+    BinaryConfigurationWriter.write(mix(), snapshot);
+
+    assertTrue(sourceIsMix(BinaryConfigurationSource.read(snapshot.toFile())));
+  }
+
+  @Configuration
+  public interface Server {
+    @Property("port")
+    int port();
+
+    @Property("timeout")
+    double timeout();
+
+    @Property("motd")
+    String motd();
+
+    @Property("admins")
+    List<String> admins();
+
+    @Property("database.url")
+    String databaseUrl();
+  }
+
+  @Test
+  void testWarp() throws IOException, ConfigurationException {
+    final Path snapshot = tempDirPath.resolve("server.bin");
+    BinaryConfigurationWriter.write(
+        YamlConfigurationSource.of(
+                """
+                port: 25565
+                timeout: 2.5
+                motd: Welcome
+                admins: [a, b]
+                database:
+                  url: jdbc:h2:mem
+                """)
+            .configuration()
+            .orElseThrow(),
+        snapshot);
+
+    final Server server =
+        Warp.builder(Server.class).source(BinaryConfigurationSource.read(snapshot)).build();
+
+    assertEquals(25565, server.port());
+    assertEquals(2.5, server.timeout());
+    assertEquals("Welcome", server.motd());
+    assertEquals(List.of("a", "b"), server.admins());
+    assertEquals("jdbc:h2:mem", server.databaseUrl());
+  }
+
+  private static ConfigurationNode mix() throws ConfigurationException {
+    return YamlConfigurationSource.of(MIX_YAML).configuration().orElseThrow();
+  }
+}
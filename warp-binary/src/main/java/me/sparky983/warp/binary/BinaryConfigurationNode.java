@@ -0,0 +1,229 @@
+package me.sparky983.warp.binary;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import me.sparky983.warp.ConfigurationError;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A node of a {@link BinarySnapshot}, which is read from the snapshot when it is read.
+ *
+ * <p>The children of maps and lists are created the first time they are read.
+ *
+ * <p>A map or list node is equal to any node that can be read as an equal map or list, and its
+ * hash code is the hash code of the map or list. A scalar node is only equal to an equal scalar
+ * node of a snapshot.
+ */
+final class BinaryConfigurationNode implements ConfigurationNode {
+  private final BinarySnapshot snapshot;
+  private final int offset;
+
+  /** The map or list of this node, created the first time it is read. */
+  private volatile @Nullable Object children;
+
+  /**
+   * Constructs a {@code BinaryConfigurationNode}.
+   *
+   * @param snapshot the snapshot
+   * @param offset the offset of the node in the snapshot
+   */
+  BinaryConfigurationNode(final BinarySnapshot snapshot, final int offset) {
+    this.snapshot = snapshot;
+    this.offset = offset;
+  }
+
+  private byte kind() {
+    return snapshot.getByte(offset);
+  }
+
+  /** Returns the flags of this node, or {@code 0} if it is not a scalar. */
+  private int flags() {
+    return kind() == BinaryFormat.SCALAR ? snapshot.getByte(offset + 1) : 0;
+  }
+
+  @Override
+  public String asString() throws DeserializationException {
+    if ((flags() & BinaryFormat.STRING) == 0) {
+      return ConfigurationNode.super.asString();
+    }
+    return snapshot.string(snapshot.getInt(offset + 2));
+  }
+
+  @Override
+  public double asDecimal() throws DeserializationException {
+    final int flags = flags();
+    if ((flags & BinaryFormat.DECIMAL) == 0) {
+      return ConfigurationNode.super.asDecimal();
+    }
+    int position = offset + 2;
+    if ((flags & BinaryFormat.STRING) != 0) {
+      position += Integer.BYTES;
+    }
+    return snapshot.getDouble(position);
+  }
+
+  @Override
+  public long asInteger() throws DeserializationException {
+    final int flags = flags();
+    if ((flags & BinaryFormat.INTEGER) == 0) {
+      return ConfigurationNode.super.asInteger();
+    }
+    int position = offset + 2;
+    if ((flags & BinaryFormat.STRING) != 0) {
+      position += Integer.BYTES;
+    }
+    if ((flags & BinaryFormat.DECIMAL) != 0) {
+      position += Double.BYTES;
+    }
+    return snapshot.getZigzag(position);
+  }
+
+  @Override
+  public boolean asBoolean() throws DeserializationException {
+    final int flags = flags();
+    if ((flags & BinaryFormat.BOOLEAN) == 0) {
+      return ConfigurationNode.super.asBoolean();
+    }
+    return (flags & BinaryFormat.TRUE) != 0;
+  }
+
+  @Override
+  public boolean isNil() {
+    return (flags() & BinaryFormat.NIL) != 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public List<ConfigurationNode> asList() throws DeserializationException {
+    if (kind() != BinaryFormat.LIST) {
+      return ConfigurationNode.super.asList();
+    }
+    Object children = this.children;
+    if (children == null) {
+      final ConfigurationNode[] elements = new ConfigurationNode[snapshot.getInt(offset + 1)];
+      for (int i = 0; i < elements.length; i++) {
+        elements[i] =
+            new BinaryConfigurationNode(
+                snapshot, snapshot.getInt(offset + 5 + Integer.BYTES * i));
+      }
+      children = Collections.unmodifiableList(Arrays.asList(elements));
+      this.children = children;
+    }
+    return (List<ConfigurationNode>) children;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public Map<String, ConfigurationNode> asMap() throws DeserializationException {
+    if (kind() != BinaryFormat.MAP) {
+      return ConfigurationNode.super.asMap();
+    }
+    Object children = this.children;
+    if (children == null) {
+      final int size = snapshot.getInt(offset + 1);
+      // The builder stores the entries in arrays instead of allocating an entry per key
+      final ConfigurationNode.MapBuilder map = ConfigurationNode.mapBuilder(size);
+      for (int i = 0; i < size; i++) {
+        final int entry = offset + 5 + 2 * Integer.BYTES * i;
+        map.put(
+            snapshot.string(snapshot.getInt(entry)),
+            new BinaryConfigurationNode(snapshot, snapshot.getInt(entry + Integer.BYTES)));
+      }
+      try {
+        children = map.build().asMap();
+      } catch (final IllegalArgumentException e) {
+        // The writer never writes a key twice
+        throw new DeserializationException(
+            ConfigurationError.error("Corrupt binary configuration snapshot: " + e.getMessage()));
+      }
+      this.children = children;
+    }
+    return (Map<String, ConfigurationNode>) children;
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (!(other instanceof final ConfigurationNode node)) {
+      return false;
+    }
+    final byte kind = kind();
+    if (kind != BinaryFormat.MAP && kind != BinaryFormat.LIST) {
+      try {
+        return other instanceof final BinaryConfigurationNode binary
+            && binary.kind() == kind
+            && flags() == binary.flags()
+            && scalarEquals(binary);
+      } catch (final DeserializationException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+    // Maps and lists are equal to any node that can be read as an equal map or list
+    final Object children;
+    try {
+      children = kind == BinaryFormat.MAP ? asMap() : asList();
+    } catch (final DeserializationException e) {
+      throw new IllegalStateException(e);
+    }
+    try {
+      return children.equals(kind == BinaryFormat.MAP ? node.asMap() : node.asList());
+    } catch (final DeserializationException e) {
+      return false;
+    }
+  }
+
+  private boolean scalarEquals(final BinaryConfigurationNode other)
+      throws DeserializationException {
+    final int flags = flags();
+    return ((flags & BinaryFormat.STRING) == 0 || asString().equals(other.asString()))
+        && ((flags & BinaryFormat.DECIMAL) == 0
+            || Double.compare(asDecimal(), other.asDecimal()) == 0)
+        && ((flags & BinaryFormat.INTEGER) == 0 || asInteger() == other.asInteger());
+  }
+
+  @Override
+  public int hashCode() {
+    try {
+      return switch (kind()) {
+        case BinaryFormat.MAP -> asMap().hashCode();
+        case BinaryFormat.LIST -> asList().hashCode();
+        default -> (flags() & BinaryFormat.STRING) == 0 ? flags() : asString().hashCode();
+      };
+    } catch (final DeserializationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    try {
+      return switch (kind()) {
+        case BinaryFormat.MAP -> asMap().toString();
+        case BinaryFormat.LIST -> asList().toString();
+        default -> scalarToString();
+      };
+    } catch (final DeserializationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private String scalarToString() throws DeserializationException {
+    final int flags = flags();
+    if ((flags & BinaryFormat.STRING) != 0) {
+      return asString();
+    } else if ((flags & BinaryFormat.INTEGER) != 0) {
+      return String.valueOf(asInteger());
+    } else if ((flags & BinaryFormat.DECIMAL) != 0) {
+      return String.valueOf(asDecimal());
+    } else if ((flags & BinaryFormat.BOOLEAN) != 0) {
+      return String.valueOf(asBoolean());
+    }
+    return "null";
+  }
+}
@@ -0,0 +1,97 @@
+package me.sparky983.warp.binary;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.Optional;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationSource;
+
+/**
+ * A marker interface for configuration sources that read binary snapshots written by {@link
+ * BinaryConfigurationWriter}.
+ *
+ * <p>Snapshots are not parsed. Only the header is read when the source is created, and nodes are
+ * read from the snapshot as they are read from the configuration.
+ *
+ * @see BinaryConfigurationSource#of(ByteBuffer)
+ * @see BinaryConfigurationSource#read(Path)
+ * @see BinaryConfigurationSource#read(File)
+ * @since 0.3
+ */
+public interface BinaryConfigurationSource extends ConfigurationSource {
+  /**
+   * Creates a new {@code BinaryConfigurationSource} of the snapshot in the given buffer.
+   *
+   * <p>The snapshot starts at the buffer's position and ends at its limit. The buffer's contents
+   * must not be changed while the configuration is in use.
+   *
+   * @param buffer the buffer
+   * @return the new source
+   * @throws NullPointerException if the buffer is {@code null}.
+   * @since 0.3
+   */
+  static BinaryConfigurationSource of(final ByteBuffer buffer) {
+    Objects.requireNonNull(buffer, "buffer cannot be null");
+
+    try {
+      return new OkBinaryConfigurationSource(Optional.of(BinarySnapshot.of(buffer).root()));
+    } catch (final ConfigurationException e) {
+      return new ErrorBinaryConfigurationSource(e);
+    }
+  }
+
+  /**
+   * Creates a new {@code BinaryConfigurationSource} from the given path. If there is no file, an
+   * {@linkplain ConfigurationSource##empty-source-header empty source} is returned, otherwise a
+   * {@code BinaryConfigurationSource} of the snapshot is returned.
+   *
+   * <p>The file is memory-mapped rather than read into memory, so it must not be modified while
+   * the configuration is in use. Snapshots should be replaced by moving a new file over the old
+   * one.
+   *
+   * @param path the path
+   * @return the new source
+   * @throws IOException if there was an error mapping the file.
+   * @throws NullPointerException if the path is {@code null}.
+   * @since 0.3
+   */
+  static BinaryConfigurationSource read(final Path path) throws IOException {
+    Objects.requireNonNull(path, "path cannot be null");
+
+    final MappedByteBuffer buffer;
+    try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    } catch (final NoSuchFileException e) {
+      return new OkBinaryConfigurationSource(Optional.empty());
+    }
+    return of(buffer);
+  }
+
+  /**
+   * Creates a new {@code BinaryConfigurationSource} from the given file. If there is no file, an
+   * {@linkplain ConfigurationSource##empty-source-header empty source} is returned, otherwise a
+   * {@code BinaryConfigurationSource} of the snapshot is returned.
+   *
+   * @param file the file
+   * @return the new source
+   * @throws IOException if there was an error mapping the file.
+   * @throws java.nio.file.InvalidPathException if the file could not be converted to a {@link Path}
+   *     object - see {@link java.nio.file.FileSystem#getPath(String, String...)}.
+   * @throws NullPointerException if the file is {@code null}.
+   * @since 0.3
+   * @see #read(Path)
+   */
+  static BinaryConfigurationSource read(final File file) throws IOException {
+    Objects.requireNonNull(file, "file cannot be null");
+
+    return read(file.toPath());
+  }
+}
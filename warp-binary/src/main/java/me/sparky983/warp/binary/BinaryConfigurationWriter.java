@@ -0,0 +1,277 @@
+package me.sparky983.warp.binary;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Writes {@link ConfigurationNode} trees as binary snapshots, which can be read by {@link
+ * BinaryConfigurationSource}.
+ *
+ * <p>Snapshots are meant to be created ahead of time, such as when an application is deployed, so
+ * that the configuration does not need to be parsed when the application starts:
+ *
+ * <pre>{@code
+ * ConfigurationNode configuration = YamlConfigurationSource.read(Path.of("config.yml"))
+ *     .configuration()
+ *     .orElseThrow();
+ * BinaryConfigurationWriter.write(configuration, Path.of("config.bin"));
+ * }</pre>
+ *
+ * <p>Each node is written as a map, a list or a scalar. A scalar records every way it can be read,
+ * so untyped nodes such as YAML scalars are read back the same way they were written.
+ *
+ * @since 0.3
+ */
+public final class BinaryConfigurationWriter {
+  private final ByteArrayOutputStream nodeBytes = new ByteArrayOutputStream();
+  private final DataOutputStream nodes = new DataOutputStream(nodeBytes);
+  private final Map<String, Integer> stringIndices = new HashMap<>();
+  private final List<String> strings = new ArrayList<>();
+
+  private BinaryConfigurationWriter() {}
+
+  /**
+   * Writes the given node as a binary snapshot to the given path, replacing the file if it exists.
+   *
+   * <p>The snapshot is written to a temporary file in the same directory, which is then atomically
+   * moved over the given path. The old file is never modified, so {@linkplain
+   * BinaryConfigurationSource#read(Path) sources} that have mapped it keep reading the old
+   * snapshot.
+   *
+   * @param node the node
+   * @param path the path
+   * @throws java.nio.file.AtomicMoveNotSupportedException if the file system can't replace the
+   *     file atomically.
+   * @throws IOException if there was an error writing the file.
+   * @throws NullPointerException if the node or path is {@code null}.
+   * @since 0.3
+   */
+  public static void write(final ConfigurationNode node, final Path path) throws IOException {
+    Objects.requireNonNull(node, "node cannot be null");
+    Objects.requireNonNull(path, "path cannot be null");
+
+    final Path target = path.toAbsolutePath();
+    // Not a temporary file from Files.createTempFile, so it is created with the usual permissions
+    final Path temporary =
+        target.resolveSibling(
+            "."
+                + target.getFileName()
+                + "."
+                + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36)
+                + ".tmp");
+    try {
+      try (final OutputStream output =
+          new BufferedOutputStream(
+              Files.newOutputStream(
+                  temporary, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE))) {
+        write(node, output);
+      }
+      Files.move(
+          temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException | RuntimeException | Error e) {
+      try {
+        Files.deleteIfExists(temporary);
+      } catch (final IOException deleteException) {
+        e.addSuppressed(deleteException);
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Writes the given node as a binary snapshot to the given output stream.
+   *
+   * <p>The output stream is not closed.
+   *
+   * @param node the node
+   * @param output the output stream
+   * @throws IOException if there was an error writing to the output stream.
+   * @throws NullPointerException if the node or output stream is {@code null}.
+   * @since 0.3
+   */
+  public static void write(final ConfigurationNode node, final OutputStream output)
+      throws IOException {
+    Objects.requireNonNull(node, "node cannot be null");
+    Objects.requireNonNull(output, "output cannot be null");
+
+    final BinaryConfigurationWriter writer = new BinaryConfigurationWriter();
+    writer.writeSnapshot(writer.writeNode(node), output);
+  }
+
+  /**
+   * Writes the given node and its children.
+   *
+   * @return the offset of the node
+   */
+  private int writeNode(final ConfigurationNode node) throws IOException {
+    final Map<String, ConfigurationNode> map = asMap(node);
+    if (map != null) {
+      final int[] keys = new int[map.size()];
+      final int[] values = new int[map.size()];
+      int i = 0;
+      for (final Map.Entry<String, ConfigurationNode> entry : map.entrySet()) {
+        keys[i] = string(entry.getKey());
+        values[i] = writeNode(entry.getValue());
+        i++;
+      }
+
+      final int offset = offset();
+      nodes.writeByte(BinaryFormat.MAP);
+      nodes.writeInt(keys.length);
+      for (i = 0; i < keys.length; i++) {
+        nodes.writeInt(keys[i]);
+        nodes.writeInt(values[i]);
+      }
+      return offset;
+    }
+
+    final List<ConfigurationNode> list = asList(node);
+    if (list != null) {
+      final int[] elements = new int[list.size()];
+      for (int i = 0; i < elements.length; i++) {
+        elements[i] = writeNode(list.get(i));
+      }
+
+      final int offset = offset();
+      nodes.writeByte(BinaryFormat.LIST);
+      nodes.writeInt(elements.length);
+      for (final int element : elements) {
+        nodes.writeInt(element);
+      }
+      return offset;
+    }
+
+    return writeScalar(node);
+  }
+
+  private int writeScalar(final ConfigurationNode node) throws IOException {
+    int flags = node.isNil() ? BinaryFormat.NIL : 0;
+    int string = 0;
+    try {
+      string = string(node.asString());
+      flags |= BinaryFormat.STRING;
+    } catch (final DeserializationException e) {
+      // Not a string
+    }
+    double decimal = 0;
+    try {
+      decimal = node.asDecimal();
+      flags |= BinaryFormat.DECIMAL;
+    } catch (final DeserializationException e) {
+      // Not a decimal
+    }
+    long integer = 0;
+    try {
+      integer = node.asInteger();
+      flags |= BinaryFormat.INTEGER;
+    } catch (final DeserializationException e) {
+      // Not an integer
+    }
+    try {
+      flags |= BinaryFormat.BOOLEAN | (node.asBoolean() ? BinaryFormat.TRUE : 0);
+    } catch (final DeserializationException e) {
+      // Not a boolean
+    }
+
+    final int offset = offset();
+    nodes.writeByte(BinaryFormat.SCALAR);
+    nodes.writeByte(flags);
+    if ((flags & BinaryFormat.STRING) != 0) {
+      nodes.writeInt(string);
+    }
+    if ((flags & BinaryFormat.DECIMAL) != 0) {
+      nodes.writeDouble(decimal);
+    }
+    if ((flags & BinaryFormat.INTEGER) != 0) {
+      writeVarint(nodes, integer << 1 ^ integer >> 63);
+    }
+    return offset;
+  }
+
+  private void writeSnapshot(final int root, final OutputStream output) throws IOException {
+    final int stringTable = BinaryFormat.HEADER_SIZE + nodeBytes.size();
+
+    final DataOutputStream data = new DataOutputStream(output);
+    data.writeInt(BinaryFormat.MAGIC);
+    data.writeInt(BinaryFormat.VERSION);
+    data.writeInt(stringTable);
+    data.writeInt(root);
+    nodeBytes.writeTo(data);
+
+    final ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+    final DataOutputStream stringData = new DataOutputStream(stringBytes);
+    final int[] offsets = new int[strings.size()];
+    final int stringsStart = stringTable + Integer.BYTES * (1 + strings.size());
+    for (int i = 0; i < offsets.length; i++) {
+      offsets[i] = stringsStart + stringBytes.size();
+      final byte[] bytes = strings.get(i).getBytes(StandardCharsets.UTF_8);
+      writeVarint(stringData, bytes.length);
+      stringData.write(bytes);
+    }
+
+    data.writeInt(offsets.length);
+    for (final int offset : offsets) {
+      data.writeInt(offset);
+    }
+    stringBytes.writeTo(data);
+    data.flush();
+  }
+
+  /** Returns the offset of the next node. */
+  private int offset() {
+    return BinaryFormat.HEADER_SIZE + nodes.size();
+  }
+
+  /** Returns the index of the given string in the string table, adding it if it is absent. */
+  private int string(final String string) {
+    return stringIndices.computeIfAbsent(
+        string,
+        (s) -> {
+          strings.add(s);
+          return strings.size() - 1;
+        });
+  }
+
+  private static void writeVarint(final DataOutputStream output, final long value)
+      throws IOException {
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0) {
+      output.writeByte((int) (remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    output.writeByte((int) remaining);
+  }
+
+  private static @Nullable Map<String, ConfigurationNode> asMap(final ConfigurationNode node) {
+    try {
+      return node.asMap();
+    } catch (final DeserializationException e) {
+      return null;
+    }
+  }
+
+  private static @Nullable List<ConfigurationNode> asList(final ConfigurationNode node) {
+    try {
+      return node.asList();
+    } catch (final DeserializationException e) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package me.sparky983.warp.binary;
+
+/**
+ * The constants of the binary snapshot format.
+ *
+ * <p>All fixed-width values are big-endian, and all offsets are relative to the start of the
+ * snapshot. A snapshot is laid out as follows:
+ *
+ * <ol>
+ *   <li>The header: the {@link #MAGIC} number, the {@link #VERSION}, the offset of the string
+ *       table and the offset of the root node, as 4 byte integers.
+ *   <li>The nodes. Children are written before their parents, so the root node is last.
+ *   <li>The string table: the number of strings, the offset of each string, then the strings. Each
+ *       string is its length in bytes as a varint followed by its UTF-8 encoding.
+ * </ol>
+ *
+ * <p>A node starts with its kind.
+ *
+ * <ul>
+ *   <li>A {@link #MAP} is followed by its size and an entry for each key, made of the index of the
+ *       key in the string table and the offset of the value.
+ *   <li>A {@link #LIST} is followed by its size and the offset of each element.
+ *   <li>A {@link #SCALAR} is followed by a byte of flags, which specify the ways it can be read.
+ *       Then, if present, the index of its {@linkplain #STRING string} value in the string table,
+ *       its {@linkplain #DECIMAL decimal} value as an IEEE 754 double and its {@linkplain #INTEGER
+ *       integer} value as a zigzag-encoded varint follow.
+ * </ul>
+ */
+final class BinaryFormat {
+  /** The magic number every snapshot starts with: {@code WARP} in ASCII. */
+  static final int MAGIC = 0x57415250;
+
+  /** The version of the format. */
+  static final int VERSION = 1;
+
+  /** The size of the header in bytes. */
+  static final int HEADER_SIZE = 16;
+
+  /** The offset of the string table offset in the header. */
+  static final int STRING_TABLE_OFFSET = 8;
+
+  /** The offset of the root node offset in the header. */
+  static final int ROOT_OFFSET = 12;
+
+  static final byte MAP = 1;
+  static final byte LIST = 2;
+  static final byte SCALAR = 3;
+
+  /** The scalar can be read as a string. */
+  static final int STRING = 1;
+
+  /** The scalar can be read as an integer. */
+  static final int INTEGER = 1 << 1;
+
+  /** The scalar can be read as a decimal. */
+  static final int DECIMAL = 1 << 2;
+
+  /** The scalar can be read as a boolean. */
+  static final int BOOLEAN = 1 << 3;
+
+  /** The boolean value of the scalar, if it can be read as a boolean. */
+  static final int TRUE = 1 << 4;
+
+  /** The scalar represents {@code null}. */
+  static final int NIL = 1 << 5;
+
+  private BinaryFormat() {}
+}
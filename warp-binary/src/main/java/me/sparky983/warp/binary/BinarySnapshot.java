@@ -0,0 +1,136 @@
+package me.sparky983.warp.binary;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import me.sparky983.warp.ConfigurationError;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+
+/**
+ * A binary snapshot, read from a buffer.
+ *
+ * <p>Only absolute reads are used, so the snapshot may be read by multiple threads, and the
+ * position of the buffer is never changed. Strings are decoded the first time they are read.
+ *
+ * @see BinaryFormat
+ */
+final class BinarySnapshot {
+  private final ByteBuffer buffer;
+  private final int stringTable;
+  private final int root;
+
+  /** The decoded strings, by index. */
+  private final String[] strings;
+
+  private BinarySnapshot(
+      final ByteBuffer buffer, final int stringTable, final int root, final int stringCount) {
+    this.buffer = buffer;
+    this.stringTable = stringTable;
+    this.root = root;
+    this.strings = new String[stringCount];
+  }
+
+  /**
+   * Reads the header of the given snapshot.
+   *
+   * @param buffer the buffer; its contents must not be changed while the snapshot is read
+   * @return the snapshot
+   * @throws ConfigurationException if the buffer is not a snapshot or has an unsupported version.
+   * @throws NullPointerException if the buffer is {@code null}.
+   */
+  static BinarySnapshot of(final ByteBuffer buffer) throws ConfigurationException {
+    Objects.requireNonNull(buffer, "buffer cannot be null");
+
+    final ByteBuffer snapshot = buffer.slice();
+    final int limit = snapshot.limit();
+    if (limit < BinaryFormat.HEADER_SIZE || snapshot.getInt(0) != BinaryFormat.MAGIC) {
+      throw new ConfigurationException(
+          ConfigurationError.error("Not a binary configuration snapshot"));
+    }
+    final int version = snapshot.getInt(4);
+    if (version != BinaryFormat.VERSION) {
+      throw new ConfigurationException(
+          ConfigurationError.error("Unsupported binary configuration snapshot version " + version));
+    }
+    final int stringTable = snapshot.getInt(BinaryFormat.STRING_TABLE_OFFSET);
+    final int root = snapshot.getInt(BinaryFormat.ROOT_OFFSET);
+    if (stringTable < BinaryFormat.HEADER_SIZE
+        || stringTable > limit - Integer.BYTES
+        || root < BinaryFormat.HEADER_SIZE
+        || root >= stringTable) {
+      throw new ConfigurationException(
+          ConfigurationError.error("Corrupt binary configuration snapshot"));
+    }
+    // Each string has an offset in the table, so a corrupt count cannot allocate a huge array
+    final int stringCount = snapshot.getInt(stringTable);
+    if (stringCount < 0 || stringCount > (limit - stringTable - Integer.BYTES) / Integer.BYTES) {
+      throw new ConfigurationException(
+          ConfigurationError.error("Corrupt binary configuration snapshot"));
+    }
+    return new BinarySnapshot(snapshot, stringTable, root, stringCount);
+  }
+
+  /**
+   * Returns the root node of the snapshot.
+   *
+   * @return the root node
+   */
+  ConfigurationNode root() {
+    return new BinaryConfigurationNode(this, root);
+  }
+
+  byte getByte(final int offset) {
+    return buffer.get(offset);
+  }
+
+  int getInt(final int offset) {
+    return buffer.getInt(offset);
+  }
+
+  double getDouble(final int offset) {
+    return buffer.getDouble(offset);
+  }
+
+  /** Reads the zigzag-encoded varint at the given offset. */
+  long getZigzag(final int offset) {
+    long value = 0;
+    int shift = 0;
+    int position = offset;
+    byte b;
+    do {
+      b = buffer.get(position++);
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while (b < 0);
+    return value >>> 1 ^ -(value & 1);
+  }
+
+  /**
+   * Returns the string with the given index in the string table.
+   *
+   * @param index the index
+   * @return the string
+   */
+  String string(final int index) {
+    String string = strings[index];
+    if (string == null) {
+      // Decoding is idempotent, so racing threads may each decode the string
+      int position = buffer.getInt(stringTable + Integer.BYTES * (1 + index));
+      int length = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = buffer.get(position++);
+        length |= (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+
+      final byte[] bytes = new byte[length];
+      buffer.get(position, bytes);
+      string = new String(bytes, StandardCharsets.UTF_8);
+      strings[index] = string;
+    }
+    return string;
+  }
+}
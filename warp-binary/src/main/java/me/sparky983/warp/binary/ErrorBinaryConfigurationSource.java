@@ -0,0 +1,29 @@
+package me.sparky983.warp.binary;
+
+import java.util.Objects;
+import java.util.Optional;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+
+/**
+ * A {@link BinaryConfigurationSource} that contains an exception.
+ *
+ * @param exception the exception
+ */
+record ErrorBinaryConfigurationSource(ConfigurationException exception)
+    implements BinaryConfigurationSource {
+  /**
+   * Constructs a {@code ErrorBinaryConfigurationSource}.
+   *
+   * @param exception the exception
+   * @throws NullPointerException if {@code exception} is {@code null}
+   */
+  ErrorBinaryConfigurationSource {
+    Objects.requireNonNull(exception, "exception cannot be null");
+  }
+
+  @Override
+  public Optional<ConfigurationNode> configuration() throws ConfigurationException {
+    throw exception;
+  }
+}
@@ -0,0 +1,17 @@
+package me.sparky983.warp.binary;
+
+import java.util.Objects;
+import java.util.Optional;
+import me.sparky983.warp.ConfigurationNode;
+
+/**
+ * A {@link BinaryConfigurationSource} that has no errors.
+ *
+ * @param configuration the configuration
+ */
+record OkBinaryConfigurationSource(Optional<ConfigurationNode> configuration)
+    implements BinaryConfigurationSource {
+  OkBinaryConfigurationSource {
+    Objects.requireNonNull(configuration, "configuration cannot be null");
+  }
+}
@@ -0,0 +1,19 @@
+import me.sparky983.warp.binary.BinaryConfigurationSource;
+import me.sparky983.warp.binary.BinaryConfigurationWriter;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Warp Binary provides a compact binary snapshot format for configurations and a memory-mapped
+ * configuration source that reads it.
+ *
+ * @see BinaryConfigurationWriter
+ * @see BinaryConfigurationSource
+ */
+@SuppressWarnings("module")
+@NullMarked
+module me.sparky983.warp.binary {
+  requires transitive me.sparky983.warp;
+  requires static org.jspecify;
+
+  exports me.sparky983.warp.binary;
+}
@@ -0,0 +1,197 @@
+package me.sparky983.warp.binary;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.junit.jupiter.api.Test;
+
+class BinaryConfigurationNodeTest {
+  @Test
+  void testString() throws IOException, ConfigurationException {
+    final ConfigurationNode node = roundTrip(ConfigurationNode.string("caf\u00e9 \uD83D\uDE00"));
+
+    assertEquals("caf\u00e9 \uD83D\uDE00", node.asString());
+    assertThrows(DeserializationException.class, node::asInteger);
+    assertThrows(DeserializationException.class, node::asDecimal);
+    assertThrows(DeserializationException.class, node::asBoolean);
+    assertThrows(DeserializationException.class, node::asList);
+    assertThrows(DeserializationException.class, node::asMap);
+    assertFalse(node.isNil());
+  }
+
+  @Test
+  void testInteger() throws IOException, ConfigurationException {
+    for (final long value : new long[] {0, 1, -1, 300, Long.MIN_VALUE, Long.MAX_VALUE}) {
+      assertEquals(value, roundTrip(ConfigurationNode.integer(value)).asInteger());
+    }
+  }
+
+  @Test
+  void testDecimal() throws IOException, ConfigurationException {
+    assertEquals(10.5, roundTrip(ConfigurationNode.decimal(10.5)).asDecimal());
+    assertEquals(-0.0, roundTrip(ConfigurationNode.decimal(-0.0)).asDecimal());
+    assertEquals(
+        Double.MAX_VALUE, roundTrip(ConfigurationNode.decimal(Double.MAX_VALUE)).asDecimal());
+  }
+
+  @Test
+  void testBoolean() throws IOException, ConfigurationException {
+    assertTrue(roundTrip(ConfigurationNode.bool(true)).asBoolean());
+    assertFalse(roundTrip(ConfigurationNode.bool(false)).asBoolean());
+  }
+
+  @Test
+  void testNil() throws IOException, ConfigurationException {
+    assertTrue(roundTrip(ConfigurationNode.nil()).isNil());
+  }
+
+  @Test
+  void testUntypedScalar() throws IOException, ConfigurationException {
+    final ConfigurationNode node =
+        roundTrip(
+            new ConfigurationNode() {
+              @Override
+              public String asString() {
+                return "10";
+              }
+
+              @Override
+              public long asInteger() {
+                return 10;
+              }
+
+              @Override
+              public double asDecimal() {
+                return 10;
+              }
+            });
+
+    assertEquals("10", node.asString());
+    assertEquals(10, node.asInteger());
+    assertEquals(10.0, node.asDecimal());
+    assertThrows(DeserializationException.class, node::asBoolean);
+  }
+
+  @Test
+  void testCollections() throws IOException, ConfigurationException {
+    final ConfigurationNode node =
+        roundTrip(
+            ConfigurationNode.map(
+                Map.entry("b", ConfigurationNode.string("value")),
+                Map.entry("a", ConfigurationNode.list(ConfigurationNode.integer(1))),
+                Map.entry("empty", ConfigurationNode.map()),
+                Map.entry(
+                    "nested",
+                    ConfigurationNode.map(Map.entry("b", ConfigurationNode.string("value"))))));
+
+    final Map<String, ConfigurationNode> map = node.asMap();
+    assertEquals(List.of("b", "a", "empty", "nested"), List.copyOf(map.keySet()));
+    assertEquals("value", map.get("b").asString());
+    assertEquals(1, map.get("a").asList().get(0).asInteger());
+    assertEquals(Map.of(), map.get("empty").asMap());
+    assertEquals("value", map.get("nested").asMap().get("b").asString());
+    assertThrows(DeserializationException.class, map.get("a")::asMap);
+    assertThrows(UnsupportedOperationException.class, () -> map.put("c", map.get("b")));
+  }
+
+  @Test
+  void testEquals() throws IOException, ConfigurationException {
+    final ConfigurationNode node =
+        ConfigurationNode.map(
+            Map.entry("key", ConfigurationNode.list(ConfigurationNode.string("value"))));
+
+    assertEquals(roundTrip(node), roundTrip(node));
+    assertEquals(roundTrip(node).hashCode(), roundTrip(node).hashCode());
+    assertNotEquals(
+        roundTrip(node),
+        roundTrip(
+            ConfigurationNode.map(
+                Map.entry("key", ConfigurationNode.list(ConfigurationNode.string("other"))))));
+    assertNotEquals(
+        roundTrip(ConfigurationNode.integer(1)), roundTrip(ConfigurationNode.decimal(1)));
+  }
+
+  @Test
+  void testEquals_OtherNodes() throws IOException, ConfigurationException {
+    final ConfigurationNode node =
+        roundTrip(
+            ConfigurationNode.map(
+                Map.entry("key", ConfigurationNode.list(ConfigurationNode.string("value")))));
+    final ConfigurationNode value = node.asMap().get("key").asList().get(0);
+    final ConfigurationNode map =
+        ConfigurationNode.map(Map.entry("key", ConfigurationNode.list(value)));
+
+    assertEquals(map, node);
+    assertEquals(node, map);
+    assertEquals(map.hashCode(), node.hashCode());
+    assertNotEquals(node, ConfigurationNode.map());
+    assertNotEquals(node, ConfigurationNode.list());
+    assertNotEquals(value, ConfigurationNode.string("value"));
+  }
+
+  @Test
+  void testInvalid() {
+    assertThrows(
+        ConfigurationException.class,
+        () -> BinarySnapshot.of(ByteBuffer.wrap(new byte[] {1, 2, 3})));
+    assertThrows(
+        ConfigurationException.class,
+        () -> BinarySnapshot.of(ByteBuffer.wrap(new byte[BinaryFormat.HEADER_SIZE])));
+  }
+
+  @Test
+  void testCorruptStringCount() throws IOException {
+    final byte[] snapshot = write(ConfigurationNode.map());
+    final ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+    buffer.putInt(buffer.getInt(BinaryFormat.STRING_TABLE_OFFSET), Integer.MAX_VALUE);
+
+    assertThrows(ConfigurationException.class, () -> BinarySnapshot.of(buffer));
+  }
+
+  @Test
+  void testDuplicateKey() throws IOException, ConfigurationException {
+    final byte[] snapshot =
+        write(
+            ConfigurationNode.map(
+                Map.entry("a", ConfigurationNode.integer(1)),
+                Map.entry("b", ConfigurationNode.integer(2))));
+    final ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+    // Point the key of the second entry at the key of the first entry
+    final int root = buffer.getInt(BinaryFormat.ROOT_OFFSET);
+    buffer.putInt(root + 5 + 2 * Integer.BYTES, buffer.getInt(root + 5));
+
+    final ConfigurationNode node = BinarySnapshot.of(buffer).root();
+
+    assertThrows(DeserializationException.class, node::asMap);
+  }
+
+  @Test
+  void testUnsupportedVersion() throws IOException {
+    final byte[] snapshot = write(ConfigurationNode.map());
+    snapshot[7] = 2;
+
+    assertThrows(ConfigurationException.class, () -> BinarySnapshot.of(ByteBuffer.wrap(snapshot)));
+  }
+
+  private static byte[] write(final ConfigurationNode node) throws IOException {
+    final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    BinaryConfigurationWriter.write(node, output);
+    return output.toByteArray();
+  }
+
+  private static ConfigurationNode roundTrip(final ConfigurationNode node)
+      throws IOException, ConfigurationException {
+    return BinarySnapshot.of(ByteBuffer.wrap(write(node))).root();
+  }
+}
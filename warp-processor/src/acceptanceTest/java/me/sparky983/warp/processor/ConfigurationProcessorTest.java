@@ -0,0 +1,295 @@
+package me.sparky983.warp.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import me.sparky983.warp.Configuration;
+import me.sparky983.warp.ConfigurationError;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.ConfigurationSource;
+import me.sparky983.warp.DeserializationException;
+import me.sparky983.warp.Property;
+import me.sparky983.warp.Warp;
+import me.sparky983.warp.generated.GeneratedConfiguration;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationProcessorTest {
+  static final ConfigurationError UNKNOWN = ConfigurationError.error("Unknown property");
+
+  interface Base {
+    @Property("inherited")
+    default String inherited() {
+      return "default";
+    }
+  }
+
+  @Configuration
+  interface Generated extends Base {
+    @Property("nested.number")
+    int number();
+
+    @Property("list")
+    List<String> list();
+
+    @Property("map")
+    Map<String, List<Integer>> map();
+
+    @Property("optional")
+    Optional<String> optional();
+
+    @Property("lists")
+    List<String>[] lists();
+
+    @Property("greeting")
+    default String greeting(final String name) {
+      return "Hello " + name;
+    }
+  }
+
+  @Configuration
+  interface Parameterized {
+    @Property("greeting")
+    CharSequence greeting(String name);
+  }
+
+  @Configuration
+  interface Paths {
+    @Property("parent")
+    Map<String, String> parent();
+
+    @Property("parent.child")
+    Optional<String> child();
+
+    @Property("nested.child")
+    Optional<String> nestedChild();
+  }
+
+  @Configuration
+  private interface Private {
+    @Property("property")
+    String property();
+  }
+
+  @Test
+  void testSchemaIsGenerated() throws ClassNotFoundException {
+    final Class<?> schema =
+        Class.forName(Generated.class.getName() + GeneratedConfiguration.SUFFIX);
+
+    assertTrue(GeneratedConfiguration.class.isAssignableFrom(schema));
+  }
+
+  @Test
+  void testSchemaIsNotGenerated_Private() {
+    assertThrows(
+        ClassNotFoundException.class,
+        () -> Class.forName(Private.class.getName() + GeneratedConfiguration.SUFFIX));
+  }
+
+  @Test
+  void testBuild() throws ConfigurationException {
+    final Generated configuration =
+        Warp.builder(Generated.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "nested", ConfigurationNode.map(Map.entry("number", integer(1)))),
+                        Map.entry("list", ConfigurationNode.list(string("a"), string("b"))),
+                        Map.entry(
+                            "map",
+                            ConfigurationNode.map(
+                                Map.entry("key", ConfigurationNode.list(integer(2))))),
+                        Map.entry(
+                            "lists",
+                            ConfigurationNode.list(ConfigurationNode.list(string("c")))),
+                        Map.entry("greeting", string("Hi")))))
+            .build();
+
+    assertEquals(
+        Generated.class.getName() + GeneratedConfiguration.SUFFIX,
+        configuration.getClass().getEnclosingClass().getName());
+    assertEquals(1, configuration.number());
+    assertEquals(List.of("a", "b"), configuration.list());
+    assertEquals(Map.of("key", List.of(2)), configuration.map());
+    assertEquals(Optional.empty(), configuration.optional());
+    assertEquals(List.of(List.of("c")), List.of(configuration.lists()));
+    assertEquals("default", configuration.inherited());
+    assertEquals("Hi", configuration.greeting("world"));
+    assertEquals(Generated.class.getName(), configuration.toString());
+  }
+
+  @Test
+  void testBuild_ValueFields() throws ConfigurationException {
+    final Generated configuration =
+        Warp.builder(Generated.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "nested", ConfigurationNode.map(Map.entry("number", integer(1)))))))
+            .build();
+
+    final List<Class<?>> fieldTypes =
+        Arrays.stream(configuration.getClass().getDeclaredFields())
+            .<Class<?>>map(Field::getType)
+            .toList();
+    assertTrue(fieldTypes.contains(int.class));
+    assertTrue(fieldTypes.contains(List.class));
+    assertTrue(fieldTypes.contains(GeneratedConfiguration.PropertyRenderer.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void testNewView() throws ConfigurationException, ReflectiveOperationException {
+    final GeneratedConfiguration<Parameterized> schema =
+        (GeneratedConfiguration<Parameterized>)
+            Class.forName(Parameterized.class.getName() + GeneratedConfiguration.SUFFIX)
+                .getConstructor()
+                .newInstance();
+    final Parameterized configuration =
+        Warp.builder(Parameterized.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(Map.entry("greeting", string("Hello")))))
+            .build();
+
+    final Parameterized view = schema.newView(() -> configuration);
+
+    assertEquals("Hello", view.greeting("world"));
+    assertEquals(Parameterized.class.getName(), view.toString());
+  }
+
+  @Test
+  void testResolve() throws DeserializationException, ReflectiveOperationException {
+    final GeneratedConfiguration<?> schema =
+        (GeneratedConfiguration<?>)
+            Class.forName(Paths.class.getName() + GeneratedConfiguration.SUFFIX)
+                .getConstructor()
+                .newInstance();
+    final ConfigurationNode child = string("child");
+    final ConfigurationNode parent =
+        ConfigurationNode.map(Map.entry("child", child), Map.entry("other", string("other")));
+    final ConfigurationNode nestedChild = string("nested child");
+    final ConfigurationNode[] nodes = new ConfigurationNode[3];
+
+    final List<ConfigurationError> errors =
+        schema.resolve(
+            ConfigurationNode.map(
+                    Map.entry("parent", parent),
+                    Map.entry(
+                        "nested",
+                        ConfigurationNode.map(
+                            Map.entry("child", nestedChild), Map.entry("unknown", integer(1)))),
+                    Map.entry("unknown", ConfigurationNode.map(Map.entry("key", integer(2)))))
+                .asMap(),
+            nodes);
+
+    assertEquals(
+        List.of(
+            ConfigurationError.group("nested", ConfigurationError.group("unknown", UNKNOWN)),
+            ConfigurationError.group("unknown", ConfigurationError.group("key", UNKNOWN))),
+        errors);
+    assertEquals(List.of(parent, child, nestedChild), Arrays.asList(nodes));
+  }
+
+  @Test
+  void testResolve_NonMap() throws DeserializationException, ReflectiveOperationException {
+    final GeneratedConfiguration<?> schema =
+        (GeneratedConfiguration<?>)
+            Class.forName(Paths.class.getName() + GeneratedConfiguration.SUFFIX)
+                .getConstructor()
+                .newInstance();
+    final ConfigurationNode parent = string("parent");
+    final ConfigurationNode[] nodes = new ConfigurationNode[3];
+
+    final List<ConfigurationError> errors =
+        schema.resolve(
+            ConfigurationNode.map(Map.entry("parent", parent), Map.entry("nested", integer(1)))
+                .asMap(),
+            nodes);
+
+    assertEquals(List.of(ConfigurationError.group("nested", UNKNOWN)), errors);
+    assertEquals(Arrays.asList(parent, null, null), Arrays.asList(nodes));
+  }
+
+  @Test
+  void testBuild_Defaults() throws ConfigurationException {
+    final Generated configuration =
+        Warp.builder(Generated.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "nested", ConfigurationNode.map(Map.entry("number", integer(1)))),
+                        Map.entry("inherited", string("overridden")))))
+            .build();
+
+    assertEquals("overridden", configuration.inherited());
+    assertEquals("Hello world", configuration.greeting("world"));
+    assertEquals(List.of(), configuration.list());
+  }
+
+  @Test
+  void testBuild_Invalid() {
+    final ConfigurationException exception =
+        assertThrows(
+            ConfigurationException.class,
+            () ->
+                Warp.builder(Generated.class)
+                    .source(
+                        ConfigurationSource.of(
+                            ConfigurationNode.map(
+                                Map.entry("nested", ConfigurationNode.map()),
+                                Map.entry("unknown", string("value")))))
+                    .build());
+
+    assertEquals(2, exception.errors().size());
+  }
+
+  @Test
+  void testBuild_Parameters() throws ConfigurationException {
+    final Parameterized configuration =
+        Warp.builder(Parameterized.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(Map.entry("greeting", string("Hello")))))
+            .deserializer(
+                CharSequence.class,
+                (node, context) -> {
+                  final String greeting = node.asString();
+                  final Class<?> parameterType = context.parameters()[0].getType();
+                  return (rendererContext) ->
+                      greeting + " " + parameterType.cast(rendererContext.arguments()[0]);
+                })
+            .build();
+
+    assertEquals("Hello world", configuration.greeting("world"));
+  }
+
+  @Test
+  void testBuild_Private() throws ConfigurationException {
+    final Private configuration =
+        Warp.builder(Private.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(Map.entry("property", string("value")))))
+            .build();
+
+    assertEquals("value", configuration.property());
+  }
+
+  private static ConfigurationNode string(final String value) {
+    return ConfigurationNode.string(value);
+  }
+
+  private static ConfigurationNode integer(final long value) {
+    return ConfigurationNode.integer(value);
+  }
+}
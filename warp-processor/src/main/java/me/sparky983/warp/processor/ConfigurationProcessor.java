@@ -0,0 +1,249 @@
+package me.sparky983.warp.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An annotation processor that generates a schema for each {@code @Configuration} interface.
+ *
+ * <p>For a configuration class with the binary name {@code Name}, a class with the binary name
+ * {@code Name$$WarpSchema} is generated. It contains the property methods of the configuration
+ * class and an implementation of the configuration class, and is automatically used by {@code
+ * Warp.builder(Class)} instead of reflecting over the configuration class and implementing it at
+ * runtime.
+ *
+ * <p>Configuration classes that cannot be referenced from a class in the same package, such as
+ * {@code private} nested interfaces, are skipped, and continue to be implemented at runtime.
+ *
+ * @since 0.3
+ */
+public final class ConfigurationProcessor extends AbstractProcessor {
+  private static final String CONFIGURATION = "me.sparky983.warp.Configuration";
+  private static final String PROPERTY = "me.sparky983.warp.Property";
+
+  /**
+   * Constructs a {@code ConfigurationProcessor}.
+   *
+   * <p>This constructor is invoked by the compiler.
+   *
+   * @since 0.3
+   */
+  public ConfigurationProcessor() {}
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Set.of(CONFIGURATION);
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(
+      final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnvironment) {
+    final TypeElement configuration = processingEnv.getElementUtils().getTypeElement(CONFIGURATION);
+    if (configuration == null) {
+      return false;
+    }
+    for (final Element element : roundEnvironment.getElementsAnnotatedWith(configuration)) {
+      process(element);
+    }
+    return false;
+  }
+
+  private void process(final Element element) {
+    final Messager messager = processingEnv.getMessager();
+
+    if (element.getKind() != ElementKind.INTERFACE) {
+      messager.printMessage(
+          Diagnostic.Kind.ERROR, "@Configuration must only be used on interfaces", element);
+      return;
+    }
+    final TypeElement configurationClass = (TypeElement) element;
+
+    if (!configurationClass.getTypeParameters().isEmpty()) {
+      messager.printMessage(
+          Diagnostic.Kind.ERROR, "Configuration classes must not be generic", element);
+      return;
+    }
+
+    if (configurationClass.getModifiers().contains(Modifier.SEALED)) {
+      messager.printMessage(
+          Diagnostic.Kind.ERROR, "Configuration classes must not be sealed", element);
+      return;
+    }
+
+    if (!isAccessibleFromPackage(configurationClass)) {
+      return;
+    }
+
+    final List<PropertyMethod> properties = properties(configurationClass);
+    if (properties == null) {
+      return;
+    }
+
+    final Elements elements = processingEnv.getElementUtils();
+    final SchemaWriter schemaWriter =
+        new SchemaWriter(
+            processingEnv.getTypeUtils(),
+            elements.getPackageOf(configurationClass).getQualifiedName().toString(),
+            elements.getBinaryName(configurationClass).toString(),
+            configurationClass.getQualifiedName().toString(),
+            properties);
+    try (final Writer writer =
+        processingEnv
+            .getFiler()
+            .createSourceFile(schemaWriter.qualifiedName(), configurationClass)
+            .openWriter()) {
+      schemaWriter.write(writer);
+    } catch (final IOException e) {
+      messager.printMessage(
+          Diagnostic.Kind.ERROR, "Unable to generate schema: " + e.getMessage(), element);
+    }
+  }
+
+  /**
+   * Returns whether the given type can be referenced from a top-level class in the same package.
+   */
+  private static boolean isAccessibleFromPackage(final TypeElement type) {
+    Element current = type;
+    while (current instanceof final TypeElement typeElement) {
+      if (typeElement.getNestingKind() == NestingKind.LOCAL
+          || typeElement.getNestingKind() == NestingKind.ANONYMOUS
+          || typeElement.getModifiers().contains(Modifier.PRIVATE)) {
+        return false;
+      }
+      current = typeElement.getEnclosingElement();
+    }
+    return true;
+  }
+
+  /**
+   * Collects the property methods of the given configuration class, reporting an error for each
+   * invalid property method.
+   *
+   * @return the property methods, or {@code null} if there was an error
+   */
+  private @Nullable List<PropertyMethod> properties(final TypeElement configurationClass) {
+    final Elements elements = processingEnv.getElementUtils();
+    final Types types = processingEnv.getTypeUtils();
+    final Messager messager = processingEnv.getMessager();
+    final DeclaredType configurationType = (DeclaredType) configurationClass.asType();
+
+    final Map<String, PropertyMethod> properties = new LinkedHashMap<>();
+    boolean erroneous = false;
+    for (final Element member : elements.getAllMembers(configurationClass)) {
+      if (member.getKind() != ElementKind.METHOD
+          || member.getEnclosingElement().getKind() != ElementKind.INTERFACE
+          || member.getModifiers().contains(Modifier.PRIVATE)) {
+        continue;
+      }
+      final ExecutableElement method = (ExecutableElement) member;
+      final AnnotationMirror property = annotation(method, PROPERTY);
+      final boolean isAbstract = method.getModifiers().contains(Modifier.ABSTRACT);
+      if (property == null && !isAbstract) {
+        continue;
+      }
+      if (property == null) {
+        messager.printMessage(
+            Diagnostic.Kind.ERROR, "Method must be annotated with @Property", method);
+        erroneous = true;
+        continue;
+      }
+      if (method.getModifiers().contains(Modifier.STATIC)) {
+        messager.printMessage(Diagnostic.Kind.ERROR, "Method must be non-static", method);
+        erroneous = true;
+        continue;
+      }
+      if (!method.getTypeParameters().isEmpty()) {
+        messager.printMessage(Diagnostic.Kind.ERROR, "Method must not be generic", method);
+        erroneous = true;
+        continue;
+      }
+
+      final ExecutableType methodType =
+          (ExecutableType) types.asMemberOf(configurationType, method);
+      final List<TypeMirror> parameterTypes = new ArrayList<>();
+      for (final TypeMirror parameterType : methodType.getParameterTypes()) {
+        parameterTypes.add(types.erasure(parameterType));
+      }
+      // Methods with the same signature inherited from multiple interfaces are implemented once
+      final String signature =
+          method.getSimpleName()
+              + parameterTypes.toString()
+              + types.erasure(methodType.getReturnType());
+      properties.putIfAbsent(
+          signature,
+          new PropertyMethod(
+              method.getSimpleName().toString(),
+              value(property),
+              methodType.getReturnType(),
+              method.isDefault(),
+              parameterTypes));
+    }
+    return erroneous ? null : List.copyOf(properties.values());
+  }
+
+  private static @Nullable AnnotationMirror annotation(
+      final Element element, final String annotationType) {
+    for (final AnnotationMirror annotation : element.getAnnotationMirrors()) {
+      final TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+      if (type.getQualifiedName().contentEquals(annotationType)) {
+        return annotation;
+      }
+    }
+    return null;
+  }
+
+  private static String value(final AnnotationMirror annotation) {
+    for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry :
+        annotation.getElementValues().entrySet()) {
+      if (entry.getKey().getSimpleName().contentEquals("value")) {
+        return (String) entry.getValue().getValue();
+      }
+    }
+    throw new IllegalStateException("@Property must have a value");
+  }
+
+  /**
+   * A property method of a configuration class.
+   *
+   * @param name the name of the method
+   * @param path the path of the property
+   * @param returnType the return type of the method, as a member of the configuration class
+   * @param isDefault whether the method has a default implementation
+   * @param parameterTypes the erased parameter types of the method
+   */
+  record PropertyMethod(
+      String name,
+      String path,
+      TypeMirror returnType,
+      boolean isDefault,
+      List<TypeMirror> parameterTypes) {}
+}
@@ -0,0 +1,640 @@
+package me.sparky983.warp.processor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.lang.model.util.Types;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Writes the source code of the generated schema of a configuration class.
+ *
+ * <p>All types are written with their canonical names, so no imports are needed. Since type
+ * annotations are not relevant to the generated code, types are written without them, and methods
+ * are overridden with erased signatures.
+ */
+final class SchemaWriter {
+  private static final String SUFFIX = "$$WarpSchema";
+  private static final String IMPLEMENTATION = "$Implementation";
+  private static final String VIEW = "$View";
+
+  private static final String GENERATED = "me.sparky983.warp.generated";
+  private static final String GENERATED_CONFIGURATION = GENERATED + ".GeneratedConfiguration";
+  private static final String GENERATED_PROPERTY = GENERATED + ".GeneratedProperty";
+  private static final String GENERATED_TYPE = GENERATED + ".GeneratedType";
+  private static final String PROPERTY_RENDERER = GENERATED_CONFIGURATION + ".PropertyRenderer";
+  private static final String RENDERER_CONTEXT = "me.sparky983.warp.Renderer.Context";
+  private static final String CONFIGURATION_ERROR = "me.sparky983.warp.ConfigurationError";
+  private static final String CONFIGURATION_NODE = "me.sparky983.warp.ConfigurationNode";
+  private static final String NODE_MAP =
+      "java.util.Map<java.lang.String, " + CONFIGURATION_NODE + ">";
+  private static final String ERROR_LIST = "java.util.List<" + CONFIGURATION_ERROR + ">";
+
+  private final Types types;
+  private final String packageName;
+  private final String binaryName;
+  private final String canonicalName;
+  private final String simpleName;
+  private final List<ConfigurationProcessor.PropertyMethod> properties;
+
+  /**
+   * Constructs a {@code SchemaWriter}.
+   *
+   * @param types the type utilities
+   * @param packageName the package of the configuration class
+   * @param binaryName the binary name of the configuration class
+   * @param canonicalName the canonical name of the configuration class
+   * @param properties the property methods of the configuration class
+   * @throws NullPointerException if any of the arguments are {@code null}.
+   */
+  SchemaWriter(
+      final Types types,
+      final String packageName,
+      final String binaryName,
+      final String canonicalName,
+      final List<ConfigurationProcessor.PropertyMethod> properties) {
+    Objects.requireNonNull(types, "types cannot be null");
+    Objects.requireNonNull(packageName, "packageName cannot be null");
+    Objects.requireNonNull(binaryName, "binaryName cannot be null");
+    Objects.requireNonNull(canonicalName, "canonicalName cannot be null");
+    Objects.requireNonNull(properties, "properties cannot be null");
+
+    this.types = types;
+    this.packageName = packageName;
+    this.binaryName = binaryName;
+    this.canonicalName = canonicalName;
+    this.simpleName =
+        (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+            + SUFFIX;
+    this.properties = List.copyOf(properties);
+  }
+
+  /**
+   * Returns the qualified name of the generated schema.
+   *
+   * @return the qualified name
+   */
+  String qualifiedName() {
+    return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+  }
+
+  /**
+   * Writes the source code of the generated schema.
+   *
+   * @param writer the writer
+   * @throws IOException if an I/O error occurs.
+   */
+  void write(final Writer writer) throws IOException {
+    final StringBuilder source = new StringBuilder();
+    source.append("// Generated by the Warp annotation processor. Do not edit.\n");
+    if (!packageName.isEmpty()) {
+      source.append("package ").append(packageName).append(";\n\n");
+    }
+    source
+        .append("public final class ")
+        .append(simpleName)
+        .append(" implements ")
+        .append(GENERATED_CONFIGURATION)
+        .append('<')
+        .append(canonicalName)
+        .append("> {\n");
+
+    // Metadata
+    source
+        .append("  private static final java.util.List<")
+        .append(GENERATED_PROPERTY)
+        .append("> PROPERTIES = java.util.List.of(");
+    for (int i = 0; i < properties.size(); i++) {
+      final ConfigurationProcessor.PropertyMethod property = properties.get(i);
+      source.append(i == 0 ? "\n" : ",\n");
+      source
+          .append("      new ")
+          .append(GENERATED_PROPERTY)
+          .append("(")
+          .append(stringLiteral(property.name()))
+          .append(", ")
+          .append(stringLiteral(property.path()))
+          .append(", ");
+      appendGeneratedType(source, property.returnType());
+      source.append(", ").append(property.isDefault()).append(", java.util.List.of(");
+      final List<TypeMirror> parameterTypes = property.parameterTypes();
+      for (int j = 0; j < parameterTypes.size(); j++) {
+        if (j != 0) {
+          source.append(", ");
+        }
+        source.append(erasedName(parameterTypes.get(j))).append(".class");
+      }
+      source.append("))");
+    }
+    source.append(");\n\n");
+
+    source.append("  public ").append(simpleName).append("() {}\n\n");
+
+    source
+        .append("  @java.lang.Override\n")
+        .append("  public java.lang.Class<")
+        .append(canonicalName)
+        .append("> configurationClass() {\n")
+        .append("    return ")
+        .append(canonicalName)
+        .append(".class;\n")
+        .append("  }\n\n");
+
+    source
+        .append("  @java.lang.Override\n")
+        .append("  public java.util.List<")
+        .append(GENERATED_PROPERTY)
+        .append("> properties() {\n")
+        .append("    return PROPERTIES;\n")
+        .append("  }\n\n");
+
+    source
+        .append("  @java.lang.Override\n")
+        .append("  public ")
+        .append(ERROR_LIST)
+        .append(" resolve(final ")
+        .append(NODE_MAP)
+        .append(" configuration, final ")
+        .append(CONFIGURATION_NODE)
+        .append("[] nodes) {\n")
+        .append("    java.util.Objects.requireNonNull(configuration, ")
+        .append("\"configuration cannot be null\");\n")
+        .append("    java.util.Objects.requireNonNull(nodes, \"nodes cannot be null\");\n")
+        .append("    final ")
+        .append(ERROR_LIST)
+        .append(" errors = new java.util.ArrayList<>();\n")
+        .append("    resolve0(configuration, nodes, errors);\n")
+        .append("    return errors;\n")
+        .append("  }\n\n");
+
+    writeResolvers(source, PathNode.of(properties));
+
+    source
+        .append("  @java.lang.Override\n")
+        .append("  public ")
+        .append(canonicalName)
+        .append(" newInstance(final ")
+        .append(RENDERER_CONTEXT)
+        .append(" context, final java.lang.Object[] properties) {\n")
+        .append("    java.util.Objects.requireNonNull(context, \"context cannot be null\");\n")
+        .append(
+            "    java.util.Objects.requireNonNull(properties, \"properties cannot be null\");\n")
+        .append("    return new ")
+        .append(IMPLEMENTATION)
+        .append("(context, properties);\n")
+        .append("  }\n\n");
+
+    source
+        .append("  @java.lang.Override\n")
+        .append("  public ")
+        .append(canonicalName)
+        .append(" newView(final java.util.function.Supplier<? extends ")
+        .append(canonicalName)
+        .append("> snapshot) {\n")
+        .append("    java.util.Objects.requireNonNull(snapshot, \"snapshot cannot be null\");\n")
+        .append("    return new ")
+        .append(VIEW)
+        .append("(snapshot);\n")
+        .append("  }\n\n");
+
+    writeImplementation(source);
+    source.append('\n');
+    writeView(source);
+
+    source.append("}\n");
+    writer.write(source.toString());
+  }
+
+  /**
+   * Writes one {@code resolve} method per node of the given path tree that has children, which
+   * resolves the nodes of the properties under it with a {@code switch} over the keys of the
+   * configuration.
+   *
+   * <p>This matches how Warp resolves the paths of reflected configuration classes: keys that are
+   * not part of any path are reported as unknown, unless they are nested in the node of a
+   * property.
+   */
+  private static void writeResolvers(final StringBuilder source, final PathNode root) {
+    final List<PathNode> pending = new ArrayList<>(List.of(root));
+    for (int i = 0; i < pending.size(); i++) {
+      final PathNode current = pending.get(i);
+      source
+          .append("  private static void resolve")
+          .append(i)
+          .append("(final ")
+          .append(NODE_MAP)
+          .append(" configuration, final ")
+          .append(CONFIGURATION_NODE)
+          .append("[] nodes, final ")
+          .append(ERROR_LIST)
+          .append(" errors) {\n")
+          .append("    for (final java.util.Map.Entry<java.lang.String, ")
+          .append(CONFIGURATION_NODE)
+          .append("> entry : configuration.entrySet()) {\n")
+          .append("      final java.lang.String key = entry.getKey();\n")
+          .append("      final ")
+          .append(CONFIGURATION_NODE)
+          .append(" node = entry.getValue();\n")
+          .append("      switch (key) {\n");
+      for (final Map.Entry<String, PathNode> entry : current.children.entrySet()) {
+        final PathNode child = entry.getValue();
+        source.append("        case ").append(stringLiteral(entry.getKey())).append(" -> {\n");
+        for (final int property : child.properties) {
+          source.append("          nodes[").append(property).append("] = node;\n");
+        }
+        if (!child.children.isEmpty()) {
+          final int index = pending.size();
+          pending.add(child);
+          // Everything under a property is read by that property
+          final boolean reportUnknown = child.reportUnknown();
+          source
+              .append("          final ")
+              .append(NODE_MAP)
+              .append(" map;\n")
+              .append("          try {\n")
+              .append("            map = node.asMap();\n")
+              .append("          } catch (final me.sparky983.warp.DeserializationException e) {\n");
+          if (reportUnknown) {
+            source
+                .append("            errors.add(")
+                .append(CONFIGURATION_ERROR)
+                .append(".group(key, ")
+                .append(CONFIGURATION_ERROR)
+                .append(".error(\"Unknown property\")));\n");
+          }
+          source
+              .append("            continue;\n")
+              .append("          }\n")
+              .append("          final ")
+              .append(ERROR_LIST)
+              .append(" childErrors = new java.util.ArrayList<>();\n")
+              .append("          resolve")
+              .append(index)
+              .append("(map, nodes, childErrors);\n")
+              .append("          if (!childErrors.isEmpty()) {\n")
+              .append("            errors.add(")
+              .append(CONFIGURATION_ERROR)
+              .append(".group(key, childErrors));\n")
+              .append("          }\n");
+        }
+        source.append("        }\n");
+      }
+      source.append("        default -> {");
+      if (current.reportUnknown()) {
+        source
+            .append('\n')
+            .append("          ")
+            .append(GENERATED_CONFIGURATION)
+            .append(".unknown(key, node, errors);\n")
+            .append("        ");
+      }
+      source.append("}\n").append("      }\n").append("    }\n").append("  }\n\n");
+    }
+  }
+
+  private void writeImplementation(final StringBuilder source) {
+    source
+        .append("  @java.lang.SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+        .append("  private static final class ")
+        .append(IMPLEMENTATION)
+        .append(" implements ")
+        .append(canonicalName)
+        .append(" {\n")
+        .append("    private final ")
+        .append(RENDERER_CONTEXT)
+        .append(" context;\n");
+    for (int i = 0; i < properties.size(); i++) {
+      final ConfigurationProcessor.PropertyMethod property = properties.get(i);
+      source
+          .append("    private final ")
+          .append(isValue(property) ? erasedName(property.returnType()) : PROPERTY_RENDERER)
+          .append(' ')
+          .append(field(i, property))
+          .append(";\n");
+    }
+
+    source
+        .append("\n    ")
+        .append(IMPLEMENTATION)
+        .append("(final ")
+        .append(RENDERER_CONTEXT)
+        .append(" context, final java.lang.Object[] properties) {\n")
+        .append("      this.context = context;\n");
+    for (int i = 0; i < properties.size(); i++) {
+      final ConfigurationProcessor.PropertyMethod property = properties.get(i);
+      source
+          .append("      this.")
+          .append(field(i, property))
+          .append(" = (")
+          .append(
+              isValue(property) ? erasedName(boxed(property.returnType())) : PROPERTY_RENDERER)
+          .append(") properties[")
+          .append(i)
+          .append("];\n");
+    }
+    source.append("    }\n");
+
+    for (int i = 0; i < properties.size(); i++) {
+      writeProperty(source, i, properties.get(i));
+    }
+    writeToString(source);
+
+    source.append("  }\n");
+  }
+
+  private void writeView(final StringBuilder source) {
+    source
+        .append("  @java.lang.SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+        .append("  private static final class ")
+        .append(VIEW)
+        .append(" implements ")
+        .append(canonicalName)
+        .append(" {\n")
+        .append("    private final java.util.function.Supplier<? extends ")
+        .append(canonicalName)
+        .append("> snapshot;\n\n    ")
+        .append(VIEW)
+        .append("(final java.util.function.Supplier<? extends ")
+        .append(canonicalName)
+        .append("> snapshot) {\n")
+        .append("      this.snapshot = snapshot;\n")
+        .append("    }\n");
+
+    for (final ConfigurationProcessor.PropertyMethod property : properties) {
+      writeSignature(source, property);
+      source
+          .append("      ")
+          .append(property.returnType().getKind() == TypeKind.VOID ? "" : "return ")
+          .append("this.snapshot.get().")
+          .append(property.name())
+          .append('(')
+          .append(arguments(property.parameterTypes().size()))
+          .append(");\n")
+          .append("    }\n");
+    }
+    writeToString(source);
+
+    source.append("  }\n");
+  }
+
+  /** Writes a {@code toString} method, unless it is one of the property methods. */
+  private void writeToString(final StringBuilder source) {
+    for (final ConfigurationProcessor.PropertyMethod property : properties) {
+      if (property.name().equals("toString") && property.parameterTypes().isEmpty()) {
+        return;
+      }
+    }
+    source
+        .append("\n    @java.lang.Override\n")
+        .append("    public java.lang.String toString() {\n")
+        .append("      return ")
+        .append(stringLiteral(binaryName))
+        .append(";\n")
+        .append("    }\n");
+  }
+
+  /** Writes the signature of the given property method, up to and including the opening brace. */
+  private void writeSignature(
+      final StringBuilder source, final ConfigurationProcessor.PropertyMethod property) {
+    final List<TypeMirror> parameterTypes = property.parameterTypes();
+    source
+        .append("\n    @java.lang.Override\n")
+        .append("    public ")
+        .append(erasedName(property.returnType()))
+        .append(' ')
+        .append(property.name())
+        .append('(');
+    for (int i = 0; i < parameterTypes.size(); i++) {
+      if (i != 0) {
+        source.append(", ");
+      }
+      source.append("final ").append(erasedName(parameterTypes.get(i))).append(" p").append(i);
+    }
+    source.append(") {\n");
+  }
+
+  private void writeProperty(
+      final StringBuilder source,
+      final int index,
+      final ConfigurationProcessor.PropertyMethod property) {
+    final TypeMirror returnType = property.returnType();
+    final List<TypeMirror> parameterTypes = property.parameterTypes();
+
+    writeSignature(source, property);
+
+    if (isValue(property)) {
+      source.append("      return this.").append(field(index, property)).append(";\n    }\n");
+      return;
+    }
+
+    final String arguments = arguments(parameterTypes.size());
+    final String renderer = "this.renderer" + index;
+    final boolean isVoid = returnType.getKind() == TypeKind.VOID;
+    if (property.isDefault()) {
+      source.append("      if (").append(renderer).append(" == null) {\n");
+      final String call = canonicalName + ".super." + property.name() + "(" + arguments + ")";
+      if (isVoid) {
+        source.append("        ").append(call).append(";\n        return;\n");
+      } else if (returnType.getKind().isPrimitive()) {
+        source.append("        return ").append(call).append(";\n");
+      } else {
+        source
+            .append("        return java.util.Objects.requireNonNull(")
+            .append(call)
+            .append(", \"Renderer returned null\");\n");
+      }
+      source.append("      }\n");
+    }
+
+    final String render =
+        renderer
+            + ".render(this, this.context, "
+            + (parameterTypes.isEmpty() ? "null" : "new java.lang.Object[] {" + arguments + "}")
+            + ")";
+    // Only default implementations throw checked exceptions, and they are called directly above
+    source.append("      try {\n");
+    if (isVoid) {
+      source.append("        ").append(render).append(";\n");
+    } else {
+      source
+          .append("        return (")
+          .append(erasedName(boxed(returnType)))
+          .append(") ")
+          .append(render)
+          .append(";\n");
+    }
+    source
+        .append("      } catch (final java.lang.RuntimeException | java.lang.Error e) {\n")
+        .append("        throw e;\n")
+        .append("      } catch (final java.lang.Throwable e) {\n")
+        .append("        throw new java.lang.reflect.UndeclaredThrowableException(e);\n")
+        .append("      }\n")
+        .append("    }\n");
+  }
+
+  /**
+   * Returns whether the given property is a value property, whose rendered value is stored in a
+   * field.
+   *
+   * <p>This must match the value properties of Warp's reflective implementation: properties
+   * without parameters that are not default and whose type is neither {@code void} nor contains
+   * arrays.
+   */
+  private static boolean isValue(final ConfigurationProcessor.PropertyMethod property) {
+    return property.parameterTypes().isEmpty()
+        && !property.isDefault()
+        && property.returnType().getKind() != TypeKind.VOID
+        && !containsArrays(property.returnType());
+  }
+
+  private static boolean containsArrays(final TypeMirror type) {
+    if (type.getKind() == TypeKind.ARRAY) {
+      return true;
+    } else if (type.getKind() == TypeKind.WILDCARD) {
+      final TypeMirror extendsBound = ((WildcardType) type).getExtendsBound();
+      return extendsBound != null && containsArrays(extendsBound);
+    } else if (type.getKind() == TypeKind.DECLARED) {
+      for (final TypeMirror typeArgument : ((DeclaredType) type).getTypeArguments()) {
+        if (containsArrays(typeArgument)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private static String field(
+      final int index, final ConfigurationProcessor.PropertyMethod property) {
+    return (isValue(property) ? "value" : "renderer") + index;
+  }
+
+  /** A node of the tree of property paths, split on {@code .}. */
+  private static final class PathNode {
+    private final @Nullable PathNode parent;
+    private final Map<String, PathNode> children = new LinkedHashMap<>();
+
+    /** The indices of the properties whose path ends at this node. */
+    private final List<Integer> properties = new ArrayList<>();
+
+    private PathNode(final @Nullable PathNode parent) {
+      this.parent = parent;
+    }
+
+    /** Builds the tree of the paths of the given properties. */
+    static PathNode of(final List<ConfigurationProcessor.PropertyMethod> properties) {
+      final PathNode root = new PathNode(null);
+      for (int i = 0; i < properties.size(); i++) {
+        PathNode current = root;
+        for (final String key : properties.get(i).path().split("\\.")) {
+          final PathNode parent = current;
+          current = current.children.computeIfAbsent(key, (k) -> new PathNode(parent));
+        }
+        current.properties.add(i);
+      }
+      return root;
+    }
+
+    /** Returns whether unknown keys under this node are reported, which is unless a property is. */
+    boolean reportUnknown() {
+      for (PathNode node = this; node != null; node = node.parent) {
+        if (!node.properties.isEmpty()) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  private static String arguments(final int count) {
+    final StringBuilder arguments = new StringBuilder();
+    for (int i = 0; i < count; i++) {
+      if (i != 0) {
+        arguments.append(", ");
+      }
+      arguments.append('p').append(i);
+    }
+    return arguments.toString();
+  }
+
+  private TypeMirror boxed(final TypeMirror type) {
+    if (type.getKind().isPrimitive()) {
+      return types.boxedClass(types.getPrimitiveType(type.getKind())).asType();
+    }
+    return type;
+  }
+
+  /**
+   * Appends an expression that creates a {@code GeneratedType} for the given type.
+   *
+   * <p>Wildcards are replaced with their upper bound, matching how Warp resolves reflected types.
+   * Arrays have their component type as their only type argument.
+   */
+  private void appendGeneratedType(final StringBuilder source, final TypeMirror type) {
+    if (type.getKind() == TypeKind.WILDCARD) {
+      final TypeMirror extendsBound = ((WildcardType) type).getExtendsBound();
+      if (extendsBound == null) {
+        source.append(GENERATED_TYPE).append(".of(java.lang.Object.class)");
+      } else {
+        appendGeneratedType(source, extendsBound);
+      }
+      return;
+    }
+    source.append(GENERATED_TYPE).append(".of(").append(erasedName(type)).append(".class");
+    if (type.getKind() == TypeKind.DECLARED) {
+      for (final TypeMirror typeArgument : ((DeclaredType) type).getTypeArguments()) {
+        source.append(", ");
+        appendGeneratedType(source, typeArgument);
+      }
+    } else if (type.getKind() == TypeKind.ARRAY) {
+      source.append(", ");
+      appendGeneratedType(source, ((ArrayType) type).getComponentType());
+    }
+    source.append(')');
+  }
+
+  /** Returns the canonical name of the erasure of the given type, without type annotations. */
+  private String erasedName(final TypeMirror type) {
+    return switch (type.getKind()) {
+      case BOOLEAN, BYTE, SHORT, INT, LONG, CHAR, FLOAT, DOUBLE, VOID ->
+          type.getKind().name().toLowerCase(Locale.ROOT);
+      case ARRAY -> erasedName(((ArrayType) type).getComponentType()) + "[]";
+      case DECLARED -> ((TypeElement) ((DeclaredType) type).asElement())
+          .getQualifiedName()
+          .toString();
+      default -> erasedName(types.erasure(type));
+    };
+  }
+
+  private static String stringLiteral(final String value) {
+    final StringBuilder literal = new StringBuilder("\"");
+    for (int i = 0; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      switch (c) {
+        case '"' -> literal.append("\\\"");
+        case '\\' -> literal.append("\\\\");
+        case '\n' -> literal.append("\\n");
+        case '\r' -> literal.append("\\r");
+        case '\t' -> literal.append("\\t");
+        default -> {
+          if (c < 0x20 || c > 0x7e) {
+            literal.append(String.format("\\u%04x", (int) c));
+          } else {
+            literal.append(c);
+          }
+        }
+      }
+    }
+    return literal.append('"').toString();
+  }
+}
@@ -0,0 +1,18 @@
+import me.sparky983.warp.processor.ConfigurationProcessor;
+import org.jspecify.annotations.NullMarked;
+
+/**
+ * Warp Processor generates implementations of configuration classes at compile time.
+ *
+ * @see ConfigurationProcessor
+ */
+@SuppressWarnings("module")
+@NullMarked
+module me.sparky983.warp.processor {
+  requires java.compiler;
+  requires static org.jspecify;
+
+  exports me.sparky983.warp.processor;
+
+  provides javax.annotation.processing.Processor with ConfigurationProcessor;
+}
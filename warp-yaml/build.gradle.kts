@@ -12,10 +12,19 @@ repositories {
     maven("https://repo.sparky983.me/snapshots")
 }
 
+val benchmark: SourceSet by sourceSets.creating {
+    compileClasspath += sourceSets.main.get().output
+    runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[benchmark.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[benchmark.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
 dependencies {
     api(project(":warp"))
 
-    implementation("com.amihaiemil.web:eo-yaml:8.0.6")
+    // The parser that was used before the built-in parser, kept as a baseline for the benchmark
+    "benchmarkImplementation"("com.amihaiemil.web:eo-yaml:8.0.6")
 }
 
 mavenPublishing {
@@ -26,3 +35,14 @@ mavenPublishing {
     signAllPublications()
     publishToMavenCentral()
 }
+
+tasks {
+    register<JavaExec>("benchmark") {
+        description = "Compares the YAML parser against eo-yaml."
+        group = "verification"
+
+        classpath = benchmark.runtimeClasspath
+        mainClass.set("me.sparky983.warp.yaml.YamlParserBenchmark")
+        jvmArgs("-Xms1g", "-Xmx1g")
+    }
+}
@@ -13,6 +13,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -140,6 +141,14 @@ class YamlConfigurationSourceTest {
     assertTrue(sourceIsMix(YamlConfigurationSource.read(mix)));
   }
 
+  @Test
+  void testReadPath_Malformed() throws IOException {
+    final Path malformed = tempDirPath.resolve("malformed.yaml");
+    Files.write(malformed, new byte[] {'k', ':', ' ', (byte) 0xFF});
+
+    assertThrows(CharacterCodingException.class, () -> YamlConfigurationSource.read(malformed));
+  }
+
   @Test
   void testReadPathCharset_NullPath() {
     assertThrows(
@@ -174,6 +183,16 @@ class YamlConfigurationSourceTest {
     assertThrows(ConfigurationException.class, source::configuration);
   }
 
+  @Test
+  void testReadPathCharset_Malformed() throws IOException {
+    final Path malformed = tempDirPath.resolve("malformed.yaml");
+    Files.write(malformed, new byte[] {'k', ':', ' ', (byte) 0x80});
+
+    assertThrows(
+        CharacterCodingException.class,
+        () -> YamlConfigurationSource.read(malformed, StandardCharsets.US_ASCII));
+  }
+
   @Test
   void testReadPathCharset_NotFound() throws Exception {
     final Path notFound = tempDirPath.resolve("not-found.yaml");
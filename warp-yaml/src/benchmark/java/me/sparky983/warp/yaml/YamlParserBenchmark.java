@@ -0,0 +1,150 @@
+package me.sparky983.warp.yaml;
+
+import com.amihaiemil.eoyaml.Scalar;
+import com.amihaiemil.eoyaml.Yaml;
+import com.amihaiemil.eoyaml.YamlMapping;
+import com.amihaiemil.eoyaml.YamlNode;
+import com.amihaiemil.eoyaml.YamlSequence;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+
+/**
+ * Compares the time it takes {@link YamlConfigurationSource} to parse a large YAML document into a
+ * {@link ConfigurationNode} tree against eo-yaml, which was used before the built-in parser.
+ *
+ * <p>The number of entries in the document may be passed as the first argument.
+ */
+public final class YamlParserBenchmark {
+  private static final int WARMUP_ITERATIONS = 10;
+  private static final int ITERATIONS = 20;
+
+  private YamlParserBenchmark() {}
+
+  public static void main(final String[] args) throws IOException {
+    final int entries = args.length == 0 ? 10_000 : Integer.parseInt(args[0]);
+    final String document = document(entries);
+    System.out.printf(
+        Locale.ROOT, "Parsing %d entries (%d KiB)%n", entries, document.length() / 1024);
+
+    final Path file = Files.createTempFile("warp-benchmark", ".yml");
+    try {
+      Files.writeString(file, document);
+
+      final double parser = run("YamlConfigurationSource", () -> parse(document));
+      run("YamlConfigurationSource (file)", () -> parse(file));
+      run("YamlConfigurationSource (read)", () -> read(parse(document)));
+      final double eoYaml = run("eo-yaml", () -> parseEoYaml(document));
+      System.out.printf(Locale.ROOT, "YamlConfigurationSource is %.1fx faster%n", eoYaml / parser);
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /** Runs the given parser and returns the average time of an iteration in milliseconds. */
+  private static double run(final String name, final Supplier<ConfigurationNode> parser) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      Objects.requireNonNull(parser.get());
+    }
+    final long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      Objects.requireNonNull(parser.get());
+    }
+    final double average = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    System.out.printf(Locale.ROOT, "%-32s %10.2f ms/op%n", name, average);
+    return average;
+  }
+
+  private static ConfigurationNode parse(final String document) {
+    try {
+      return YamlConfigurationSource.read(new StringReader(document))
+          .configuration()
+          .orElseThrow();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (final ConfigurationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static ConfigurationNode parse(final Path file) {
+    try {
+      return YamlConfigurationSource.read(file).configuration().orElseThrow();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    } catch (final ConfigurationException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /** Reads every node of the given tree, since nodes are only materialized when they are read. */
+  private static ConfigurationNode read(final ConfigurationNode node) {
+    // Hashing a node hashes all of its children
+    node.hashCode();
+    return node;
+  }
+
+  private static ConfigurationNode parseEoYaml(final String document) {
+    try {
+      return adapt(Yaml.createYamlInput(document).readYamlMapping());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static ConfigurationNode adapt(final YamlNode node) {
+    if (node instanceof final YamlMapping mapping) {
+      final Map<String, ConfigurationNode> map = new HashMap<>();
+      for (final YamlNode key : mapping.keys()) {
+        map.put(((Scalar) key).value(), adapt(mapping.value(key)));
+      }
+      return ConfigurationNode.map(map);
+    } else if (node instanceof final YamlSequence sequence) {
+      return ConfigurationNode.list(
+          sequence.values().stream().map(YamlParserBenchmark::adapt).toList());
+    } else {
+      return new YamlScalarConfigurationNode(Objects.toString(((Scalar) node).value()));
+    }
+  }
+
+  /** Generates a document shaped like an item table with the given number of entries. */
+  private static String document(final int entries) {
+    final StringBuilder document = new StringBuilder("# Generated item table\nitems:\n");
+    for (int i = 0; i < entries; i++) {
+      document
+          .append("  item-")
+          .append(i)
+          .append(":\n")
+          .append("    name: Item ")
+          .append(i)
+          .append('\n')
+          .append("    description: \"The item with the id ")
+          .append(i)
+          .append("\"\n")
+          .append("    weight: ")
+          .append(i % 100)
+          .append('.')
+          .append(i % 10)
+          .append('\n')
+          .append("    stackable: ")
+          .append(i % 2 == 0)
+          .append("\n    tags:\n      - common\n      - tier-")
+          .append(i % 5)
+          .append("\n    drops:\n      chance: 0.")
+          .append(i % 9 + 1)
+          .append("\n      amount: ")
+          .append(i % 64 + 1)
+          .append("  # per kill\n");
+    }
+    return document.toString();
+  }
+}
@@ -0,0 +1,117 @@
+package me.sparky983.warp.yaml;
+
+import java.util.List;
+import java.util.Map;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A YAML node that is materialized from its {@link YamlTape} when it is first read.
+ *
+ * <p>A lazy node is equal to any node that its materialized node is equal to, so a lazy map or list
+ * is equal to any node that can be read as an equal map or list, and a lazy scalar is equal to an
+ * equal YAML scalar. Its hash code is the hash code of its materialized node.
+ */
+final class LazyYamlNode implements ConfigurationNode {
+  private final YamlTape tape;
+  private final int index;
+
+  /**
+   * The materialized node. Materializing is idempotent, so racing threads may each materialize
+   * the node without synchronization.
+   */
+  private volatile @Nullable ConfigurationNode node;
+
+  /**
+   * Constructs a {@code LazyYamlNode}.
+   *
+   * @param tape the tape
+   * @param index the index of the node's record
+   */
+  LazyYamlNode(final YamlTape tape, final int index) {
+    this.tape = tape;
+    this.index = index;
+  }
+
+  /**
+   * Returns the materialized node.
+   *
+   * @return the materialized node
+   */
+  ConfigurationNode node() {
+    ConfigurationNode node = this.node;
+    if (node == null) {
+      node = tape.materialize(index);
+      this.node = node;
+    }
+    return node;
+  }
+
+  /**
+   * Checks if the node has been materialized.
+   *
+   * @return {@code true} if the node has been materialized, otherwise {@code false}
+   */
+  boolean isMaterialized() {
+    return node != null;
+  }
+
+  @Override
+  public String asString() throws DeserializationException {
+    return node().asString();
+  }
+
+  @Override
+  public double asDecimal() throws DeserializationException {
+    return node().asDecimal();
+  }
+
+  @Override
+  public long asInteger() throws DeserializationException {
+    return node().asInteger();
+  }
+
+  @Override
+  public boolean asBoolean() throws DeserializationException {
+    return node().asBoolean();
+  }
+
+  @Override
+  public boolean isNil() {
+    return node().isNil();
+  }
+
+  @Override
+  public List<ConfigurationNode> asList() throws DeserializationException {
+    return node().asList();
+  }
+
+  @Override
+  public Map<String, ConfigurationNode> asMap() throws DeserializationException {
+    return node().asMap();
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other instanceof final LazyYamlNode lazy) {
+      return node().equals(lazy.node());
+    }
+    // The materialized maps and lists compare by content, so other map and list nodes are equal
+    // if their contents are
+    return other instanceof ConfigurationNode && node().equals(other);
+  }
+
+  @Override
+  public int hashCode() {
+    return node().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return node().toString();
+  }
+}
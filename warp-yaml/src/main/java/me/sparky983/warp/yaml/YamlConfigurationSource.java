@@ -1,27 +1,29 @@
 package me.sparky983.warp.yaml;
 
-import com.amihaiemil.eoyaml.Yaml;
-import com.amihaiemil.eoyaml.YamlMapping;
-import com.amihaiemil.eoyaml.exceptions.YamlReadingException;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.Reader;
-import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.charset.Charset;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.Objects;
 import java.util.Optional;
-import me.sparky983.warp.ConfigurationError;
 import me.sparky983.warp.ConfigurationException;
 import me.sparky983.warp.ConfigurationSource;
 
 /**
  * A marker interface for YAML configuration sources.
  *
+ * <p>Block and flow mappings and sequences, plain, quoted and block scalars, and comments are
+ * supported. Anchors, aliases, tags, complex keys and multiple documents are not supported, and
+ * documents that use them are reported as invalid.
+ *
  * @see YamlConfigurationSource#of(String)
  * @see YamlConfigurationSource#read(Path)
  * @see YamlConfigurationSource#read(Path, Charset)
@@ -43,9 +45,9 @@ public interface YamlConfigurationSource extends ConfigurationSource {
     Objects.requireNonNull(source, "source cannot be null");
 
     try {
-      return read(new StringReader(source));
-    } catch (final IOException e) {
-      throw new AssertionError(e); // Should never happen
+      return new OkYamlConfigurationSource(Optional.of(YamlParser.parse(source)));
+    } catch (final ConfigurationException e) {
+      return new ErrorYamlConfigurationSource(e);
     }
   }
 
@@ -58,6 +60,8 @@ public interface YamlConfigurationSource extends ConfigurationSource {
    *
    * @param path the path
    * @return the new source
+   * @throws CharacterCodingException if the file is malformed or contains unmappable characters
+   *     in the charset.
    * @throws IOException if there was an error reading the file.
    * @throws NullPointerException if the path is {@code null}.
    * @since 0.1
@@ -71,21 +75,28 @@ public interface YamlConfigurationSource extends ConfigurationSource {
    * {@linkplain ConfigurationSource##empty-source-header empty source} is returned, otherwise a
    * {@code YamlConfigurationSource} of the parsed content is returned.
    *
+   * <p>The file is read into memory in full and closed before it is parsed.
+   *
    * @param path the path
    * @param charset the charset
    * @return the new source
+   * @throws CharacterCodingException if the file is malformed or contains unmappable characters
+   *     in the charset.
    * @throws IOException if there was an error reading the file.
    * @throws NullPointerException if the path or charset is {@code null}.
    * @since 0.1
    */
   static YamlConfigurationSource read(final Path path, final Charset charset) throws IOException {
     Objects.requireNonNull(path, "path cannot be null");
+    Objects.requireNonNull(charset, "charset cannot be null");
 
+    final byte[] source;
     try {
-      return read(Files.newBufferedReader(path, charset));
+      source = Files.readAllBytes(path);
     } catch (final NoSuchFileException e) {
       return new OkYamlConfigurationSource(Optional.empty());
     }
+    return parse(toUtf8(source, charset), StandardCharsets.UTF_8);
   }
 
   /**
@@ -97,6 +108,8 @@ public interface YamlConfigurationSource extends ConfigurationSource {
    *
    * @param file the file
    * @return the new source
+   * @throws CharacterCodingException if the file is malformed or contains unmappable characters
+   *     in the charset.
    * @throws IOException if there was an error reading the file.
    * @throws java.nio.file.InvalidPathException if the file could not be converted to a {@link Path}
    *     object - see {@link java.nio.file.FileSystem#getPath(String, String...)}.
@@ -115,6 +128,8 @@ public interface YamlConfigurationSource extends ConfigurationSource {
    * @param file the file
    * @param charset the charset
    * @return the new source
+   * @throws CharacterCodingException if the file is malformed or contains unmappable characters
+   *     in the charset.
    * @throws IOException if there was an error reading the file.
    * @throws java.nio.file.InvalidPathException if the file could not be converted to a {@link Path}
    *     object - see {@link java.nio.file.FileSystem#getPath(String, String...)}.
@@ -145,6 +160,8 @@ public interface YamlConfigurationSource extends ConfigurationSource {
   /**
    * Creates a new {@code YamlConfigurationSource} by parsing the given input stream.
    *
+   * <p>Malformed and unmappable bytes are replaced with the {@code U+FFFD} replacement character.
+   *
    * @param input the input stream
    * @param charset the new source
    * @return if there was an error reading the input stream.
@@ -157,7 +174,7 @@ public interface YamlConfigurationSource extends ConfigurationSource {
     Objects.requireNonNull(input, "input cannot be null");
     Objects.requireNonNull(charset, "charset cannot be null");
 
-    return read(new InputStreamReader(input, charset));
+    return parse(input.readAllBytes(), charset);
   }
 
   /**
@@ -171,16 +188,45 @@ public interface YamlConfigurationSource extends ConfigurationSource {
   static YamlConfigurationSource read(final Reader reader) throws IOException {
     Objects.requireNonNull(reader, "reader cannot be null");
 
-    try {
-      final YamlMapping mapping = Yaml.createYamlInput(reader).readYamlMapping();
-      return new OkYamlConfigurationSource(Optional.of(YamlNodeAdapter.adapt(mapping)));
-    } catch (final YamlReadingException e) {
-      return new ErrorYamlConfigurationSource(new ConfigurationException(error(e)));
+    final StringBuilder source = new StringBuilder();
+    final char[] buffer = new char[8192];
+    int read;
+    while ((read = reader.read(buffer)) != -1) {
+      source.append(buffer, 0, read);
+    }
+    return of(source.toString());
+  }
+
+  /**
+   * Transcodes the given file to UTF-8, reporting bytes that are malformed or unmappable in the
+   * given charset rather than replacing them.
+   */
+  private static byte[] toUtf8(final byte[] source, final Charset charset)
+      throws CharacterCodingException {
+    if (charset.equals(StandardCharsets.UTF_8)) {
+      // UTF-8 files are parsed as is, so they are only validated
+      YamlParser.checkUtf8(source);
+      return source;
     }
+    return charset
+        .newDecoder()
+        .onMalformedInput(CodingErrorAction.REPORT)
+        .onUnmappableCharacter(CodingErrorAction.REPORT)
+        .decode(ByteBuffer.wrap(source))
+        .toString()
+        .getBytes(StandardCharsets.UTF_8);
   }
 
-  private static ConfigurationError error(final YamlReadingException e) {
-    return ConfigurationError.error(
-        e.getMessage() == null ? e.getMessage() : "Unknown error while reading YAML file");
+  private static YamlConfigurationSource parse(final byte[] source, final Charset charset) {
+    // The parser reads UTF-8, so other charsets are transcoded up front
+    final byte[] utf8 =
+        charset.equals(StandardCharsets.UTF_8)
+            ? source
+            : new String(source, charset).getBytes(StandardCharsets.UTF_8);
+    try {
+      return new OkYamlConfigurationSource(Optional.of(YamlParser.parse(utf8)));
+    } catch (final ConfigurationException e) {
+      return new ErrorYamlConfigurationSource(e);
+    }
   }
 }
@@ -0,0 +1,1083 @@
+package me.sparky983.warp.yaml;
+
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import me.sparky983.warp.ConfigurationError;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A single-pass parser for the subset of YAML used by configuration files.
+ *
+ * <p>The parser scans UTF-8 encoded bytes and validates the whole document, but only records its
+ * structure as offsets into the document on a {@link YamlTape}. Nodes are materialized from the
+ * tape when they are first read, so subtrees that are never read are never built. Only keys are
+ * decoded while parsing, since they are needed to find duplicate keys.
+ *
+ * <p>It supports block and flow mappings and sequences, plain, single-quoted and double-quoted
+ * scalars, literal and folded block scalars, and comments. Anchors, aliases, tags, complex keys and
+ * multiple documents are not supported.
+ */
+final class YamlParser {
+  private final byte[] input;
+  private final int length;
+
+  private int position;
+
+  /** The position of the first character of the current line. */
+  private int lineStart;
+
+  private int[] records = new int[0];
+  private int recordsLength;
+  private final List<String> keys = new ArrayList<>();
+
+  /** The keys of the mappings being parsed, by depth, reused to find duplicate keys. */
+  private final List<Set<String>> mappingKeys = new ArrayList<>();
+
+  private int mappingDepth;
+
+  private YamlParser(final byte[] input) {
+    this.input = input;
+    this.length = input.length;
+  }
+
+  /**
+   * Parses the given YAML document.
+   *
+   * <p>An empty document is parsed as an empty map.
+   *
+   * @param input the document
+   * @return the root node of the document
+   * @throws ConfigurationException if the document is invalid or uses unsupported YAML features.
+   * @throws NullPointerException if the input is {@code null}.
+   */
+  static ConfigurationNode parse(final String input) throws ConfigurationException {
+    Objects.requireNonNull(input, "input cannot be null");
+
+    return parse(input.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Parses the given UTF-8 encoded YAML document.
+   *
+   * <p>An empty document is parsed as an empty map. Malformed UTF-8 sequences in scalars are
+   * replaced with the {@code U+FFFD} replacement character.
+   *
+   * @param input the document; it must not be modified after it is parsed, since the returned node
+   *     is materialized from it
+   * @return the root node of the document
+   * @throws ConfigurationException if the document is invalid or uses unsupported YAML features.
+   * @throws NullPointerException if the input is {@code null}.
+   */
+  static ConfigurationNode parse(final byte[] input) throws ConfigurationException {
+    Objects.requireNonNull(input, "input cannot be null");
+
+    final YamlParser parser = new YamlParser(input);
+    parser.records = new int[YamlTape.RECORD_SIZE * 64];
+    parser.parseDocument();
+    return new YamlTape(
+            input,
+            Arrays.copyOf(parser.records, parser.recordsLength),
+            parser.keys.toArray(String[]::new))
+        .root();
+  }
+
+  /**
+   * Checks that the given bytes are well-formed UTF-8.
+   *
+   * <p>Overlong encodings, surrogates and code points above {@code U+10FFFF} are malformed, as
+   * they are for the {@link StandardCharsets#UTF_8 UTF-8} decoder.
+   *
+   * @param input the bytes
+   * @throws MalformedInputException if the bytes are not well-formed UTF-8.
+   * @throws NullPointerException if the input is {@code null}.
+   */
+  static void checkUtf8(final byte[] input) throws MalformedInputException {
+    Objects.requireNonNull(input, "input cannot be null");
+
+    int i = 0;
+    while (i < input.length) {
+      final int b = input[i] & 0xFF;
+      if (b < 0x80) {
+        i++;
+        continue;
+      }
+      // The range of the second byte is narrower for some lead bytes
+      final int continuations;
+      int min = 0x80;
+      int max = 0xBF;
+      if (b >= 0xC2 && b <= 0xDF) {
+        continuations = 1;
+      } else if (b >= 0xE0 && b <= 0xEF) {
+        continuations = 2;
+        if (b == 0xE0) {
+          min = 0xA0;
+        } else if (b == 0xED) {
+          max = 0x9F;
+        }
+      } else if (b >= 0xF0 && b <= 0xF4) {
+        continuations = 3;
+        if (b == 0xF0) {
+          min = 0x90;
+        } else if (b == 0xF4) {
+          max = 0x8F;
+        }
+      } else {
+        throw new MalformedInputException(1);
+      }
+      for (int j = 1; j <= continuations; j++) {
+        if (i + j >= input.length) {
+          throw new MalformedInputException(j);
+        }
+        final int continuation = input[i + j] & 0xFF;
+        if (continuation < min || continuation > max) {
+          throw new MalformedInputException(j);
+        }
+        min = 0x80;
+        max = 0xBF;
+      }
+      i += continuations + 1;
+    }
+  }
+
+  /**
+   * Decodes a scalar that was validated by a previous parse.
+   *
+   * @param input the document
+   * @param type the type of the scalar's record; {@link YamlTape#QUOTED}, {@link YamlTape#PLAIN} or
+   *     {@link YamlTape#BLOCK}
+   * @param start the position of the scalar
+   * @param parentIndent the indentation of the scalar's parent node
+   * @return the value of the scalar
+   */
+  static String decode(
+      final byte[] input, final int type, final int start, final int parentIndent) {
+    final YamlParser parser = new YamlParser(input);
+    parser.position = start;
+    parser.lineStart = start;
+    while (parser.lineStart > 0 && !isBreak(input[parser.lineStart - 1])) {
+      parser.lineStart--;
+    }
+
+    final StringBuilder value = new StringBuilder();
+    try {
+      switch (type) {
+        case YamlTape.QUOTED -> parser.parseQuoted(value);
+        case YamlTape.PLAIN -> parser.parsePlain(parentIndent, value);
+        case YamlTape.BLOCK -> parser.parseBlockScalar(parentIndent, value);
+        default -> throw new IllegalArgumentException("Unknown scalar type " + type);
+      }
+    } catch (final ConfigurationException e) {
+      throw new IllegalStateException("The scalar was not validated", e);
+    }
+    return value.toString();
+  }
+
+  private void parseDocument() throws ConfigurationException {
+    if (length >= 3
+        && input[0] == (byte) 0xEF
+        && input[1] == (byte) 0xBB
+        && input[2] == (byte) 0xBF) {
+      // The byte order mark
+      position = 3;
+      lineStart = 3;
+    }
+
+    if (nextContent() && isDocumentMarker("---")) {
+      position += 3;
+      if (!atLineEnd()) {
+        throw error(position, "Content on the document start line is not supported");
+      }
+      nextContent();
+    }
+
+    if (position >= length || isDocumentMarker("...")) {
+      close(open(YamlTape.MAP), 0);
+    } else {
+      parseNode(column(), -1);
+    }
+
+    if (nextContent() && isDocumentMarker("...")) {
+      position += 3;
+      if (!atLineEnd()) {
+        throw error(position, "Expected a line break");
+      }
+      nextContent();
+    }
+    if (position < length) {
+      if (isDocumentMarker("---")) {
+        throw error(position, "Multiple documents are not supported");
+      }
+      throw error(position, "Unexpected content");
+    }
+  }
+
+  /**
+   * Parses the block node at the current position.
+   *
+   * @param indent the column of the node
+   * @param parentIndent the indentation of the parent node
+   */
+  private void parseNode(final int indent, final int parentIndent) throws ConfigurationException {
+    final byte c = input[position];
+    if (c == '-' && isBlank(position + 1)) {
+      parseBlockSequence(indent);
+      return;
+    }
+    if (c == '?' && isBlank(position + 1)) {
+      throw error(position, "Complex mapping keys are not supported");
+    }
+
+    final int keyStart = position;
+    final String key = parseKey();
+    if (key != null) {
+      parseBlockMapping(indent, keyStart, key);
+    } else {
+      parseValue(parentIndent);
+    }
+  }
+
+  private void parseBlockMapping(final int indent, final int firstKeyStart, final String firstKey)
+      throws ConfigurationException {
+    final int record = open(YamlTape.MAP);
+    final Set<String> keys = enterMapping();
+    int size = 0;
+    int keyStart = firstKeyStart;
+    String key = firstKey;
+    while (true) {
+      key(keys, keyStart, key);
+      if (atLineEnd()) {
+        parseBlockValue(indent, true);
+      } else {
+        parseValue(indent);
+      }
+      size++;
+
+      if (!nextContent() || column() < indent || isDocumentMarker()) {
+        break;
+      }
+      if (column() > indent) {
+        throw error(position, "Bad indentation of a mapping entry");
+      }
+      final byte c = input[position];
+      if (c == '?' && isBlank(position + 1)) {
+        throw error(position, "Complex mapping keys are not supported");
+      }
+      keyStart = position;
+      key = parseKey();
+      if (key == null) {
+        throw error(keyStart, "Expected a mapping entry");
+      }
+    }
+    exitMapping(keys);
+    close(record, size);
+  }
+
+  private void parseBlockSequence(final int indent) throws ConfigurationException {
+    final int record = open(YamlTape.LIST);
+    int size = 0;
+    while (true) {
+      position++; // -
+      if (atLineEnd()) {
+        parseBlockValue(indent, false);
+      } else {
+        parseNode(column(), indent);
+      }
+      size++;
+
+      if (!nextContent() || column() < indent || isDocumentMarker()) {
+        break;
+      }
+      if (column() > indent) {
+        throw error(position, "Bad indentation of a sequence entry");
+      }
+      if (input[position] != '-' || !isBlank(position + 1)) {
+        // The sequence is the value of a mapping entry with the same indentation
+        break;
+      }
+    }
+    close(record, size);
+  }
+
+  /**
+   * Parses the value of a block mapping entry or sequence entry that starts on the next line.
+   *
+   * @param parentIndent the indentation of the mapping or sequence
+   * @param mapping whether the parent is a mapping, in which case the value may be a sequence with
+   *     the same indentation
+   */
+  private void parseBlockValue(final int parentIndent, final boolean mapping)
+      throws ConfigurationException {
+    if (!nextContent() || isDocumentMarker()) {
+      record(YamlTape.NULL, 0, 0);
+      return;
+    }
+    final int column = column();
+    if (column > parentIndent) {
+      parseNode(column, parentIndent);
+    } else if (mapping
+        && column == parentIndent
+        && input[position] == '-'
+        && isBlank(position + 1)) {
+      parseBlockSequence(column);
+    } else {
+      record(YamlTape.NULL, 0, 0);
+    }
+  }
+
+  /**
+   * Parses the value that starts at the current position, up to the end of its last line.
+   *
+   * @param parentIndent the indentation of the parent node
+   */
+  private void parseValue(final int parentIndent) throws ConfigurationException {
+    final int start = position;
+    switch (input[position]) {
+      case '|', '>' -> {
+        record(YamlTape.BLOCK, start, parentIndent);
+        parseBlockScalar(parentIndent, null);
+        return;
+      }
+      case '[' -> parseFlowSequence();
+      case '{' -> parseFlowMapping();
+      case '"', '\'' -> recordQuoted();
+      default -> {
+        final int end = parsePlain(parentIndent, null);
+        if (end == -1) {
+          record(YamlTape.PLAIN, start, parentIndent);
+        } else {
+          record(YamlTape.SLICE, start, end);
+        }
+      }
+    }
+    if (!atLineEnd()) {
+      if (input[position] == ':') {
+        throw error(position, "Complex mapping keys are not supported");
+      }
+      throw error(position, "Unexpected content");
+    }
+  }
+
+  /**
+   * Parses the implicit key of a block mapping entry and the {@code :} indicator following it.
+   *
+   * @return the key, or {@code null} if the current position is not the start of a mapping entry,
+   *     in which case the position is unchanged
+   */
+  private @Nullable String parseKey() throws ConfigurationException {
+    final int start = position;
+    final byte first = input[position];
+    if (first == '"' || first == '\'') {
+      final int startLine = lineStart;
+      final StringBuilder key = new StringBuilder();
+      parseQuoted(key);
+      skipSpaces();
+      if (lineStart == startLine
+          && position < length
+          && input[position] == ':'
+          && isBlank(position + 1)) {
+        position++;
+        return key.toString();
+      }
+      position = start;
+      lineStart = startLine;
+      return null;
+    }
+    if (isIndicator(first) && !isPlainStart(first, position)) {
+      return null;
+    }
+
+    for (int i = position; i < length; i++) {
+      final byte c = input[i];
+      if (c == '\n' || c == '\r' || (c == '#' && isSpace(input[i - 1]))) {
+        return null;
+      }
+      if (c == ':' && isBlank(i + 1)) {
+        int end = i;
+        while (isSpace(input[end - 1])) {
+          end--;
+        }
+        position = i + 1;
+        return string(start, end);
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Parses a plain scalar in the block context, including its continuation lines.
+   *
+   * @param parentIndent the indentation of the parent node; continuation lines must be indented
+   *     further
+   * @param value the builder to append the value to, or {@code null} to only validate the scalar
+   * @return the end of the scalar if it has a single line, otherwise {@code -1}
+   */
+  private int parsePlain(final int parentIndent, final @Nullable StringBuilder value)
+      throws ConfigurationException {
+    final byte first = input[position];
+    if (first == '&' || first == '*' || first == '!') {
+      throw error(position, "Anchors, aliases and tags are not supported");
+    }
+    if (isIndicator(first) && !isPlainStart(first, position)) {
+      throw error(position, "Unexpected character '" + (char) first + "'");
+    }
+
+    final int firstStart = position;
+    final int firstEnd = parsePlainLine();
+    if (value != null) {
+      value.append(string(firstStart, firstEnd));
+    }
+    boolean multiline = false;
+    while (position < length && input[position] != '#') {
+      final int start = position;
+      final int startLine = lineStart;
+      int breaks = 0;
+      skipSpaces();
+      while (position < length && isBreak(input[position])) {
+        newline();
+        breaks++;
+        skipSpaces();
+      }
+      if (breaks == 0
+          || position >= length
+          || column() <= parentIndent
+          || input[position] == '#'
+          || isDocumentMarker()) {
+        position = start;
+        lineStart = startLine;
+        break;
+      }
+
+      multiline = true;
+      final int lineStart = position;
+      final int lineEnd = parsePlainLine();
+      if (value != null) {
+        value.append(breaks == 1 ? " " : "\n".repeat(breaks - 1));
+        value.append(string(lineStart, lineEnd));
+      }
+    }
+    return multiline ? -1 : firstEnd;
+  }
+
+  /**
+   * Parses the rest of the current line of a plain scalar.
+   *
+   * @return the end of the line's content, excluding trailing whitespace
+   */
+  private int parsePlainLine() throws ConfigurationException {
+    int end = position;
+    while (position < length) {
+      final byte c = input[position];
+      if (isBreak(c) || (c == '#' && isSpace(input[position - 1]))) {
+        break;
+      }
+      if (c == ':' && isBlank(position + 1)) {
+        throw error(position, "Mapping values are not allowed here");
+      }
+      position++;
+      if (!isSpace(c)) {
+        end = position;
+      }
+    }
+    return end;
+  }
+
+  /** Parses the quoted scalar at the current position and records it. */
+  private void recordQuoted() throws ConfigurationException {
+    final int start = position;
+    final int end = parseQuoted(null);
+    if (end == -1) {
+      record(YamlTape.QUOTED, start, 0);
+    } else {
+      record(YamlTape.SLICE, start + 1, end);
+    }
+  }
+
+  /**
+   * Parses a single-quoted or double-quoted scalar.
+   *
+   * @param value the builder to append the value to, or {@code null} to only validate the scalar
+   * @return the end of the scalar's content if it has no escape sequences or line breaks, otherwise
+   *     {@code -1}
+   */
+  private int parseQuoted(final @Nullable StringBuilder value) throws ConfigurationException {
+    final int start = position;
+    final byte quote = input[position++];
+    final boolean escapes = quote == '"';
+
+    boolean verbatim = true;
+    int runStart = position;
+    while (true) {
+      if (position >= length) {
+        throw error(start, "Unterminated quoted scalar");
+      }
+      final byte c = input[position];
+      if (c == quote) {
+        if (!escapes && position + 1 < length && input[position + 1] == '\'') {
+          append(value, runStart);
+          if (value != null) {
+            value.append('\'');
+          }
+          verbatim = false;
+          position += 2;
+          runStart = position;
+          continue;
+        }
+        append(value, runStart);
+        final int end = position++;
+        return verbatim ? end : -1;
+      }
+      if (c == '\\' && escapes) {
+        append(value, runStart);
+        parseEscape(value);
+        verbatim = false;
+        runStart = position;
+      } else if (isBreak(c)) {
+        append(value, runStart);
+        fold(value);
+        verbatim = false;
+        runStart = position;
+      } else {
+        position++;
+      }
+    }
+  }
+
+  /** Appends the input from the given start to the current position to the builder, if any. */
+  private void append(final @Nullable StringBuilder value, final int start) {
+    if (value != null && start != position) {
+      value.append(string(start, position));
+    }
+  }
+
+  /** Folds the line breaks at the current position of a quoted scalar. */
+  private void fold(final @Nullable StringBuilder value) {
+    if (value != null) {
+      int end = value.length();
+      while (end > 0 && (value.charAt(end - 1) == ' ' || value.charAt(end - 1) == '\t')) {
+        end--;
+      }
+      value.setLength(end);
+    }
+
+    int breaks = 0;
+    while (position < length && isBreak(input[position])) {
+      newline();
+      breaks++;
+      skipSpaces();
+    }
+    if (value != null) {
+      value.append(breaks == 1 ? " " : "\n".repeat(breaks - 1));
+    }
+  }
+
+  private void parseEscape(final @Nullable StringBuilder value) throws ConfigurationException {
+    final int start = position;
+    if (position + 1 >= length) {
+      throw error(start, "Unterminated quoted scalar");
+    }
+    final byte c = input[position + 1];
+    position += 2;
+    final int codePoint =
+        switch (c) {
+          case '0' -> '\0';
+          case 'a' -> '\u0007';
+          case 'b' -> '\b';
+          case 't', '\t' -> '\t';
+          case 'n' -> '\n';
+          case 'v' -> '\u000B';
+          case 'f' -> '\f';
+          case 'r' -> '\r';
+          case 'e' -> '\u001B';
+          case ' ' -> ' ';
+          case '"' -> '"';
+          case '/' -> '/';
+          case '\\' -> '\\';
+          case 'N' -> '\u0085';
+          case '_' -> '\u00A0';
+          case 'L' -> '\u2028';
+          case 'P' -> '\u2029';
+          case 'x' -> parseHex(start, 2);
+          case 'u' -> parseHex(start, 4);
+          case 'U' -> parseHex(start, 8);
+          case '\n', '\r' -> {
+            // An escaped line break is removed along with the indentation of the next line
+            position--;
+            newline();
+            skipSpaces();
+            yield -1;
+          }
+          default -> throw error(start, "Invalid escape sequence '\\" + (char) c + "'");
+        };
+    if (value != null && codePoint != -1) {
+      value.appendCodePoint(codePoint);
+    }
+  }
+
+  private int parseHex(final int start, final int digits) throws ConfigurationException {
+    if (position + digits > length) {
+      throw error(start, "Invalid escape sequence");
+    }
+    int codePoint = 0;
+    for (int i = 0; i < digits; i++) {
+      final int digit = Character.digit(input[position++], 16);
+      if (digit == -1) {
+        throw error(start, "Invalid escape sequence");
+      }
+      codePoint = codePoint << 4 | digit;
+    }
+    if (!Character.isValidCodePoint(codePoint)) {
+      throw error(start, "Invalid escape sequence");
+    }
+    return codePoint;
+  }
+
+  /**
+   * Parses a literal ({@code |}) or folded ({@code >}) block scalar.
+   *
+   * @param parentIndent the indentation of the parent node; the content must be indented further
+   * @param value the builder to append the value to, or {@code null} to only validate the scalar
+   */
+  private void parseBlockScalar(final int parentIndent, final @Nullable StringBuilder value)
+      throws ConfigurationException {
+    final boolean literal = input[position++] == '|';
+    byte chomping = ' ';
+    int indent = -1;
+    for (int i = 0; i < 2 && position < length; i++) {
+      final byte c = input[position];
+      if ((c == '-' || c == '+') && chomping == ' ') {
+        chomping = c;
+      } else if (c >= '1' && c <= '9' && indent == -1) {
+        indent = Math.max(parentIndent, 0) + c - '0';
+      } else {
+        break;
+      }
+      position++;
+    }
+    if (!atLineEnd()) {
+      throw error(position, "Expected a line break after the block scalar header");
+    }
+    while (position < length && !isBreak(input[position])) {
+      position++;
+    }
+    if (position < length) {
+      newline();
+    }
+
+    boolean content = false;
+    boolean moreIndented = false;
+    boolean trailingBreak = false;
+    int emptyLines = 0;
+    while (position < length) {
+      int spaces = 0;
+      while (position + spaces < length && input[position + spaces] == ' ') {
+        spaces++;
+      }
+      if (position + spaces >= length || isBreak(input[position + spaces])) {
+        position += spaces;
+        if (position < length) {
+          newline();
+        }
+        emptyLines++;
+        continue;
+      }
+      if (indent == -1) {
+        if (spaces <= parentIndent) {
+          break;
+        }
+        indent = spaces;
+      }
+      if (spaces < indent) {
+        break;
+      }
+
+      position += indent;
+      final int start = position;
+      while (position < length && !isBreak(input[position])) {
+        position++;
+      }
+      final boolean lineMoreIndented = isSpace(input[start]);
+      if (value != null) {
+        if (!content) {
+          value.append("\n".repeat(emptyLines));
+        } else if (literal || moreIndented || lineMoreIndented) {
+          value.append("\n".repeat(emptyLines + 1));
+        } else if (emptyLines == 0) {
+          value.append(' ');
+        } else {
+          value.append("\n".repeat(emptyLines));
+        }
+        value.append(string(start, position));
+      }
+      content = true;
+      moreIndented = lineMoreIndented;
+      emptyLines = 0;
+      trailingBreak = position < length;
+      if (trailingBreak) {
+        newline();
+      }
+    }
+
+    if (value != null) {
+      switch (chomping) {
+        case '-' -> {}
+        case '+' -> value.append("\n".repeat((trailingBreak ? 1 : 0) + emptyLines));
+        default -> {
+          if (content && trailingBreak) {
+            value.append('\n');
+          }
+        }
+      }
+    }
+  }
+
+  private void parseFlowSequence() throws ConfigurationException {
+    final int start = position++;
+    final int record = open(YamlTape.LIST);
+    int size = 0;
+    while (true) {
+      skipFlowWhitespace(start);
+      if (input[position] == ']') {
+        position++;
+        close(record, size);
+        return;
+      }
+      parseFlowNode();
+      size++;
+      skipFlowWhitespace(start);
+      final byte c = input[position];
+      if (c == ',') {
+        position++;
+      } else if (c == ':') {
+        throw error(position, "Mappings in flow sequences are not supported");
+      } else if (c != ']') {
+        throw error(position, "Expected ',' or ']'");
+      }
+    }
+  }
+
+  private void parseFlowMapping() throws ConfigurationException {
+    final int start = position++;
+    final int record = open(YamlTape.MAP);
+    final Set<String> keys = enterMapping();
+    int size = 0;
+    while (true) {
+      skipFlowWhitespace(start);
+      final int keyStart = position;
+      final byte first = input[position];
+      if (first == '}') {
+        position++;
+        exitMapping(keys);
+        close(record, size);
+        return;
+      }
+      if (first == '[' || first == '{' || (first == '?' && isBlank(position + 1))) {
+        throw error(position, "Complex mapping keys are not supported");
+      }
+      final String key;
+      if (first == '"' || first == '\'') {
+        final StringBuilder builder = new StringBuilder();
+        parseQuoted(builder);
+        key = builder.toString();
+      } else {
+        key = string(keyStart, parseFlowPlain());
+      }
+      key(keys, keyStart, key);
+
+      skipFlowWhitespace(start);
+      if (input[position] == ':') {
+        position++;
+        skipFlowWhitespace(start);
+        final byte c = input[position];
+        if (c == ',' || c == '}') {
+          record(YamlTape.NULL, 0, 0);
+        } else {
+          parseFlowNode();
+        }
+        skipFlowWhitespace(start);
+      } else {
+        record(YamlTape.NULL, 0, 0);
+      }
+      size++;
+
+      final byte c = input[position];
+      if (c == ',') {
+        position++;
+      } else if (c != '}') {
+        throw error(position, "Expected ',' or '}'");
+      }
+    }
+  }
+
+  /** Parses a node inside a flow collection. */
+  private void parseFlowNode() throws ConfigurationException {
+    final int start = position;
+    switch (input[position]) {
+      case '[' -> parseFlowSequence();
+      case '{' -> parseFlowMapping();
+      case '"', '\'' -> recordQuoted();
+      default -> record(YamlTape.SLICE, start, parseFlowPlain());
+    }
+  }
+
+  /**
+   * Parses a plain scalar inside a flow collection.
+   *
+   * @return the end of the scalar, excluding trailing whitespace
+   */
+  private int parseFlowPlain() throws ConfigurationException {
+    final byte first = input[position];
+    if (first == '&' || first == '*' || first == '!') {
+      throw error(position, "Anchors, aliases and tags are not supported");
+    }
+
+    final int start = position;
+    int end = position;
+    while (position < length) {
+      final byte c = input[position];
+      if (isBreak(c)
+          || isFlowIndicator(c)
+          || (c == ':' && (isBlank(position + 1) || isFlowIndicator(input[position + 1])))
+          || (c == '#' && isSpace(input[position - 1]))) {
+        break;
+      }
+      position++;
+      if (!isSpace(c)) {
+        end = position;
+      }
+    }
+    if (end == start) {
+      throw error(start, "Expected a value");
+    }
+    return end;
+  }
+
+  /**
+   * Skips whitespace, line breaks and comments inside a flow collection.
+   *
+   * @param start the position of the outermost flow collection
+   * @throws ConfigurationException if the end of the input is reached.
+   */
+  private void skipFlowWhitespace(final int start) throws ConfigurationException {
+    while (position < length) {
+      final byte c = input[position];
+      if (isSpace(c)) {
+        position++;
+      } else if (isBreak(c)) {
+        newline();
+      } else if (c == '#') {
+        skipComment();
+      } else {
+        return;
+      }
+    }
+    throw error(start, "Unterminated flow collection");
+  }
+
+  /**
+   * Skips whitespace, line breaks and comments up to the next content.
+   *
+   * <p>This method must only be called at the start of a line or when the rest of the current line
+   * is blank.
+   *
+   * @return {@code true} if there is content, otherwise {@code false}
+   * @throws ConfigurationException if the content is indented with tabs.
+   */
+  private boolean nextContent() throws ConfigurationException {
+    boolean tab = false;
+    while (position < length) {
+      final byte c = input[position];
+      if (c == ' ') {
+        position++;
+      } else if (c == '\t') {
+        tab = true;
+        position++;
+      } else if (isBreak(c)) {
+        newline();
+        tab = false;
+      } else if (c == '#') {
+        skipComment();
+      } else {
+        if (tab) {
+          throw error(position, "Tabs cannot be used for indentation");
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Skips whitespace and checks if the current line has no more content.
+   *
+   * @return {@code true} if the rest of the line is blank or a comment, otherwise {@code false}
+   */
+  private boolean atLineEnd() {
+    skipSpaces();
+    if (position >= length) {
+      return true;
+    }
+    final byte c = input[position];
+    return isBreak(c) || c == '#';
+  }
+
+  private void skipSpaces() {
+    while (position < length && isSpace(input[position])) {
+      position++;
+    }
+  }
+
+  private void skipComment() {
+    while (position < length && !isBreak(input[position])) {
+      position++;
+    }
+  }
+
+  /** Moves past the line break at the current position. */
+  private void newline() {
+    if (input[position] == '\r' && position + 1 < length && input[position + 1] == '\n') {
+      position++;
+    }
+    position++;
+    lineStart = position;
+  }
+
+  private int column() {
+    return position - lineStart;
+  }
+
+  private boolean isDocumentMarker() {
+    return isDocumentMarker("---") || isDocumentMarker("...");
+  }
+
+  private boolean isDocumentMarker(final String marker) {
+    if (position != lineStart || position + 3 > length) {
+      return false;
+    }
+    for (int i = 0; i < 3; i++) {
+      if (input[position + i] != marker.charAt(i)) {
+        return false;
+      }
+    }
+    return isBlank(position + 3);
+  }
+
+  /** Checks if the given position is the end of the input, whitespace or a line break. */
+  private boolean isBlank(final int position) {
+    if (position >= length) {
+      return true;
+    }
+    final byte c = input[position];
+    return isSpace(c) || isBreak(c);
+  }
+
+  /**
+   * Checks if the given indicator starts a plain scalar, which is the case for {@code -}, {@code ?}
+   * and {@code :} when followed by a non-blank character.
+   */
+  private boolean isPlainStart(final byte indicator, final int position) {
+    return (indicator == '-' || indicator == '?' || indicator == ':') && !isBlank(position + 1);
+  }
+
+  private static boolean isSpace(final byte c) {
+    return c == ' ' || c == '\t';
+  }
+
+  private static boolean isBreak(final byte c) {
+    return c == '\n' || c == '\r';
+  }
+
+  private static boolean isFlowIndicator(final byte c) {
+    return c == ',' || c == '[' || c == ']' || c == '{' || c == '}';
+  }
+
+  /** Checks if the given character is an indicator, which cannot start a plain scalar. */
+  private static boolean isIndicator(final byte c) {
+    return switch (c) {
+      case '-', '?', ':', ',', '[', ']', '{', '}', '#', '&', '*', '!', '|', '>', '%', '@', '`' ->
+          true;
+      default -> false;
+    };
+  }
+
+  /** Decodes the given range of the input. */
+  private String string(final int start, final int end) {
+    return new String(input, start, end - start, StandardCharsets.UTF_8);
+  }
+
+  /** Appends a record to the tape. */
+  private void record(final int type, final int first, final int second) {
+    if (recordsLength + YamlTape.RECORD_SIZE > records.length) {
+      records = Arrays.copyOf(records, records.length * 2);
+    }
+    records[recordsLength++] = type;
+    records[recordsLength++] = first;
+    records[recordsLength++] = second;
+  }
+
+  /**
+   * Appends a mapping or sequence record to the tape, which is completed by {@link #close(int,
+   * int)}.
+   *
+   * @return the index of the record
+   */
+  private int open(final int type) {
+    final int record = recordsLength;
+    record(type, 0, 0);
+    return record;
+  }
+
+  /** Completes a mapping or sequence record once all of its entries or elements are recorded. */
+  private void close(final int record, final int size) {
+    records[record + 1] = size;
+    records[record + 2] = recordsLength;
+  }
+
+  /** Records the key of a mapping entry. */
+  private void key(final Set<String> keys, final int keyStart, final String key)
+      throws ConfigurationException {
+    if (!keys.add(key)) {
+      throw error(keyStart, "Duplicate key \"" + key + "\"");
+    }
+    this.keys.add(key);
+    record(YamlTape.KEY, this.keys.size() - 1, 0);
+  }
+
+  private Set<String> enterMapping() {
+    if (mappingDepth == mappingKeys.size()) {
+      mappingKeys.add(new HashSet<>());
+    }
+    return mappingKeys.get(mappingDepth++);
+  }
+
+  private void exitMapping(final Set<String> keys) {
+    keys.clear();
+    mappingDepth--;
+  }
+
+  private ConfigurationException error(final int position, final String message) {
+    int line = 1;
+    int lineStart = 0;
+    for (int i = 0; i < position; i++) {
+      final byte c = input[i];
+      if (c == '\n' || (c == '\r' && (i + 1 >= length || input[i + 1] != '\n'))) {
+        line++;
+        lineStart = i + 1;
+      }
+    }
+    return new ConfigurationException(
+        ConfigurationError.error(
+            message
+                + " at line "
+                + line
+                + ", column "
+                + (string(lineStart, position).length() + 1)));
+  }
+}
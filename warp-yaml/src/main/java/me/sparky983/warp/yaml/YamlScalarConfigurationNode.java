@@ -0,0 +1,215 @@
+package me.sparky983.warp.yaml;
+
+import java.util.Objects;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A YAML scalar.
+ *
+ * <p>Since YAML scalars are untyped, the value may be read as a string, a number or a boolean. The
+ * value is classified once when the node is constructed, so reading it as a number or a boolean
+ * does not parse it again.
+ */
+final class YamlScalarConfigurationNode implements ConfigurationNode {
+  private static final int STRING = 0;
+  private static final int NULL = 1;
+  private static final int BOOLEAN = 2;
+  private static final int INTEGER = 3;
+  private static final int DECIMAL = 4;
+
+  private final String value;
+  private final int type;
+  private final boolean bool;
+  private final long integer;
+  private final double decimal;
+
+  /**
+   * Constructs a {@code YamlScalarConfigurationNode}.
+   *
+   * @param value the value
+   * @throws NullPointerException if the value is {@code null}.
+   */
+  YamlScalarConfigurationNode(final String value) {
+    Objects.requireNonNull(value, "value cannot be null");
+
+    this.value = value;
+    boolean bool = false;
+    long integer = 0;
+    double decimal = 0;
+    int type = STRING;
+    switch (value) {
+      case "null" -> type = NULL;
+      case "true" -> {
+        type = BOOLEAN;
+        bool = true;
+      }
+      case "false" -> type = BOOLEAN;
+      default -> {
+        if (isInteger(value)) {
+          try {
+            integer = Long.parseLong(value);
+            // Keeps the sign of -0
+            decimal = integer == 0 ? Double.parseDouble(value) : integer;
+            type = INTEGER;
+          } catch (final NumberFormatException e) {
+            // Too large for a long
+            decimal = Double.parseDouble(value);
+            type = DECIMAL;
+          }
+        } else if (isDecimalCandidate(value)) {
+          try {
+            decimal = Double.parseDouble(value);
+            type = DECIMAL;
+          } catch (final NumberFormatException e) {
+            // Only looked like a decimal
+          }
+        }
+      }
+    }
+    this.type = type;
+    this.bool = bool;
+    this.integer = integer;
+    this.decimal = decimal;
+  }
+
+  /** Checks if the given value is an optionally signed sequence of ASCII digits. */
+  private static boolean isInteger(final String value) {
+    final int length = value.length();
+    int i = 0;
+    if (length > 0 && (value.charAt(0) == '-' || value.charAt(0) == '+')) {
+      i++;
+    }
+    if (i == length) {
+      return false;
+    }
+    for (; i < length; i++) {
+      final char c = value.charAt(i);
+      if (c < '0' || c > '9') {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Checks if the given value matches the grammar accepted by {@link Double#parseDouble(String)}:
+   * surrounding whitespace, an optional sign, then {@code NaN}, {@code Infinity} or a decimal or
+   * hexadecimal significand with an optional exponent and an optional {@code f} or {@code d}
+   * suffix.
+   */
+  private static boolean isDecimalCandidate(final String value) {
+    final String trimmed = value.trim();
+    final int length = trimmed.length();
+    int i = 0;
+    if (i < length && (trimmed.charAt(i) == '-' || trimmed.charAt(i) == '+')) {
+      i++;
+    }
+    if (trimmed.startsWith("NaN", i)) {
+      return i + 3 == length;
+    }
+    if (trimmed.startsWith("Infinity", i)) {
+      return i + 8 == length;
+    }
+    final boolean hex = trimmed.startsWith("0x", i) || trimmed.startsWith("0X", i);
+    if (hex) {
+      i += 2;
+    }
+    final int integerStart = i;
+    i = skipDigits(trimmed, i, hex);
+    int digits = i - integerStart;
+    if (i < length && trimmed.charAt(i) == '.') {
+      final int fractionStart = ++i;
+      i = skipDigits(trimmed, i, hex);
+      digits += i - fractionStart;
+    }
+    if (digits == 0) {
+      return false;
+    }
+    // Hexadecimal significands require a binary exponent
+    if (i < length && (hex ? "pP" : "eE").indexOf(trimmed.charAt(i)) >= 0) {
+      i++;
+      if (i < length && (trimmed.charAt(i) == '-' || trimmed.charAt(i) == '+')) {
+        i++;
+      }
+      final int exponentStart = i;
+      i = skipDigits(trimmed, i, false);
+      if (i == exponentStart) {
+        return false;
+      }
+    } else if (hex) {
+      return false;
+    }
+    if (i < length && "fFdD".indexOf(trimmed.charAt(i)) >= 0) {
+      i++;
+    }
+    return i == length;
+  }
+
+  /** Returns the index of the first character at or after {@code i} that is not a digit. */
+  private static int skipDigits(final String value, final int start, final boolean hex) {
+    int i = start;
+    for (; i < value.length(); i++) {
+      final char c = value.charAt(i);
+      if (!(c >= '0' && c <= '9')
+          && !(hex && ((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')))) {
+        break;
+      }
+    }
+    return i;
+  }
+
+  @Override
+  public String asString() {
+    return value;
+  }
+
+  @Override
+  public double asDecimal() throws DeserializationException {
+    if (type == INTEGER || type == DECIMAL) {
+      return decimal;
+    }
+    return ConfigurationNode.super.asDecimal();
+  }
+
+  @Override
+  public long asInteger() throws DeserializationException {
+    if (type == INTEGER) {
+      return integer;
+    }
+    return ConfigurationNode.super.asInteger();
+  }
+
+  @Override
+  public boolean asBoolean() throws DeserializationException {
+    if (type == BOOLEAN) {
+      return bool;
+    }
+    return ConfigurationNode.super.asBoolean();
+  }
+
+  @Override
+  public boolean isNil() {
+    return type == NULL;
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (other instanceof final LazyYamlNode lazy) {
+      // Equal to a lazy node of an equal scalar, like the lazy node is equal to this scalar
+      return equals(lazy.node());
+    }
+    return other instanceof final YamlScalarConfigurationNode scalar && value.equals(scalar.value);
+  }
+
+  @Override
+  public int hashCode() {
+    return value.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return value;
+  }
+}
@@ -0,0 +1,118 @@
+package me.sparky983.warp.yaml;
+
+import java.nio.charset.StandardCharsets;
+import me.sparky983.warp.ConfigurationNode;
+
+/**
+ * The structure of a parsed YAML document, recorded as offsets into the document.
+ *
+ * <p>The tape is a flat array of records of three ints each; the first is the type of the record.
+ * A mapping or sequence record is followed by the records of its entries or elements, and stores
+ * its size and the index of the record following it, so a subtree can be skipped without reading
+ * it. Each mapping entry is a {@link #KEY} record followed by the record of its value.
+ */
+final class YamlTape {
+  /** The number of ints in a record. */
+  static final int RECORD_SIZE = 3;
+
+  /** A mapping, followed by its size and the index of the next record. */
+  static final int MAP = 0;
+
+  /** A sequence, followed by its size and the index of the next record. */
+  static final int LIST = 1;
+
+  /** A mapping key, followed by the index of the key. */
+  static final int KEY = 2;
+
+  /** A scalar that is a verbatim slice of the document, followed by its start and end. */
+  static final int SLICE = 3;
+
+  /** A quoted scalar that needs to be unescaped, followed by its start. */
+  static final int QUOTED = 4;
+
+  /** A multi-line plain scalar, followed by its start and the indentation of its parent. */
+  static final int PLAIN = 5;
+
+  /** A block scalar, followed by the start of its header and the indentation of its parent. */
+  static final int BLOCK = 6;
+
+  /** An empty value. */
+  static final int NULL = 7;
+
+  private static final ConfigurationNode NULL_NODE = new YamlScalarConfigurationNode("null");
+
+  private final byte[] input;
+  private final int[] records;
+  private final String[] keys;
+
+  /**
+   * Constructs a {@code YamlTape}.
+   *
+   * @param input the document
+   * @param records the records
+   * @param keys the mapping keys, referenced by {@link #KEY} records
+   */
+  YamlTape(final byte[] input, final int[] records, final String[] keys) {
+    this.input = input;
+    this.records = records;
+    this.keys = keys;
+  }
+
+  /**
+   * Returns the root node of the document.
+   *
+   * @return the root node
+   */
+  ConfigurationNode root() {
+    return new LazyYamlNode(this, 0);
+  }
+
+  /**
+   * Materializes the record at the given index.
+   *
+   * <p>The entries and elements of mappings and sequences are themselves materialized lazily.
+   *
+   * @param index the index of the record
+   * @return the node
+   */
+  ConfigurationNode materialize(final int index) {
+    final int first = records[index + 1];
+    final int second = records[index + 2];
+    return switch (records[index]) {
+      case MAP -> {
+        final ConfigurationNode.MapBuilder map = ConfigurationNode.mapBuilder(first);
+        int child = index + RECORD_SIZE;
+        while (child < second) {
+          final String key = keys[records[child + 1]];
+          child += RECORD_SIZE;
+          map.put(key, new LazyYamlNode(this, child));
+          child = next(child);
+        }
+        yield map.build();
+      }
+      case LIST -> {
+        final ConfigurationNode.ListBuilder list = ConfigurationNode.listBuilder(first);
+        int child = index + RECORD_SIZE;
+        while (child < second) {
+          list.add(new LazyYamlNode(this, child));
+          child = next(child);
+        }
+        yield list.build();
+      }
+      case SLICE ->
+          new YamlScalarConfigurationNode(
+              new String(input, first, second - first, StandardCharsets.UTF_8));
+      case QUOTED, PLAIN, BLOCK ->
+          new YamlScalarConfigurationNode(
+              YamlParser.decode(input, records[index], first, second));
+      case NULL -> NULL_NODE;
+      default -> throw new IllegalStateException("Unknown record type " + records[index]);
+    };
+  }
+
+  /** Returns the index of the record following the node at the given index. */
+  private int next(final int index) {
+    final int type = records[index];
+    return type == MAP || type == LIST ? records[index + 2] : index + RECORD_SIZE;
+  }
+}
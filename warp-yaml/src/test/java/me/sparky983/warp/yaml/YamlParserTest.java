@@ -0,0 +1,417 @@
+package me.sparky983.warp.yaml;
+
+import static me.sparky983.warp.yaml.ConfigurationNodes.nodeIsMix;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.MalformedInputException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import me.sparky983.warp.ConfigurationError;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class YamlParserTest {
+  @Test
+  void testParse_Null() {
+    assertThrows(NullPointerException.class, () -> YamlParser.parse((String) null));
+    assertThrows(NullPointerException.class, () -> YamlParser.parse((byte[]) null));
+  }
+
+  @Test
+  void testParse_Empty() throws ConfigurationException {
+    assertEquals(ConfigurationNode.map(), parse(""));
+    assertEquals(ConfigurationNode.map(), parse("# comment\n\n"));
+    assertEquals(ConfigurationNode.map(), parse("---\n"));
+  }
+
+  @Test
+  void testParse_Mix() throws ConfigurationException {
+    final ConfigurationNode node =
+        YamlParser.parse(
+            """
+            no value:
+            null value: null
+            true: true
+            false: false
+            integer: 10
+            decimal: 10.0
+            string: some string
+            list:
+              - 10
+              - some string
+            map:
+              key: value
+            """);
+
+    assertTrue(nodeIsMix(node));
+  }
+
+  @Test
+  void testParse_BlockMapping() throws ConfigurationException {
+    final ConfigurationNode node =
+        parse(
+            """
+            ---
+            # A comment
+            key: value # A trailing comment
+            "quoted key": 'quoted value'
+            nested:
+              key: value
+
+              other key: other value
+            url: https://example.com/#anchor
+            """);
+
+    assertEquals(
+        ConfigurationNode.map(
+            Map.entry("key", scalar("value")),
+            Map.entry("quoted key", scalar("quoted value")),
+            Map.entry(
+                "nested",
+                ConfigurationNode.map(
+                    Map.entry("key", scalar("value")),
+                    Map.entry("other key", scalar("other value")))),
+            Map.entry("url", scalar("https://example.com/#anchor"))),
+        node);
+  }
+
+  @Test
+  void testParse_BlockSequence() throws ConfigurationException {
+    final ConfigurationNode node =
+        parse(
+            """
+            indented:
+              - a
+              -
+                b
+            not indented:
+            - a
+            - - nested
+              - sequence
+            - key: value
+              other key: other value
+            -
+            """);
+
+    assertEquals(
+        ConfigurationNode.map(
+            Map.entry("indented", ConfigurationNode.list(scalar("a"), scalar("b"))),
+            Map.entry(
+                "not indented",
+                ConfigurationNode.list(
+                    scalar("a"),
+                    ConfigurationNode.list(scalar("nested"), scalar("sequence")),
+                    ConfigurationNode.map(
+                        Map.entry("key", scalar("value")),
+                        Map.entry("other key", scalar("other value"))),
+                    scalar("null")))),
+        node);
+  }
+
+  @Test
+  void testParse_FlowCollections() throws ConfigurationException {
+    final ConfigurationNode node =
+        parse(
+            """
+            sequence: [a, "b, c", [nested], {key: value}, ]
+            mapping: { key: value, "quoted": 'x', empty:, nested: {a: 1},
+              multi line: [ 1,
+                2 ] }
+            empty: [ ]
+            """);
+
+    assertEquals(
+        ConfigurationNode.map(
+            Map.entry(
+                "sequence",
+                ConfigurationNode.list(
+                    scalar("a"),
+                    scalar("b, c"),
+                    ConfigurationNode.list(scalar("nested")),
+                    ConfigurationNode.map(Map.entry("key", scalar("value"))))),
+            Map.entry(
+                "mapping",
+                ConfigurationNode.map(
+                    Map.entry("key", scalar("value")),
+                    Map.entry("quoted", scalar("x")),
+                    Map.entry("empty", scalar("null")),
+                    Map.entry("nested", ConfigurationNode.map(Map.entry("a", scalar("1")))),
+                    Map.entry("multi line", ConfigurationNode.list(scalar("1"), scalar("2"))))),
+            Map.entry("empty", ConfigurationNode.list())),
+        node);
+  }
+
+  @Test
+  void testParse_QuotedScalars() throws ConfigurationException {
+    final ConfigurationNode node =
+        parse(
+            """
+            single: 'it''s # not a comment'
+            double: "tab\\tnewline\\n\\"quote\\" \\u00e9 \\x41 \\U0001F600"
+            folded: "first
+              second
+
+              third"
+            escaped break: "first \\
+              second"
+            """);
+
+    assertEquals(
+        ConfigurationNode.map(
+            Map.entry("single", scalar("it's # not a comment")),
+            Map.entry("double", scalar("tab\tnewline\n\"quote\" \u00e9 A \uD83D\uDE00")),
+            Map.entry("folded", scalar("first second\nthird")),
+            Map.entry("escaped break", scalar("first second"))),
+        node);
+  }
+
+  @Test
+  void testParse_PlainScalars() throws ConfigurationException {
+    final ConfigurationNode node =
+        parse(
+            """
+            multi line: first
+              second
+
+              third
+            negative: -1
+            colon: a:b
+            """);
+
+    assertEquals(
+        ConfigurationNode.map(
+            Map.entry("multi line", scalar("first second\nthird")),
+            Map.entry("negative", scalar("-1")),
+            Map.entry("colon", scalar("a:b"))),
+        node);
+  }
+
+  @Test
+  void testParse_BlockScalars() throws ConfigurationException {
+    final ConfigurationNode node =
+        parse(
+            """
+            literal: |
+              first
+                indented
+
+              last
+            folded: >
+              first
+              second
+
+              third
+            strip: |-
+              text
+
+            keep: |+
+              text
+
+            explicit: |2
+                indented
+            last: value
+            """);
+
+    assertEquals(
+        ConfigurationNode.map(
+            Map.entry("literal", scalar("first\n  indented\n\nlast\n")),
+            Map.entry("folded", scalar("first second\nthird\n")),
+            Map.entry("strip", scalar("text")),
+            Map.entry("keep", scalar("text\n\n")),
+            Map.entry("explicit", scalar("  indented\n")),
+            Map.entry("last", scalar("value"))),
+        node);
+  }
+
+  @Test
+  void testParse_RootSequence() throws ConfigurationException {
+    assertEquals(ConfigurationNode.list(scalar("a"), scalar("b")), parse("- a\n- b"));
+  }
+
+  @Test
+  void testParse_CarriageReturns() throws ConfigurationException {
+    assertEquals(
+        ConfigurationNode.map(
+            Map.entry("key", scalar("value")),
+            Map.entry("list", ConfigurationNode.list(scalar("a")))),
+        parse("key: value\r\nlist:\r\n  - a\r\n"));
+  }
+
+  @Test
+  void testParse_Utf8() throws ConfigurationException {
+    final byte[] bom = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+    final byte[] yaml =
+        "cl\u00e9: 'caf\u00e9'\nemoji: \uD83D\uDE00".getBytes(StandardCharsets.UTF_8);
+    final byte[] input = Arrays.copyOf(bom, bom.length + yaml.length);
+    System.arraycopy(yaml, 0, input, bom.length, yaml.length);
+
+    assertEquals(
+        ConfigurationNode.map(
+            Map.entry("cl\u00e9", scalar("caf\u00e9")),
+            Map.entry("emoji", scalar("\uD83D\uDE00"))),
+        parse(input));
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "? complex\n: key",
+        "map:\n  ? [ key ]\n  : value",
+        "[key]: value",
+        "key: value\nkey: other value",
+        "key: value\n  other: value",
+        "key: value\n\tother: value",
+        "key: 'unterminated",
+        "key: [unterminated",
+        "key: \"\\q\"",
+        "key: &anchor value",
+        "key: *alias",
+        "key: !tag value",
+        "key: a: b",
+        "key: value\n---\nkey: value",
+        "- a\nkey: value",
+        "key: [a: b]",
+      })
+  void testParse_Invalid(final String yaml) {
+    assertThrows(ConfigurationException.class, () -> YamlParser.parse(yaml));
+  }
+
+  @Test
+  void testParse_ErrorPosition() {
+    final ConfigurationException exception =
+        assertThrows(
+            ConfigurationException.class, () -> YamlParser.parse("key: value\nkey: other value"));
+
+    assertEquals(
+        List.of(ConfigurationError.error("Duplicate key \"key\" at line 2, column 1")),
+        List.copyOf(exception.errors()));
+  }
+
+  @Test
+  void testParse_ErrorPositionUtf8() {
+    final ConfigurationException exception =
+        assertThrows(ConfigurationException.class, () -> YamlParser.parse("cl\u00e9: a: b"));
+
+    assertEquals(
+        List.of(
+            ConfigurationError.error("Mapping values are not allowed here at line 1, column 7")),
+        List.copyOf(exception.errors()));
+  }
+
+  @Test
+  void testParse_Lazy() throws ConfigurationException, DeserializationException {
+    final ConfigurationNode node =
+        YamlParser.parse(
+            """
+            read:
+              key: "value\\n"
+            unread:
+              - a
+              - b
+            """);
+
+    final Map<String, ConfigurationNode> map = node.asMap();
+    final LazyYamlNode read = (LazyYamlNode) map.get("read");
+    final LazyYamlNode unread = (LazyYamlNode) map.get("unread");
+    assertFalse(read.isMaterialized());
+    assertEquals("value\n", read.asMap().get("key").asString());
+
+    assertTrue(read.isMaterialized());
+    assertFalse(unread.isMaterialized());
+  }
+
+  @Test
+  void testParse_LazyEquality() throws ConfigurationException {
+    final String yaml = "map:\n  key: value\nlist: [a, 'b']\n";
+
+    assertEquals(YamlParser.parse(yaml), YamlParser.parse(yaml));
+    assertEquals(YamlParser.parse(yaml).hashCode(), YamlParser.parse(yaml).hashCode());
+    assertNotEquals(YamlParser.parse(yaml), YamlParser.parse("map:\n  key: other value\n"));
+  }
+
+  @Test
+  void testParse_LazyEqualityWithOtherNodes() throws ConfigurationException {
+    final ConfigurationNode lazy = YamlParser.parse("map:\n  key: value\nlist: [a, 'b']\n");
+    final ConfigurationNode materialized =
+        ConfigurationNode.map(
+            Map.entry("map", ConfigurationNode.map(Map.entry("key", scalar("value")))),
+            Map.entry("list", ConfigurationNode.list(scalar("a"), scalar("b"))));
+
+    assertEquals(materialized, lazy);
+    assertEquals(lazy, materialized);
+    assertEquals(materialized.hashCode(), lazy.hashCode());
+    assertNotEquals(lazy, ConfigurationNode.map());
+    assertNotEquals(ConfigurationNode.map(), lazy);
+    assertNotEquals(lazy, ConfigurationNode.string("value"));
+  }
+
+  @Test
+  void testParse_LazyInvalid() {
+    // The whole document is validated up front, even if the invalid part is never read
+    assertThrows(
+        ConfigurationException.class,
+        () -> YamlParser.parse("valid: value\nunread:\n  key: a\n  key: b\n"));
+  }
+
+  /** Parses the given document and materializes the whole tree. */
+  @Test
+  void testCheckUtf8() throws MalformedInputException {
+    assertThrows(NullPointerException.class, () -> YamlParser.checkUtf8(null));
+    YamlParser.checkUtf8(new byte[0]);
+    YamlParser.checkUtf8(
+        "key: v\u00e4lue \u65e5\u672c \ud83d\ude00".getBytes(StandardCharsets.UTF_8));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"80", "ff", "c0af", "c3", "e282", "e080af", "eda080", "f4908080"})
+  void testCheckUtf8_Malformed(final String hex) {
+    final byte[] input = HexFormat.of().parseHex("6b3a20" + hex);
+
+    assertThrows(MalformedInputException.class, () -> YamlParser.checkUtf8(input));
+  }
+
+  private static ConfigurationNode parse(final String yaml) throws ConfigurationException {
+    return materialize(YamlParser.parse(yaml));
+  }
+
+  private static ConfigurationNode parse(final byte[] yaml) throws ConfigurationException {
+    return materialize(YamlParser.parse(yaml));
+  }
+
+  private static ConfigurationNode materialize(final ConfigurationNode node) {
+    try {
+      final Map<String, ConfigurationNode> map = new LinkedHashMap<>();
+      node.asMap().forEach((key, value) -> map.put(key, materialize(value)));
+      return ConfigurationNode.map(map);
+    } catch (final DeserializationException e) {
+      // Not a map
+    }
+    try {
+      return ConfigurationNode.list(
+          node.asList().stream().map(YamlParserTest::materialize).toList());
+    } catch (final DeserializationException e) {
+      // Not a list
+    }
+    try {
+      return scalar(node.asString());
+    } catch (final DeserializationException e) {
+      throw new AssertionError(e);
+    }
+  }
+
+  private static ConfigurationNode scalar(final String value) {
+    return new YamlScalarConfigurationNode(value);
+  }
+}
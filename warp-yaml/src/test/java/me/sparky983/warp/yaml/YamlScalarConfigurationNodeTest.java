@@ -0,0 +1,112 @@
+package me.sparky983.warp.yaml;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class YamlScalarConfigurationNodeTest {
+  @Test
+  void testNew_Null() {
+    assertThrows(NullPointerException.class, () -> new YamlScalarConfigurationNode(null));
+  }
+
+  @Test
+  void testString() throws DeserializationException {
+    final ConfigurationNode node = new YamlScalarConfigurationNode("some string");
+
+    assertEquals("some string", node.asString());
+    assertThrows(DeserializationException.class, node::asInteger);
+    assertThrows(DeserializationException.class, node::asDecimal);
+    assertThrows(DeserializationException.class, node::asBoolean);
+    assertFalse(node.isNil());
+  }
+
+  @Test
+  void testNull() throws DeserializationException {
+    final ConfigurationNode node = new YamlScalarConfigurationNode("null");
+
+    assertTrue(node.isNil());
+    assertEquals("null", node.asString());
+    assertThrows(DeserializationException.class, node::asBoolean);
+  }
+
+  @Test
+  void testBoolean() throws DeserializationException {
+    assertTrue(new YamlScalarConfigurationNode("true").asBoolean());
+    assertFalse(new YamlScalarConfigurationNode("false").asBoolean());
+    assertEquals("true", new YamlScalarConfigurationNode("true").asString());
+    assertThrows(
+        DeserializationException.class, new YamlScalarConfigurationNode("True")::asBoolean);
+  }
+
+  @Test
+  void testInteger() throws DeserializationException {
+    final ConfigurationNode node = new YamlScalarConfigurationNode("-10");
+
+    assertEquals(-10, node.asInteger());
+    assertEquals(-10.0, node.asDecimal());
+    assertEquals("-10", node.asString());
+    assertEquals(10, new YamlScalarConfigurationNode("+10").asInteger());
+    assertEquals(-0.0, new YamlScalarConfigurationNode("-0").asDecimal());
+  }
+
+  @Test
+  void testInteger_Overflow() throws DeserializationException {
+    final ConfigurationNode node = new YamlScalarConfigurationNode("99999999999999999999");
+
+    assertThrows(DeserializationException.class, node::asInteger);
+    assertEquals(1e20, node.asDecimal());
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "10.5", "1e3", ".5", "-2.5", "NaN", "Infinity", "-Infinity", " 1.5 ", "1.5d", "1.e-3",
+        "0x1p3"
+      })
+  void testDecimal(final String value) throws DeserializationException {
+    final ConfigurationNode node = new YamlScalarConfigurationNode(value);
+
+    assertEquals(Double.parseDouble(value), node.asDecimal());
+    assertThrows(DeserializationException.class, node::asInteger);
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "-", "1.2.3", "10 apples", "Inf", "0x"})
+  void testNotNumeric(final String value) {
+    final ConfigurationNode node = new YamlScalarConfigurationNode(value);
+
+    assertThrows(DeserializationException.class, node::asInteger);
+    assertThrows(DeserializationException.class, node::asDecimal);
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {
+        "1.20.4", "2024-01-01", "10ms", "Nether", "INFO", "Infinity-mode", "NaNa", "1e", "."
+      })
+  void testNotDecimal(final String value) throws DeserializationException {
+    final ConfigurationNode node = new YamlScalarConfigurationNode(value);
+
+    assertEquals(value, node.asString());
+    assertThrows(DeserializationException.class, node::asDecimal);
+    assertThrows(DeserializationException.class, node::asInteger);
+  }
+
+  @Test
+  void testEquals() {
+    assertEquals(new YamlScalarConfigurationNode("10"), new YamlScalarConfigurationNode("10"));
+    assertEquals(
+        new YamlScalarConfigurationNode("10").hashCode(),
+        new YamlScalarConfigurationNode("10").hashCode());
+    assertNotEquals(new YamlScalarConfigurationNode("10"), new YamlScalarConfigurationNode("10.0"));
+  }
+}
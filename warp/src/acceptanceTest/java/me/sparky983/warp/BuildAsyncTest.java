@@ -0,0 +1,165 @@
+package me.sparky983.warp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BuildAsyncTest {
+  @TempDir Path directory;
+
+  @Test
+  void testExecutor_Null() {
+    final ConfigurationBuilder<Configurations.String> builder =
+        Warp.builder(Configurations.String.class);
+
+    assertThrows(NullPointerException.class, () -> builder.executor(null));
+    assertThrows(NullPointerException.class, () -> builder.ioExecutor(null));
+  }
+
+  @Test
+  void testBuildAsync_Null() {
+    final ConfigurationBuilder<Configurations.String> builder =
+        Warp.builder(Configurations.String.class);
+
+    assertThrows(
+        NullPointerException.class,
+        () -> builder.buildAsync(null, ReloadingConfigurationTest.READER));
+    assertThrows(NullPointerException.class, () -> builder.buildAsync(directory, null));
+  }
+
+  @Test
+  void testBuildAsync() throws Exception {
+    final Thread caller = Thread.currentThread();
+    final Thread[] deserializer = new Thread[1];
+    final ConfigurationBuilder<Configurations.String> builder =
+        Warp.builder(Configurations.String.class)
+            .deserializer(
+                String.class,
+                (node, context) -> {
+                  deserializer[0] = Thread.currentThread();
+                  return Renderer.of(node.asString());
+                })
+            .source(source("value"));
+
+    final CompletableFuture<Configurations.String> future = builder.buildAsync();
+    builder.source(source("other value"));
+
+    assertEquals("value", future.get().property());
+    assertNotSame(caller, deserializer[0]);
+  }
+
+  @Test
+  void testBuildAsync_Invalid() {
+    final CompletableFuture<Configurations.String> future =
+        Warp.builder(Configurations.String.class)
+            .source(ConfigurationSource.of(ConfigurationNode.map()))
+            .buildAsync();
+
+    final ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+
+    final ConfigurationException cause =
+        assertInstanceOf(ConfigurationException.class, thrown.getCause());
+    assertIterableEquals(
+        List.of(
+            ConfigurationError.group(
+                "property", ConfigurationError.error("Must be set to a value"))),
+        cause.errors());
+  }
+
+  @Test
+  void testBuildAsync_MissingDeserializer() {
+    final CompletableFuture<Configurations.NestedSealed> future =
+        Warp.builder(Configurations.NestedSealed.class).buildAsync();
+
+    final ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+
+    assertInstanceOf(IllegalStateException.class, thrown.getCause());
+  }
+
+  @Test
+  void testBuildAsync_Path() throws Exception {
+    final Path path = Files.writeString(directory.resolve("config"), "value");
+    final ExecutorService executor = Executors.newSingleThreadExecutor();
+    final ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+    try {
+      final Thread[] reader = new Thread[1];
+      final CompletableFuture<Configurations.String> future =
+          Warp.builder(Configurations.String.class)
+              .executor(executor)
+              .ioExecutor(ioExecutor)
+              .buildAsync(
+                  path,
+                  (file) -> {
+                    reader[0] = Thread.currentThread();
+                    return ReloadingConfigurationTest.READER.read(file);
+                  });
+
+      assertEquals("value", future.get().property());
+      assertEquals(ioExecutor.submit(Thread::currentThread).get(), reader[0]);
+    } finally {
+      executor.shutdown();
+      ioExecutor.shutdown();
+    }
+  }
+
+  @Test
+  void testBuildAsync_PathNotReadable() {
+    final CompletableFuture<Configurations.String> future =
+        Warp.builder(Configurations.String.class)
+            .buildAsync(directory.resolve("missing"), ReloadingConfigurationTest.READER);
+
+    final ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+
+    assertInstanceOf(NoSuchFileException.class, thrown.getCause());
+  }
+
+  @Test
+  void testBuildAsync_PathReaderError() {
+    final CompletableFuture<Configurations.String> future =
+        Warp.builder(Configurations.String.class)
+            .buildAsync(
+                directory.resolve("config"),
+                (file) -> {
+                  throw new AssertionError("reader failed");
+                });
+
+    final ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+
+    assertInstanceOf(AssertionError.class, thrown.getCause());
+  }
+
+  @Test
+  void testBuildAsync_PathRejected() {
+    final CompletableFuture<Configurations.String> future =
+        Warp.builder(Configurations.String.class)
+            .ioExecutor(
+                (task) -> {
+                  throw new RejectedExecutionException();
+                })
+            .buildAsync(directory.resolve("config"), ReloadingConfigurationTest.READER);
+
+    final ExecutionException thrown = assertThrows(ExecutionException.class, future::get);
+
+    assertInstanceOf(RejectedExecutionException.class, thrown.getCause());
+  }
+
+  private static ConfigurationSource source(final String value) {
+    return ConfigurationSource.of(
+        ConfigurationNode.map(Map.entry("property", ConfigurationNode.string(value))));
+  }
+}
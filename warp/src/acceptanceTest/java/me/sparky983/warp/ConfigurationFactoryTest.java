@@ -0,0 +1,96 @@
+package me.sparky983.warp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+class ConfigurationFactoryTest {
+  @Test
+  void testFactory_MissingDeserializer() {
+    final ConfigurationBuilder<Configurations.NestedSealed> builder =
+        Warp.builder(Configurations.NestedSealed.class);
+
+    assertThrows(IllegalStateException.class, builder::factory);
+  }
+
+  @Test
+  void testBind_NullSource() {
+    final ConfigurationFactory<Configurations.String> factory =
+        Warp.builder(Configurations.String.class).factory();
+
+    assertThrows(NullPointerException.class, () -> factory.bind(null));
+  }
+
+  @Test
+  void testBind() throws ConfigurationException {
+    final ConfigurationFactory<Configurations.String> factory =
+        Warp.builder(Configurations.String.class).factory();
+
+    final Configurations.String configuration1 = factory.bind(source("value 1"));
+    final Configurations.String configuration2 = factory.bind(source("value 2"));
+
+    assertEquals("value 1", configuration1.property());
+    assertEquals("value 2", configuration2.property());
+  }
+
+  @Test
+  void testBind_Invalid() {
+    final ConfigurationFactory<Configurations.String> factory =
+        Warp.builder(Configurations.String.class).factory();
+
+    final ConfigurationException thrown =
+        assertThrows(
+            ConfigurationException.class,
+            () -> factory.bind(ConfigurationSource.of(ConfigurationNode.map())));
+
+    assertIterableEquals(
+        List.of(
+            ConfigurationError.group(
+                "property", ConfigurationError.error("Must be set to a value"))),
+        thrown.errors());
+  }
+
+  @Test
+  void testBind_IgnoresBuilderChanges() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.String> builder =
+        Warp.builder(Configurations.String.class);
+    final ConfigurationFactory<Configurations.String> factory = builder.factory();
+
+    builder.deserializer(String.class, (node, context) -> Renderer.of("custom value"));
+
+    assertEquals("value", factory.bind(source("value")).property());
+  }
+
+  @Test
+  void testBind_Concurrent() throws Exception {
+    final ConfigurationFactory<Configurations.String> factory =
+        Warp.builder(Configurations.String.class).factory();
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Configurations.String>> futures = new ArrayList<>();
+      for (int i = 0; i < 100; i++) {
+        final ConfigurationSource source = source("value " + i);
+        futures.add(executor.submit(() -> factory.bind(source)));
+      }
+
+      for (int i = 0; i < futures.size(); i++) {
+        assertEquals("value " + i, futures.get(i).get().property());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static ConfigurationSource source(final String value) {
+    return ConfigurationSource.of(
+        ConfigurationNode.map(Map.entry("property", ConfigurationNode.string(value))));
+  }
+}
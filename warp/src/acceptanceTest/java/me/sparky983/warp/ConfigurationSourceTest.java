@@ -1,8 +1,10 @@
 package me.sparky983.warp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -33,4 +35,86 @@ class ConfigurationSourceTest {
 
     assertEquals("{key=value}", source.toString());
   }
+
+  @Test
+  void testLayered_Null() {
+    final ConfigurationSource source = ConfigurationSource.of(ConfigurationNode.map());
+
+    assertThrows(NullPointerException.class, () -> ConfigurationSource.layered(null));
+    assertThrows(
+        NullPointerException.class,
+        () -> ConfigurationSource.layered(source, (ConfigurationSource[]) null));
+    assertThrows(
+        NullPointerException.class, () -> ConfigurationSource.layered(source, null, source));
+  }
+
+  @Test
+  void testLayered_Empty() throws ConfigurationException {
+    final ConfigurationSource source =
+        ConfigurationSource.layered(Optional::empty, Optional::empty);
+
+    assertEquals(Optional.empty(), source.configuration());
+  }
+
+  @Test
+  void testLayered_SkipsEmpty() throws ConfigurationException {
+    final ConfigurationNode node =
+        ConfigurationNode.map(Map.entry("property", ConfigurationNode.string("value")));
+
+    final ConfigurationSource source =
+        ConfigurationSource.layered(ConfigurationSource.of(node), Optional::empty);
+
+    assertSame(node, source.configuration().orElseThrow());
+  }
+
+  @Test
+  void testLayered_SourceThrows() {
+    final ConfigurationException exception =
+        new ConfigurationException(ConfigurationError.error("Invalid"));
+
+    final ConfigurationSource source =
+        ConfigurationSource.layered(
+            ConfigurationSource.of(ConfigurationNode.map()),
+            () -> {
+              throw exception;
+            });
+
+    assertSame(exception, assertThrows(ConfigurationException.class, source::configuration));
+  }
+
+  @Test
+  void testLayered() throws ConfigurationException {
+    final ConfigurationSource defaults =
+        ConfigurationSource.of(
+            ConfigurationNode.map(
+                Map.entry(
+                    "property",
+                    ConfigurationNode.map(
+                        Map.entry("a", ConfigurationNode.string("default a")),
+                        Map.entry("b", ConfigurationNode.string("default b"))))));
+    final ConfigurationSource file =
+        ConfigurationSource.of(
+            ConfigurationNode.map(
+                Map.entry(
+                    "property",
+                    ConfigurationNode.map(
+                        Map.entry("b", ConfigurationNode.string("file b")),
+                        Map.entry("c", ConfigurationNode.string("file c"))))));
+    final ConfigurationSource overrides =
+        ConfigurationSource.of(
+            ConfigurationNode.map(
+                Map.entry(
+                    "property",
+                    ConfigurationNode.map(
+                        Map.entry("c", ConfigurationNode.string("override c"))))));
+
+    final Configurations.StringStringMap configuration =
+        Warp.builder(Configurations.StringStringMap.class)
+            .source(ConfigurationSource.layered(defaults, file, overrides))
+            .build();
+
+    assertEquals(
+        Map.of("a", "default a", "b", "file b", "c", "override c"), configuration.property());
+    assertEquals(List.of("a", "b", "c"), List.copyOf(configuration.property().keySet()));
+  }
 }
@@ -0,0 +1,205 @@
+package me.sparky983.warp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class LoadDirectoryTest {
+  private static final SourceReader READER =
+      ReloadingConfigurationTest.READER;
+
+  @TempDir Path directory;
+
+  @Test
+  void testLoadDirectory_Null() {
+    assertThrows(
+        NullPointerException.class,
+        () -> Warp.loadDirectory(null, directory, "*", READER));
+    assertThrows(
+        NullPointerException.class,
+        () -> Warp.loadDirectory(Configurations.String.class, null, "*", READER));
+    assertThrows(
+        NullPointerException.class,
+        () -> Warp.loadDirectory(Configurations.String.class, directory, null, READER));
+    assertThrows(
+        NullPointerException.class,
+        () -> Warp.loadDirectory(Configurations.String.class, directory, "*", null));
+  }
+
+  @Test
+  void testLoadDirectory_Missing() {
+    assertThrows(
+        NoSuchFileException.class,
+        () ->
+            Warp.loadDirectory(
+                Configurations.String.class, directory.resolve("missing"), "*", READER));
+  }
+
+  @Test
+  void testLoadDirectory_Empty() throws ConfigurationException, IOException {
+    final Map<String, Configurations.String> configurations =
+        Warp.loadDirectory(Configurations.String.class, directory, "*.yml", READER);
+
+    assertEquals(Map.of(), configurations);
+  }
+
+  @Test
+  void testLoadDirectory() throws ConfigurationException, IOException {
+    Files.writeString(directory.resolve("b.yml"), "value b");
+    Files.writeString(directory.resolve("a.yml"), "value a");
+    Files.writeString(directory.resolve("c.txt"), "");
+    Files.createDirectory(directory.resolve("d.yml"));
+
+    final Map<String, Configurations.String> configurations =
+        Warp.loadDirectory(Configurations.String.class, directory, "*.yml", READER);
+
+    assertIterableEquals(List.of("a", "b"), configurations.keySet());
+    assertEquals("value a", configurations.get("a").property());
+    assertEquals("value b", configurations.get("b").property());
+    assertThrows(UnsupportedOperationException.class, () -> configurations.remove("a"));
+  }
+
+  @Test
+  void testLoadDirectory_Many() throws ConfigurationException, IOException {
+    final AtomicInteger reading = new AtomicInteger();
+    final AtomicInteger maxReading = new AtomicInteger();
+    for (int i = 0; i < 100; i++) {
+      Files.writeString(directory.resolve(String.format("%03d.yml", i)), "value " + i);
+    }
+
+    final Map<String, Configurations.String> configurations =
+        Warp.builder(Configurations.String.class)
+            .loadDirectory(
+                directory,
+                "*.yml",
+                (path) -> {
+                  maxReading.accumulateAndGet(reading.incrementAndGet(), Math::max);
+                  try {
+                    return READER.read(path);
+                  } finally {
+                    reading.decrementAndGet();
+                  }
+                });
+
+    final List<String> names = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final String name = String.format("%03d", i);
+      names.add(name);
+      assertEquals("value " + i, configurations.get(name).property());
+    }
+    assertIterableEquals(names, configurations.keySet());
+    assertTrue(maxReading.get() <= 16);
+  }
+
+  @Test
+  void testLoadDirectory_Invalid() throws IOException {
+    Files.writeString(directory.resolve("a.yml"), "");
+    Files.writeString(directory.resolve("b.yml"), "value b");
+    Files.writeString(directory.resolve("c.yml"), "");
+
+    final ConfigurationException thrown =
+        assertThrows(
+            ConfigurationException.class,
+            () -> Warp.loadDirectory(Configurations.String.class, directory, "*.yml", READER));
+
+    assertIterableEquals(
+        List.of(
+            ConfigurationError.group(
+                "a.yml",
+                ConfigurationError.group(
+                    "property", ConfigurationError.error("Must be set to a value"))),
+            ConfigurationError.group(
+                "c.yml",
+                ConfigurationError.group(
+                    "property", ConfigurationError.error("Must be set to a value")))),
+        thrown.errors());
+  }
+
+  @Test
+  void testLoadDirectory_SameName() throws IOException {
+    Files.writeString(directory.resolve("a.yaml"), "value 1");
+    Files.writeString(directory.resolve("a.yml"), "value 2");
+
+    final ConfigurationException thrown =
+        assertThrows(
+            ConfigurationException.class,
+            () ->
+                Warp.loadDirectory(
+                    Configurations.String.class, directory, "*.{yml,yaml}", READER));
+
+    assertIterableEquals(
+        List.of(
+            ConfigurationError.group(
+                "a.yml", ConfigurationError.error("Has the same name as another file"))),
+        thrown.errors());
+  }
+
+  @Test
+  void testLoadDirectory_ReadFailure() throws IOException {
+    Files.writeString(directory.resolve("a.yml"), "value a");
+    Files.writeString(directory.resolve("b.yml"), "value b");
+
+    final IOException thrown =
+        assertThrows(
+            IOException.class,
+            () ->
+                Warp.loadDirectory(
+                    Configurations.String.class,
+                    directory,
+                    "*.yml",
+                    (path) -> {
+                      throw new IOException(path.getFileName().toString());
+                    }));
+
+    assertEquals("a.yml", thrown.getMessage());
+    assertEquals("b.yml", thrown.getSuppressed()[0].getMessage());
+  }
+
+  @Test
+  void testLoadDirectory_ReaderError() throws IOException {
+    Files.writeString(directory.resolve("a.yml"), "value a");
+    Files.writeString(directory.resolve("b.yml"), "value b");
+
+    final AssertionError thrown =
+        assertThrows(
+            AssertionError.class,
+            () ->
+                Warp.loadDirectory(
+                    Configurations.String.class,
+                    directory,
+                    "*.yml",
+                    (path) -> {
+                      throw new AssertionError(path.getFileName().toString());
+                    }));
+
+    assertEquals("a.yml", thrown.getMessage());
+  }
+
+  @Test
+  void testLoadDirectory_Rejected() throws IOException {
+    Files.writeString(directory.resolve("a.yml"), "value a");
+
+    assertThrows(
+        RejectedExecutionException.class,
+        () ->
+            Warp.builder(Configurations.String.class)
+                .ioExecutor(
+                    (task) -> {
+                      throw new RejectedExecutionException();
+                    })
+                .loadDirectory(directory, "*.yml", ReloadingConfigurationTest.READER));
+  }
+}
@@ -0,0 +1,102 @@
+package me.sparky983.warp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+class ParallelismTest {
+  /**
+   * Creates a tree of {@link Configurations.Recursive} nodes, where every {@code invalid}th node
+   * has no name.
+   */
+  private static ConfigurationNode tree(final int depth, final int width, final int invalid) {
+    final int[] count = {0};
+    return tree(depth, width, invalid, count);
+  }
+
+  private static ConfigurationNode tree(
+      final int depth, final int width, final int invalid, final int[] count) {
+    final List<ConfigurationNode> children = new ArrayList<>();
+    if (depth > 0) {
+      for (int i = 0; i < width; i++) {
+        children.add(tree(depth - 1, width, invalid, count));
+      }
+    }
+    final int index = count[0]++;
+    return ConfigurationNode.map(
+        Map.entry(
+            "name",
+            invalid != 0 && index % invalid == 0
+                ? ConfigurationNode.nil()
+                : ConfigurationNode.string("node " + index)),
+        Map.entry("children", ConfigurationNode.list(children)));
+  }
+
+  private static void assertTreeEquals(
+      final Configurations.Recursive expected, final Configurations.Recursive actual) {
+    assertEquals(expected.name(), actual.name());
+    assertEquals(expected.children().size(), actual.children().size());
+    for (int i = 0; i < expected.children().size(); i++) {
+      assertTreeEquals(expected.children().get(i), actual.children().get(i));
+    }
+  }
+
+  @Test
+  void testParallelism_NullPool() {
+    final ConfigurationBuilder<Configurations.Recursive> builder =
+        Warp.builder(Configurations.Recursive.class);
+
+    assertThrows(NullPointerException.class, () -> builder.parallelism(null, 1));
+  }
+
+  @Test
+  void testParallelProperties_NullPool() {
+    final ConfigurationBuilder<Configurations.Recursive> builder =
+        Warp.builder(Configurations.Recursive.class);
+
+    assertThrows(NullPointerException.class, () -> builder.parallelProperties(null));
+  }
+
+  @Test
+  void testParallelProperties() throws ConfigurationException {
+    final ConfigurationSource source = ConfigurationSource.of(tree(4, 5, 0));
+
+    final Configurations.Recursive sequential =
+        Warp.builder(Configurations.Recursive.class).source(source).build();
+    final Configurations.Recursive parallel =
+        Warp.builder(Configurations.Recursive.class)
+            .parallelism(ForkJoinPool.commonPool(), 2)
+            .parallelProperties(ForkJoinPool.commonPool())
+            .source(source)
+            .build();
+
+    assertTreeEquals(sequential, parallel);
+  }
+
+  @Test
+  void testParallelProperties_ErrorOrder() {
+    final ConfigurationSource source = ConfigurationSource.of(tree(4, 5, 7));
+
+    final ConfigurationException sequential =
+        assertThrows(
+            ConfigurationException.class,
+            () -> Warp.builder(Configurations.Recursive.class).source(source).build());
+    final ConfigurationException parallel =
+        assertThrows(
+            ConfigurationException.class,
+            () ->
+                Warp.builder(Configurations.Recursive.class)
+                    .parallelism(ForkJoinPool.commonPool(), 2)
+                    .parallelProperties(ForkJoinPool.commonPool())
+                    .source(source)
+                    .build());
+
+    assertIterableEquals(sequential.errors(), parallel.errors());
+  }
+}
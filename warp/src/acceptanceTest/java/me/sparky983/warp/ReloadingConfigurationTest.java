@@ -0,0 +1,304 @@
+package me.sparky983.warp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ReloadingConfigurationTest {
+  /** Reads a file containing the value of the property, or nothing for an invalid file. */
+  static final SourceReader READER =
+      (path) -> {
+        final String content = Files.readString(path);
+        if (content.isEmpty()) {
+          return ConfigurationSource.of(ConfigurationNode.map());
+        }
+        return ConfigurationSource.of(
+            ConfigurationNode.map(Map.entry("property", ConfigurationNode.string(content))));
+      };
+
+  @TempDir Path directory;
+
+  @Test
+  void testWatch_Null() throws IOException {
+    final Path path = Files.writeString(directory.resolve("config"), "value");
+    final ConfigurationBuilder<Configurations.String> builder =
+        Warp.builder(Configurations.String.class);
+
+    assertThrows(NullPointerException.class, () -> builder.watch(null, READER));
+    assertThrows(NullPointerException.class, () -> builder.watch(path, null));
+    assertThrows(NullPointerException.class, () -> builder.watch(path, READER, null));
+  }
+
+  @Test
+  void testWatch_NegativeDebounce() throws IOException {
+    final Path path = Files.writeString(directory.resolve("config"), "value");
+    final ConfigurationBuilder<Configurations.String> builder =
+        Warp.builder(Configurations.String.class);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> builder.watch(path, READER, Duration.ofMillis(-1)));
+  }
+
+  @Test
+  void testWatch_Invalid() throws IOException {
+    final Path path = Files.writeString(directory.resolve("config"), "");
+    final ConfigurationBuilder<Configurations.String> builder =
+        Warp.builder(Configurations.String.class);
+
+    assertThrows(ConfigurationException.class, () -> builder.watch(path, READER));
+  }
+
+  @Test
+  void testReload() throws ConfigurationException, IOException {
+    final Path path = Files.writeString(directory.resolve("config"), "value 1");
+    try (final ReloadingConfiguration<Configurations.String> configuration =
+        Warp.builder(Configurations.String.class).watch(path, READER)) {
+      final Configurations.String snapshot = configuration.get();
+      assertEquals("value 1", snapshot.property());
+      assertEquals("value 1", configuration.view().property());
+
+      Files.writeString(path, "value 2");
+      configuration.reload();
+
+      assertEquals("value 1", snapshot.property());
+      assertEquals("value 2", configuration.get().property());
+      assertEquals("value 2", configuration.view().property());
+    }
+  }
+
+  @Test
+  void testReload_Invalid() throws ConfigurationException, IOException {
+    final Path path = Files.writeString(directory.resolve("config"), "value");
+    try (final ReloadingConfiguration<Configurations.String> configuration =
+        Warp.builder(Configurations.String.class).watch(path, READER)) {
+      final Configurations.String snapshot = configuration.get();
+
+      Files.writeString(path, "");
+
+      assertThrows(ConfigurationException.class, configuration::reload);
+      assertSame(snapshot, configuration.get());
+      assertEquals("value", configuration.view().property());
+    }
+  }
+
+  @Test
+  void testView() throws ConfigurationException, IOException {
+    final Path path = Files.writeString(directory.resolve("config"), "value");
+    try (final ReloadingConfiguration<Configurations.String> configuration =
+        Warp.builder(Configurations.String.class).watch(path, READER)) {
+      final Configurations.String view = configuration.view();
+
+      assertSame(view, configuration.view());
+      assertNotSame(view, configuration.get());
+      assertEquals(view, view);
+      assertEquals(configuration.get().toString(), view.toString());
+    }
+  }
+
+  @Test
+  void testWatch() throws ConfigurationException, IOException, InterruptedException {
+    final Path path = Files.writeString(directory.resolve("config"), "value 1");
+    try (final ReloadingConfiguration<Configurations.String> configuration =
+        Warp.builder(Configurations.String.class).watch(path, READER, Duration.ZERO)) {
+      Files.writeString(path, "value 2");
+
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (!configuration.get().property().equals("value 2") && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+
+      assertEquals("value 2", configuration.view().property());
+    }
+  }
+
+  @Test
+  void testWatch_Invalid_KeepsSnapshot()
+      throws ConfigurationException, IOException, InterruptedException {
+    final Path path = Files.writeString(directory.resolve("config"), "value");
+    try (final ReloadingConfiguration<Configurations.String> configuration =
+        Warp.builder(Configurations.String.class).watch(path, READER, Duration.ZERO)) {
+      final Configurations.String snapshot = configuration.get();
+      final BlockingQueue<Exception> failures = new ArrayBlockingQueue<>(16);
+      configuration.onFailure(failures::add);
+
+      Files.writeString(path, "");
+
+      assertInstanceOf(ConfigurationException.class, failures.poll(30, TimeUnit.SECONDS));
+      assertSame(snapshot, configuration.get());
+    }
+  }
+
+  @Test
+  void testWatch_ThrowingFailureListener()
+      throws ConfigurationException, IOException, InterruptedException {
+    final Path path = Files.writeString(directory.resolve("config"), "value");
+    try (final ReloadingConfiguration<Configurations.String> configuration =
+        Warp.builder(Configurations.String.class).watch(path, READER, Duration.ZERO)) {
+      final BlockingQueue<Exception> failures = new ArrayBlockingQueue<>(16);
+      configuration.onFailure(
+          (exception) -> {
+            throw new IllegalStateException("listener failed");
+          });
+      configuration.onFailure(failures::add);
+
+      Files.writeString(path, "");
+      assertInstanceOf(ConfigurationException.class, failures.poll(30, TimeUnit.SECONDS));
+      Files.writeString(path, "value 2");
+      Files.writeString(path, "");
+
+      // The file is still watched after a failure listener threw
+      assertInstanceOf(ConfigurationException.class, failures.poll(30, TimeUnit.SECONDS));
+    }
+  }
+
+  @Test
+  void testWatch_Error() throws ConfigurationException, IOException, InterruptedException {
+    final SourceReader reader =
+        (path) -> {
+          if (Files.readString(path).equals("error")) {
+            throw new StackOverflowError();
+          }
+          return READER.read(path);
+        };
+    final Path path = Files.writeString(directory.resolve("config"), "value 1");
+    final Thread.UncaughtExceptionHandler handler = Thread.getDefaultUncaughtExceptionHandler();
+    final BlockingQueue<Throwable> uncaught = new ArrayBlockingQueue<>(16);
+    Thread.setDefaultUncaughtExceptionHandler((thread, e) -> uncaught.add(e));
+    try (final ReloadingConfiguration<Configurations.String> configuration =
+        Warp.builder(Configurations.String.class).watch(path, reader, Duration.ZERO)) {
+      Files.writeString(path, "error");
+      assertInstanceOf(StackOverflowError.class, uncaught.poll(30, TimeUnit.SECONDS));
+
+      // The file is still watched after an error
+      Files.writeString(path, "value 2");
+      final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+      while (!configuration.get().property().equals("value 2") && System.nanoTime() < deadline) {
+        Thread.sleep(10);
+      }
+
+      assertEquals("value 2", configuration.get().property());
+    } finally {
+      Thread.setDefaultUncaughtExceptionHandler(handler);
+    }
+  }
+
+  @Test
+  void testReload_Incremental() throws ConfigurationException, IOException {
+    // Reads a comma separated list of names into a root with children
+    final SourceReader reader =
+        (path) -> {
+          final String[] names = Files.readString(path).split(",");
+          final List<ConfigurationNode> children = new ArrayList<>();
+          for (int i = 1; i < names.length; i++) {
+            children.add(
+                ConfigurationNode.map(Map.entry("name", ConfigurationNode.string(names[i]))));
+          }
+          return ConfigurationSource.of(
+              ConfigurationNode.map(
+                  Map.entry("name", ConfigurationNode.string(names[0])),
+                  Map.entry("children", ConfigurationNode.list(children))));
+        };
+    final List<String> deserialized = new ArrayList<>();
+    final Path path = Files.writeString(directory.resolve("config"), "root,child 1,child 2");
+    try (final ReloadingConfiguration<Configurations.Recursive> configuration =
+        Warp.builder(Configurations.Recursive.class)
+            .deserializer(
+                String.class,
+                (node, context) -> {
+                  deserialized.add(node.asString());
+                  return Renderer.of(node.asString());
+                })
+            .watch(path, reader)) {
+      assertEquals(List.of("root", "child 1", "child 2"), deserialized);
+
+      Files.writeString(path, "root,child 1,child 3");
+      configuration.reload();
+
+      assertEquals(List.of("root", "child 1", "child 2", "child 3"), deserialized);
+      assertEquals("root", configuration.get().name());
+      assertEquals("child 1", configuration.get().children().get(0).name());
+      assertEquals("child 3", configuration.get().children().get(1).name());
+
+      configuration.reload();
+
+      assertEquals(List.of("root", "child 1", "child 2", "child 3"), deserialized);
+    }
+  }
+
+  @Test
+  void testOnChange() throws ConfigurationException, IOException {
+    final Path path = Files.writeString(directory.resolve("config"), "value 1");
+    try (final ReloadingConfiguration<Configurations.String> configuration =
+        Warp.builder(Configurations.String.class).watch(path, READER)) {
+      final List<String> changes = new ArrayList<>();
+      configuration.onChange(
+          Configurations.String::property,
+          (previous, current) -> changes.add(previous + " -> " + current));
+      configuration.onChange(
+          "property",
+          (previous, current) -> changes.add(previous.property() + " => " + current.property()));
+      configuration.onChange("unknown", (previous, current) -> changes.add("unknown"));
+
+      Files.writeString(path, "value 2");
+      configuration.reload();
+
+      assertEquals(List.of("value 1 -> value 2", "value 1 => value 2"), changes);
+    }
+  }
+
+  @Test
+  void testOnChange_ThrowingListener() throws ConfigurationException, IOException {
+    final Path path = Files.writeString(directory.resolve("config"), "value 1");
+    final Thread thread = Thread.currentThread();
+    final Thread.UncaughtExceptionHandler handler = thread.getUncaughtExceptionHandler();
+    final List<Throwable> uncaught = new ArrayList<>();
+    thread.setUncaughtExceptionHandler((t, e) -> uncaught.add(e));
+    try (final ReloadingConfiguration<Configurations.String> configuration =
+        Warp.builder(Configurations.String.class).watch(path, READER)) {
+      final List<String> changes = new ArrayList<>();
+      final IllegalStateException exception = new IllegalStateException("listener failed");
+      configuration.onChange(
+          "property",
+          (previous, current) -> {
+            throw exception;
+          });
+      configuration.onChange("property", (previous, current) -> changes.add(current.property()));
+
+      Files.writeString(path, "value 2");
+      configuration.reload();
+
+      assertEquals("value 2", configuration.get().property());
+      assertEquals(List.of("value 2"), changes);
+      assertEquals(List.of(exception), uncaught);
+    } finally {
+      thread.setUncaughtExceptionHandler(handler);
+    }
+  }
+
+  @Test
+  void testOnChange_InvalidProperty() throws ConfigurationException, IOException {
+    final Path path = Files.writeString(directory.resolve("config"), "value");
+    try (final ReloadingConfiguration<Configurations.String> configuration =
+        Warp.builder(Configurations.String.class).watch(path, READER)) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> configuration.onChange((config) -> "value", (previous, current) -> {}));
+    }
+  }
+}
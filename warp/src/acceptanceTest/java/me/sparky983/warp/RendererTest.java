@@ -1,6 +1,7 @@
 package me.sparky983.warp;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -29,4 +30,12 @@ class RendererTest {
     assertEquals("some string", renderer.render(context));
     verifyNoInteractions(context);
   }
+
+  @Test
+  void testOf_Constant() {
+    final Renderer<String> renderer = Renderer.of("some string");
+
+    final Renderer.Constant<String> constant = assertInstanceOf(Renderer.Constant.class, renderer);
+    assertEquals("some string", constant.value());
+  }
 }
@@ -0,0 +1,277 @@
+package me.sparky983.warp.deserializers;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import me.sparky983.warp.ConfigurationBuilder;
+import me.sparky983.warp.ConfigurationError;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.ConfigurationSource;
+import me.sparky983.warp.Configurations;
+import me.sparky983.warp.Warp;
+import org.junit.jupiter.api.Test;
+
+class ArrayDeserializerTest {
+  @Test
+  void testFactory_NonDeserializableElement() {
+    final ConfigurationBuilder<Configurations.NonDeserializableArray> builder =
+        Warp.builder(Configurations.NonDeserializableArray.class);
+
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  void testDeserialize_NonList() {
+    final ConfigurationBuilder<Configurations.IntArray> builder =
+        Warp.builder(Configurations.IntArray.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(Map.entry("property", ConfigurationNode.nil()))));
+
+    final ConfigurationException thrown =
+        assertThrows(ConfigurationException.class, builder::build);
+
+    assertIterableEquals(
+        List.of(ConfigurationError.group("property", ConfigurationError.error("Must be a list"))),
+        thrown.errors());
+  }
+
+  @Test
+  void testDeserialize_Missing() throws ConfigurationException {
+    final Configurations.IntArray configuration =
+        Warp.builder(Configurations.IntArray.class).build();
+
+    assertArrayEquals(new int[0], configuration.property());
+  }
+
+  @Test
+  void testDeserialize_IntArray() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.IntArray> builder =
+        Warp.builder(Configurations.IntArray.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.integer(Integer.MIN_VALUE),
+                                ConfigurationNode.integer(0),
+                                ConfigurationNode.integer(Integer.MAX_VALUE))))));
+
+    final Configurations.IntArray configuration = builder.build();
+
+    assertArrayEquals(
+        new int[] {Integer.MIN_VALUE, 0, Integer.MAX_VALUE}, configuration.property());
+  }
+
+  @Test
+  void testDeserialize_IntArrayOutOfRange() {
+    final ConfigurationBuilder<Configurations.IntArray> builder =
+        Warp.builder(Configurations.IntArray.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.integer(1),
+                                ConfigurationNode.integer(Integer.MAX_VALUE + 1L),
+                                ConfigurationNode.string("three"))))));
+
+    final ConfigurationException thrown =
+        assertThrows(ConfigurationException.class, builder::build);
+
+    assertIterableEquals(
+        List.of(
+            ConfigurationError.group(
+                "property",
+                ConfigurationError.group(
+                    "[1]",
+                    ConfigurationError.error(
+                        "Must be between -2147483648 and 2147483647 (both inclusive)")),
+                ConfigurationError.group(
+                    "[2]", ConfigurationError.error("Must be an integer")))),
+        thrown.errors());
+  }
+
+  @Test
+  void testDeserialize_LongArray() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.LongArray> builder =
+        Warp.builder(Configurations.LongArray.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.integer(Long.MIN_VALUE),
+                                ConfigurationNode.integer(Long.MAX_VALUE))))));
+
+    final Configurations.LongArray configuration = builder.build();
+
+    assertArrayEquals(new long[] {Long.MIN_VALUE, Long.MAX_VALUE}, configuration.property());
+  }
+
+  @Test
+  void testDeserialize_DoubleArray() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.DoubleArray> builder =
+        Warp.builder(Configurations.DoubleArray.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.decimal(0.5), ConfigurationNode.decimal(2))))));
+
+    final Configurations.DoubleArray configuration = builder.build();
+
+    assertArrayEquals(new double[] {0.5, 2}, configuration.property());
+  }
+
+  @Test
+  void testDeserialize_StringArray() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.StringArray> builder =
+        Warp.builder(Configurations.StringArray.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.string("element 1"),
+                                ConfigurationNode.string("element 2"))))));
+
+    final Configurations.StringArray configuration = builder.build();
+
+    assertArrayEquals(new String[] {"element 1", "element 2"}, configuration.property());
+  }
+
+  @Test
+  void testDeserialize_BooleanArray() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.BooleanArray> builder =
+        Warp.builder(Configurations.BooleanArray.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.bool(true), ConfigurationNode.bool(false))))));
+
+    final Configurations.BooleanArray configuration = builder.build();
+
+    assertArrayEquals(new boolean[] {true, false}, configuration.property());
+  }
+
+  @Test
+  void testDeserialize_GenericComponentType() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.StringListArray> builder =
+        Warp.builder(Configurations.StringListArray.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.list(ConfigurationNode.string("element 1")),
+                                ConfigurationNode.list())))));
+
+    final Configurations.StringListArray configuration = builder.build();
+
+    assertArrayEquals(
+        new List<?>[] {List.of("element 1"), List.of()}, configuration.property());
+  }
+
+  @Test
+  void testRender_Copy() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.IntArray> builder =
+        Warp.builder(Configurations.IntArray.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property", ConfigurationNode.list(ConfigurationNode.integer(1))))));
+
+    final Configurations.IntArray configuration = builder.build();
+
+    configuration.property()[0] = 99;
+
+    assertArrayEquals(new int[] {1}, configuration.property());
+    assertNotSame(configuration.property(), configuration.property());
+  }
+
+  @Test
+  void testRender_NestedArrayCopy() throws ConfigurationException {
+    final Configurations.IntArrayArray configuration =
+        Warp.builder(Configurations.IntArrayArray.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.list(ConfigurationNode.integer(1)))))))
+            .build();
+
+    configuration.property()[0][0] = 99;
+    configuration.property()[0] = new int[0];
+
+    assertArrayEquals(new int[][] {{1}}, configuration.property());
+  }
+
+  @Test
+  void testRender_ListElementCopy() throws ConfigurationException {
+    final Configurations.IntArrayList configuration =
+        Warp.builder(Configurations.IntArrayList.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.list(ConfigurationNode.integer(1)))))))
+            .build();
+
+    configuration.property().get(0)[0] = 77;
+
+    assertArrayEquals(new int[] {1}, configuration.property().get(0));
+  }
+
+  @Test
+  void testRender_MapValueCopy() throws ConfigurationException {
+    final ConfigurationNode values = ConfigurationNode.list(ConfigurationNode.integer(1));
+    final Configurations.IntArrayMap configuration =
+        Warp.builder(Configurations.IntArrayMap.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry("property", ConfigurationNode.map(Map.entry("key", values))))))
+            .build();
+
+    configuration.property().get("key")[0] = 77;
+
+    assertArrayEquals(new int[] {1}, configuration.property().get("key"));
+  }
+
+  @Test
+  void testRender_OptionalValueCopy() throws ConfigurationException {
+    final Configurations.IntArrayOptional configuration =
+        Warp.builder(Configurations.IntArrayOptional.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property", ConfigurationNode.list(ConfigurationNode.integer(1))))))
+            .build();
+
+    configuration.property().orElseThrow()[0] = 77;
+
+    assertArrayEquals(new int[] {1}, configuration.property().orElseThrow());
+  }
+}
@@ -2,16 +2,19 @@ package me.sparky983.warp.deserializers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import me.sparky983.warp.ConfigurationBuilder;
 import me.sparky983.warp.ConfigurationError;
 import me.sparky983.warp.ConfigurationException;
 import me.sparky983.warp.ConfigurationNode;
 import me.sparky983.warp.ConfigurationSource;
 import me.sparky983.warp.Configurations;
+import me.sparky983.warp.Renderer;
 import me.sparky983.warp.Warp;
 import org.junit.jupiter.api.Test;
 
@@ -68,4 +71,160 @@ class ListDeserializerTest {
     assertEquals(List.of("element 1", "element 2"), property);
     assertThrows(UnsupportedOperationException.class, () -> property.add("element 3"));
   }
+
+  @Test
+  void testRender_SameInstance() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.StringList> builder =
+        Warp.builder(Configurations.StringList.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(ConfigurationNode.string("element"))))));
+
+    final Configurations.StringList configuration = builder.build();
+
+    assertSame(configuration.property(), configuration.property());
+  }
+
+  @Test
+  void testDeserialize_IntegerList() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.IntegerList> builder =
+        Warp.builder(Configurations.IntegerList.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.integer(1), ConfigurationNode.integer(2))))));
+
+    final Configurations.IntegerList configuration = builder.build();
+
+    final List<Integer> property = configuration.property();
+
+    assertEquals(List.of(1, 2), property);
+    assertEquals(List.of(1, 2).hashCode(), property.hashCode());
+    assertEquals(1, property.indexOf(2));
+    assertThrows(UnsupportedOperationException.class, () -> property.add(3));
+    assertSame(property, configuration.property());
+  }
+
+  @Test
+  void testDeserialize_IntegerListOutOfRange() {
+    final ConfigurationBuilder<Configurations.IntegerList> builder =
+        Warp.builder(Configurations.IntegerList.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.integer(Integer.MIN_VALUE - 1L))))));
+
+    final ConfigurationException thrown =
+        assertThrows(ConfigurationException.class, builder::build);
+
+    assertIterableEquals(
+        List.of(
+            ConfigurationError.group(
+                "property",
+                ConfigurationError.group(
+                    "[0]",
+                    ConfigurationError.error(
+                        "Must be between -2147483648 and 2147483647 (both inclusive)")))),
+        thrown.errors());
+  }
+
+  @Test
+  void testDeserialize_LongList() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.LongList> builder =
+        Warp.builder(Configurations.LongList.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(ConfigurationNode.integer(Long.MAX_VALUE))))));
+
+    final Configurations.LongList configuration = builder.build();
+
+    assertEquals(List.of(Long.MAX_VALUE), configuration.property());
+  }
+
+  @Test
+  void testDeserialize_DoubleList() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.DoubleList> builder =
+        Warp.builder(Configurations.DoubleList.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.decimal(0.5),
+                                ConfigurationNode.decimal(-0.0))))));
+
+    final Configurations.DoubleList configuration = builder.build();
+
+    final List<Double> property = configuration.property();
+
+    assertEquals(List.of(0.5, -0.0), property);
+    assertEquals(-1, property.indexOf(0.0));
+  }
+
+  @Test
+  void testDeserialize_IntegerListCustomDeserializer() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.IntegerList> builder =
+        Warp.builder(Configurations.IntegerList.class)
+            .deserializer(Integer.class, (node, context) -> Renderer.of(42))
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property", ConfigurationNode.list(ConfigurationNode.integer(1))))));
+
+    final Configurations.IntegerList configuration = builder.build();
+
+    assertEquals(List.of(42), configuration.property());
+  }
+
+  @Test
+  void testParallelism_InvalidThreshold() {
+    final ConfigurationBuilder<Configurations.StringList> builder =
+        Warp.builder(Configurations.StringList.class);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> builder.parallelism(ForkJoinPool.commonPool(), 0));
+  }
+
+  @Test
+  void testDeserialize_Parallel() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.StringList> builder =
+        Warp.builder(Configurations.StringList.class)
+            .parallelism(ForkJoinPool.commonPool(), 2)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.string("element 1"),
+                                ConfigurationNode.nil(),
+                                ConfigurationNode.string("element 3"),
+                                ConfigurationNode.nil())))));
+
+    final ConfigurationException thrown =
+        assertThrows(ConfigurationException.class, builder::build);
+
+    assertIterableEquals(
+        List.of(
+            ConfigurationError.group(
+                "property",
+                ConfigurationError.group("[1]", ConfigurationError.error("Must be a string")),
+                ConfigurationError.group("[3]", ConfigurationError.error("Must be a string")))),
+        thrown.errors());
+  }
 }
@@ -2,8 +2,10 @@ package me.sparky983.warp.deserializers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.lang.annotation.RetentionPolicy;
 import java.util.List;
 import java.util.Map;
 import me.sparky983.warp.ConfigurationBuilder;
@@ -115,4 +117,70 @@ class MapDeserializerTest {
     assertEquals(Map.of("key 1", "value 1", "key 2", "value 2"), property);
     assertThrows(UnsupportedOperationException.class, () -> property.put("key 3", "value 3"));
   }
+
+  @Test
+  void testRender_SameInstance() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.StringStringMap> builder =
+        Warp.builder(Configurations.StringStringMap.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.map(
+                                Map.entry("key", ConfigurationNode.string("value")))))));
+
+    final Configurations.StringStringMap configuration = builder.build();
+
+    assertSame(configuration.property(), configuration.property());
+  }
+
+  @Test
+  void testDeserialize_EnumKey() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.EnumStringMap> builder =
+        Warp.builder(Configurations.EnumStringMap.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.map(
+                                Map.entry("RUNTIME", ConfigurationNode.string("value 1")),
+                                Map.entry("SOURCE", ConfigurationNode.string("value 2")))))));
+
+    final Configurations.EnumStringMap configuration = builder.build();
+
+    final Map<RetentionPolicy, String> property = configuration.property();
+
+    assertEquals(
+        Map.of(RetentionPolicy.SOURCE, "value 2", RetentionPolicy.RUNTIME, "value 1"), property);
+    assertIterableEquals(
+        List.of(RetentionPolicy.SOURCE, RetentionPolicy.RUNTIME), property.keySet());
+    assertThrows(
+        UnsupportedOperationException.class, () -> property.put(RetentionPolicy.CLASS, "value"));
+  }
+
+  @Test
+  void testDeserialize_InvalidEnumKey() {
+    final ConfigurationBuilder<Configurations.EnumStringMap> builder =
+        Warp.builder(Configurations.EnumStringMap.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.map(
+                                Map.entry("INVALID", ConfigurationNode.string("value")))))));
+
+    final ConfigurationException thrown =
+        assertThrows(ConfigurationException.class, builder::build);
+
+    assertIterableEquals(
+        List.of(
+            ConfigurationError.group(
+                "property",
+                ConfigurationError.group(
+                    "INVALID", ConfigurationError.error("INVALID is not a valid value")))),
+        thrown.errors());
+  }
 }
@@ -136,4 +136,32 @@ class NestedConfigurationDeserializerTest {
 
     assertEquals("nested value", configuration.property().property());
   }
+
+  @Test
+  void testRecursive() throws ConfigurationException {
+    final Configurations.Recursive configuration =
+        Warp.builder(Configurations.Recursive.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry("name", ConfigurationNode.string("root")),
+                        Map.entry(
+                            "children",
+                            ConfigurationNode.list(
+                                ConfigurationNode.map(
+                                    Map.entry("name", ConfigurationNode.string("child")),
+                                    Map.entry(
+                                        "children",
+                                        ConfigurationNode.list(
+                                            ConfigurationNode.map(
+                                                Map.entry(
+                                                    "name",
+                                                    ConfigurationNode.string("grandchild")))))))))))
+            .build();
+
+    assertEquals("root", configuration.name());
+    assertEquals("child", configuration.children().get(0).name());
+    assertEquals("grandchild", configuration.children().get(0).children().get(0).name());
+    assertEquals(List.of(), configuration.children().get(0).children().get(0).children());
+  }
 }
@@ -0,0 +1,140 @@
+package me.sparky983.warp.deserializers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.annotation.RetentionPolicy;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import me.sparky983.warp.ConfigurationBuilder;
+import me.sparky983.warp.ConfigurationError;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.ConfigurationSource;
+import me.sparky983.warp.Configurations;
+import me.sparky983.warp.Warp;
+import org.junit.jupiter.api.Test;
+
+class SetDeserializerTest {
+  @Test
+  void testFactory_NonDeserializableElement() {
+    final ConfigurationBuilder<Configurations.NonDeserializableSet> builder =
+        Warp.builder(Configurations.NonDeserializableSet.class);
+
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  void testFactory_Raw() {
+    final ConfigurationBuilder<Configurations.RawSet> builder =
+        Warp.builder(Configurations.RawSet.class);
+
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+
+  @Test
+  void testDeserialize_NonList() {
+    final ConfigurationBuilder<Configurations.StringSet> builder =
+        Warp.builder(Configurations.StringSet.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(Map.entry("property", ConfigurationNode.nil()))));
+
+    final ConfigurationException thrown =
+        assertThrows(ConfigurationException.class, builder::build);
+
+    assertIterableEquals(
+        List.of(ConfigurationError.group("property", ConfigurationError.error("Must be a list"))),
+        thrown.errors());
+  }
+
+  @Test
+  void testDeserialize_Missing() throws ConfigurationException {
+    final Configurations.StringSet configuration =
+        Warp.builder(Configurations.StringSet.class).build();
+
+    assertEquals(Set.of(), configuration.property());
+  }
+
+  @Test
+  void testDeserialize() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.StringSet> builder =
+        Warp.builder(Configurations.StringSet.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.string("element 2"),
+                                ConfigurationNode.string("element 1"),
+                                ConfigurationNode.string("element 2"))))));
+
+    final Configurations.StringSet configuration = builder.build();
+
+    final Set<String> property = configuration.property();
+
+    assertIterableEquals(List.of("element 2", "element 1"), property);
+    assertThrows(UnsupportedOperationException.class, () -> property.add("element 3"));
+    assertSame(property, configuration.property());
+  }
+
+  @Test
+  void testDeserialize_Enum() throws ConfigurationException {
+    final ConfigurationBuilder<Configurations.EnumSet> builder =
+        Warp.builder(Configurations.EnumSet.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.string("RUNTIME"),
+                                ConfigurationNode.string("SOURCE"))))));
+
+    final Configurations.EnumSet configuration = builder.build();
+
+    final Set<RetentionPolicy> property = configuration.property();
+
+    assertIterableEquals(List.of(RetentionPolicy.SOURCE, RetentionPolicy.RUNTIME), property);
+    assertThrows(UnsupportedOperationException.class, () -> property.add(RetentionPolicy.CLASS));
+    assertSame(property, configuration.property());
+  }
+
+  @Test
+  void testDeserialize_InvalidEnum() {
+    final ConfigurationBuilder<Configurations.EnumSet> builder =
+        Warp.builder(Configurations.EnumSet.class)
+            .source(
+                ConfigurationSource.of(
+                    ConfigurationNode.map(
+                        Map.entry(
+                            "property",
+                            ConfigurationNode.list(
+                                ConfigurationNode.string("SOURCE"),
+                                ConfigurationNode.string("INVALID"))))));
+
+    final ConfigurationException thrown =
+        assertThrows(ConfigurationException.class, builder::build);
+
+    assertIterableEquals(
+        List.of(
+            ConfigurationError.group(
+                "property",
+                ConfigurationError.group(
+                    "[1]", ConfigurationError.error("INVALID is not a valid value")))),
+        thrown.errors());
+  }
+
+  @Test
+  void testFactory_EnumSet() {
+    final ConfigurationBuilder<Configurations.EnumEnumSet> builder =
+        Warp.builder(Configurations.EnumEnumSet.class);
+
+    // EnumSet is mutable, so it isn't supported as a property type
+    assertThrows(IllegalStateException.class, builder::build);
+  }
+}
@@ -1,6 +1,8 @@
 package me.sparky983.warp.nodes;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.List;
 import me.sparky983.warp.ConfigurationNode;
@@ -47,4 +49,62 @@ class ListNodeTest {
 
     assertEquals("[1.0, test value]", list.toString());
   }
+
+  @Test
+  void testBuilder() throws DeserializationException {
+    final ConfigurationNode.ListBuilder builder = ConfigurationNode.listBuilder();
+    for (int i = 0; i < 10; i++) {
+      builder.add(ConfigurationNode.integer(i));
+    }
+
+    final ConfigurationNode list = builder.build();
+
+    assertEquals(10, list.asList().size());
+    assertEquals(ConfigurationNode.integer(9), list.asList().get(9));
+    assertEquals(ConfigurationNode.list(list.asList()), list);
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> list.asList().add(ConfigurationNode.integer(10)));
+  }
+
+  @Test
+  void testBuilder_Empty() throws DeserializationException {
+    assertEquals(ConfigurationNode.list(), ConfigurationNode.listBuilder(4).build());
+  }
+
+  @Test
+  void testBuilder_Null() {
+    final ConfigurationNode.ListBuilder builder = ConfigurationNode.listBuilder();
+
+    assertThrows(NullPointerException.class, () -> builder.add(null));
+    assertThrows(IllegalArgumentException.class, () -> ConfigurationNode.listBuilder(-1));
+  }
+
+  @Test
+  void testBuilder_Built() {
+    final ConfigurationNode.ListBuilder builder =
+        ConfigurationNode.listBuilder().add(ConfigurationNode.string("value"));
+    builder.build();
+
+    assertThrows(IllegalStateException.class, builder::build);
+    assertThrows(
+        IllegalStateException.class, () -> builder.add(ConfigurationNode.string("value")));
+  }
+
+  @Test
+  void testEquals_OtherListNode() {
+    final ConfigurationNode list = ConfigurationNode.list(ConfigurationNode.string("value"));
+    final ConfigurationNode other =
+        new ConfigurationNode() {
+          @Override
+          public List<ConfigurationNode> asList() {
+            return List.of(ConfigurationNode.string("value"));
+          }
+        };
+
+    assertEquals(list, other);
+    assertNotEquals(list, ConfigurationNode.string("value"));
+    assertNotEquals(ConfigurationNode.list(), other);
+    assertEquals(List.of(ConfigurationNode.string("value")).hashCode(), list.hashCode());
+  }
 }
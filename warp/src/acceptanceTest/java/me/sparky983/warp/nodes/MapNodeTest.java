@@ -1,6 +1,7 @@
 package me.sparky983.warp.nodes;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.Collections;
@@ -54,4 +55,81 @@ class MapNodeTest {
 
     assertEquals("{key 1=value 1, key 2=value 2}", map.toString());
   }
+
+  @Test
+  void testBuilder() throws DeserializationException {
+    final ConfigurationNode.MapBuilder builder = ConfigurationNode.mapBuilder(2);
+    for (int i = 0; i < 20; i++) {
+      builder.put("key " + i, ConfigurationNode.integer(i));
+    }
+
+    final ConfigurationNode map = builder.build();
+
+    assertEquals(20, map.asMap().size());
+    assertEquals(ConfigurationNode.integer(19), map.asMap().get("key 19"));
+    assertEquals("key 0", map.asMap().keySet().iterator().next());
+    assertEquals(ConfigurationNode.map(map.asMap()), map);
+    assertThrows(
+        UnsupportedOperationException.class,
+        () -> map.asMap().put("key", ConfigurationNode.integer(20)));
+  }
+
+  @Test
+  void testBuilder_Empty() {
+    assertEquals(ConfigurationNode.map(), ConfigurationNode.mapBuilder().build());
+  }
+
+  @Test
+  void testBuilder_Null() {
+    final ConfigurationNode.MapBuilder builder = ConfigurationNode.mapBuilder();
+
+    assertThrows(NullPointerException.class, () -> builder.put(null, ConfigurationNode.nil()));
+    assertThrows(NullPointerException.class, () -> builder.put("key", null));
+    assertThrows(IllegalArgumentException.class, () -> ConfigurationNode.mapBuilder(-1));
+  }
+
+  @Test
+  void testBuilder_DuplicateKey() {
+    final ConfigurationNode.MapBuilder small =
+        ConfigurationNode.mapBuilder()
+            .put("key", ConfigurationNode.string("value"))
+            .put("key", ConfigurationNode.string("other value"));
+    final ConfigurationNode.MapBuilder large = ConfigurationNode.mapBuilder();
+    for (int i = 0; i < 20; i++) {
+      large.put("key " + i, ConfigurationNode.integer(i));
+    }
+    large.put("key 0", ConfigurationNode.nil());
+
+    assertThrows(IllegalArgumentException.class, small::build);
+    assertThrows(IllegalArgumentException.class, large::build);
+  }
+
+  @Test
+  void testBuilder_Built() {
+    final ConfigurationNode.MapBuilder builder =
+        ConfigurationNode.mapBuilder().put("key", ConfigurationNode.string("value"));
+    builder.build();
+
+    assertThrows(IllegalStateException.class, builder::build);
+    assertThrows(
+        IllegalStateException.class, () -> builder.put("key", ConfigurationNode.string("value")));
+  }
+
+  @Test
+  void testEquals_OtherMapNode() {
+    final ConfigurationNode map =
+        ConfigurationNode.map(Map.entry("key", ConfigurationNode.string("value")));
+    final ConfigurationNode other =
+        new ConfigurationNode() {
+          @Override
+          public Map<String, ConfigurationNode> asMap() {
+            return Map.of("key", ConfigurationNode.string("value"));
+          }
+        };
+
+    assertEquals(map, other);
+    assertNotEquals(map, ConfigurationNode.string("value"));
+    assertNotEquals(ConfigurationNode.map(), other);
+    assertEquals(Map.of("key", ConfigurationNode.string("value")).hashCode(), map.hashCode());
+  }
 }
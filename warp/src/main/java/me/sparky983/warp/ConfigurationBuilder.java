@@ -1,6 +1,14 @@
 package me.sparky983.warp;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * A {@linkplain Configuration configuration class} builder.
@@ -28,8 +36,15 @@ import java.util.Optional;
  *       <li>{@link String}
  *       <li>{@link CharSequence}
  *       <li>{@link Optional} (a raw {@code Optional} type is unsupported)
- *       <li>{@link java.util.Map} (a raw {@code Map} type is unsupported)
- *       <li>{@link java.util.List} (a raw {@code List} type is unsupported)
+ *       <li>{@link java.util.Map} (a raw {@code Map} type is unsupported); a map with {@link Enum}
+ *           keys is backed by an {@link java.util.EnumMap}
+ *       <li>{@link java.util.List} (a raw {@code List} type is unsupported); a list of {@link
+ *           Integer}, {@link Long} or {@link Double} is backed by an array of primitives, unless a
+ *           custom deserializer is registered for the element type
+ *       <li>{@link java.util.Set} (a raw {@code Set} type is unsupported); a set of {@link Enum}
+ *           elements is backed by an {@link java.util.EnumSet}
+ *       <li>arrays of any supported type, such as {@code int[]}, {@code long[]} and {@code
+ *           double[]}; each call returns a new copy of the array
  *       <li>any {@link Enum} (case sensitive)
  *       <li>other {@linkplain Configuration configuration classes}
  *     </ul>
@@ -61,6 +76,69 @@ public interface ConfigurationBuilder<T> {
    */
   <D> ConfigurationBuilder<T> deserializer(Class<D> type, Deserializer<? extends D> deserializer);
 
+  /**
+   * Deserializes the elements of large lists and maps in parallel, using the given pool.
+   *
+   * <p>By default, a configuration is deserialized entirely on the thread that builds it. Once a
+   * pool is set, the elements of each list, and the entries of each map, with at least {@code
+   * threshold} elements are deserialized by tasks in the pool. Errors are reported in the same
+   * order as they are when deserializing sequentially.
+   *
+   * <p>All deserializers added to this builder must be thread-safe.
+   *
+   * @param pool the pool
+   * @param threshold the smallest size of list or map that is deserialized in parallel
+   * @return this builder
+   * @throws IllegalArgumentException if the threshold is less than {@code 1}.
+   * @throws NullPointerException if the pool is {@code null}.
+   * @since 0.3
+   */
+  ConfigurationBuilder<T> parallelism(ForkJoinPool pool, int threshold);
+
+  /**
+   * Deserializes the properties of each configuration in parallel, using the given pool.
+   *
+   * <p>By default, properties are deserialized one at a time. Since properties are independent,
+   * configurations with expensive properties, such as nested configurations or properties with
+   * custom deserializers, can instead have each property deserialized by a task in the pool.
+   * Errors are reported in the same order as they are when deserializing sequentially.
+   *
+   * <p>All deserializers added to this builder must be thread-safe.
+   *
+   * @param pool the pool
+   * @return this builder
+   * @throws NullPointerException if the pool is {@code null}.
+   * @since 0.3
+   */
+  ConfigurationBuilder<T> parallelProperties(ForkJoinPool pool);
+
+  /**
+   * Sets the executor that deserializes configurations built by {@link #buildAsync()} and {@link
+   * #buildAsync(Path, SourceReader)}.
+   *
+   * <p>By default, the {@linkplain ForkJoinPool#commonPool() common pool} is used.
+   *
+   * @param executor the executor
+   * @return this builder
+   * @throws NullPointerException if the executor is {@code null}.
+   * @since 0.3
+   */
+  ConfigurationBuilder<T> executor(Executor executor);
+
+  /**
+   * Sets the executor that reads files for {@link #buildAsync(Path, SourceReader)}.
+   *
+   * <p>Reading a file mostly blocks, so it should not be done by the executor that deserializes
+   * configurations. By default, each file is read by a new daemon thread. On Java 21 and later,
+   * {@link java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor()} is a good choice.
+   *
+   * @param executor the executor
+   * @return this builder
+   * @throws NullPointerException if the executor is {@code null}.
+   * @since 0.3
+   */
+  ConfigurationBuilder<T> ioExecutor(Executor executor);
+
   /**
    * Builds the configuration class.
    *
@@ -77,4 +155,130 @@ public interface ConfigurationBuilder<T> {
    * @since 0.1
    */
   T build() throws ConfigurationException;
+
+  /**
+   * Builds the configuration class asynchronously, using the {@linkplain #executor(Executor)
+   * executor} of this builder.
+   *
+   * <p>The source and deserializers of this builder are captured when this method is called, so
+   * later changes to this builder do not affect the result.
+   *
+   * <p>If the configuration cannot be built, the returned future is completed exceptionally with a
+   * {@link CompletionException} caused by the exception {@link #build()} would have thrown.
+   *
+   * @return a future that is completed with the built configuration
+   * @since 0.3
+   */
+  CompletableFuture<T> buildAsync();
+
+  /**
+   * Reads the given file and builds the configuration class from it asynchronously.
+   *
+   * <p>The source of this builder is ignored. The file is read with the given reader, using the
+   * {@linkplain #ioExecutor(Executor) I/O executor} of this builder, while the configuration class
+   * is prepared using the {@linkplain #executor(Executor) executor} of this builder. The
+   * configuration is then deserialized using the executor of this builder.
+   *
+   * <p>If the file cannot be read or the configuration cannot be built, the returned future is
+   * completed exceptionally with a {@link CompletionException} caused by the {@link IOException},
+   * {@link ConfigurationException} or {@link IllegalStateException}.
+   *
+   * @param path the file
+   * @param reader the reader, for example {@code YamlConfigurationSource::read}
+   * @return a future that is completed with the built configuration
+   * @throws NullPointerException if the path or reader is {@code null}.
+   * @since 0.3
+   */
+  CompletableFuture<T> buildAsync(Path path, SourceReader reader);
+
+  /**
+   * Builds the configuration class from each file in the given directory whose name matches the
+   * given glob.
+   *
+   * <p>The source of this builder is ignored. The configuration class is prepared once, after
+   * which the files are read concurrently with the given reader, using the {@linkplain
+   * #ioExecutor(Executor) I/O executor} of this builder, and deserialized using the {@linkplain
+   * #executor(Executor) executor} of this builder. At most 16 files are read at a time.
+   *
+   * <p>Each configuration is keyed by the name of its file without the extension, so {@code
+   * arena.yml} is keyed by {@code arena}. The returned map is unmodifiable and iterates in the
+   * order of the file names.
+   *
+   * <p>If any file cannot be built, a {@link ConfigurationException} is thrown that contains the
+   * errors of every invalid file, grouped by the name of the file. Files with the same name but a
+   * different extension are also reported as invalid.
+   *
+   * @param directory the directory
+   * @param glob the glob that the file names must match, for example {@code *.yml}, as described
+   *     by {@link java.nio.file.FileSystem#getPathMatcher(String)}
+   * @param reader the reader, for example {@code YamlConfigurationSource::read}
+   * @return the configurations, by the names of their files
+   * @throws ConfigurationException if there was an error with one or more of the configurations.
+   * @throws IOException if there was an error listing the directory or reading a file.
+   * @throws IllegalStateException if a type was unable to be deserialized.
+   * @throws java.util.regex.PatternSyntaxException if the glob is invalid.
+   * @throws NullPointerException if the directory, glob or reader is {@code null}.
+   * @since 0.3
+   */
+  Map<String, T> loadDirectory(Path directory, String glob, SourceReader reader)
+      throws ConfigurationException, IOException;
+
+  /**
+   * Creates a {@link ConfigurationFactory} with the deserializers of this builder.
+   *
+   * <p>The source of this builder is ignored, and changes made to this builder after the factory
+   * has been created are not reflected by the factory.
+   *
+   * <p>If a required deserializer does not exist, an {@link IllegalStateException} is thrown.
+   *
+   * @return the new factory
+   * @throws IllegalStateException if a type was unable to be deserialized.
+   * @since 0.3
+   */
+  ConfigurationFactory<T> factory();
+
+  /**
+   * Builds a {@link ReloadingConfiguration} that is reloaded whenever the given file changes.
+   *
+   * <p>The source of this builder is ignored, and the configuration is instead read from the given
+   * file with the given reader. Changes to the file are debounced for 100 milliseconds.
+   *
+   * <p>The configuration is read once before this method returns. If the file is invalid, a {@link
+   * ConfigurationException} is thrown.
+   *
+   * @param path the file
+   * @param reader the reader
+   * @return the reloading configuration
+   * @throws ConfigurationException if there was an error with the configuration.
+   * @throws IOException if there was an error reading or watching the file.
+   * @throws IllegalStateException if a type was unable to be deserialized.
+   * @throws NullPointerException if the path or reader is {@code null}.
+   * @since 0.3
+   */
+  ReloadingConfiguration<T> watch(Path path, SourceReader reader)
+      throws ConfigurationException, IOException;
+
+  /**
+   * Builds a {@link ReloadingConfiguration} that is reloaded whenever the given file changes.
+   *
+   * <p>The source of this builder is ignored, and the configuration is instead read from the given
+   * file with the given reader. The configuration is only reloaded once the file hasn't changed
+   * for the given debounce duration.
+   *
+   * <p>The configuration is read once before this method returns. If the file is invalid, a {@link
+   * ConfigurationException} is thrown.
+   *
+   * @param path the file
+   * @param reader the reader
+   * @param debounce the debounce duration
+   * @return the reloading configuration
+   * @throws ConfigurationException if there was an error with the configuration.
+   * @throws IOException if there was an error reading or watching the file.
+   * @throws IllegalArgumentException if the debounce duration is negative.
+   * @throws IllegalStateException if a type was unable to be deserialized.
+   * @throws NullPointerException if the path, reader or debounce duration is {@code null}.
+   * @since 0.3
+   */
+  ReloadingConfiguration<T> watch(Path path, SourceReader reader, Duration debounce)
+      throws ConfigurationException, IOException;
 }
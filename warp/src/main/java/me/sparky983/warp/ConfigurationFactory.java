@@ -0,0 +1,30 @@
+package me.sparky983.warp;
+
+/**
+ * A compiled {@linkplain Configuration configuration class} that can be bound to many sources.
+ *
+ * <p>A factory is immutable and thread-safe. All the work that doesn't depend on the source, such
+ * as resolving the deserializers of the configuration class, is done once when the factory is
+ * created, so {@link #bind(ConfigurationSource)} may be called concurrently from many threads.
+ *
+ * @param <T> the type of the {@linkplain Configuration configuration class}
+ * @since 0.3
+ * @see ConfigurationBuilder#factory()
+ */
+public interface ConfigurationFactory<T> {
+  /**
+   * Creates an instance of the configuration class from the given source.
+   *
+   * <p>If the source has an error, a {@link ConfigurationException} is thrown.
+   *
+   * <p>If the source cannot conform to the configuration class, a {@link ConfigurationException} is
+   * thrown.
+   *
+   * @param source the source
+   * @return the configuration
+   * @throws ConfigurationException if there was an error with the configuration.
+   * @throws NullPointerException if the source is {@code null}.
+   * @since 0.3
+   */
+  T bind(ConfigurationSource source) throws ConfigurationException;
+}
@@ -7,7 +7,9 @@ import java.util.Objects;
 import me.sparky983.warp.internal.node.DefaultBoolNode;
 import me.sparky983.warp.internal.node.DefaultDecimalNode;
 import me.sparky983.warp.internal.node.DefaultIntegerNode;
+import me.sparky983.warp.internal.node.DefaultListBuilder;
 import me.sparky983.warp.internal.node.DefaultListNode;
+import me.sparky983.warp.internal.node.DefaultMapBuilder;
 import me.sparky983.warp.internal.node.DefaultMapNode;
 import me.sparky983.warp.internal.node.DefaultNilNode;
 import me.sparky983.warp.internal.node.DefaultStringNode;
@@ -235,4 +237,131 @@ public interface ConfigurationNode {
   static ConfigurationNode map(final Map<String, ConfigurationNode> map) {
     return new DefaultMapNode(map);
   }
+
+  /**
+   * Returns a new builder of a map node.
+   *
+   * <p>Unlike {@link #map(Map)}, the entries are not copied when the node is built.
+   *
+   * @return the new builder
+   * @since 0.3
+   */
+  static MapBuilder mapBuilder() {
+    return new DefaultMapBuilder(0);
+  }
+
+  /**
+   * Returns a new builder of a map node with room for the given number of entries.
+   *
+   * <p>Unlike {@link #map(Map)}, the entries are not copied when the node is built.
+   *
+   * @param expectedSize the expected number of entries
+   * @return the new builder
+   * @throws IllegalArgumentException if the expected size is negative.
+   * @since 0.3
+   */
+  static MapBuilder mapBuilder(final int expectedSize) {
+    return new DefaultMapBuilder(expectedSize);
+  }
+
+  /**
+   * Returns a new builder of a list node.
+   *
+   * <p>Unlike {@link #list(List)}, the elements are not copied when the node is built.
+   *
+   * @return the new builder
+   * @since 0.3
+   */
+  static ListBuilder listBuilder() {
+    return new DefaultListBuilder(0);
+  }
+
+  /**
+   * Returns a new builder of a list node with room for the given number of elements.
+   *
+   * <p>Unlike {@link #list(List)}, the elements are not copied when the node is built.
+   *
+   * @param expectedSize the expected number of elements
+   * @return the new builder
+   * @throws IllegalArgumentException if the expected size is negative.
+   * @since 0.3
+   */
+  static ListBuilder listBuilder(final int expectedSize) {
+    return new DefaultListBuilder(expectedSize);
+  }
+
+  /**
+   * A builder of a {@link ConfigurationNode}, which is filled incrementally and then sealed.
+   *
+   * <p>Building transfers the builder's storage to the built node, so the builder cannot be used
+   * once it is built. Scalar nodes do not need a builder, since the factories such as {@link
+   * #string(String)} already create them without copying.
+   *
+   * <p>Builders are not thread-safe.
+   *
+   * @since 0.3
+   * @see #mapBuilder()
+   * @see #listBuilder()
+   */
+  interface Builder {
+    /**
+     * Builds the node.
+     *
+     * @return the node
+     * @throws IllegalStateException if this builder has already been built.
+     * @since 0.3
+     */
+    ConfigurationNode build();
+  }
+
+  /**
+   * A builder of a map node.
+   *
+   * <p>Entries are kept in the order they are put.
+   *
+   * @since 0.3
+   * @see #mapBuilder()
+   */
+  interface MapBuilder extends Builder {
+    /**
+     * Adds an entry to the map.
+     *
+     * @param key the key
+     * @param value the value
+     * @return this builder
+     * @throws IllegalStateException if this builder has already been built.
+     * @throws NullPointerException if the key or value is {@code null}.
+     * @since 0.3
+     */
+    MapBuilder put(String key, ConfigurationNode value);
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if a key was put more than once.
+     * @throws IllegalStateException if this builder has already been built.
+     * @since 0.3
+     */
+    @Override
+    ConfigurationNode build();
+  }
+
+  /**
+   * A builder of a list node.
+   *
+   * @since 0.3
+   * @see #listBuilder()
+   */
+  interface ListBuilder extends Builder {
+    /**
+     * Adds an element to the list.
+     *
+     * @param element the element
+     * @return this builder
+     * @throws IllegalStateException if this builder has already been built.
+     * @throws NullPointerException if the element is {@code null}.
+     * @since 0.3
+     */
+    ListBuilder add(ConfigurationNode element);
+  }
 }
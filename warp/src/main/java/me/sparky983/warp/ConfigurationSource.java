@@ -1,7 +1,11 @@
 package me.sparky983.warp;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import me.sparky983.warp.internal.DefaultConfigurationSource;
+import me.sparky983.warp.internal.LayeredConfigurationSource;
 import org.jetbrains.annotations.ApiStatus;
 
 /**
@@ -44,4 +48,37 @@ public interface ConfigurationSource {
   static ConfigurationSource of(final ConfigurationNode node) {
     return new DefaultConfigurationSource(node);
   }
+
+  /**
+   * Returns a {@code ConfigurationSource} that deep-merges the configurations of the given sources,
+   * where later sources take precedence.
+   *
+   * <p>Maps are merged key by key, so a later source only needs to contain the values it changes.
+   * Any other value, including a list, replaces the values of earlier sources. Empty sources are
+   * skipped, and if every source is empty, the returned source is empty.
+   *
+   * <p>The merge is lazy and shares the parts of the configurations it doesn't need to merge, so
+   * sources such as defaults can be layered under a file on every reload without copying them.
+   * The sources are read again each time {@link #configuration()} is called.
+   *
+   * @param base the source with the lowest precedence, such as the defaults
+   * @param layers the sources layered on top of the base, in increasing order of precedence
+   * @return the new source
+   * @throws NullPointerException if the base, the layers array or one of the layers is {@code
+   *     null}.
+   * @since 0.3
+   */
+  static ConfigurationSource layered(
+      final ConfigurationSource base, final ConfigurationSource... layers) {
+    Objects.requireNonNull(base, "base cannot be null");
+    Objects.requireNonNull(layers, "layers cannot be null");
+
+    final List<ConfigurationSource> sources = new ArrayList<>(layers.length + 1);
+    sources.add(base);
+    for (int i = 0; i < layers.length; i++) {
+      Objects.requireNonNull(layers[i], "layers[" + i + "] cannot be null");
+      sources.add(layers[i]);
+    }
+    return new LayeredConfigurationSource(sources);
+  }
 }
@@ -0,0 +1,127 @@
+package me.sparky983.warp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A {@linkplain Configuration configuration} that is reloaded whenever the file it was read from
+ * changes.
+ *
+ * <p>The file is watched on a background thread. Bursts of changes are debounced, after which the
+ * file is read and the configuration is rebuilt. If the new configuration is valid, it is published
+ * as the new {@linkplain #get() snapshot}, otherwise the previous snapshot is kept.
+ *
+ * <p>Reading the configuration never blocks, even while it is being reloaded.
+ *
+ * @param <T> the type of the {@linkplain Configuration configuration class}
+ * @since 0.3
+ * @see ConfigurationBuilder#watch(Path, SourceReader)
+ */
+public interface ReloadingConfiguration<T> extends AutoCloseable {
+  /**
+   * Returns the current snapshot of the configuration.
+   *
+   * <p>The returned configuration does not change when the configuration is reloaded.
+   *
+   * @return the current snapshot
+   * @since 0.3
+   */
+  T get();
+
+  /**
+   * Returns a view of the configuration.
+   *
+   * <p>Each property method of the view is invoked on the {@linkplain #get() current snapshot}, so
+   * the view can be held on to instead of the snapshot.
+   *
+   * @return the view
+   * @since 0.3
+   */
+  T view();
+
+  /**
+   * Reloads the configuration immediately.
+   *
+   * <p>If the configuration cannot be reloaded, the current snapshot is kept.
+   *
+   * @throws ConfigurationException if there was an error with the configuration.
+   * @throws IOException if there was an error reading the file.
+   * @since 0.3
+   */
+  void reload() throws ConfigurationException, IOException;
+
+  /**
+   * Adds a listener that is notified when the configuration fails to reload on the background
+   * thread.
+   *
+   * <p>The listener is called with the {@link ConfigurationException} or {@link IOException} that
+   * caused the reload to fail. If the listener throws an exception, it is passed to the uncaught
+   * exception handler of the background thread, which keeps watching the file. {@link Error Errors}
+   * that cause a reload to fail, such as a {@link StackOverflowError}, are passed to the uncaught
+   * exception handler as well.
+   *
+   * @param listener the listener
+   * @return this reloading configuration
+   * @throws NullPointerException if the listener is {@code null}.
+   * @since 0.3
+   */
+  ReloadingConfiguration<T> onFailure(Consumer<? super Exception> listener);
+
+  /**
+   * Adds a listener that is notified when the given property changes.
+   *
+   * <p>The listener is only notified when the part of the configuration the property is read from
+   * changes, and is called with the previous and current values of the property. The property may
+   * be a property of a nested configuration, for example {@code config ->
+   * config.database().host()}.
+   *
+   * <p>Listeners are called on the thread that reloaded the configuration, after the new snapshot
+   * has been published. If a listener throws an exception, it is passed to the uncaught exception
+   * handler of that thread, the remaining listeners are still notified and the reload is not
+   * considered to have failed.
+   *
+   * @param property a function that reads a property without parameters, usually a method
+   *     reference such as {@code Config::database}
+   * @param listener the listener
+   * @return this reloading configuration
+   * @param <R> the type of the property
+   * @throws IllegalArgumentException if the function doesn't read exactly one property without
+   *     parameters.
+   * @throws NullPointerException if the property or listener is {@code null}.
+   * @since 0.3
+   */
+  <R> ReloadingConfiguration<T> onChange(
+      Function<? super T, ? extends R> property, BiConsumer<? super R, ? super R> listener);
+
+  /**
+   * Adds a listener that is notified when the node at the given path, or any node below it,
+   * changes.
+   *
+   * <p>Listeners are called on the thread that reloaded the configuration, after the new snapshot
+   * has been published. If a listener throws an exception, it is passed to the uncaught exception
+   * handler of that thread, the remaining listeners are still notified and the reload is not
+   * considered to have failed.
+   *
+   * @param path the path, with keys separated by {@code .}
+   * @param listener the listener, which is called with the previous and current snapshots
+   * @return this reloading configuration
+   * @throws IllegalArgumentException if the path is empty.
+   * @throws NullPointerException if the path or listener is {@code null}.
+   * @since 0.3
+   */
+  ReloadingConfiguration<T> onChange(String path, BiConsumer<? super T, ? super T> listener);
+
+  /**
+   * Stops watching the file.
+   *
+   * <p>The last snapshot remains available after the configuration is closed.
+   *
+   * @throws IOException if there was an error closing the file watcher.
+   * @since 0.3
+   */
+  @Override
+  void close() throws IOException;
+}
@@ -6,7 +6,8 @@ import org.jspecify.annotations.Nullable;
 /**
  * Renders a value.
  *
- * <p>This method is called every time a value is requested.
+ * <p>This method may be called every time a value is requested. Renderers that always render the
+ * same value should implement {@link Constant}, which allows them to be rendered once.
  *
  * @param <T> the type of the value
  * @since 0.1
@@ -15,6 +16,8 @@ public interface Renderer<T> {
   /**
    * Creates a renderer that always returns the given value.
    *
+   * <p>The returned renderer is {@linkplain Constant constant}.
+   *
    * @param value the value
    * @param <T> the type of the value
    * @return the renderer
@@ -24,11 +27,7 @@ public interface Renderer<T> {
   static <T> Renderer<T> of(final T value) {
     Objects.requireNonNull(value, "value cannot be null");
 
-    return (context) -> {
-      Objects.requireNonNull(context, "context cannot be null");
-
-      return value;
-    };
+    return (Constant<T>) () -> value;
   }
 
   /**
@@ -57,4 +56,38 @@ public interface Renderer<T> {
      */
     @Nullable Object[] arguments();
   }
+
+  /**
+   * A renderer that always renders the same value, regardless of the context.
+   *
+   * <p>Renderers composed of only constant renderers, such as the renderers of lists, maps,
+   * optionals and nested configurations, are constant themselves. Their values are computed once
+   * during deserialization instead of every time they are rendered.
+   *
+   * @param <T> the type of the value
+   * @since 0.3
+   * @see Renderer#of(Object)
+   */
+  interface Constant<T> extends Renderer<T> {
+    /**
+     * Returns the value.
+     *
+     * @return the value
+     * @since 0.3
+     */
+    T value();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @warp.implNote The default implementation returns {@link #value()}.
+     * @since 0.3
+     */
+    @Override
+    default T render(final Context context) {
+      Objects.requireNonNull(context, "context cannot be null");
+
+      return value();
+    }
+  }
 }
@@ -0,0 +1,24 @@
+package me.sparky983.warp;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Reads a {@link ConfigurationSource} from a file.
+ *
+ * <p>For example, {@code YamlConfigurationSource::read}.
+ *
+ * @since 0.3
+ */
+@FunctionalInterface
+public interface SourceReader {
+  /**
+   * Reads the source from the given file.
+   *
+   * @param path the file
+   * @return the source
+   * @throws IOException if there was an error reading the file.
+   * @since 0.3
+   */
+  ConfigurationSource read(Path path) throws IOException;
+}
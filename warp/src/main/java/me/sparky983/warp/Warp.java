@@ -1,5 +1,8 @@
 package me.sparky983.warp;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
 import me.sparky983.warp.internal.DefaultConfigurationBuilder;
 import me.sparky983.warp.internal.schema.Schema;
 
@@ -26,4 +29,36 @@ public final class Warp {
   public static <T> ConfigurationBuilder<T> builder(final Class<? extends T> configurationClass) {
     return new DefaultConfigurationBuilder<>(Schema.fromClass(configurationClass));
   }
+
+  /**
+   * Builds the given configuration class from each file in the given directory whose name matches
+   * the given glob.
+   *
+   * <p>This is equivalent to {@code Warp.builder(configurationClass).loadDirectory(directory,
+   * glob, reader)}.
+   *
+   * @param configurationClass the configuration class
+   * @param directory the directory
+   * @param glob the glob that the file names must match, for example {@code *.yml}
+   * @param reader the reader, for example {@code YamlConfigurationSource::read}
+   * @return the configurations, by the names of their files without the extension
+   * @throws ConfigurationException if there was an error with one or more of the configurations.
+   * @throws IOException if there was an error listing the directory or reading a file.
+   * @throws IllegalArgumentException if configuration class is not {@link
+   *     Configuration##requirements-header valid}.
+   * @throws IllegalStateException if a type was unable to be deserialized.
+   * @throws NullPointerException if the configuration class, directory, glob or reader is {@code
+   *     null}.
+   * @param <T> the type of the configuration class.
+   * @since 0.3
+   * @see ConfigurationBuilder#loadDirectory(Path, String, SourceReader)
+   */
+  public static <T> Map<String, T> loadDirectory(
+      final Class<? extends T> configurationClass,
+      final Path directory,
+      final String glob,
+      final SourceReader reader)
+      throws ConfigurationException, IOException {
+    return Warp.<T>builder(configurationClass).loadDirectory(directory, glob, reader);
+  }
 }
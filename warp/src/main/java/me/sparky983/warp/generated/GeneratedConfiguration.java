@@ -0,0 +1,148 @@
+package me.sparky983.warp.generated;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import me.sparky983.warp.Configuration;
+import me.sparky983.warp.ConfigurationError;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import me.sparky983.warp.Renderer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@linkplain Configuration configuration class} schema generated at compile time.
+ *
+ * <p>For a configuration class with the binary name {@code Name}, the generated schema is a class
+ * with the binary name {@code Name$$WarpSchema} with a {@code public} no-args constructor.
+ *
+ * @param <T> the type of the configuration class
+ * @since 0.3
+ */
+public interface GeneratedConfiguration<T> {
+  /**
+   * The suffix appended to the binary name of a configuration class to get the binary name of its
+   * generated schema.
+   *
+   * @since 0.3
+   */
+  String SUFFIX = "$$WarpSchema";
+
+  /**
+   * Returns the configuration class.
+   *
+   * @return the configuration class
+   * @since 0.3
+   */
+  Class<T> configurationClass();
+
+  /**
+   * Returns the property methods of the configuration class.
+   *
+   * @return the property methods
+   * @since 0.3
+   */
+  List<GeneratedProperty> properties();
+
+  /**
+   * Resolves the node of each {@linkplain #properties() property} in the given configuration.
+   *
+   * <p>Keys of the configuration that are not part of any property path are reported as unknown
+   * properties, except for the keys nested in the node of a property, which are read by that
+   * property.
+   *
+   * @param configuration the configuration
+   * @param nodes the array to store the node of each property in, in the same order as the
+   *     properties; the node is left {@code null} if the property is absent
+   * @return the errors for unknown properties, in the order they appear in the configuration
+   * @since 0.3
+   */
+  List<ConfigurationError> resolve(
+      Map<String, ConfigurationNode> configuration, @Nullable ConfigurationNode[] nodes);
+
+  /**
+   * Creates a new instance of the configuration class.
+   *
+   * <p>The rendered value of a <em>value property</em> is stored in a field of the instance and
+   * returned as is by its property method. Value properties are properties without parameters that
+   * are not {@linkplain GeneratedProperty#isDefault() default} and whose type is neither {@code
+   * void} nor contains arrays. Every other property method invokes its {@link PropertyRenderer} on
+   * each call.
+   *
+   * @param context the context the configuration was rendered with
+   * @param properties the rendered value of each value property and the renderer of each other
+   *     {@linkplain #properties() property}, in the same order; a {@code null} renderer means that
+   *     the default implementation of the property method is used
+   * @return the new instance
+   * @since 0.3
+   */
+  T newInstance(Renderer.Context context, @Nullable Object[] properties);
+
+  /**
+   * Creates a view of the configuration class.
+   *
+   * <p>Each property method of the view invokes the same property method of the instance returned
+   * by the given supplier.
+   *
+   * @param snapshot the supplier of the current instance
+   * @return the view
+   * @since 0.3
+   */
+  T newView(Supplier<? extends T> snapshot);
+
+  /**
+   * Reports the given key of a configuration as an unknown property.
+   *
+   * <p>If the node of the key is a map, each of its leaves is reported instead, grouped by key.
+   *
+   * @param key the key
+   * @param node the node of the key
+   * @param errors the list to add the errors to
+   * @throws NullPointerException if the key, node or errors list is {@code null}.
+   * @since 0.3
+   */
+  static void unknown(
+      final String key, final ConfigurationNode node, final List<ConfigurationError> errors) {
+    Objects.requireNonNull(key, "key cannot be null");
+    Objects.requireNonNull(node, "node cannot be null");
+    Objects.requireNonNull(errors, "errors cannot be null");
+
+    final Map<String, ConfigurationNode> map;
+    try {
+      map = node.asMap();
+    } catch (final DeserializationException e) {
+      errors.add(ConfigurationError.group(key, ConfigurationError.error("Unknown property")));
+      return;
+    }
+    final List<ConfigurationError> childErrors = new ArrayList<>();
+    map.forEach((childKey, childNode) -> unknown(childKey, childNode, childErrors));
+    if (!childErrors.isEmpty()) {
+      errors.add(ConfigurationError.group(key, childErrors));
+    }
+  }
+
+  /**
+   * Renders the value of a property method.
+   *
+   * @since 0.3
+   */
+  @FunctionalInterface
+  interface PropertyRenderer {
+    /**
+     * Renders the value.
+     *
+     * @param configuration the configuration instance the property method was called on
+     * @param context the context the configuration was rendered with
+     * @param arguments the arguments passed to the property method, or {@code null} if it has no
+     *     parameters
+     * @return the rendered value
+     * @throws Throwable if there was an exception; may only be thrown by user code.
+     * @since 0.3
+     */
+    Object render(
+        Object configuration, Renderer.Context context, @Nullable Object @Nullable [] arguments)
+        throws Throwable;
+  }
+}
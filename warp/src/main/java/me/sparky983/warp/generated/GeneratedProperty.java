@@ -0,0 +1,41 @@
+package me.sparky983.warp.generated;
+
+import java.util.List;
+import java.util.Objects;
+import me.sparky983.warp.Property;
+
+/**
+ * A {@linkplain Property property method} of a {@link GeneratedConfiguration}.
+ *
+ * @param name the name of the method
+ * @param path the path of the property
+ * @param type the return type of the method
+ * @param isDefault whether the method has a default implementation
+ * @param parameterTypes the erased parameter types of the method
+ * @since 0.3
+ */
+public record GeneratedProperty(
+    String name,
+    String path,
+    GeneratedType type,
+    boolean isDefault,
+    List<Class<?>> parameterTypes) {
+  /**
+   * Constructs a {@code GeneratedProperty}.
+   *
+   * @param name the name of the method
+   * @param path the path of the property
+   * @param type the return type of the method
+   * @param isDefault whether the method has a default implementation
+   * @param parameterTypes the erased parameter types of the method
+   * @throws NullPointerException if the name, path, type, parameter types or one of the parameter
+   *     types are {@code null}.
+   * @since 0.3
+   */
+  public GeneratedProperty {
+    Objects.requireNonNull(name, "name cannot be null");
+    Objects.requireNonNull(path, "path cannot be null");
+    Objects.requireNonNull(type, "type cannot be null");
+    parameterTypes = List.copyOf(parameterTypes);
+  }
+}
@@ -0,0 +1,44 @@
+package me.sparky983.warp.generated;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A type that is optionally parameterized, as resolved at compile time.
+ *
+ * <p>The only type argument of an array type, if it has one, is its component type, so that
+ * parameterized component types such as that of {@code List<String>[]} are kept.
+ *
+ * @param rawType the raw type
+ * @param typeArguments the type arguments, or an empty list if the type is raw
+ * @since 0.3
+ */
+public record GeneratedType(Class<?> rawType, List<GeneratedType> typeArguments) {
+  /**
+   * Constructs a {@code GeneratedType}.
+   *
+   * @param rawType the raw type
+   * @param typeArguments the type arguments, or an empty list if the type is raw
+   * @throws NullPointerException if the raw type, the type arguments or one of the type arguments
+   *     are {@code null}.
+   * @since 0.3
+   */
+  public GeneratedType {
+    Objects.requireNonNull(rawType, "rawType cannot be null");
+    typeArguments = List.copyOf(typeArguments);
+  }
+
+  /**
+   * Returns a {@code GeneratedType} with the given raw type and type arguments.
+   *
+   * @param rawType the raw type
+   * @param typeArguments the type arguments
+   * @return the type
+   * @throws NullPointerException if the raw type, the type arguments or one of the type arguments
+   *     are {@code null}.
+   * @since 0.3
+   */
+  public static GeneratedType of(final Class<?> rawType, final GeneratedType... typeArguments) {
+    return new GeneratedType(rawType, List.of(typeArguments));
+  }
+}
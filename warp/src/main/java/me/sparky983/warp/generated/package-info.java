@@ -0,0 +1,10 @@
+/**
+ * Support for configuration classes generated by the {@code warp-processor} annotation processor.
+ *
+ * <p>The types in this package are only intended to be used by generated code, and may change
+ * between versions of the annotation processor.
+ */
+@ApiStatus.Internal
+package me.sparky983.warp.generated;
+
+import org.jetbrains.annotations.ApiStatus;
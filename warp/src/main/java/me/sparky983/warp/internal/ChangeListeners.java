@@ -0,0 +1,174 @@
+package me.sparky983.warp.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Change listeners, indexed by the path they listen to.
+ *
+ * <p>A listener is notified when the node at its path or any node below it changes. The listeners
+ * are kept in a trie of path keys, which is walked together with the changed parts of the
+ * configuration, so unchanged subtrees and subtrees without listeners are never visited.
+ *
+ * @param <T> the type of the configuration
+ */
+final class ChangeListeners<T> {
+  /** The root of the trie. Guarded by {@code this}. */
+  private final Node<T> root = new Node<>();
+
+  /**
+   * Adds a listener for the given path.
+   *
+   * @param path the path, with keys separated by {@code .}
+   * @param listener the listener, which is called with the previous and current configurations
+   * @throws IllegalArgumentException if the path is empty.
+   * @throws NullPointerException if the path or the listener is {@code null}.
+   */
+  synchronized void add(final String path, final BiConsumer<? super T, ? super T> listener) {
+    Objects.requireNonNull(path, "path cannot be null");
+    Objects.requireNonNull(listener, "listener cannot be null");
+
+    if (path.isEmpty()) {
+      throw new IllegalArgumentException("path cannot be empty");
+    }
+
+    Node<T> current = root;
+    for (final String key : path.split("\\.")) {
+      current = current.children.computeIfAbsent(key, (k) -> new Node<>());
+    }
+    current.listeners.add(listener);
+  }
+
+  /**
+   * Notifies the listeners of the paths that changed between the given configurations.
+   *
+   * <p>If a listener throws an exception, it is passed to the uncaught exception handler of the
+   * current thread and the remaining listeners are still notified.
+   *
+   * @param previousNode the node of the previous configuration
+   * @param currentNode the node of the current configuration
+   * @param previous the previous configuration
+   * @param current the current configuration
+   * @throws NullPointerException if any of the arguments are {@code null}.
+   */
+  void dispatch(
+      final ConfigurationNode previousNode,
+      final ConfigurationNode currentNode,
+      final T previous,
+      final T current) {
+    Objects.requireNonNull(previousNode, "previousNode cannot be null");
+    Objects.requireNonNull(currentNode, "currentNode cannot be null");
+    Objects.requireNonNull(previous, "previous cannot be null");
+    Objects.requireNonNull(current, "current cannot be null");
+
+    final List<BiConsumer<? super T, ? super T>> changed = new ArrayList<>();
+    synchronized (this) {
+      root.collectChildren(previousNode, currentNode, changed);
+    }
+    // Listeners are called without holding the lock, so they may add listeners
+    for (final BiConsumer<? super T, ? super T> listener : changed) {
+      try {
+        listener.accept(previous, current);
+      } catch (final RuntimeException | Error e) {
+        uncaught(e);
+      }
+    }
+  }
+
+  /**
+   * Passes an exception thrown by a listener to the uncaught exception handler of the current
+   * thread, so that one listener cannot prevent the others from being notified.
+   *
+   * @param exception the exception
+   */
+  static void uncaught(final Throwable exception) {
+    final Thread thread = Thread.currentThread();
+    thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+  }
+
+  private static final class Node<T> {
+    private final Map<String, Node<T>> children = new HashMap<>();
+    private final List<BiConsumer<? super T, ? super T>> listeners = new ArrayList<>();
+
+    /** Collects the listeners of this node and its children if the given nodes differ. */
+    private void collect(
+        final @Nullable ConfigurationNode previous,
+        final @Nullable ConfigurationNode current,
+        final List<BiConsumer<? super T, ? super T>> changed) {
+      if (Objects.equals(previous, current)) {
+        return;
+      }
+      changed.addAll(listeners);
+      collectChildren(previous, current, changed);
+    }
+
+    private void collectChildren(
+        final @Nullable ConfigurationNode previous,
+        final @Nullable ConfigurationNode current,
+        final List<BiConsumer<? super T, ? super T>> changed) {
+      if (children.isEmpty()) {
+        return;
+      }
+      final Map<String, ConfigurationNode> previousMap = asMap(previous);
+      final Map<String, ConfigurationNode> currentMap = asMap(current);
+      if (previousMap == null || currentMap == null) {
+        // The structure changed, so everything below has changed
+        collectAll(changed);
+        return;
+      }
+      // Walk whichever side is smaller; either the keys with listeners or the keys of the nodes
+      if (children.size() <= previousMap.size() + currentMap.size()) {
+        for (final Map.Entry<String, Node<T>> entry : children.entrySet()) {
+          final String key = entry.getKey();
+          entry.getValue().collect(previousMap.get(key), currentMap.get(key), changed);
+        }
+      } else {
+        for (final String key : previousMap.keySet()) {
+          collectChild(key, previousMap, currentMap, changed);
+        }
+        for (final String key : currentMap.keySet()) {
+          if (!previousMap.containsKey(key)) {
+            collectChild(key, previousMap, currentMap, changed);
+          }
+        }
+      }
+    }
+
+    private void collectChild(
+        final String key,
+        final Map<String, ConfigurationNode> previousMap,
+        final Map<String, ConfigurationNode> currentMap,
+        final List<BiConsumer<? super T, ? super T>> changed) {
+      final Node<T> child = children.get(key);
+      if (child != null) {
+        child.collect(previousMap.get(key), currentMap.get(key), changed);
+      }
+    }
+
+    private void collectAll(final List<BiConsumer<? super T, ? super T>> changed) {
+      for (final Node<T> child : children.values()) {
+        changed.addAll(child.listeners);
+        child.collectAll(changed);
+      }
+    }
+
+    private static @Nullable Map<String, ConfigurationNode> asMap(
+        final @Nullable ConfigurationNode node) {
+      if (node == null) {
+        return Map.of();
+      }
+      try {
+        return node.asMap();
+      } catch (final DeserializationException e) {
+        return null;
+      }
+    }
+  }
+}
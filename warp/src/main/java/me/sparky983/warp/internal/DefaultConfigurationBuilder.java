@@ -1,22 +1,41 @@
 package me.sparky983.warp.internal;
 
-import java.lang.reflect.Parameter;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 import me.sparky983.warp.Configuration;
 import me.sparky983.warp.ConfigurationBuilder;
+import me.sparky983.warp.ConfigurationError;
 import me.sparky983.warp.ConfigurationException;
-import me.sparky983.warp.ConfigurationNode;
 import me.sparky983.warp.ConfigurationSource;
 import me.sparky983.warp.Deserializer;
-import me.sparky983.warp.Renderer;
+import me.sparky983.warp.ReloadingConfiguration;
+import me.sparky983.warp.SourceReader;
+import me.sparky983.warp.internal.deserializers.ArrayDeserializerFactory;
 import me.sparky983.warp.internal.deserializers.ConfigurationDeserializerFactory;
 import me.sparky983.warp.internal.deserializers.Deserializers;
 import me.sparky983.warp.internal.deserializers.EnumDeserializerFactory;
 import me.sparky983.warp.internal.deserializers.ListDeserializerFactory;
 import me.sparky983.warp.internal.deserializers.MapDeserializerFactory;
 import me.sparky983.warp.internal.deserializers.OptionalDeserializerFactory;
+import me.sparky983.warp.internal.deserializers.SetDeserializerFactory;
 import me.sparky983.warp.internal.schema.Schema;
+import org.jspecify.annotations.Nullable;
 
 /**
  * The default implementation of {@link ConfigurationBuilder}.
@@ -24,43 +43,50 @@ import me.sparky983.warp.internal.schema.Schema;
  * @param <T> the type of the {@linkplain Configuration configuration class}
  */
 public final class DefaultConfigurationBuilder<T> implements ConfigurationBuilder<T> {
-  /** A cached renderer context (the context is empty). */
-  private static final Renderer.Context RENDERER_CONTEXT =
-      new Renderer.Context() {
-        private static final Object[] EMPTY_ARGUMENTS = new Object[0];
-
-        @Override
-        public Object[] arguments() {
-          return EMPTY_ARGUMENTS;
-        }
-      };
+  private static final Duration DEFAULT_DEBOUNCE = Duration.ofMillis(100);
+
+  /** The maximum number of files that are read at a time by {@link #loadDirectory}. */
+  private static final int MAX_CONCURRENT_READS = 16;
+
+  /** The default deserializers, by the type they deserialize. */
+  private static final Map<Class<?>, Deserializer<?>> DEFAULT_DESERIALIZERS =
+      Map.ofEntries(
+          Map.entry(Byte.class, Deserializers.BYTE),
+          Map.entry(byte.class, Deserializers.BYTE),
+          Map.entry(Short.class, Deserializers.SHORT),
+          Map.entry(short.class, Deserializers.SHORT),
+          Map.entry(Integer.class, Deserializers.INTEGER),
+          Map.entry(int.class, Deserializers.INTEGER),
+          Map.entry(Long.class, Deserializers.LONG),
+          Map.entry(long.class, Deserializers.LONG),
+          Map.entry(Float.class, Deserializers.FLOAT),
+          Map.entry(float.class, Deserializers.FLOAT),
+          Map.entry(Double.class, Deserializers.DOUBLE),
+          Map.entry(double.class, Deserializers.DOUBLE),
+          Map.entry(Boolean.class, Deserializers.BOOLEAN),
+          Map.entry(boolean.class, Deserializers.BOOLEAN),
+          Map.entry(String.class, Deserializers.STRING),
+          Map.entry(CharSequence.class, Deserializers.STRING));
 
   private ConfigurationSource source = Optional::empty;
 
-  /** The deserializers for the configuration. */
-  private final DeserializerRegistry.Builder deserializers =
-      DeserializerRegistry.builder()
-          .deserializer(Byte.class, Deserializers.BYTE)
-          .deserializer(byte.class, Deserializers.BYTE)
-          .deserializer(Short.class, Deserializers.SHORT)
-          .deserializer(short.class, Deserializers.SHORT)
-          .deserializer(Integer.class, Deserializers.INTEGER)
-          .deserializer(int.class, Deserializers.INTEGER)
-          .deserializer(Long.class, Deserializers.LONG)
-          .deserializer(long.class, Deserializers.LONG)
-          .deserializer(Float.class, Deserializers.FLOAT)
-          .deserializer(float.class, Deserializers.FLOAT)
-          .deserializer(Double.class, Deserializers.DOUBLE)
-          .deserializer(double.class, Deserializers.DOUBLE)
-          .deserializer(Boolean.class, Deserializers.BOOLEAN)
-          .deserializer(boolean.class, Deserializers.BOOLEAN)
-          .deserializer(String.class, Deserializers.STRING)
-          .deserializer(CharSequence.class, Deserializers.STRING)
-          .factory(new OptionalDeserializerFactory())
-          .factory(new MapDeserializerFactory())
-          .factory(new ListDeserializerFactory())
-          .factory(new EnumDeserializerFactory())
-          .factory(new ConfigurationDeserializerFactory());
+  /** The deserializers for the configuration, by the type they deserialize. */
+  private final Map<Class<?>, Deserializer<?>> deserializers =
+      new HashMap<>(DEFAULT_DESERIALIZERS);
+
+  /** The pool that deserializes large lists and maps, or {@code null} if they are sequential. */
+  private @Nullable ForkJoinPool pool;
+
+  private int parallelThreshold;
+
+  /** The pool that deserializes properties, or {@code null} if they are sequential. */
+  private @Nullable ForkJoinPool propertyPool;
+
+  /** The executor that deserializes configurations that are built asynchronously. */
+  private Executor executor = ForkJoinPool.commonPool();
+
+  /** The executor that reads files for configurations that are built asynchronously. */
+  private Executor ioExecutor = DefaultConfigurationBuilder::startReader;
 
   private final Schema<? extends T> schema;
 
@@ -90,40 +116,248 @@ public final class DefaultConfigurationBuilder<T> implements ConfigurationBuilde
     Objects.requireNonNull(type, "type cannot be null");
     Objects.requireNonNull(deserializer, "deserializer cannot be null");
 
-    deserializers.deserializer(type, deserializer);
+    deserializers.put(type, deserializer);
+    return this;
+  }
+
+  @Override
+  public ConfigurationBuilder<T> parallelism(final ForkJoinPool pool, final int threshold) {
+    Objects.requireNonNull(pool, "pool cannot be null");
+    if (threshold < 1) {
+      throw new IllegalArgumentException("threshold must be positive");
+    }
+
+    this.pool = pool;
+    this.parallelThreshold = threshold;
+    return this;
+  }
+
+  @Override
+  public ConfigurationBuilder<T> parallelProperties(final ForkJoinPool pool) {
+    Objects.requireNonNull(pool, "pool cannot be null");
+
+    this.propertyPool = pool;
+    return this;
+  }
+
+  @Override
+  public ConfigurationBuilder<T> executor(final Executor executor) {
+    Objects.requireNonNull(executor, "executor cannot be null");
+
+    this.executor = executor;
+    return this;
+  }
+
+  @Override
+  public ConfigurationBuilder<T> ioExecutor(final Executor executor) {
+    Objects.requireNonNull(executor, "executor cannot be null");
+
+    this.ioExecutor = executor;
     return this;
   }
 
   @Override
   public T build() throws ConfigurationException {
-    final ConfigurationNode configuration =
-        source.configuration().orElseGet(ConfigurationNode::map);
+    return factory().bind(source);
+  }
 
-    final DeserializerRegistry deserializers = this.deserializers.build();
+  @Override
+  public CompletableFuture<T> buildAsync() {
+    final ConfigurationSource source = this.source;
+    return factoryAsync().thenApplyAsync(factory -> bind(factory, source), executor);
+  }
 
-    final Deserializer.Context deserializerContext =
-        new Deserializer.Context() {
-          private static final Parameter[] EMPTY_PARAMETERS = new Parameter[0];
+  @Override
+  public CompletableFuture<T> buildAsync(final Path path, final SourceReader reader) {
+    Objects.requireNonNull(path, "path cannot be null");
+    Objects.requireNonNull(reader, "reader cannot be null");
 
-          @Override
-          public Parameter[] parameters() {
-            return EMPTY_PARAMETERS;
-          }
+    final CompletableFuture<ConfigurationSource> source = new CompletableFuture<>();
+    try {
+      ioExecutor.execute(
+          () -> {
+            try {
+              source.complete(reader.read(path));
+            } catch (final Throwable e) {
+              // Errors must complete the future too, otherwise it would never complete
+              source.completeExceptionally(e);
+            }
+          });
+    } catch (final Throwable e) {
+      // The executor rejected the task, or the reader thread could not be started
+      source.completeExceptionally(e);
+    }
+    // The configuration class is prepared while the file is being read
+    return factoryAsync().thenCombineAsync(source, DefaultConfigurationBuilder::bind, executor);
+  }
+
+  @Override
+  public Map<String, T> loadDirectory(
+      final Path directory, final String glob, final SourceReader reader)
+      throws ConfigurationException, IOException {
+    Objects.requireNonNull(directory, "directory cannot be null");
+    Objects.requireNonNull(glob, "glob cannot be null");
+    Objects.requireNonNull(reader, "reader cannot be null");
 
-          @SuppressWarnings({"unchecked", "rawtypes"})
-          @Override
-          public <T> Optional<Deserializer<T>> deserializer(final Class<T> type) {
-            Objects.requireNonNull(type, "type cannot be null");
+    final List<Path> files = new ArrayList<>();
+    try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, glob)) {
+      for (final Path file : stream) {
+        if (Files.isRegularFile(file)) {
+          files.add(file);
+        }
+      }
+    }
+    files.sort(null);
 
-            // Cast is safe because Deserializer is covariant
-            return (Optional<Deserializer<T>>)
-                (Optional) deserializers.get(ParameterizedType.of(type));
+    final DefaultConfigurationFactory<T> factory = factory();
+    final List<CompletableFuture<T>> futures = new ArrayList<>(files.size());
+    for (int i = 0; i < files.size(); i++) {
+      futures.add(new CompletableFuture<>());
+    }
+    // Each reader reads the next unread file, so the number of files read at a time is bounded
+    // even if the I/O executor starts a thread per task
+    final AtomicInteger next = new AtomicInteger();
+    final Runnable readFiles =
+        () -> {
+          int i;
+          while ((i = next.getAndIncrement()) < files.size()) {
+            final CompletableFuture<T> future = futures.get(i);
+            // Every future must complete, even if an Error is thrown, or the caller waits forever
+            try {
+              final ConfigurationSource source = reader.read(files.get(i));
+              executor.execute(
+                  () -> {
+                    try {
+                      future.complete(factory.bind(source));
+                    } catch (final Throwable e) {
+                      future.completeExceptionally(e);
+                    }
+                  });
+            } catch (final Throwable e) {
+              future.completeExceptionally(e);
+            }
           }
         };
+    for (int i = 0; i < Math.min(files.size(), MAX_CONCURRENT_READS); i++) {
+      try {
+        ioExecutor.execute(readFiles);
+      } catch (final Throwable e) {
+        // Files are left unread only if no reader was started
+        if (i == 0) {
+          futures.forEach((future) -> future.completeExceptionally(e));
+        }
+        break;
+      }
+    }
+
+    final Map<String, T> configurations = new LinkedHashMap<>();
+    final List<ConfigurationError> errors = new ArrayList<>();
+    IOException readFailure = null;
+    for (int i = 0; i < files.size(); i++) {
+      final String fileName = files.get(i).getFileName().toString();
+      final T configuration;
+      try {
+        configuration = futures.get(i).join();
+      } catch (final CompletionException e) {
+        final Throwable cause = e.getCause();
+        if (cause instanceof final ConfigurationException configurationException) {
+          errors.add(ConfigurationError.group(fileName, configurationException.errors()));
+        } else if (cause instanceof final IOException ioException) {
+          if (readFailure == null) {
+            readFailure = ioException;
+          } else {
+            readFailure.addSuppressed(ioException);
+          }
+        } else if (cause instanceof final RuntimeException runtimeException) {
+          throw runtimeException;
+        } else if (cause instanceof final Error error) {
+          throw error;
+        } else {
+          throw e;
+        }
+        continue;
+      }
+      final int extension = fileName.lastIndexOf('.');
+      final String name = extension > 0 ? fileName.substring(0, extension) : fileName;
+      if (configurations.putIfAbsent(name, configuration) != null) {
+        errors.add(
+            ConfigurationError.group(
+                fileName, ConfigurationError.error("Has the same name as another file")));
+      }
+    }
+
+    if (readFailure != null) {
+      throw readFailure;
+    }
+    if (!errors.isEmpty()) {
+      throw new ConfigurationException(errors);
+    }
+    return Collections.unmodifiableMap(configurations);
+  }
+
+  /**
+   * Creates a {@link DefaultConfigurationFactory} with the current deserializers and settings of
+   * this builder on the executor.
+   */
+  private CompletableFuture<DefaultConfigurationFactory<T>> factoryAsync() {
+    final DeserializerRegistry registry = registry();
+    final ForkJoinPool propertyPool = this.propertyPool;
+    return CompletableFuture.supplyAsync(
+        () -> new DefaultConfigurationFactory<>(schema, registry, propertyPool), executor);
+  }
+
+  private static <T> T bind(
+      final DefaultConfigurationFactory<T> factory, final ConfigurationSource source) {
+    try {
+      return factory.bind(source);
+    } catch (final ConfigurationException e) {
+      throw new CompletionException(e);
+    }
+  }
+
+  /** Reads a file on a new daemon thread. */
+  private static void startReader(final Runnable task) {
+    final Thread thread = new Thread(task, "Warp Configuration Reader");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  @Override
+  public DefaultConfigurationFactory<T> factory() {
+    return new DefaultConfigurationFactory<>(schema, registry(), propertyPool);
+  }
+
+  /** Creates a registry of the deserializers and settings this builder currently has. */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private DeserializerRegistry registry() {
+    final DeserializerRegistry.Builder registry = DeserializerRegistry.builder();
+    deserializers.forEach(
+        (type, deserializer) -> registry.deserializer((Class) type, deserializer));
+    return registry
+        .factory(new OptionalDeserializerFactory())
+        .factory(new MapDeserializerFactory(pool, parallelThreshold))
+        .factory(new ListDeserializerFactory(pool, parallelThreshold))
+        .factory(new SetDeserializerFactory())
+        .factory(new ArrayDeserializerFactory())
+        .factory(new EnumDeserializerFactory())
+        .factory(new ConfigurationDeserializerFactory(propertyPool))
+        .build();
+  }
+
+  @Override
+  public ReloadingConfiguration<T> watch(final Path path, final SourceReader reader)
+      throws ConfigurationException, IOException {
+    return watch(path, reader, DEFAULT_DEBOUNCE);
+  }
+
+  @Override
+  public ReloadingConfiguration<T> watch(
+      final Path path, final SourceReader reader, final Duration debounce)
+      throws ConfigurationException, IOException {
+    Objects.requireNonNull(path, "path cannot be null");
+    Objects.requireNonNull(reader, "reader cannot be null");
+    Objects.requireNonNull(debounce, "debounce cannot be null");
 
-    return schema
-        .deserializer(deserializers)
-        .deserialize(configuration, deserializerContext)
-        .render(RENDERER_CONTEXT);
+    return new DefaultReloadingConfiguration<>(schema, factory(), path, reader, debounce);
   }
 }
@@ -0,0 +1,119 @@
+package me.sparky983.warp.internal;
+
+import java.lang.reflect.Parameter;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import me.sparky983.warp.Configuration;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationFactory;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.ConfigurationSource;
+import me.sparky983.warp.Deserializer;
+import me.sparky983.warp.Renderer;
+import me.sparky983.warp.internal.schema.RendererCache;
+import me.sparky983.warp.internal.schema.Schema;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The default implementation of {@link ConfigurationFactory}.
+ *
+ * @param <T> the type of the {@linkplain Configuration configuration class}
+ */
+public final class DefaultConfigurationFactory<T> implements ConfigurationFactory<T> {
+  /** A cached renderer context (the context is empty). */
+  private static final Renderer.Context RENDERER_CONTEXT =
+      new Renderer.Context() {
+        private static final Object[] EMPTY_ARGUMENTS = new Object[0];
+
+        @Override
+        public Object[] arguments() {
+          return EMPTY_ARGUMENTS;
+        }
+      };
+
+  private final Deserializer<? extends T> deserializer;
+  private final Deserializer.Context deserializerContext;
+
+  /**
+   * Constructs a {@code DefaultConfigurationFactory} for the given {@link Schema}.
+   *
+   * @param schema the schema
+   * @param deserializers the deserializers
+   * @throws IllegalStateException if a type was unable to be deserialized.
+   * @throws NullPointerException if the {@link Schema} or the deserializers are {@code null}.
+   */
+  public DefaultConfigurationFactory(
+      final Schema<? extends T> schema, final DeserializerRegistry deserializers) {
+    this(schema, deserializers, null);
+  }
+
+  /**
+   * Constructs a {@code DefaultConfigurationFactory} for the given {@link Schema} that deserializes
+   * the properties of configurations in parallel.
+   *
+   * @param schema the schema
+   * @param deserializers the deserializers
+   * @param pool the pool that deserializes the properties, or {@code null} to deserialize them
+   *     sequentially
+   * @throws IllegalStateException if a type was unable to be deserialized.
+   * @throws NullPointerException if the {@link Schema} or the deserializers are {@code null}.
+   */
+  public DefaultConfigurationFactory(
+      final Schema<? extends T> schema,
+      final DeserializerRegistry deserializers,
+      final @Nullable ForkJoinPool pool) {
+    Objects.requireNonNull(schema, "schema cannot be null");
+    Objects.requireNonNull(deserializers, "deserializers cannot be null");
+
+    this.deserializer = schema.deserializer(deserializers, pool);
+    this.deserializerContext =
+        new Deserializer.Context() {
+          private static final Parameter[] EMPTY_PARAMETERS = new Parameter[0];
+
+          @Override
+          public Parameter[] parameters() {
+            return EMPTY_PARAMETERS;
+          }
+
+          @SuppressWarnings({"unchecked", "rawtypes"})
+          @Override
+          public <T> Optional<Deserializer<T>> deserializer(final Class<T> type) {
+            Objects.requireNonNull(type, "type cannot be null");
+
+            // Cast is safe because Deserializer is covariant
+            return (Optional<Deserializer<T>>) (Optional) deserializers.get(type);
+          }
+        };
+  }
+
+  @Override
+  public T bind(final ConfigurationSource source) throws ConfigurationException {
+    Objects.requireNonNull(source, "source cannot be null");
+
+    final ConfigurationNode configuration =
+        source.configuration().orElseGet(ConfigurationNode::map);
+
+    return deserializer.deserialize(configuration, deserializerContext).render(RENDERER_CONTEXT);
+  }
+
+  /**
+   * Creates an instance of the configuration class from the given configuration, reusing the
+   * renderers of unchanged properties from the given cache.
+   *
+   * @param configuration the configuration
+   * @param cache the cache
+   * @return the configuration
+   * @throws ConfigurationException if there was an error with the configuration.
+   * @throws NullPointerException if the configuration or cache is {@code null}.
+   */
+  public T bind(final ConfigurationNode configuration, final RendererCache cache)
+      throws ConfigurationException {
+    Objects.requireNonNull(configuration, "configuration cannot be null");
+    Objects.requireNonNull(cache, "cache cannot be null");
+
+    return deserializer
+        .deserialize(configuration, cache.context(deserializerContext))
+        .render(RENDERER_CONTEXT);
+  }
+}
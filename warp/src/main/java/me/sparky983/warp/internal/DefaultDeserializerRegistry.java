@@ -6,13 +6,41 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
 import me.sparky983.warp.Deserializer;
+import me.sparky983.warp.Renderer;
+import org.jspecify.annotations.Nullable;
 
-/** The default implementation of {@link DeserializerRegistry}. */
+/**
+ * The default implementation of {@link DeserializerRegistry}.
+ *
+ * <p>Deserializers created by factories are cached per type, including the absence of a
+ * deserializer. While a deserializer is being created, lookups of the same type return a
+ * placeholder which delegates to the deserializer once it has been created, so that deserializers
+ * of self-referential types are only created once.
+ */
 final class DefaultDeserializerRegistry implements DeserializerRegistry {
   private final Map<Class<?>, Deserializer<?>> deserializers;
   private final List<DeserializerFactory> factories;
 
+  /** The created deserializers. */
+  private final Map<ParameterizedType<?>, Optional<Deserializer<?>>> cache =
+      new ConcurrentHashMap<>();
+
+  /** The created deserializers of raw types, keyed by class to avoid allocations on lookup. */
+  private final Map<Class<?>, Optional<Deserializer<?>>> rawTypeCache = new ConcurrentHashMap<>();
+
+  /**
+   * The deserializers created during the current resolution, which are only added to the cache once
+   * the outermost deserializer has been successfully created. Guarded by itself.
+   */
+  private final Map<ParameterizedType<?>, Optional<Deserializer<?>>> pending = new HashMap<>();
+
+  /** The number of deserializers currently being created. Guarded by {@link #pending}. */
+  private int depth = 0;
+
   private DefaultDeserializerRegistry(
       final Map<Class<?>, Deserializer<?>> deserializers,
       final List<DeserializerFactory> factories) {
@@ -28,7 +56,7 @@ final class DefaultDeserializerRegistry implements DeserializerRegistry {
    *     Optional#empty() empty optional}
    * @param <T> the type
    */
-  @SuppressWarnings("unchecked")
+  @SuppressWarnings({"unchecked", "rawtypes"})
   public <T> Optional<Deserializer<? extends T>> get(final ParameterizedType<T> type) {
     Objects.requireNonNull(type, "type cannot be null");
 
@@ -40,6 +68,84 @@ final class DefaultDeserializerRegistry implements DeserializerRegistry {
       }
     }
 
+    {
+      final Optional<Deserializer<?>> deserializer = cache.get(type);
+      if (deserializer != null) {
+        return (Optional) deserializer;
+      }
+    }
+
+    synchronized (pending) {
+      {
+        // Either created by another thread while waiting for the lock, or currently being created
+        // by this thread
+        Optional<Deserializer<?>> deserializer = cache.get(type);
+        if (deserializer == null) {
+          deserializer = pending.get(type);
+        }
+        if (deserializer != null) {
+          return (Optional) deserializer;
+        }
+      }
+
+      final Placeholder<T> placeholder = new Placeholder<>(type);
+      pending.put(type, Optional.of(placeholder));
+      depth++;
+      boolean successful = false;
+      try {
+        final Optional<Deserializer<? extends T>> deserializer = create(type);
+        deserializer.ifPresent(placeholder::resolve);
+        pending.put(type, (Optional) deserializer);
+        successful = true;
+        return deserializer;
+      } finally {
+        depth--;
+        if (!successful) {
+          pending.remove(type);
+        }
+        if (depth == 0) {
+          // Deserializers created during a failed resolution might reference a placeholder that
+          // will never be resolved, so they are discarded
+          if (successful) {
+            cache.putAll(pending);
+          }
+          pending.clear();
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Override
+  public <T> Optional<Deserializer<? extends T>> get(final Class<T> type) {
+    Objects.requireNonNull(type, "type cannot be null");
+
+    {
+      final Deserializer<? extends T> deserializer =
+          (Deserializer<? extends T>) deserializers.get(type);
+      if (deserializer != null) {
+        return Optional.of(deserializer);
+      }
+    }
+
+    {
+      final Optional<Deserializer<?>> deserializer = rawTypeCache.get(type);
+      if (deserializer != null) {
+        return (Optional) deserializer;
+      }
+    }
+
+    final ParameterizedType<T> parameterizedType = ParameterizedType.of(type);
+    final Optional<Deserializer<? extends T>> deserializer = get(parameterizedType);
+    // Only cache deserializers that don't belong to a resolution that is still in progress
+    final Optional<Deserializer<?>> cached = cache.get(parameterizedType);
+    if (cached != null) {
+      rawTypeCache.put(type, cached);
+    }
+    return deserializer;
+  }
+
+  private <T> Optional<Deserializer<? extends T>> create(final ParameterizedType<T> type) {
     for (final DeserializerFactory factory : factories) {
       final Optional<Deserializer<? extends T>> deserializer;
       try {
@@ -63,6 +169,37 @@ final class DefaultDeserializerRegistry implements DeserializerRegistry {
     return Optional.empty();
   }
 
+  /**
+   * A deserializer that delegates to the deserializer of a type which is still being created.
+   *
+   * @param <T> the type
+   */
+  private static final class Placeholder<T> implements Deserializer<T> {
+    private final ParameterizedType<T> type;
+    private volatile @Nullable Deserializer<? extends T> deserializer;
+
+    private Placeholder(final ParameterizedType<T> type) {
+      this.type = type;
+    }
+
+    private void resolve(final Deserializer<? extends T> deserializer) {
+      this.deserializer = deserializer;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Renderer<T> deserialize(
+        final @Nullable ConfigurationNode node, final Deserializer.Context context)
+        throws DeserializationException {
+      final Deserializer<? extends T> deserializer = this.deserializer;
+      if (deserializer == null) {
+        throw new IllegalStateException("Deserializer for type " + type + " is not available");
+      }
+      // Cast is safe because Renderer is covariant
+      return (Renderer<T>) deserializer.deserialize(node, context);
+    }
+  }
+
   /** The default implementation of {@link Builder}. */
   static final class DefaultBuilder implements Builder {
     private final Map<Class<?>, Deserializer<?>> deserializers = new HashMap<>();
@@ -0,0 +1,237 @@
+package me.sparky983.warp.internal;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import me.sparky983.warp.Configuration;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.ReloadingConfiguration;
+import me.sparky983.warp.SourceReader;
+import me.sparky983.warp.internal.schema.RendererCache;
+import me.sparky983.warp.internal.schema.Schema;
+
+/**
+ * The default implementation of {@link ReloadingConfiguration}.
+ *
+ * @param <T> the type of the {@linkplain Configuration configuration class}
+ */
+public final class DefaultReloadingConfiguration<T> implements ReloadingConfiguration<T> {
+  private final Schema<? extends T> schema;
+  private final DefaultConfigurationFactory<? extends T> factory;
+  private final Path path;
+  private final Path fileName;
+  private final SourceReader reader;
+  private final long debounceNanos;
+  private final T view;
+  private final WatchService watchService;
+  private final List<Consumer<? super Exception>> failureListeners = new CopyOnWriteArrayList<>();
+  private final ChangeListeners<T> changeListeners = new ChangeListeners<>();
+
+  /** The current snapshot, which is replaced as a whole on each successful reload. */
+  private volatile T snapshot;
+
+  /** The configuration the current snapshot was built from. Guarded by {@code this}. */
+  private ConfigurationNode configuration;
+
+  /** The renderers of the current snapshot. Guarded by {@code this}. */
+  private RendererCache cache = new RendererCache();
+
+  /**
+   * Constructs a {@code DefaultReloadingConfiguration} and starts watching the given file.
+   *
+   * @param schema the schema of the configuration class
+   * @param factory the factory to build the configuration with
+   * @param path the file
+   * @param reader the reader
+   * @param debounce the debounce duration
+   * @throws ConfigurationException if there was an error with the configuration.
+   * @throws IOException if there was an error reading or watching the file.
+   * @throws IllegalArgumentException if the debounce duration is negative.
+   * @throws NullPointerException if any of the arguments are {@code null}.
+   */
+  public DefaultReloadingConfiguration(
+      final Schema<? extends T> schema,
+      final DefaultConfigurationFactory<? extends T> factory,
+      final Path path,
+      final SourceReader reader,
+      final Duration debounce)
+      throws ConfigurationException, IOException {
+    Objects.requireNonNull(schema, "schema cannot be null");
+    Objects.requireNonNull(factory, "factory cannot be null");
+    Objects.requireNonNull(path, "path cannot be null");
+    Objects.requireNonNull(reader, "reader cannot be null");
+    Objects.requireNonNull(debounce, "debounce cannot be null");
+
+    if (debounce.isNegative()) {
+      throw new IllegalArgumentException("debounce cannot be negative");
+    }
+
+    this.schema = schema;
+    this.factory = factory;
+    this.path = path.toAbsolutePath();
+    this.fileName = this.path.getFileName();
+    this.reader = reader;
+    this.debounceNanos = debounce.toNanos();
+    this.view = view(schema);
+
+    // The directory is watched before the first read so that no changes are missed
+    this.watchService = this.path.getFileSystem().newWatchService();
+    try {
+      this.path
+          .getParent()
+          .register(
+              watchService,
+              StandardWatchEventKinds.ENTRY_CREATE,
+              StandardWatchEventKinds.ENTRY_MODIFY,
+              StandardWatchEventKinds.ENTRY_DELETE);
+      this.configuration = read();
+      this.snapshot = factory.bind(configuration, cache);
+    } catch (final ConfigurationException | IOException | RuntimeException e) {
+      watchService.close();
+      throw e;
+    }
+
+    final Thread thread = new Thread(this::watch, "Warp Configuration Watcher (" + this.path + ")");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  @SuppressWarnings("unchecked")
+  private T view(final Schema<? extends T> schema) {
+    // Every snapshot is built by the factory of the schema, so it is an instance of its class
+    return ((Schema<T>) schema).view(this::get);
+  }
+
+  @Override
+  public T get() {
+    return snapshot;
+  }
+
+  @Override
+  public T view() {
+    return view;
+  }
+
+  @Override
+  public synchronized void reload() throws ConfigurationException, IOException {
+    final ConfigurationNode configuration = read();
+    // The built-in nodes memoize their hash codes and compare them first, so this hashes the new
+    // configuration once and only walks both trees in full if they are equal
+    if (configuration.equals(this.configuration)) {
+      return;
+    }
+
+    // Only the properties whose nodes changed are deserialized again
+    final RendererCache cache = this.cache.next();
+    // Nothing is published unless the whole configuration was built successfully
+    final T snapshot = factory.bind(configuration, cache);
+    final T previous = this.snapshot;
+    final ConfigurationNode previousConfiguration = this.configuration;
+    this.snapshot = snapshot;
+    this.configuration = configuration;
+    this.cache = cache;
+
+    // The reload has succeeded at this point; exceptions thrown by change listeners are not
+    // reported as a failed reload
+    changeListeners.dispatch(previousConfiguration, configuration, previous, snapshot);
+  }
+
+  private ConfigurationNode read() throws ConfigurationException, IOException {
+    return reader.read(path).configuration().orElseGet(ConfigurationNode::map);
+  }
+
+  @Override
+  public ReloadingConfiguration<T> onFailure(final Consumer<? super Exception> listener) {
+    Objects.requireNonNull(listener, "listener cannot be null");
+
+    failureListeners.add(listener);
+    return this;
+  }
+
+  @Override
+  public <R> ReloadingConfiguration<T> onChange(
+      final Function<? super T, ? extends R> property,
+      final BiConsumer<? super R, ? super R> listener) {
+    Objects.requireNonNull(property, "property cannot be null");
+    Objects.requireNonNull(listener, "listener cannot be null");
+
+    changeListeners.add(
+        schema.path(property),
+        (previous, current) -> listener.accept(property.apply(previous), property.apply(current)));
+    return this;
+  }
+
+  @Override
+  public ReloadingConfiguration<T> onChange(
+      final String path, final BiConsumer<? super T, ? super T> listener) {
+    changeListeners.add(path, listener);
+    return this;
+  }
+
+  @Override
+  public void close() throws IOException {
+    watchService.close();
+  }
+
+  /** Watches the directory of the file until the watch service is closed. */
+  private void watch() {
+    try {
+      while (true) {
+        if (!poll(watchService.take())) {
+          continue;
+        }
+        // Wait until the file has stopped changing
+        WatchKey key;
+        while ((key = watchService.poll(debounceNanos, TimeUnit.NANOSECONDS)) != null) {
+          poll(key);
+        }
+        // Nothing thrown may stop this thread, or the file would no longer be watched
+        try {
+          reload();
+        } catch (final ConfigurationException | IOException | RuntimeException e) {
+          for (final Consumer<? super Exception> listener : failureListeners) {
+            try {
+              listener.accept(e);
+            } catch (final RuntimeException | Error listenerException) {
+              ChangeListeners.uncaught(listenerException);
+            }
+          }
+        } catch (final Error e) {
+          // Such as a StackOverflowError thrown while deserializing a deep configuration
+          ChangeListeners.uncaught(e);
+        }
+      }
+    } catch (final ClosedWatchServiceException | InterruptedException e) {
+      // Closed
+    }
+  }
+
+  /**
+   * Polls the events of the given key and resets it.
+   *
+   * @return {@code true} if the file might have changed, otherwise {@code false}
+   */
+  private boolean poll(final WatchKey key) {
+    boolean changed = false;
+    for (final WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == StandardWatchEventKinds.OVERFLOW || fileName.equals(event.context())) {
+        changed = true;
+      }
+    }
+    key.reset();
+    return changed;
+  }
+}
@@ -26,6 +26,23 @@ public interface DeserializerRegistry {
    */
   <T> Optional<Deserializer<? extends T>> get(ParameterizedType<T> type);
 
+  /**
+   * Returns the deserializer for the given raw type.
+   *
+   * <p>This is equivalent to {@code get(ParameterizedType.of(type))}, but implementations may
+   * avoid allocating a {@link ParameterizedType} on each lookup.
+   *
+   * @param type the raw type
+   * @return an optional containing the deserializer for the given type if one registered, otherwise
+   *     an {@linkplain Optional#empty() empty optional}.
+   * @param <T> the type
+   * @throws NullPointerException if the type is {@code null}.
+   * @throws IllegalStateException if a deserializer for the given type could not be created.
+   */
+  default <T> Optional<Deserializer<? extends T>> get(final Class<T> type) {
+    return get(ParameterizedType.of(type));
+  }
+
   /** A {@link DeserializerRegistry} builder. */
   interface Builder {
     /**
@@ -0,0 +1,43 @@
+package me.sparky983.warp.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import me.sparky983.warp.ConfigurationException;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.ConfigurationSource;
+import me.sparky983.warp.internal.node.LayeredMapNode;
+
+/** A {@link ConfigurationSource} that deep-merges the configurations of several sources. */
+public final class LayeredConfigurationSource implements ConfigurationSource {
+  /** The sources, from the lowest precedence to the highest. */
+  private final List<ConfigurationSource> layers;
+
+  /**
+   * Constructs a {@code LayeredConfigurationSource} from the given sources.
+   *
+   * @param layers the sources, from the lowest precedence to the highest
+   * @throws NullPointerException if the sources or one of the sources are {@code null}.
+   */
+  public LayeredConfigurationSource(final List<ConfigurationSource> layers) {
+    Objects.requireNonNull(layers, "layers cannot be null");
+
+    for (int i = 0; i < layers.size(); i++) {
+      Objects.requireNonNull(layers.get(i), "layers[" + i + "] cannot be null");
+    }
+    this.layers = List.copyOf(layers);
+  }
+
+  @Override
+  public Optional<ConfigurationNode> configuration() throws ConfigurationException {
+    final List<ConfigurationNode> nodes = new ArrayList<>(layers.size());
+    for (final ConfigurationSource layer : layers) {
+      layer.configuration().ifPresent(nodes::add);
+    }
+    if (nodes.isEmpty()) {
+      return Optional.empty();
+    }
+    return Optional.of(LayeredMapNode.merge(nodes));
+  }
+}
@@ -0,0 +1,115 @@
+package me.sparky983.warp.internal;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import me.sparky983.warp.DeserializationException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Deserializes independent parts of a configuration, such as the elements of a list, in parallel.
+ *
+ * <p>Each part writes its result to its own index, so callers can report errors in the same order
+ * regardless of the order the parts were deserialized in.
+ */
+public final class ParallelDeserialization {
+  private ParallelDeserialization() {}
+
+  /** Deserializes the part with the given index. */
+  @FunctionalInterface
+  public interface Part {
+    /**
+     * Deserializes the part with the given index.
+     *
+     * @param index the index
+     * @return the result
+     * @throws DeserializationException if the part could not be deserialized.
+     */
+    @Nullable Object deserialize(int index) throws DeserializationException;
+  }
+
+  /**
+   * Deserializes each part, in parallel if a pool is given and there are at least {@code
+   * threshold} parts.
+   *
+   * <p>If this is called by a task of the given pool, such as for a list nested in a list that is
+   * already deserialized in parallel, the parts are forked from the current task instead of being
+   * submitted to the pool again.
+   *
+   * @param size the number of parts
+   * @param part the function that deserializes each part, which must be thread-safe if a pool is
+   *     given
+   * @param pool the pool, or {@code null} to deserialize the parts sequentially
+   * @param threshold the smallest number of parts that is deserialized in parallel
+   * @return the result of each part, or the {@link DeserializationException} it threw, by index
+   * @throws NullPointerException if the part is {@code null}.
+   */
+  public static @Nullable Object[] deserializeAll(
+      final int size, final Part part, final @Nullable ForkJoinPool pool, final int threshold) {
+    Objects.requireNonNull(part, "part cannot be null");
+
+    final @Nullable Object[] results = new Object[size];
+    if (pool == null || size < threshold) {
+      new PartsTask(part, results, 0, size, size).compute();
+      return results;
+    }
+
+    final int leafSize = Math.max(1, size / (pool.getParallelism() * 4));
+    final PartsTask task = new PartsTask(part, results, 0, size, leafSize);
+    if (ForkJoinTask.getPool() == pool) {
+      task.invoke();
+    } else {
+      pool.invoke(task);
+    }
+    return results;
+  }
+
+  /**
+   * Deserializes a range of parts, splitting the range in half until it has at most {@code
+   * leafSize} parts.
+   */
+  private static final class PartsTask extends RecursiveAction {
+    @Serial private static final long serialVersionUID = 1L;
+
+    // Tasks are never serialized
+    private final transient Part part;
+    private final transient @Nullable Object[] results;
+    private final int from;
+    private final int to;
+    private final int leafSize;
+
+    private PartsTask(
+        final Part part,
+        final @Nullable Object[] results,
+        final int from,
+        final int to,
+        final int leafSize) {
+      this.part = part;
+      this.results = results;
+      this.from = from;
+      this.to = to;
+      this.leafSize = leafSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from <= leafSize) {
+        for (int i = from; i < to; i++) {
+          try {
+            results[i] = part.deserialize(i);
+          } catch (final DeserializationException exception) {
+            results[i] = exception;
+          }
+        }
+        return;
+      }
+
+      final int middle = (from + to) >>> 1;
+      invokeAll(
+          new PartsTask(part, results, from, middle, leafSize),
+          new PartsTask(part, results, middle, to, leafSize));
+    }
+  }
+}
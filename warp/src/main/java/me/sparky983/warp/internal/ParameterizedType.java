@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.StringJoiner;
 import java.util.stream.Stream;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A runtime representation of a type that is optionally parameterized.
@@ -15,13 +16,25 @@ import java.util.stream.Stream;
  * @param <T> the type
  */
 public final class ParameterizedType<T> {
-  // Note: this class cannot represent arrays with generic component types
-
   private final Class<T> rawType;
   private final List<ParameterizedType<?>> typeArguments;
+  // Arrays keep their component type so that generic component types are not erased
+  private final @Nullable ParameterizedType<?> componentType;
+  // Cached because parameterized types are used as keys of the deserializer cache
+  private final int hashCode;
 
   private ParameterizedType(
       final Class<T> rawType, final List<ParameterizedType<?>> typeArguments) {
+    this(
+        rawType,
+        typeArguments,
+        rawType.isArray() ? ParameterizedType.of(rawType.getComponentType()) : null);
+  }
+
+  private ParameterizedType(
+      final Class<T> rawType,
+      final List<ParameterizedType<?>> typeArguments,
+      final @Nullable ParameterizedType<?> componentType) {
     Objects.requireNonNull(rawType, "rawType cannot be null");
 
     this.typeArguments = List.copyOf(typeArguments);
@@ -37,6 +50,8 @@ public final class ParameterizedType<T> {
     }
 
     this.rawType = rawType;
+    this.componentType = componentType;
+    this.hashCode = Objects.hash(rawType, this.typeArguments, componentType);
   }
 
   /**
@@ -90,6 +105,19 @@ public final class ParameterizedType<T> {
             .toList());
   }
 
+  /**
+   * Returns a {@code ParameterizedType} of an array with the given component type.
+   *
+   * @param componentType the component type, which may be parameterized
+   * @return the parameterized type
+   * @throws NullPointerException if the component type is {@code null}.
+   */
+  public static ParameterizedType<?> arrayOf(final ParameterizedType<?> componentType) {
+    Objects.requireNonNull(componentType, "componentType cannot be null");
+
+    return new ParameterizedType<>(componentType.rawType().arrayType(), List.of(), componentType);
+  }
+
   /**
    * Returns a {@code ParameterizedType} for the given {@link Type}.
    *
@@ -121,7 +149,7 @@ public final class ParameterizedType<T> {
       // Currently Java only supports a single bound
       return of(wildcardType.getUpperBounds()[0]);
     } else if (type instanceof final GenericArrayType genericArrayType) {
-      return of(of(genericArrayType.getGenericComponentType()).rawType().arrayType());
+      return arrayOf(of(genericArrayType.getGenericComponentType()));
     } else if (type instanceof TypeVariable<?>) {
       throw new IllegalArgumentException("Type variables are not allowed in ParameterizedType");
     } else {
@@ -147,6 +175,15 @@ public final class ParameterizedType<T> {
     return typeArguments;
   }
 
+  /**
+   * Returns the component type, including its type arguments, if this is an array type.
+   *
+   * @return the component type, or {@code null} if this is not an array type
+   */
+  public @Nullable ParameterizedType<?> componentType() {
+    return componentType;
+  }
+
   /**
    * Returns the raw types of each type arguments.
    *
@@ -185,16 +222,20 @@ public final class ParameterizedType<T> {
     }
 
     return parameterizedType.rawType().equals(rawType)
-        && parameterizedType.typeArguments().equals(typeArguments);
+        && parameterizedType.typeArguments().equals(typeArguments)
+        && Objects.equals(parameterizedType.componentType(), componentType);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(rawType, typeArguments);
+    return hashCode;
   }
 
   @Override
   public String toString() {
+    if (componentType != null) {
+      return componentType + "[]";
+    }
     if (isRaw()) {
       return rawType.getTypeName();
     }
@@ -0,0 +1,49 @@
+package me.sparky983.warp.internal.deserializers;
+
+import java.util.Map;
+import java.util.Optional;
+import me.sparky983.warp.Deserializer;
+import me.sparky983.warp.internal.DeserializerFactory;
+import me.sparky983.warp.internal.DeserializerRegistry;
+import me.sparky983.warp.internal.ParameterizedType;
+
+/** A {@link DeserializerFactory} for array types. */
+public final class ArrayDeserializerFactory implements DeserializerFactory {
+  /**
+   * The deserializers of primitive arrays that are read without boxing, by the default
+   * deserializer of their component type.
+   */
+  private static final Map<Deserializer<?>, Deserializer<?>> PRIMITIVE_ARRAYS =
+      Map.of(
+          Deserializers.INTEGER, Deserializers.INT_ARRAY,
+          Deserializers.LONG, Deserializers.LONG_ARRAY,
+          Deserializers.DOUBLE, Deserializers.DOUBLE_ARRAY);
+
+  /** Constructs a {@code ArrayDeserializerFactory}. */
+  public ArrayDeserializerFactory() {}
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> Optional<Deserializer<? extends T>> create(
+      final DeserializerRegistry registry, final ParameterizedType<? extends T> type) {
+    // The component type keeps its type arguments, such as for List<String>[]
+    final ParameterizedType<?> genericComponentType = type.componentType();
+    if (genericComponentType == null) {
+      return Optional.empty();
+    }
+    final Class<?> componentType = genericComponentType.rawType();
+
+    final Deserializer<?> deserializer =
+        registry
+            .get(genericComponentType)
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Deserializer for the elements of " + type + " not found"));
+    final Deserializer<?> primitiveArray = PRIMITIVE_ARRAYS.get(deserializer);
+    if (primitiveArray != null && componentType.isPrimitive()) {
+      return Optional.of((Deserializer<T>) primitiveArray);
+    }
+    return Optional.of((Deserializer<T>) Deserializers.array(componentType, deserializer));
+  }
+}
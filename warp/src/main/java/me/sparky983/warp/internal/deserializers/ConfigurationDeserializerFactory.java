@@ -2,18 +2,38 @@ package me.sparky983.warp.internal.deserializers;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import me.sparky983.warp.Configuration;
 import me.sparky983.warp.Deserializer;
 import me.sparky983.warp.internal.DeserializerFactory;
 import me.sparky983.warp.internal.DeserializerRegistry;
 import me.sparky983.warp.internal.ParameterizedType;
 import me.sparky983.warp.internal.schema.Schema;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A {@link DeserializerFactory} that creates for {@link Configuration @Configuration} annotated
  * types.
  */
 public final class ConfigurationDeserializerFactory implements DeserializerFactory {
+  private final @Nullable ForkJoinPool pool;
+
+  /** Constructs a {@code ConfigurationDeserializerFactory} that deserializes sequentially. */
+  public ConfigurationDeserializerFactory() {
+    this(null);
+  }
+
+  /**
+   * Constructs a {@code ConfigurationDeserializerFactory} that deserializes the properties of
+   * configurations in parallel.
+   *
+   * @param pool the pool that deserializes the properties, or {@code null} to deserialize them
+   *     sequentially
+   */
+  public ConfigurationDeserializerFactory(final @Nullable ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
   @Override
   public <T> Optional<Deserializer<? extends T>> create(
       final DeserializerRegistry registry, final ParameterizedType<? extends T> type) {
@@ -29,6 +49,6 @@ public final class ConfigurationDeserializerFactory implements DeserializerFacto
     } catch (final IllegalArgumentException e) {
       throw new IllegalStateException(e);
     }
-    return Optional.of(schema.deserializer(registry));
+    return Optional.of(schema.deserializer(registry, pool));
   }
 }
@@ -1,18 +1,26 @@
 package me.sparky983.warp.internal.deserializers;
 
+import java.lang.reflect.Array;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import me.sparky983.warp.ConfigurationError;
 import me.sparky983.warp.ConfigurationNode;
 import me.sparky983.warp.DeserializationException;
 import me.sparky983.warp.Deserializer;
 import me.sparky983.warp.Renderer;
+import me.sparky983.warp.internal.ParallelDeserialization;
 import org.jspecify.annotations.Nullable;
 
 /** Contains the default {@link Deserializer Deserializers} */
@@ -63,8 +71,78 @@ public final class Deserializers {
         return Renderer.of(node.asString());
       };
 
+  /** An {@code int[]} deserializer. */
+  public static final Deserializer<int[]> INT_ARRAY =
+      (node, context) -> {
+        Objects.requireNonNull(context, "context cannot be null");
+
+        return copies(ints(node));
+      };
+
+  /** A {@code long[]} deserializer. */
+  public static final Deserializer<long[]> LONG_ARRAY =
+      (node, context) -> {
+        Objects.requireNonNull(context, "context cannot be null");
+
+        return copies(longs(node));
+      };
+
+  /** A {@code double[]} deserializer. */
+  public static final Deserializer<double[]> DOUBLE_ARRAY =
+      (node, context) -> {
+        Objects.requireNonNull(context, "context cannot be null");
+
+        return copies(doubles(node));
+      };
+
+  /** A {@link List} of {@link Integer} deserializer, which is backed by an {@code int[]}. */
+  public static final Deserializer<List<Integer>> INTEGER_LIST =
+      (node, context) -> {
+        Objects.requireNonNull(context, "context cannot be null");
+
+        return Renderer.of(PrimitiveLists.of(ints(node)));
+      };
+
+  /** A {@link List} of {@link Long} deserializer, which is backed by a {@code long[]}. */
+  public static final Deserializer<List<Long>> LONG_LIST =
+      (node, context) -> {
+        Objects.requireNonNull(context, "context cannot be null");
+
+        return Renderer.of(PrimitiveLists.of(longs(node)));
+      };
+
+  /** A {@link List} of {@link Double} deserializer, which is backed by a {@code double[]}. */
+  public static final Deserializer<List<Double>> DOUBLE_LIST =
+      (node, context) -> {
+        Objects.requireNonNull(context, "context cannot be null");
+
+        return Renderer.of(PrimitiveLists.of(doubles(node)));
+      };
+
   private Deserializers() {}
 
+  /**
+   * Returns a renderer that renders a copy of the given array.
+   *
+   * <p>Arrays are mutable, so array renderers are never constant. Each render returns a new array,
+   * and containers of arrays such as {@code List<int[]>} are not folded into a single instance.
+   */
+  private static <T> Renderer<T> copies(final T array) {
+    return (rendererContext) -> {
+      Objects.requireNonNull(rendererContext, "rendererContext cannot be null");
+
+      return copyArray(array);
+    };
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> T copyArray(final T array) {
+    final int length = Array.getLength(array);
+    final Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+    System.arraycopy(array, 0, copy, 0, length);
+    return (T) copy;
+  }
+
   private static <T> Deserializer<T> integer(
       final long min, final long max, final Function<? super Long, ? extends T> mapper) {
     return (node, context) -> {
@@ -74,16 +152,20 @@ public final class Deserializers {
         throw new DeserializationException(ConfigurationError.error("Must be set to a value"));
       }
 
-      final long value = node.asInteger();
-      if (value < min || value > max) {
-        throw new DeserializationException(
-            ConfigurationError.error(
-                "Must be between " + min + " and " + max + " (both inclusive)"));
-      }
-      return Renderer.of(mapper.apply(value));
+      return Renderer.of(mapper.apply(integer(node, min, max)));
     };
   }
 
+  private static long integer(final ConfigurationNode node, final long min, final long max)
+      throws DeserializationException {
+    final long value = node.asInteger();
+    if (value < min || value > max) {
+      throw new DeserializationException(
+          ConfigurationError.error("Must be between " + min + " and " + max + " (both inclusive)"));
+    }
+    return value;
+  }
+
   private static <T> Deserializer<T> decimal(final Function<? super Double, ? extends T> mapper) {
     return (node, context) -> {
       Objects.requireNonNull(context, "context cannot be null");
@@ -96,6 +178,168 @@ public final class Deserializers {
     };
   }
 
+  private static int[] ints(final @Nullable ConfigurationNode node)
+      throws DeserializationException {
+    if (node == null) {
+      return new int[0];
+    }
+    final List<ConfigurationNode> list = node.asList();
+    final int[] array = new int[list.size()];
+    readElements(
+        list,
+        (i, element) -> array[i] = (int) integer(element, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    return array;
+  }
+
+  private static long[] longs(final @Nullable ConfigurationNode node)
+      throws DeserializationException {
+    if (node == null) {
+      return new long[0];
+    }
+    final List<ConfigurationNode> list = node.asList();
+    final long[] array = new long[list.size()];
+    readElements(list, (i, element) -> array[i] = element.asInteger());
+    return array;
+  }
+
+  private static double[] doubles(final @Nullable ConfigurationNode node)
+      throws DeserializationException {
+    if (node == null) {
+      return new double[0];
+    }
+    final List<ConfigurationNode> list = node.asList();
+    final double[] array = new double[list.size()];
+    readElements(list, (i, element) -> array[i] = element.asDecimal());
+    return array;
+  }
+
+  /** Reads each element of a list, grouping the errors of each element by its index. */
+  @FunctionalInterface
+  private interface ElementReader {
+    void read(int index, ConfigurationNode element) throws DeserializationException;
+  }
+
+  private static void readElements(final List<ConfigurationNode> list, final ElementReader reader)
+      throws DeserializationException {
+    final List<ConfigurationError> listErrors = new ArrayList<>();
+    for (int i = 0; i < list.size(); i++) {
+      try {
+        reader.read(i, list.get(i));
+      } catch (final DeserializationException exception) {
+        listErrors.add(ConfigurationError.group("[" + i + "]", exception.errors()));
+      }
+    }
+
+    if (!listErrors.isEmpty()) {
+      throw new DeserializationException(listErrors);
+    }
+  }
+
+  /**
+   * Creates a new array deserializer for the given component type.
+   *
+   * <p>The renderer is never constant, so each render returns a new array of newly rendered
+   * elements.
+   *
+   * @param componentType the component type of the arrays, which may be a primitive type
+   * @param elementDeserializer the deserializer for the elements; if the component type is
+   *     primitive, it must deserialize the wrapper of the component type
+   * @return the array deserializer
+   * @throws NullPointerException if the component type or element deserializer is {@code null}.
+   */
+  public static Deserializer<Object> array(
+      final Class<?> componentType, final Deserializer<?> elementDeserializer) {
+    Objects.requireNonNull(componentType, "componentType cannot be null");
+    Objects.requireNonNull(elementDeserializer, "elementDeserializer cannot be null");
+
+    final Deserializer<? extends List<?>> listDeserializer = list(elementDeserializer);
+    return (node, deserializerContext) -> {
+      Objects.requireNonNull(deserializerContext, "deserializerContext cannot be null");
+
+      final Renderer<? extends List<?>> renderer =
+          listDeserializer.deserialize(node, deserializerContext);
+      return (rendererContext) -> {
+        Objects.requireNonNull(rendererContext, "rendererContext cannot be null");
+
+        return toArray(componentType, renderer.render(rendererContext));
+      };
+    };
+  }
+
+  private static Object toArray(final Class<?> componentType, final List<?> list) {
+    final Object array = Array.newInstance(componentType, list.size());
+    for (int i = 0; i < list.size(); i++) {
+      // Unwraps the elements of primitive arrays
+      Array.set(array, i, list.get(i));
+    }
+    return array;
+  }
+
+  /**
+   * Creates a new set deserializer for the given element deserializer.
+   *
+   * <p>The sets iterate in the order of the elements in the configuration. Duplicate elements are
+   * only included once.
+   *
+   * @param elementDeserializer the deserializer for the elements
+   * @param <E> the element type
+   * @return the set deserializer
+   * @throws NullPointerException if the element deserializer is {@code null}.
+   */
+  public static <E> Deserializer<Set<E>> set(final Deserializer<? extends E> elementDeserializer) {
+    Objects.requireNonNull(elementDeserializer, "elementDeserializer cannot be null");
+
+    return mapped(
+        list(elementDeserializer),
+        (list) -> Collections.unmodifiableSet(new LinkedHashSet<>(list)));
+  }
+
+  /**
+   * Creates a new deserializer of unmodifiable sets backed by an {@link EnumSet} for the given
+   * enum type.
+   *
+   * @param type the enum type
+   * @param elementDeserializer the deserializer for the elements
+   * @param <E> the enum type
+   * @return the set deserializer
+   * @throws NullPointerException if the enum type or element deserializer is {@code null}.
+   */
+  public static <E extends Enum<E>> Deserializer<Set<E>> enumSet(
+      final Class<E> type, final Deserializer<? extends E> elementDeserializer) {
+    Objects.requireNonNull(type, "type cannot be null");
+    Objects.requireNonNull(elementDeserializer, "elementDeserializer cannot be null");
+
+    return mapped(
+        list(elementDeserializer),
+        (list) -> {
+          final EnumSet<E> set = EnumSet.noneOf(type);
+          set.addAll(list);
+          return Collections.unmodifiableSet(set);
+        });
+  }
+
+  /**
+   * Returns a deserializer that deserializes with the given deserializer, then applies the given
+   * function to each rendered value.
+   */
+  private static <A, B> Deserializer<B> mapped(
+      final Deserializer<? extends A> deserializer, final Function<? super A, ? extends B> mapper) {
+    return (node, deserializerContext) -> {
+      Objects.requireNonNull(deserializerContext, "deserializerContext cannot be null");
+
+      final Renderer<? extends A> renderer = deserializer.deserialize(node, deserializerContext);
+      if (renderer instanceof final Renderer.Constant<? extends A> constant) {
+        return Renderer.of(mapper.apply(constant.value()));
+      }
+
+      return (rendererContext) -> {
+        Objects.requireNonNull(rendererContext, "rendererContext cannot be null");
+
+        return mapper.apply(renderer.render(rendererContext));
+      };
+    };
+  }
+
   /**
    * Creates a new list deserializer for the given deserializer registry.
    *
@@ -106,6 +350,28 @@ public final class Deserializers {
    */
   public static <E extends @Nullable Object> Deserializer<List<E>> list(
       final Deserializer<? extends E> elementDeserializer) {
+    return list(elementDeserializer, null, 0);
+  }
+
+  /**
+   * Creates a new list deserializer that deserializes the elements of large lists in parallel.
+   *
+   * <p>Errors are reported in the same order as they are when the elements are deserialized
+   * sequentially.
+   *
+   * @param elementDeserializer the deserializer for the elements, which must be thread-safe if a
+   *     pool is given
+   * @param pool the pool that deserializes the elements, or {@code null} to always deserialize
+   *     them sequentially
+   * @param threshold the smallest size of list that is deserialized in parallel
+   * @param <E> the element type
+   * @return the list deserializer
+   * @throws NullPointerException if the element deserializer is {@code null}.
+   */
+  public static <E extends @Nullable Object> Deserializer<List<E>> list(
+      final Deserializer<? extends E> elementDeserializer,
+      final @Nullable ForkJoinPool pool,
+      final int threshold) {
     Objects.requireNonNull(elementDeserializer, "elementDeserializer cannot be null");
 
     return (node, deserializerContext) -> {
@@ -116,14 +382,21 @@ public final class Deserializers {
       }
 
       final List<ConfigurationNode> list = node.asList();
-      final List<Renderer<? extends E>> renderers = new ArrayList<>();
+      final @Nullable Object[] results =
+          ParallelDeserialization.deserializeAll(
+              list.size(),
+              (i) -> elementDeserializer.deserialize(list.get(i), deserializerContext),
+              pool,
+              threshold);
+      final List<Renderer<? extends E>> renderers = new ArrayList<>(results.length);
       final List<ConfigurationError> listErrors = new ArrayList<>();
-      for (int i = 0; i < list.size(); i++) {
-        final ConfigurationNode element = list.get(i);
-        try {
-          renderers.add(elementDeserializer.deserialize(element, deserializerContext));
-        } catch (final DeserializationException exception) {
+      for (int i = 0; i < results.length; i++) {
+        if (results[i] instanceof final DeserializationException exception) {
           listErrors.add(ConfigurationError.group("[" + i + "]", exception.errors()));
+        } else {
+          @SuppressWarnings("unchecked")
+          final Renderer<? extends E> renderer = (Renderer<? extends E>) results[i];
+          renderers.add(renderer);
         }
       }
 
@@ -131,6 +404,13 @@ public final class Deserializers {
         throw new DeserializationException(listErrors);
       }
 
+      if (renderers.stream().allMatch(Renderer.Constant.class::isInstance)) {
+        return Renderer.of(
+            renderers.stream()
+                .<E>map((renderer) -> ((Renderer.Constant<? extends E>) renderer).value())
+                .toList());
+      }
+
       return (rendererContext) -> {
         Objects.requireNonNull(rendererContext, "rendererContext cannot be null");
 
@@ -152,9 +432,75 @@ public final class Deserializers {
   public static <K, V> Deserializer<Map<K, V>> map(
       final Deserializer<? extends K> keyDeserializer,
       final Deserializer<? extends V> valueDeserializer) {
+    return map(keyDeserializer, valueDeserializer, null, 0);
+  }
+
+  /**
+   * Creates a new map deserializer that deserializes the entries of large maps in parallel.
+   *
+   * <p>Errors are reported in the same order as they are when the entries are deserialized
+   * sequentially.
+   *
+   * @param keyDeserializer the deserializer for the keys, which must be thread-safe if a pool is
+   *     given
+   * @param valueDeserializer the deserializer for the values, which must be thread-safe if a pool
+   *     is given
+   * @param pool the pool that deserializes the entries, or {@code null} to always deserialize them
+   *     sequentially
+   * @param threshold the smallest size of map that is deserialized in parallel
+   * @param <K> the key type
+   * @param <V> the value type
+   * @return the map deserializer
+   * @throws NullPointerException if the key deserializer or value deserializer is {@code null}.
+   */
+  public static <K, V> Deserializer<Map<K, V>> map(
+      final Deserializer<? extends K> keyDeserializer,
+      final Deserializer<? extends V> valueDeserializer,
+      final @Nullable ForkJoinPool pool,
+      final int threshold) {
+    Objects.requireNonNull(keyDeserializer, "keyDeserializer cannot be null");
+    Objects.requireNonNull(valueDeserializer, "valueDeserializer cannot be null");
+
+    return map(keyDeserializer, valueDeserializer, HashMap::new, pool, threshold);
+  }
+
+  /**
+   * Creates a new deserializer of immutable maps backed by an {@link EnumMap} for the given enum
+   * key type.
+   *
+   * @param keyType the key type
+   * @param keyDeserializer the deserializer for the keys, which must be thread-safe if a pool is
+   *     given
+   * @param valueDeserializer the deserializer for the values, which must be thread-safe if a pool
+   *     is given
+   * @param pool the pool that deserializes the entries, or {@code null} to always deserialize them
+   *     sequentially
+   * @param threshold the smallest size of map that is deserialized in parallel
+   * @param <K> the key type
+   * @param <V> the value type
+   * @return the map deserializer
+   * @throws NullPointerException if the key type, key deserializer or value deserializer is {@code
+   *     null}.
+   */
+  public static <K extends Enum<K>, V> Deserializer<Map<K, V>> enumMap(
+      final Class<K> keyType,
+      final Deserializer<? extends K> keyDeserializer,
+      final Deserializer<? extends V> valueDeserializer,
+      final @Nullable ForkJoinPool pool,
+      final int threshold) {
+    Objects.requireNonNull(keyType, "keyType cannot be null");
     Objects.requireNonNull(keyDeserializer, "keyDeserializer cannot be null");
     Objects.requireNonNull(valueDeserializer, "valueDeserializer cannot be null");
 
+    return map(keyDeserializer, valueDeserializer, () -> new EnumMap<>(keyType), pool, threshold);
+  }
+
+  private static <K, V> Deserializer<Map<K, V>> map(
+      final Deserializer<? extends K> keyDeserializer,
+      final Deserializer<? extends V> valueDeserializer,
+      final Supplier<? extends Map<K, V>> mapFactory,
+      final @Nullable ForkJoinPool pool,
+      final int threshold) {
     return (node, deserializerContext) -> {
       Objects.requireNonNull(deserializerContext, "deserializerContext cannot be null");
 
@@ -163,34 +509,43 @@ public final class Deserializers {
       }
 
       final Map<String, ConfigurationNode> map = node.asMap();
+      final @Nullable Object[] results;
+      if (pool == null || map.size() < threshold) {
+        results = new Object[map.size()];
+        int i = 0;
+        for (final Map.Entry<String, ConfigurationNode> entry : map.entrySet()) {
+          try {
+            results[i] =
+                deserializeEntry(entry, keyDeserializer, valueDeserializer, deserializerContext);
+          } catch (final DeserializationException exception) {
+            results[i] = exception;
+          }
+          i++;
+        }
+      } else {
+        // Parallel parts are read by index, so only then are the entries copied into a list
+        final List<Map.Entry<String, ConfigurationNode>> entries = List.copyOf(map.entrySet());
+        results =
+            ParallelDeserialization.deserializeAll(
+                entries.size(),
+                (i) ->
+                    deserializeEntry(
+                        entries.get(i), keyDeserializer, valueDeserializer, deserializerContext),
+                pool,
+                threshold);
+      }
       final Map<Renderer<? extends K>, Renderer<? extends V>> renderers = new HashMap<>();
       final List<ConfigurationError> mapErrors = new ArrayList<>();
+      int i = 0;
       for (final Map.Entry<String, ConfigurationNode> entry : map.entrySet()) {
-        final String key = entry.getKey();
-        final List<ConfigurationError> entryErrors = new ArrayList<>();
-
-        // Deserialize both the key and the value, even if the key deserialization fails, we can
-        // still report errors with the value
-        Renderer<? extends K> keyRenderer = null;
-        Renderer<? extends V> valueRenderer = null;
-
-        try {
-          keyRenderer =
-              keyDeserializer.deserialize(ConfigurationNode.string(key), deserializerContext);
-        } catch (final DeserializationException exception) {
-          entryErrors.addAll(exception.errors());
-        }
-
-        try {
-          valueRenderer = valueDeserializer.deserialize(entry.getValue(), deserializerContext);
-        } catch (final DeserializationException exception) {
-          entryErrors.addAll(exception.errors());
-        }
-
-        if (keyRenderer != null && valueRenderer != null) {
-          renderers.put(keyRenderer, valueRenderer);
+        final Object result = results[i++];
+        if (result instanceof final DeserializationException exception) {
+          mapErrors.add(ConfigurationError.group(entry.getKey(), exception.errors()));
         } else {
-          mapErrors.add(ConfigurationError.group(key, entryErrors));
+          @SuppressWarnings("unchecked")
+          final Map.Entry<Renderer<? extends K>, Renderer<? extends V>> renderer =
+              (Map.Entry<Renderer<? extends K>, Renderer<? extends V>>) result;
+          renderers.put(renderer.getKey(), renderer.getValue());
         }
       }
 
@@ -198,9 +553,20 @@ public final class Deserializers {
         throw new DeserializationException(mapErrors);
       }
 
+      if (renderers.keySet().stream().allMatch(Renderer.Constant.class::isInstance)
+          && renderers.values().stream().allMatch(Renderer.Constant.class::isInstance)) {
+        final Map<K, V> result = mapFactory.get();
+        renderers.forEach(
+            (key, value) ->
+                result.put(
+                    ((Renderer.Constant<? extends K>) key).value(),
+                    ((Renderer.Constant<? extends V>) value).value()));
+        return Renderer.of(Collections.unmodifiableMap(result));
+      }
+
       return (rendererContext) -> {
         Objects.requireNonNull(rendererContext, "rendererContext cannot be null");
-        final Map<K, V> result = new HashMap<>();
+        final Map<K, V> result = mapFactory.get();
         renderers.forEach(
             (key, value) -> result.put(key.render(rendererContext), value.render(rendererContext)));
         return Collections.unmodifiableMap(result);
@@ -208,6 +574,42 @@ public final class Deserializers {
     };
   }
 
+  /**
+   * Deserializes the key and value of the given entry, returning their renderers as an entry.
+   *
+   * <p>The value is deserialized even if the key can't be, so that the errors of both are
+   * reported.
+   */
+  private static <K, V> Map.Entry<Renderer<? extends K>, Renderer<? extends V>> deserializeEntry(
+      final Map.Entry<String, ConfigurationNode> entry,
+      final Deserializer<? extends K> keyDeserializer,
+      final Deserializer<? extends V> valueDeserializer,
+      final Deserializer.Context deserializerContext)
+      throws DeserializationException {
+    final List<ConfigurationError> entryErrors = new ArrayList<>();
+    Renderer<? extends K> keyRenderer = null;
+    Renderer<? extends V> valueRenderer = null;
+
+    try {
+      keyRenderer =
+          keyDeserializer.deserialize(
+              ConfigurationNode.string(entry.getKey()), deserializerContext);
+    } catch (final DeserializationException exception) {
+      entryErrors.addAll(exception.errors());
+    }
+
+    try {
+      valueRenderer = valueDeserializer.deserialize(entry.getValue(), deserializerContext);
+    } catch (final DeserializationException exception) {
+      entryErrors.addAll(exception.errors());
+    }
+
+    if (keyRenderer == null || valueRenderer == null) {
+      throw new DeserializationException(entryErrors);
+    }
+    return Map.entry(keyRenderer, valueRenderer);
+  }
+
   /**
    * Creates a new optional deserializer for the given deserializer registry.
    *
@@ -228,6 +630,9 @@ public final class Deserializers {
       }
 
       final Renderer<? extends T> renderer = valueDeserializer.deserialize(node, context);
+      if (renderer instanceof final Renderer.Constant<? extends T> constant) {
+        return Renderer.of(Optional.of(constant.value()));
+      }
 
       return (rendererContext) -> Optional.of(renderer.render(rendererContext));
     };
@@ -1,16 +1,47 @@
 package me.sparky983.warp.internal.deserializers;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import me.sparky983.warp.Deserializer;
 import me.sparky983.warp.internal.DeserializerFactory;
 import me.sparky983.warp.internal.DeserializerRegistry;
 import me.sparky983.warp.internal.ParameterizedType;
+import org.jspecify.annotations.Nullable;
 
 /** A {@link DeserializerFactory} for the {@link List} type. */
 public final class ListDeserializerFactory implements DeserializerFactory {
-  /** Constructs a {@code ListDeserializerFactory}. */
-  public ListDeserializerFactory() {}
+  /**
+   * The deserializers of lists backed by arrays of primitives, by the default deserializer of their
+   * element type.
+   */
+  private static final Map<Deserializer<?>, Deserializer<?>> PRIMITIVE_LISTS =
+      Map.of(
+          Deserializers.INTEGER, Deserializers.INTEGER_LIST,
+          Deserializers.LONG, Deserializers.LONG_LIST,
+          Deserializers.DOUBLE, Deserializers.DOUBLE_LIST);
+
+  private final @Nullable ForkJoinPool pool;
+  private final int threshold;
+
+  /** Constructs a {@code ListDeserializerFactory} that deserializes sequentially. */
+  public ListDeserializerFactory() {
+    this(null, 0);
+  }
+
+  /**
+   * Constructs a {@code ListDeserializerFactory} that deserializes the elements of large lists in
+   * parallel.
+   *
+   * @param pool the pool that deserializes the elements, or {@code null} to always deserialize
+   *     them sequentially
+   * @param threshold the smallest size of list that is deserialized in parallel
+   */
+  public ListDeserializerFactory(final @Nullable ForkJoinPool pool, final int threshold) {
+    this.pool = pool;
+    this.threshold = threshold;
+  }
 
   @SuppressWarnings("unchecked")
   @Override
@@ -31,6 +62,10 @@ public final class ListDeserializerFactory implements DeserializerFactory {
                 () ->
                     new IllegalStateException(
                         "Deserializer for the elements of " + type + " not found"));
-    return Optional.of((Deserializer<T>) Deserializers.list(deserializer));
+    final Deserializer<?> primitiveList = PRIMITIVE_LISTS.get(deserializer);
+    if (primitiveList != null) {
+      return Optional.of((Deserializer<T>) primitiveList);
+    }
+    return Optional.of((Deserializer<T>) Deserializers.list(deserializer, pool, threshold));
   }
 }
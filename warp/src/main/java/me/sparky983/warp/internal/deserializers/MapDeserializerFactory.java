@@ -2,17 +2,37 @@ package me.sparky983.warp.internal.deserializers;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 import me.sparky983.warp.Deserializer;
 import me.sparky983.warp.internal.DeserializerFactory;
 import me.sparky983.warp.internal.DeserializerRegistry;
 import me.sparky983.warp.internal.ParameterizedType;
+import org.jspecify.annotations.Nullable;
 
 /** A {@link DeserializerFactory} for the {@link Map} type. */
 public final class MapDeserializerFactory implements DeserializerFactory {
-  /** Constructs a {@code MapDeserializerFactory}. */
-  public MapDeserializerFactory() {}
+  private final @Nullable ForkJoinPool pool;
+  private final int threshold;
 
-  @SuppressWarnings("unchecked")
+  /** Constructs a {@code MapDeserializerFactory} that deserializes sequentially. */
+  public MapDeserializerFactory() {
+    this(null, 0);
+  }
+
+  /**
+   * Constructs a {@code MapDeserializerFactory} that deserializes the entries of large maps in
+   * parallel.
+   *
+   * @param pool the pool that deserializes the entries, or {@code null} to always deserialize
+   *     them sequentially
+   * @param threshold the smallest size of map that is deserialized in parallel
+   */
+  public MapDeserializerFactory(final @Nullable ForkJoinPool pool, final int threshold) {
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
   @Override
   public <T> Optional<Deserializer<? extends T>> create(
       DeserializerRegistry registry, ParameterizedType<? extends T> type) {
@@ -39,6 +59,17 @@ public final class MapDeserializerFactory implements DeserializerFactory {
                 () ->
                     new IllegalStateException(
                         "Deserializer for the values of " + type + " not found"));
-    return Optional.of((Deserializer<T>) Deserializers.map(keyDeserializer, valueDeserializer));
+    if (keyType.rawType().isEnum()) {
+      return Optional.of(
+          (Deserializer<T>)
+              Deserializers.enumMap(
+                  (Class) keyType.rawType(),
+                  (Deserializer) keyDeserializer,
+                  valueDeserializer,
+                  pool,
+                  threshold));
+    }
+    return Optional.of(
+        (Deserializer<T>) Deserializers.map(keyDeserializer, valueDeserializer, pool, threshold));
   }
 }
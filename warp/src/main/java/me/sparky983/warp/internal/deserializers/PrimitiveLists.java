@@ -0,0 +1,162 @@
+package me.sparky983.warp.internal.deserializers;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Contains immutable lists backed by arrays of primitives.
+ *
+ * <p>Each list stores its elements unboxed, so it takes far less memory than a list of wrappers.
+ * Elements are only boxed when they are read. All mutating operations throw {@link
+ * UnsupportedOperationException}.
+ */
+final class PrimitiveLists {
+  private PrimitiveLists() {}
+
+  /**
+   * Returns an immutable list backed by the given array, without copying it.
+   *
+   * @param array the array; the caller must not modify it afterwards
+   * @return the list
+   * @throws NullPointerException if the array is {@code null}.
+   */
+  static List<Integer> of(final int[] array) {
+    Objects.requireNonNull(array, "array cannot be null");
+
+    return new IntList(array);
+  }
+
+  /**
+   * Returns an immutable list backed by the given array, without copying it.
+   *
+   * @param array the array; the caller must not modify it afterwards
+   * @return the list
+   * @throws NullPointerException if the array is {@code null}.
+   */
+  static List<Long> of(final long[] array) {
+    Objects.requireNonNull(array, "array cannot be null");
+
+    return new LongList(array);
+  }
+
+  /**
+   * Returns an immutable list backed by the given array, without copying it.
+   *
+   * @param array the array; the caller must not modify it afterwards
+   * @return the list
+   * @throws NullPointerException if the array is {@code null}.
+   */
+  static List<Double> of(final double[] array) {
+    Objects.requireNonNull(array, "array cannot be null");
+
+    return new DoubleList(array);
+  }
+
+  private static final class IntList extends AbstractList<Integer> implements RandomAccess {
+    private final int[] array;
+
+    private IntList(final int[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public Integer get(final int index) {
+      return array[index];
+    }
+
+    @Override
+    public int size() {
+      return array.length;
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+      if (o instanceof final Integer value) {
+        for (int i = 0; i < array.length; i++) {
+          if (array[i] == value) {
+            return i;
+          }
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+      return indexOf(o) != -1;
+    }
+  }
+
+  private static final class LongList extends AbstractList<Long> implements RandomAccess {
+    private final long[] array;
+
+    private LongList(final long[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public Long get(final int index) {
+      return array[index];
+    }
+
+    @Override
+    public int size() {
+      return array.length;
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+      if (o instanceof final Long value) {
+        for (int i = 0; i < array.length; i++) {
+          if (array[i] == value) {
+            return i;
+          }
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+      return indexOf(o) != -1;
+    }
+  }
+
+  private static final class DoubleList extends AbstractList<Double> implements RandomAccess {
+    private final double[] array;
+
+    private DoubleList(final double[] array) {
+      this.array = array;
+    }
+
+    @Override
+    public Double get(final int index) {
+      return array[index];
+    }
+
+    @Override
+    public int size() {
+      return array.length;
+    }
+
+    @Override
+    public int indexOf(final Object o) {
+      if (o instanceof final Double value) {
+        for (int i = 0; i < array.length; i++) {
+          // Compares like Double.equals
+          if (Double.doubleToLongBits(array[i]) == Double.doubleToLongBits(value)) {
+            return i;
+          }
+        }
+      }
+      return -1;
+    }
+
+    @Override
+    public boolean contains(final Object o) {
+      return indexOf(o) != -1;
+    }
+  }
+}
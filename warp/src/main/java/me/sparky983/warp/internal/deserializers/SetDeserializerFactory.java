@@ -0,0 +1,41 @@
+package me.sparky983.warp.internal.deserializers;
+
+import java.util.Optional;
+import java.util.Set;
+import me.sparky983.warp.Deserializer;
+import me.sparky983.warp.internal.DeserializerFactory;
+import me.sparky983.warp.internal.DeserializerRegistry;
+import me.sparky983.warp.internal.ParameterizedType;
+
+/** A {@link DeserializerFactory} for the {@link Set} type. */
+public final class SetDeserializerFactory implements DeserializerFactory {
+  /** Constructs a {@code SetDeserializerFactory}. */
+  public SetDeserializerFactory() {}
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  @Override
+  public <T> Optional<Deserializer<? extends T>> create(
+      final DeserializerRegistry registry, final ParameterizedType<? extends T> type) {
+    if (type.rawType() != Set.class) {
+      return Optional.empty();
+    }
+
+    if (type.isRaw()) {
+      throw new IllegalStateException("Set must have a type argument");
+    }
+    final ParameterizedType<?> elementType = type.typeArguments().get(0);
+    final Deserializer<?> deserializer =
+        registry
+            .get(elementType)
+            .orElseThrow(
+                () ->
+                    new IllegalStateException(
+                        "Deserializer for the elements of " + type + " not found"));
+    final Class elementClass = elementType.rawType();
+    if (elementClass.isEnum()) {
+      return Optional.of(
+          (Deserializer<T>) Deserializers.enumSet(elementClass, (Deserializer) deserializer));
+    }
+    return Optional.of((Deserializer<T>) Deserializers.set(deserializer));
+  }
+}
@@ -0,0 +1,66 @@
+package me.sparky983.warp.internal.node;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable list backed by an array, which is not copied.
+ *
+ * <p>The hash code is computed once, so comparing configuration trees built from compact lists
+ * doesn't repeatedly walk the same subtrees.
+ *
+ * @param <E> the type of the elements
+ */
+public final class CompactList<E> extends AbstractList<E> implements RandomAccess {
+  private final Object[] elements;
+
+  /**
+   * The hash code, or {@code 0} if it hasn't been computed yet. The list is immutable, so racing
+   * threads may each compute it.
+   */
+  private int hashCode;
+
+  /**
+   * Constructs a {@code CompactList} backed by the given array.
+   *
+   * <p>The caller transfers ownership of the array to the list, and must not modify it afterwards.
+   *
+   * @param elements the elements, which must not be {@code null}
+   */
+  public CompactList(final Object[] elements) {
+    this.elements = elements;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(final int index) {
+    return (E) elements[index];
+  }
+
+  @Override
+  public int size() {
+    return elements.length;
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = this.hashCode;
+    if (hashCode == 0) {
+      hashCode = super.hashCode();
+      this.hashCode = hashCode;
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other instanceof final CompactList<?> list && hashCode() != list.hashCode()) {
+      return false;
+    }
+    return super.equals(other);
+  }
+}
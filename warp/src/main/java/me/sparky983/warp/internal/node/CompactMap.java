@@ -0,0 +1,259 @@
+package me.sparky983.warp.internal.node;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An immutable, insertion-ordered map backed by parallel arrays of keys and values.
+ *
+ * <p>Small maps, which most configuration maps are, are searched linearly. Larger maps also have a
+ * hash index of open-addressed positions into the arrays. Either way, the map takes far less memory
+ * than a {@link java.util.LinkedHashMap}, which needs an entry object per mapping.
+ *
+ * <p>Keys and values cannot be {@code null}. All mutating operations throw {@link
+ * UnsupportedOperationException}. The hash code is computed once, so comparing configuration
+ * trees built from compact maps doesn't repeatedly walk the same subtrees.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ */
+public final class CompactMap<K, V> extends AbstractMap<K, V> {
+  /** The largest size of map that is searched linearly. */
+  private static final int LINEAR_SEARCH_THRESHOLD = 8;
+
+  private final Object[] keys;
+  private final Object[] values;
+
+  /**
+   * The hash index, or {@code null} if the map is searched linearly. Each slot is the position of
+   * a key plus one, or {@code 0} if the slot is empty.
+   */
+  private final int @Nullable [] index;
+
+  /**
+   * The hash code, or {@code 0} if it hasn't been computed yet. The map is immutable, so racing
+   * threads may each compute it.
+   */
+  private int hashCode;
+
+  private CompactMap(final Object[] keys, final Object[] values) {
+    this.keys = keys;
+    this.values = values;
+    this.index = keys.length > LINEAR_SEARCH_THRESHOLD ? index(keys) : null;
+  }
+
+  /**
+   * Returns a {@code CompactMap} backed by the given arrays, without copying them.
+   *
+   * <p>The caller transfers ownership of the arrays to the returned map, and must not modify them
+   * afterwards.
+   *
+   * @param keys the keys, which must not be {@code null}
+   * @param values the values, which must not be {@code null}; the value of each key is at the same
+   *     position as the key
+   * @return the compact map
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @throws IllegalArgumentException if the arrays have different lengths or a key is duplicated.
+   */
+  public static <K, V> CompactMap<K, V> of(final Object[] keys, final Object[] values) {
+    if (keys.length != values.length) {
+      throw new IllegalArgumentException("keys and values must have the same length");
+    }
+    final CompactMap<K, V> map = new CompactMap<>(keys, values);
+    if (map.index == null) {
+      // Larger maps find duplicates when building the index
+      for (int i = 1; i < keys.length; i++) {
+        for (int j = 0; j < i; j++) {
+          if (keys[i].equals(keys[j])) {
+            throw duplicate(keys[i]);
+          }
+        }
+      }
+    }
+    return map;
+  }
+
+  /**
+   * Returns a {@code CompactMap} of the given map's entries, in the map's iteration order.
+   *
+   * @param map the map; changes in this map will not be reflected in the returned map
+   * @return the compact map, which is the given map if it is already a {@code CompactMap}
+   * @param <K> the type of the keys
+   * @param <V> the type of the values
+   * @throws NullPointerException if the map, one of its keys or one of its values are {@code
+   *     null}.
+   */
+  @SuppressWarnings("unchecked")
+  public static <K, V> CompactMap<K, V> copyOf(final Map<? extends K, ? extends V> map) {
+    Objects.requireNonNull(map, "map cannot be null");
+
+    if (map instanceof CompactMap) {
+      // Immutable, so it can be shared
+      return (CompactMap<K, V>) map;
+    }
+    final Object[] keys = new Object[map.size()];
+    final Object[] values = new Object[keys.length];
+    int i = 0;
+    for (final Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+      final K key = Objects.requireNonNull(entry.getKey(), "map cannot have null key");
+      final V value = entry.getValue();
+      if (value == null) {
+        throw new NullPointerException("map[" + key + "] cannot be null");
+      }
+      keys[i] = key;
+      values[i] = value;
+      i++;
+    }
+    return new CompactMap<>(keys, values);
+  }
+
+  private static int[] index(final Object[] keys) {
+    final int[] index = new int[Integer.highestOneBit(keys.length * 2 - 1) << 1];
+    final int mask = index.length - 1;
+    for (int i = 0; i < keys.length; i++) {
+      int slot = hash(keys[i]) & mask;
+      while (index[slot] != 0) {
+        if (keys[index[slot] - 1].equals(keys[i])) {
+          throw duplicate(keys[i]);
+        }
+        slot = (slot + 1) & mask;
+      }
+      index[slot] = i + 1;
+    }
+    return index;
+  }
+
+  private static IllegalArgumentException duplicate(final Object key) {
+    return new IllegalArgumentException("Duplicate key \"" + key + "\"");
+  }
+
+  private static int hash(final Object key) {
+    final int hash = key.hashCode();
+    return hash ^ (hash >>> 16);
+  }
+
+  /** Returns the position of the given key, or {@code -1} if it is absent. */
+  private int position(final @Nullable Object key) {
+    if (key == null) {
+      return -1;
+    }
+    final int[] index = this.index;
+    if (index == null) {
+      for (int i = 0; i < keys.length; i++) {
+        if (keys[i].equals(key)) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    final int mask = index.length - 1;
+    int slot = hash(key) & mask;
+    int position;
+    while ((position = index[slot]) != 0) {
+      if (keys[position - 1].equals(key)) {
+        return position - 1;
+      }
+      slot = (slot + 1) & mask;
+    }
+    return -1;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public @Nullable V get(final @Nullable Object key) {
+    final int position = position(key);
+    return position == -1 ? null : (V) values[position];
+  }
+
+  @Override
+  public boolean containsKey(final @Nullable Object key) {
+    return position(key) != -1;
+  }
+
+  @Override
+  public int size() {
+    return keys.length;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return keys.length == 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void forEach(final BiConsumer<? super K, ? super V> action) {
+    Objects.requireNonNull(action, "action cannot be null");
+
+    for (int i = 0; i < keys.length; i++) {
+      action.accept((K) keys[i], (V) values[i]);
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int hashCode = this.hashCode;
+    if (hashCode == 0) {
+      for (int i = 0; i < keys.length; i++) {
+        hashCode += keys[i].hashCode() ^ values[i].hashCode();
+      }
+      this.hashCode = hashCode;
+    }
+    return hashCode;
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    // Comparing the hash codes first means comparing nested maps that differ rarely walks them,
+    // since each hash code is only computed once
+    if (other instanceof final CompactMap<?, ?> map && hashCode() != map.hashCode()) {
+      return false;
+    }
+    return super.equals(other);
+  }
+
+  @Override
+  public Set<Map.Entry<K, V>> entrySet() {
+    return new EntrySet();
+  }
+
+  private final class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+    @Override
+    public Iterator<Map.Entry<K, V>> iterator() {
+      return new Iterator<>() {
+        private int position;
+
+        @Override
+        public boolean hasNext() {
+          return position < keys.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Map.Entry<K, V> next() {
+          if (position >= keys.length) {
+            throw new NoSuchElementException();
+          }
+          final int i = position++;
+          return Map.entry((K) keys[i], (V) values[i]);
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return keys.length;
+    }
+  }
+}
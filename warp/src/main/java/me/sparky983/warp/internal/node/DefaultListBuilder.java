@@ -0,0 +1,56 @@
+package me.sparky983.warp.internal.node;
+
+import java.util.Arrays;
+import java.util.Objects;
+import me.sparky983.warp.ConfigurationNode;
+import org.jspecify.annotations.Nullable;
+
+/** The default implementation of {@link ConfigurationNode.ListBuilder}. */
+public final class DefaultListBuilder implements ConfigurationNode.ListBuilder {
+  private Object @Nullable [] elements;
+  private int size;
+
+  /**
+   * Constructs a {@code DefaultListBuilder}.
+   *
+   * @param expectedSize the expected number of elements
+   * @throws IllegalArgumentException if the expected size is negative.
+   */
+  public DefaultListBuilder(final int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("expectedSize cannot be negative");
+    }
+
+    this.elements = new Object[expectedSize];
+  }
+
+  @Override
+  public ConfigurationNode.ListBuilder add(final ConfigurationNode element) {
+    Objects.requireNonNull(element, "element cannot be null");
+
+    Object[] elements = this.elements;
+    if (elements == null) {
+      throw new IllegalStateException("The builder has already been built");
+    }
+    if (size == elements.length) {
+      elements = Arrays.copyOf(elements, Math.max(4, size * 2));
+      this.elements = elements;
+    }
+    elements[size++] = element;
+    return this;
+  }
+
+  @Override
+  public ConfigurationNode build() {
+    final Object[] elements = this.elements;
+    if (elements == null) {
+      throw new IllegalStateException("The builder has already been built");
+    }
+    this.elements = null;
+    if (size == 0) {
+      return DefaultListNode.EMPTY;
+    }
+    return new DefaultListNode(
+        new CompactList<>(size == elements.length ? elements : Arrays.copyOf(elements, size)));
+  }
+}
@@ -1,12 +1,18 @@
 package me.sparky983.warp.internal.node;
 
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.jspecify.annotations.Nullable;
 
 /**
  * The default {@link List} implementation of {@link ConfigurationNode}.
  *
+ * <p>A list node is equal to any node that can be read as an equal list, so it can be compared
+ * with lazily read list nodes. Its hash code is the hash code of the list.
+ *
  * @param elements the list of elements
  */
 public record DefaultListNode(List<ConfigurationNode> elements) implements ConfigurationNode {
@@ -22,7 +28,14 @@ public record DefaultListNode(List<ConfigurationNode> elements) implements Confi
    *     {@code null}.
    */
   public DefaultListNode {
-    elements = List.copyOf(elements);
+    if (!(elements instanceof CompactList)) {
+      final Object[] array = elements.toArray();
+      for (final Object element : array) {
+        Objects.requireNonNull(element, "elements cannot contain null");
+      }
+      // A compact list memoizes its hash code
+      elements = array.length == 0 ? List.of() : new CompactList<>(array);
+    }
   }
 
   @Override
@@ -30,6 +43,29 @@ public record DefaultListNode(List<ConfigurationNode> elements) implements Confi
     return elements;
   }
 
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other instanceof final DefaultListNode node) {
+      return elements.equals(node.elements);
+    }
+    if (!(other instanceof final ConfigurationNode node)) {
+      return false;
+    }
+    try {
+      return elements.equals(node.asList());
+    } catch (final DeserializationException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return elements.hashCode();
+  }
+
   @Override
   public String toString() {
     return elements.stream().map(Object::toString).collect(Collectors.joining(", ", "[", "]"));
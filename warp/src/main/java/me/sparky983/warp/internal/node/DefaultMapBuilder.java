@@ -0,0 +1,65 @@
+package me.sparky983.warp.internal.node;
+
+import java.util.Arrays;
+import java.util.Objects;
+import me.sparky983.warp.ConfigurationNode;
+import org.jspecify.annotations.Nullable;
+
+/** The default implementation of {@link ConfigurationNode.MapBuilder}. */
+public final class DefaultMapBuilder implements ConfigurationNode.MapBuilder {
+  private Object @Nullable [] keys;
+  private Object[] values;
+  private int size;
+
+  /**
+   * Constructs a {@code DefaultMapBuilder}.
+   *
+   * @param expectedSize the expected number of entries
+   * @throws IllegalArgumentException if the expected size is negative.
+   */
+  public DefaultMapBuilder(final int expectedSize) {
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("expectedSize cannot be negative");
+    }
+
+    this.keys = new Object[expectedSize];
+    this.values = new Object[expectedSize];
+  }
+
+  @Override
+  public ConfigurationNode.MapBuilder put(final String key, final ConfigurationNode value) {
+    Objects.requireNonNull(key, "key cannot be null");
+    Objects.requireNonNull(value, "value cannot be null");
+
+    Object[] keys = this.keys;
+    if (keys == null) {
+      throw new IllegalStateException("The builder has already been built");
+    }
+    if (size == keys.length) {
+      final int capacity = Math.max(4, size * 2);
+      keys = Arrays.copyOf(keys, capacity);
+      values = Arrays.copyOf(values, capacity);
+      this.keys = keys;
+    }
+    keys[size] = key;
+    values[size] = value;
+    size++;
+    return this;
+  }
+
+  @Override
+  public ConfigurationNode build() {
+    final Object[] keys = this.keys;
+    if (keys == null) {
+      throw new IllegalStateException("The builder has already been built");
+    }
+    this.keys = null;
+    if (size == 0) {
+      return DefaultMapNode.EMPTY;
+    }
+    final boolean full = size == keys.length;
+    return new DefaultMapNode(
+        CompactMap.of(
+            full ? keys : Arrays.copyOf(keys, size), full ? values : Arrays.copyOf(values, size)));
+  }
+}
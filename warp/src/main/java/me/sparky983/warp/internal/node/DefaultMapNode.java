@@ -1,15 +1,17 @@
 package me.sparky983.warp.internal.node;
 
-import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
 import java.util.stream.Collectors;
 import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.jspecify.annotations.Nullable;
 
 /**
  * The default {@link Map} implementation of {@link ConfigurationNode}.
  *
+ * <p>A map node is equal to any node that can be read as an equal map, so it can be compared with
+ * lazily read and merged map nodes. Its hash code is the hash code of the map.
+ *
  * @param map the map
  */
 public record DefaultMapNode(Map<String, ConfigurationNode> map) implements ConfigurationNode {
@@ -25,18 +27,7 @@ public record DefaultMapNode(Map<String, ConfigurationNode> map) implements Conf
    *     null}
    */
   public DefaultMapNode {
-    if (map.isEmpty()) {
-      map = Map.of();
-    } else {
-      map = Collections.unmodifiableMap(new LinkedHashMap<>(map));
-      map.forEach(
-          (key, value) -> {
-            Objects.requireNonNull(key, "map cannot have null key");
-            if (value == null) {
-              throw new NullPointerException("map[" + key + "] cannot be null");
-            }
-          });
-    }
+    map = map.isEmpty() ? Map.of() : CompactMap.copyOf(map);
   }
 
   @Override
@@ -44,6 +35,29 @@ public record DefaultMapNode(Map<String, ConfigurationNode> map) implements Conf
     return map;
   }
 
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other instanceof final DefaultMapNode node) {
+      return map.equals(node.map);
+    }
+    if (!(other instanceof final ConfigurationNode node)) {
+      return false;
+    }
+    try {
+      return map.equals(node.asMap());
+    } catch (final DeserializationException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return map.hashCode();
+  }
+
   @Override
   public String toString() {
     return map.entrySet().stream()
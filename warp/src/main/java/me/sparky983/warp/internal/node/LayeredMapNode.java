@@ -0,0 +1,273 @@
+package me.sparky983.warp.internal.node;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A {@link Map} node that deep-merges the maps of several layers, where later layers take
+ * precedence.
+ *
+ * <p>The merge is lazy: the keys are only collected once the map is iterated, and the value of each
+ * key is only merged once it is read. A value that only one layer has is shared rather than copied.
+ *
+ * <p>A layered node is equal to any node that can be read as a map equal to its merged map, so it
+ * is equal to a plain map node with the same entries. Its hash code is the hash code of the merged
+ * map.
+ */
+public final class LayeredMapNode implements ConfigurationNode {
+  /** The maps of the layers, from the lowest precedence to the highest. */
+  private final List<Map<String, ConfigurationNode>> layers;
+
+  /**
+   * The merged map. Creating it has no side effects, so racing threads may each create the map
+   * without synchronization.
+   */
+  private volatile @Nullable LayeredMap map;
+
+  private LayeredMapNode(final List<Map<String, ConfigurationNode>> layers) {
+    this.layers = layers;
+  }
+
+  /**
+   * Merges the given nodes, where later nodes take precedence.
+   *
+   * <p>If the node with the highest precedence is a map, it is merged with the maps below it, down
+   * to the first node that isn't a map. Otherwise, it replaces the nodes below it. If no merge is
+   * needed, one of the given nodes is returned as is.
+   *
+   * @param nodes the nodes, from the lowest precedence to the highest
+   * @return the merged node
+   * @throws IllegalArgumentException if there are no nodes.
+   * @throws NullPointerException if the nodes or one of the nodes are {@code null}.
+   */
+  public static ConfigurationNode merge(final List<? extends ConfigurationNode> nodes) {
+    Objects.requireNonNull(nodes, "nodes cannot be null");
+    if (nodes.isEmpty()) {
+      throw new IllegalArgumentException("nodes cannot be empty");
+    }
+
+    final ConfigurationNode top =
+        Objects.requireNonNull(nodes.get(nodes.size() - 1), "nodes cannot contain null");
+    final List<Map<String, ConfigurationNode>> maps = new ArrayList<>();
+    // The node of the only non-empty map, which can be returned if it is the only one
+    ConfigurationNode mapNode = top;
+    for (int i = nodes.size() - 1; i >= 0; i--) {
+      final ConfigurationNode node =
+          Objects.requireNonNull(nodes.get(i), "nodes cannot contain null");
+      final Map<String, ConfigurationNode> map;
+      try {
+        map = node.asMap();
+      } catch (final DeserializationException e) {
+        // A node that isn't a map hides the layers below it
+        break;
+      }
+      if (!map.isEmpty()) {
+        maps.add(map);
+        mapNode = node;
+      }
+    }
+
+    if (maps.size() <= 1) {
+      return mapNode;
+    }
+    Collections.reverse(maps);
+    return new LayeredMapNode(List.copyOf(maps));
+  }
+
+  private LayeredMap map() {
+    LayeredMap map = this.map;
+    if (map == null) {
+      map = new LayeredMap(layers);
+      this.map = map;
+    }
+    return map;
+  }
+
+  @Override
+  public Map<String, ConfigurationNode> asMap() {
+    return map();
+  }
+
+  @Override
+  public boolean equals(final @Nullable Object other) {
+    if (this == other) {
+      return true;
+    }
+    if (other instanceof final LayeredMapNode layered) {
+      return map().equals(layered.map());
+    }
+    if (!(other instanceof final ConfigurationNode node)) {
+      return false;
+    }
+    try {
+      return map().equals(node.asMap());
+    } catch (final DeserializationException e) {
+      return false;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    return map().hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return map().entrySet().stream()
+        .map((entry) -> entry.getKey() + "=" + entry.getValue())
+        .collect(Collectors.joining(", ", "{", "}"));
+  }
+
+  /** An unmodifiable map that lazily merges the values of its layers. */
+  private static final class LayeredMap extends AbstractMap<String, ConfigurationNode> {
+    private final List<Map<String, ConfigurationNode>> layers;
+
+    /** The values of the keys that more than one layer has, once they have been merged. */
+    private final Map<String, ConfigurationNode> merged = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of every layer, in the order they first appear. Collecting the keys has no side
+     * effects, so racing threads may each collect them without synchronization.
+     */
+    private volatile String @Nullable [] keys;
+
+    /**
+     * The hash code, or {@code 0} if it hasn't been computed yet. The merged map never changes, so
+     * racing threads may each compute it.
+     */
+    private int hashCode;
+
+    private LayeredMap(final List<Map<String, ConfigurationNode>> layers) {
+      this.layers = layers;
+    }
+
+    private String[] keys() {
+      String[] keys = this.keys;
+      if (keys == null) {
+        final Set<String> keySet = new LinkedHashSet<>();
+        for (final Map<String, ConfigurationNode> layer : layers) {
+          keySet.addAll(layer.keySet());
+        }
+        keys = keySet.toArray(new String[0]);
+        this.keys = keys;
+      }
+      return keys;
+    }
+
+    @Override
+    public @Nullable ConfigurationNode get(final @Nullable Object key) {
+      if (!(key instanceof final String string)) {
+        return null;
+      }
+      final ConfigurationNode cached = merged.get(string);
+      if (cached != null) {
+        return cached;
+      }
+
+      ConfigurationNode only = null;
+      List<ConfigurationNode> nodes = null;
+      for (final Map<String, ConfigurationNode> layer : layers) {
+        final ConfigurationNode node = layer.get(string);
+        if (node == null) {
+          continue;
+        }
+        if (only == null) {
+          only = node;
+        } else {
+          if (nodes == null) {
+            nodes = new ArrayList<>(layers.size());
+            nodes.add(only);
+          }
+          nodes.add(node);
+        }
+      }
+      if (nodes == null) {
+        return only;
+      }
+      final List<ConfigurationNode> layerNodes = nodes;
+      return merged.computeIfAbsent(string, (k) -> LayeredMapNode.merge(layerNodes));
+    }
+
+    @Override
+    public boolean containsKey(final @Nullable Object key) {
+      for (final Map<String, ConfigurationNode> layer : layers) {
+        if (layer.containsKey(key)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    @Override
+    public int size() {
+      return keys().length;
+    }
+
+    @Override
+    public int hashCode() {
+      int hashCode = this.hashCode;
+      if (hashCode == 0) {
+        hashCode = super.hashCode();
+        this.hashCode = hashCode;
+      }
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(final @Nullable Object other) {
+      if (this == other) {
+        return true;
+      }
+      if (other instanceof final LayeredMap map && hashCode() != map.hashCode()) {
+        return false;
+      }
+      return super.equals(other);
+    }
+
+    @Override
+    public Set<Entry<String, ConfigurationNode>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<String, ConfigurationNode>> iterator() {
+          final String[] keys = keys();
+          return new Iterator<>() {
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+              return position < keys.length;
+            }
+
+            @Override
+            public Entry<String, ConfigurationNode> next() {
+              if (!hasNext()) {
+                throw new NoSuchElementException();
+              }
+              final String key = keys[position++];
+              return Map.entry(key, get(key));
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return keys().length;
+        }
+      };
+    }
+  }
+}
@@ -0,0 +1,501 @@
+package me.sparky983.warp.internal.schema;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A minimal class file writer.
+ *
+ * <p>Only the subset of the class file format required by {@link HiddenClassImplementation} is
+ * supported. Notably, there is no support for branches, so no stack map frames are ever written.
+ */
+final class ClassFileWriter {
+  /** The class file version for Java 17. */
+  private static final int VERSION = 61;
+
+  static final int ACC_PUBLIC = 0x0001;
+  static final int ACC_PRIVATE = 0x0002;
+  static final int ACC_FINAL = 0x0010;
+  static final int ACC_SUPER = 0x0020;
+  static final int ACC_SYNTHETIC = 0x1000;
+
+  static final int ACONST_NULL = 0x01;
+  static final int ICONST_0 = 0x03;
+  static final int BIPUSH = 0x10;
+  static final int SIPUSH = 0x11;
+  static final int LDC_W = 0x13;
+  static final int ILOAD = 0x15;
+  static final int LLOAD = 0x16;
+  static final int FLOAD = 0x17;
+  static final int DLOAD = 0x18;
+  static final int ALOAD = 0x19;
+  static final int AALOAD = 0x32;
+  static final int AASTORE = 0x53;
+  static final int POP = 0x57;
+  static final int DUP = 0x59;
+  static final int IRETURN = 0xac;
+  static final int LRETURN = 0xad;
+  static final int FRETURN = 0xae;
+  static final int DRETURN = 0xaf;
+  static final int ARETURN = 0xb0;
+  static final int RETURN = 0xb1;
+  static final int GETFIELD = 0xb4;
+  static final int PUTFIELD = 0xb5;
+  static final int INVOKEVIRTUAL = 0xb6;
+  static final int INVOKESPECIAL = 0xb7;
+  static final int INVOKESTATIC = 0xb8;
+  static final int INVOKEINTERFACE = 0xb9;
+  static final int ANEWARRAY = 0xbd;
+  static final int CHECKCAST = 0xc0;
+
+  private static final int CONSTANT_UTF8 = 1;
+  private static final int CONSTANT_INTEGER = 3;
+  private static final int CONSTANT_CLASS = 7;
+  private static final int CONSTANT_STRING = 8;
+  private static final int CONSTANT_FIELDREF = 9;
+  private static final int CONSTANT_METHODREF = 10;
+  private static final int CONSTANT_INTERFACE_METHODREF = 11;
+  private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+  private final ByteArrayOutputStream constantPoolBytes = new ByteArrayOutputStream();
+  private final DataOutputStream constantPool = new DataOutputStream(constantPoolBytes);
+  private final Map<String, Integer> constants = new HashMap<>();
+  private int constantCount = 1;
+
+  private final List<byte[]> fields = new ArrayList<>();
+  private final List<byte[]> methods = new ArrayList<>();
+
+  private final int access;
+  private final int thisClass;
+  private final int superClass;
+  private final int[] interfaces;
+
+  /**
+   * Constructs a {@code ClassFileWriter}.
+   *
+   * @param access the access flags of the class
+   * @param name the internal name of the class
+   * @param superName the internal name of the super class
+   * @param interfaceNames the internal names of the implemented interfaces
+   * @throws NullPointerException if the name, super name or interface names are {@code null}.
+   */
+  ClassFileWriter(
+      final int access,
+      final String name,
+      final String superName,
+      final String... interfaceNames) {
+    Objects.requireNonNull(name, "name cannot be null");
+    Objects.requireNonNull(superName, "superName cannot be null");
+    Objects.requireNonNull(interfaceNames, "interfaceNames cannot be null");
+
+    this.access = access;
+    this.thisClass = classConstant(name);
+    this.superClass = classConstant(superName);
+    this.interfaces = new int[interfaceNames.length];
+    for (int i = 0; i < interfaceNames.length; i++) {
+      interfaces[i] = classConstant(interfaceNames[i]);
+    }
+  }
+
+  /**
+   * Returns the internal name or, for arrays, the descriptor of the given class, as used by
+   * {@code CONSTANT_Class_info} structures.
+   *
+   * @param type the class
+   * @return the internal name
+   */
+  static String internalName(final Class<?> type) {
+    if (type.isArray()) {
+      return type.descriptorString();
+    }
+    return type.getName().replace('.', '/');
+  }
+
+  private int constant(final String key, final Writer writer) {
+    final Integer existing = constants.get(key);
+    if (existing != null) {
+      return existing;
+    }
+    try {
+      writer.write(constantPool);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    final int index = constantCount++;
+    constants.put(key, index);
+    return index;
+  }
+
+  private int utf8Constant(final String value) {
+    return constant(
+        "Utf8:" + value,
+        (out) -> {
+          out.writeByte(CONSTANT_UTF8);
+          out.writeUTF(value);
+        });
+  }
+
+  int classConstant(final String internalName) {
+    final int name = utf8Constant(internalName);
+    return constant(
+        "Class:" + internalName,
+        (out) -> {
+          out.writeByte(CONSTANT_CLASS);
+          out.writeShort(name);
+        });
+  }
+
+  int stringConstant(final String value) {
+    final int utf8 = utf8Constant(value);
+    return constant(
+        "String:" + value,
+        (out) -> {
+          out.writeByte(CONSTANT_STRING);
+          out.writeShort(utf8);
+        });
+  }
+
+  private int integerConstant(final int value) {
+    return constant(
+        "Integer:" + value,
+        (out) -> {
+          out.writeByte(CONSTANT_INTEGER);
+          out.writeInt(value);
+        });
+  }
+
+  private int nameAndTypeConstant(final String name, final String descriptor) {
+    final int nameIndex = utf8Constant(name);
+    final int descriptorIndex = utf8Constant(descriptor);
+    return constant(
+        "NameAndType:" + name + ":" + descriptor,
+        (out) -> {
+          out.writeByte(CONSTANT_NAME_AND_TYPE);
+          out.writeShort(nameIndex);
+          out.writeShort(descriptorIndex);
+        });
+  }
+
+  private int memberConstant(
+      final int tag, final String owner, final String name, final String descriptor) {
+    final int ownerIndex = classConstant(owner);
+    final int nameAndType = nameAndTypeConstant(name, descriptor);
+    return constant(
+        tag + ":" + owner + "." + name + ":" + descriptor,
+        (out) -> {
+          out.writeByte(tag);
+          out.writeShort(ownerIndex);
+          out.writeShort(nameAndType);
+        });
+  }
+
+  /**
+   * Adds a field to the class.
+   *
+   * @param access the access flags
+   * @param name the name of the field
+   * @param descriptor the descriptor of the field
+   */
+  void field(final int access, final String name, final String descriptor) {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream out = new DataOutputStream(bytes);
+    try {
+      out.writeShort(access);
+      out.writeShort(utf8Constant(name));
+      out.writeShort(utf8Constant(descriptor));
+      out.writeShort(0); // attributes
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    fields.add(bytes.toByteArray());
+  }
+
+  /**
+   * Adds a method to the class.
+   *
+   * @param access the access flags
+   * @param name the name of the method
+   * @param descriptor the descriptor of the method
+   * @param maxLocals the maximum number of local variable slots used by the method
+   * @return a writer for the code of the method; {@link Code#end()} must be called once the code
+   *     has been written
+   */
+  Code method(final int access, final String name, final String descriptor, final int maxLocals) {
+    return new Code(access, utf8Constant(name), utf8Constant(descriptor), maxLocals);
+  }
+
+  /**
+   * Returns the bytes of the class file.
+   *
+   * @return the bytes
+   */
+  byte[] toByteArray() {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    final DataOutputStream out = new DataOutputStream(bytes);
+    try {
+      final int codeAttribute = utf8Constant("Code");
+      out.writeInt(0xCAFEBABE);
+      out.writeShort(0); // minor version
+      out.writeShort(VERSION);
+      out.writeShort(constantCount);
+      constantPoolBytes.writeTo(out);
+      out.writeShort(access);
+      out.writeShort(thisClass);
+      out.writeShort(superClass);
+      out.writeShort(interfaces.length);
+      for (final int i : interfaces) {
+        out.writeShort(i);
+      }
+      out.writeShort(fields.size());
+      for (final byte[] field : fields) {
+        out.write(field);
+      }
+      out.writeShort(methods.size());
+      for (final byte[] method : methods) {
+        // The index of the "Code" attribute name is only known once all constants are added
+        out.write(method, 0, 6);
+        out.writeShort(1); // attributes
+        out.writeShort(codeAttribute);
+        out.write(method, 6, method.length - 6);
+      }
+      out.writeShort(0); // attributes
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  @FunctionalInterface
+  private interface Writer {
+    void write(DataOutputStream out) throws IOException;
+  }
+
+  /** A writer for the {@code Code} attribute of a method. */
+  final class Code {
+    private final ByteArrayOutputStream code = new ByteArrayOutputStream();
+    private final int access;
+    private final int name;
+    private final int descriptor;
+    private final int maxLocals;
+    private int stack = 0;
+    private int maxStack = 0;
+
+    private Code(final int access, final int name, final int descriptor, final int maxLocals) {
+      this.access = access;
+      this.name = name;
+      this.descriptor = descriptor;
+      this.maxLocals = maxLocals;
+    }
+
+    private Code op(final int opcode, final int stackChange) {
+      code.write(opcode);
+      stack += stackChange;
+      maxStack = Math.max(maxStack, stack);
+      return this;
+    }
+
+    private void u2(final int value) {
+      code.write(value >>> 8);
+      code.write(value);
+    }
+
+    /**
+     * Writes an instruction with no operands.
+     *
+     * @param opcode the opcode
+     * @param stackChange the change in the operand stack size caused by the instruction
+     * @return this writer
+     */
+    Code insn(final int opcode, final int stackChange) {
+      return op(opcode, stackChange);
+    }
+
+    /**
+     * Writes a local variable load instruction.
+     *
+     * @param type the type of the variable
+     * @param slot the slot of the variable
+     * @return this writer
+     */
+    Code load(final Class<?> type, final int slot) {
+      final int opcode;
+      if (type == long.class) {
+        opcode = LLOAD;
+      } else if (type == double.class) {
+        opcode = DLOAD;
+      } else if (type == float.class) {
+        opcode = FLOAD;
+      } else if (type.isPrimitive()) {
+        opcode = ILOAD;
+      } else {
+        opcode = ALOAD;
+      }
+      op(opcode, slots(type));
+      code.write(slot);
+      return this;
+    }
+
+    /**
+     * Writes the instruction that returns a value of the given type.
+     *
+     * @param type the type
+     * @return this writer
+     */
+    Code returnValue(final Class<?> type) {
+      if (type == void.class) {
+        return op(RETURN, 0);
+      } else if (type == long.class) {
+        return op(LRETURN, -2);
+      } else if (type == double.class) {
+        return op(DRETURN, -2);
+      } else if (type == float.class) {
+        return op(FRETURN, -1);
+      } else if (type.isPrimitive()) {
+        return op(IRETURN, -1);
+      } else {
+        return op(ARETURN, -1);
+      }
+    }
+
+    /**
+     * Writes the most compact instruction that pushes the given {@code int}.
+     *
+     * @param value the value
+     * @return this writer
+     */
+    Code push(final int value) {
+      if (value >= -1 && value <= 5) {
+        return op(ICONST_0 + value, 1);
+      } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+        op(BIPUSH, 1);
+        code.write(value);
+      } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+        op(SIPUSH, 1);
+        u2(value);
+      } else {
+        op(LDC_W, 1);
+        u2(integerConstant(value));
+      }
+      return this;
+    }
+
+    /**
+     * Writes an {@code ldc_w} instruction that pushes the given string.
+     *
+     * @param value the string
+     * @return this writer
+     */
+    Code push(final String value) {
+      op(LDC_W, 1);
+      u2(stringConstant(value));
+      return this;
+    }
+
+    /**
+     * Writes an instruction that takes a class operand.
+     *
+     * @param opcode the opcode
+     * @param internalName the internal name of the class
+     * @param stackChange the change in the operand stack size caused by the instruction
+     * @return this writer
+     */
+    Code type(final int opcode, final String internalName, final int stackChange) {
+      op(opcode, stackChange);
+      u2(classConstant(internalName));
+      return this;
+    }
+
+    /**
+     * Writes a field access instruction.
+     *
+     * @param opcode the opcode
+     * @param owner the internal name of the owner of the field
+     * @param name the name of the field
+     * @param descriptor the descriptor of the field
+     * @return this writer
+     */
+    Code field(final int opcode, final String owner, final String name, final String descriptor) {
+      final int size = descriptor.equals("J") || descriptor.equals("D") ? 2 : 1;
+      op(opcode, opcode == GETFIELD ? size - 1 : -size - 1);
+      u2(memberConstant(CONSTANT_FIELDREF, owner, name, descriptor));
+      return this;
+    }
+
+    /**
+     * Writes a method invocation instruction.
+     *
+     * @param opcode the opcode
+     * @param owner the internal name of the owner of the method
+     * @param isInterface whether the owner is an interface
+     * @param name the name of the method
+     * @param descriptor the descriptor of the method
+     * @param argumentSlots the number of slots taken by the arguments, including the receiver
+     * @param returnSlots the number of slots taken by the return value
+     * @return this writer
+     */
+    Code invoke(
+        final int opcode,
+        final String owner,
+        final boolean isInterface,
+        final String name,
+        final String descriptor,
+        final int argumentSlots,
+        final int returnSlots) {
+      op(opcode, returnSlots - argumentSlots);
+      u2(
+          memberConstant(
+              isInterface ? CONSTANT_INTERFACE_METHODREF : CONSTANT_METHODREF,
+              owner,
+              name,
+              descriptor));
+      if (opcode == INVOKEINTERFACE) {
+        code.write(argumentSlots);
+        code.write(0);
+      }
+      return this;
+    }
+
+    /** Finishes writing the method. */
+    void end() {
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      final DataOutputStream out = new DataOutputStream(bytes);
+      try {
+        out.writeShort(access);
+        out.writeShort(name);
+        out.writeShort(descriptor);
+        // The attribute count and name are written by toByteArray()
+        out.writeInt(12 + code.size()); // attribute length
+        out.writeShort(maxStack);
+        out.writeShort(maxLocals);
+        out.writeInt(code.size());
+        code.writeTo(out);
+        out.writeShort(0); // exception table
+        out.writeShort(0); // attributes
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      methods.add(bytes.toByteArray());
+    }
+  }
+
+  /**
+   * Returns the number of local variable or operand stack slots taken by a value of the given
+   * type.
+   *
+   * @param type the type
+   * @return the number of slots
+   */
+  static int slots(final Class<?> type) {
+    if (type == void.class) {
+      return 0;
+    }
+    return type == long.class || type == double.class ? 2 : 1;
+  }
+}
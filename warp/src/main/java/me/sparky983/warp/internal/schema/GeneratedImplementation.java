@@ -0,0 +1,117 @@
+package me.sparky983.warp.internal.schema;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import me.sparky983.warp.Renderer;
+import me.sparky983.warp.generated.GeneratedConfiguration;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link Implementation} backed by a {@linkplain GeneratedConfiguration generated schema}.
+ *
+ * @param <T> the type of the configuration class
+ */
+final class GeneratedImplementation<T> implements Implementation<T> {
+  /**
+   * The renderer returned by {@link #defaultRenderer(int)}.
+   *
+   * <p>It is never invoked; it is replaced by a {@code null} renderer in {@link
+   * #newInstance(Renderer.Context, Object[])}, which causes the generated implementation to invoke
+   * the default implementation directly.
+   */
+  private static final InternalRenderer<?> DEFAULT_RENDERER =
+      (configuration, context, arguments) -> {
+        throw new AssertionError("The default renderer cannot be invoked");
+      };
+
+  private final GeneratedConfiguration<T> generated;
+
+  /**
+   * Constructs a {@code GeneratedImplementation}.
+   *
+   * @param generated the generated schema
+   * @throws NullPointerException if the generated schema is {@code null}.
+   */
+  GeneratedImplementation(final GeneratedConfiguration<T> generated) {
+    Objects.requireNonNull(generated, "generated cannot be null");
+
+    this.generated = generated;
+  }
+
+  /**
+   * Finds the {@linkplain GeneratedConfiguration generated schema} of the given configuration
+   * class.
+   *
+   * <p>The generated schema is a class named after the configuration class with the {@value
+   * GeneratedConfiguration#SUFFIX} suffix, in the same package and class loader as the
+   * configuration class.
+   *
+   * @param configurationClass the configuration class
+   * @return the generated schema, or {@code null} if the configuration class doesn't have one
+   * @param <T> the type of the configuration class
+   * @throws NullPointerException if the configuration class is {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> @Nullable GeneratedConfiguration<T> find(final Class<T> configurationClass) {
+    Objects.requireNonNull(configurationClass, "configurationClass cannot be null");
+
+    final Class<?> generatedClass;
+    try {
+      generatedClass =
+          Class.forName(
+              configurationClass.getName() + GeneratedConfiguration.SUFFIX,
+              true,
+              configurationClass.getClassLoader());
+    } catch (final ClassNotFoundException | LinkageError e) {
+      return null;
+    }
+
+    if (!GeneratedConfiguration.class.isAssignableFrom(generatedClass)) {
+      return null;
+    }
+
+    final GeneratedConfiguration<?> generated;
+    try {
+      generated = (GeneratedConfiguration<?>) generatedClass.getConstructor().newInstance();
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      // The generated class might not be accessible, in which case we fall back to reflection
+      return null;
+    }
+
+    if (generated.configurationClass() != configurationClass) {
+      return null;
+    }
+    return (GeneratedConfiguration<T>) generated;
+  }
+
+  @Override
+  public T newInstance(final Renderer.Context context, final Object[] properties) {
+    Objects.requireNonNull(context, "context cannot be null");
+    Objects.requireNonNull(properties, "properties cannot be null");
+
+    // Internal renderers are property renderers, so only the default renderers are replaced
+    final @Nullable Object[] generatedProperties = properties.clone();
+    for (int i = 0; i < generatedProperties.length; i++) {
+      if (generatedProperties[i] == DEFAULT_RENDERER) {
+        generatedProperties[i] = null;
+      }
+    }
+    return generated.newInstance(context, generatedProperties);
+  }
+
+  @Override
+  public T newView(final Supplier<? extends T> snapshot) {
+    Objects.requireNonNull(snapshot, "snapshot cannot be null");
+
+    return generated.newView(snapshot);
+  }
+
+  @Override
+  public InternalRenderer<?> defaultRenderer(final int index) {
+    if (!generated.properties().get(index).isDefault()) {
+      throw new IllegalArgumentException(
+          "Method " + generated.properties().get(index).name() + " must be a default method");
+    }
+    return DEFAULT_RENDERER;
+  }
+}
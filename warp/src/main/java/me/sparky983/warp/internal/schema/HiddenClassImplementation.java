@@ -0,0 +1,428 @@
+package me.sparky983.warp.internal.schema;
+
+import static me.sparky983.warp.internal.schema.ClassFileWriter.AALOAD;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.AASTORE;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ACC_FINAL;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ACC_PRIVATE;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ACC_PUBLIC;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ACC_SUPER;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ACC_SYNTHETIC;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ACONST_NULL;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ANEWARRAY;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ARETURN;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.CHECKCAST;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.DUP;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.GETFIELD;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.INVOKEINTERFACE;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.INVOKESPECIAL;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.INVOKESTATIC;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.INVOKEVIRTUAL;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.POP;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.PUTFIELD;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.RETURN;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.internalName;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.slots;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import me.sparky983.warp.Renderer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * An {@link Implementation} backed by a {@linkplain Class#isHidden() hidden class}.
+ *
+ * <p>The hidden class has one {@code final} field per property method. The field of a value
+ * property has the return type of its property method and contains the rendered value, which the
+ * property method returns without unboxing or casting. The field of every other property method
+ * contains its renderer, which the property method directly invokes. Compared to a {@link
+ * java.lang.reflect.Proxy Proxy}, this avoids the method lookup and argument array allocation on
+ * each call.
+ *
+ * <p>Views are instances of a second hidden class, which is only defined once the first view is
+ * created. It has a single field containing the snapshot supplier, and each property method
+ * invokes the same property method of the current snapshot.
+ *
+ * @param <T> the type of the configuration class
+ */
+final class HiddenClassImplementation<T> implements Implementation<T> {
+  private static final Object[] EMPTY_ARGUMENTS = new Object[0];
+
+  private static final String OBJECT = internalName(Object.class);
+  private static final String RENDERER = internalName(InternalRenderer.class);
+  private static final String RENDERER_DESCRIPTOR = InternalRenderer.class.descriptorString();
+  private static final String CONTEXT_DESCRIPTOR = Renderer.Context.class.descriptorString();
+  private static final String RENDER_DESCRIPTOR =
+      MethodType.methodType(Object.class, Object.class, Renderer.Context.class, Object[].class)
+          .toMethodDescriptorString();
+  private static final MethodType CONSTRUCTOR_TYPE =
+      MethodType.methodType(void.class, Renderer.Context.class, Object[].class);
+  private static final String SUPPLIER = internalName(Supplier.class);
+  private static final String SUPPLIER_DESCRIPTOR = Supplier.class.descriptorString();
+  private static final MethodType VIEW_CONSTRUCTOR_TYPE =
+      MethodType.methodType(void.class, Supplier.class);
+
+  /** The wrapper class of each primitive type. */
+  private static final Map<Class<?>, Class<?>> WRAPPERS =
+      Map.of(
+          boolean.class, Boolean.class,
+          byte.class, Byte.class,
+          char.class, Character.class,
+          short.class, Short.class,
+          int.class, Integer.class,
+          long.class, Long.class,
+          float.class, Float.class,
+          double.class, Double.class);
+
+  private static final String CONTEXT_FIELD = "context";
+  private static final String SNAPSHOT_FIELD = "snapshot";
+
+  private final MethodHandles.Lookup lookup;
+  private final Class<T> configurationClass;
+  private final List<Method> methods;
+  private final MethodHandle constructor;
+
+  /**
+   * The constructor of the view class, or {@code null} if it has not been defined yet.
+   *
+   * <p>Defining the view class is idempotent, so racing threads may each define one.
+   */
+  private volatile @Nullable MethodHandle viewConstructor;
+
+  /**
+   * Constructs a {@code HiddenClassImplementation}.
+   *
+   * @param lookup a lookup with full privilege access to the configuration class
+   * @param configurationClass the configuration class
+   * @param methods the property methods
+   * @param isValue whether each property method is a value property
+   * @throws IllegalArgumentException if the methods list and the value array have different
+   *     lengths.
+   * @throws NullPointerException if the lookup, configuration class, methods or value array are
+   *     {@code null}.
+   */
+  HiddenClassImplementation(
+      final MethodHandles.Lookup lookup,
+      final Class<T> configurationClass,
+      final List<Method> methods,
+      final boolean[] isValue) {
+    Objects.requireNonNull(lookup, "lookup cannot be null");
+    Objects.requireNonNull(configurationClass, "configurationClass cannot be null");
+    Objects.requireNonNull(methods, "methods cannot be null");
+    Objects.requireNonNull(isValue, "isValue cannot be null");
+    if (methods.size() != isValue.length) {
+      throw new IllegalArgumentException("isValue must have an element for each method");
+    }
+
+    this.configurationClass = configurationClass;
+    this.methods = List.copyOf(methods);
+    try {
+      this.lookup =
+          lookup.defineHiddenClass(generate(configurationClass, this.methods, isValue), true);
+      this.constructor =
+          this.lookup
+              .findConstructor(this.lookup.lookupClass(), CONSTRUCTOR_TYPE)
+              .asType(
+                  MethodType.methodType(Object.class, Renderer.Context.class, Object[].class));
+    } catch (final IllegalAccessException | NoSuchMethodException e) {
+      throw new AssertionError(e); // Shouldn't happen; the lookup has full privilege access
+    }
+  }
+
+  private static String rendererField(final int index) {
+    return "renderer" + index;
+  }
+
+  private static String valueField(final int index) {
+    return "value" + index;
+  }
+
+  private static byte[] generate(
+      final Class<?> configurationClass, final List<Method> methods, final boolean[] isValue) {
+    final String name = internalName(configurationClass) + "$$Warp";
+    final ClassFileWriter writer =
+        new ClassFileWriter(
+            ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, OBJECT, internalName(configurationClass));
+
+    writer.field(ACC_PRIVATE | ACC_FINAL, CONTEXT_FIELD, CONTEXT_DESCRIPTOR);
+    for (int i = 0; i < methods.size(); i++) {
+      if (isValue[i]) {
+        writer.field(
+            ACC_PRIVATE | ACC_FINAL,
+            valueField(i),
+            methods.get(i).getReturnType().descriptorString());
+      } else {
+        writer.field(ACC_PRIVATE | ACC_FINAL, rendererField(i), RENDERER_DESCRIPTOR);
+      }
+    }
+
+    final ClassFileWriter.Code constructor =
+        writer
+            .method(ACC_PUBLIC, "<init>", CONSTRUCTOR_TYPE.toMethodDescriptorString(), 3)
+            .load(Object.class, 0)
+            .invoke(INVOKESPECIAL, OBJECT, false, "<init>", "()V", 1, 0)
+            .load(Object.class, 0)
+            .load(Object.class, 1)
+            .field(PUTFIELD, name, CONTEXT_FIELD, CONTEXT_DESCRIPTOR);
+    for (int i = 0; i < methods.size(); i++) {
+      constructor.load(Object.class, 0).load(Object.class, 2).push(i).insn(AALOAD, -1);
+      if (isValue[i]) {
+        final Class<?> type = methods.get(i).getReturnType();
+        unbox(constructor, type);
+        constructor.field(PUTFIELD, name, valueField(i), type.descriptorString());
+      } else {
+        constructor
+            .type(CHECKCAST, RENDERER, 0)
+            .field(PUTFIELD, name, rendererField(i), RENDERER_DESCRIPTOR);
+      }
+    }
+    constructor.insn(RETURN, 0).end();
+
+    for (int i = 0; i < methods.size(); i++) {
+      if (isValue[i]) {
+        generateValueProperty(writer, name, i, methods.get(i));
+      } else {
+        generateProperty(writer, name, i, methods.get(i));
+      }
+    }
+
+    generateToString(writer, configurationClass, methods);
+
+    return writer.toByteArray();
+  }
+
+  private static byte[] generateView(
+      final Class<?> configurationClass, final List<Method> methods) {
+    final String configuration = internalName(configurationClass);
+    final String name = configuration + "$$WarpView";
+    final ClassFileWriter writer =
+        new ClassFileWriter(ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, OBJECT, configuration);
+
+    writer.field(ACC_PRIVATE | ACC_FINAL, SNAPSHOT_FIELD, SUPPLIER_DESCRIPTOR);
+
+    writer
+        .method(ACC_PUBLIC, "<init>", VIEW_CONSTRUCTOR_TYPE.toMethodDescriptorString(), 2)
+        .load(Object.class, 0)
+        .invoke(INVOKESPECIAL, OBJECT, false, "<init>", "()V", 1, 0)
+        .load(Object.class, 0)
+        .load(Object.class, 1)
+        .field(PUTFIELD, name, SNAPSHOT_FIELD, SUPPLIER_DESCRIPTOR)
+        .insn(RETURN, 0)
+        .end();
+
+    for (final Method method : methods) {
+      final Class<?>[] parameterTypes = method.getParameterTypes();
+      final String descriptor =
+          MethodType.methodType(method.getReturnType(), parameterTypes).toMethodDescriptorString();
+      int locals = 1;
+      for (final Class<?> parameterType : parameterTypes) {
+        locals += slots(parameterType);
+      }
+
+      final ClassFileWriter.Code code =
+          writer
+              .method(ACC_PUBLIC, method.getName(), descriptor, locals)
+              .load(Object.class, 0)
+              .field(GETFIELD, name, SNAPSHOT_FIELD, SUPPLIER_DESCRIPTOR)
+              .invoke(INVOKEINTERFACE, SUPPLIER, true, "get", "()Ljava/lang/Object;", 1, 1)
+              .type(CHECKCAST, configuration, 0);
+      int slot = 1;
+      for (final Class<?> parameterType : parameterTypes) {
+        code.load(parameterType, slot);
+        slot += slots(parameterType);
+      }
+      code.invoke(
+              INVOKEINTERFACE,
+              configuration,
+              true,
+              method.getName(),
+              descriptor,
+              locals,
+              slots(method.getReturnType()))
+          .returnValue(method.getReturnType())
+          .end();
+    }
+
+    generateToString(writer, configurationClass, methods);
+
+    return writer.toByteArray();
+  }
+
+  /** Generates a {@code toString} method, unless it is one of the property methods. */
+  private static void generateToString(
+      final ClassFileWriter writer, final Class<?> configurationClass, final List<Method> methods) {
+    for (final Method method : methods) {
+      if (method.getName().equals("toString") && method.getParameterCount() == 0) {
+        return;
+      }
+    }
+    writer
+        .method(ACC_PUBLIC, "toString", "()Ljava/lang/String;", 1)
+        .push(configurationClass.getName())
+        .insn(ARETURN, -1)
+        .end();
+  }
+
+  private static void generateValueProperty(
+      final ClassFileWriter writer, final String name, final int index, final Method method) {
+    final Class<?> type = method.getReturnType();
+    writer
+        .method(
+            ACC_PUBLIC, method.getName(), MethodType.methodType(type).toMethodDescriptorString(), 1)
+        .load(Object.class, 0)
+        .field(GETFIELD, name, valueField(index), type.descriptorString())
+        .returnValue(type)
+        .end();
+  }
+
+  private static void generateProperty(
+      final ClassFileWriter writer, final String name, final int index, final Method method) {
+    final Class<?>[] parameterTypes = method.getParameterTypes();
+    int locals = 1;
+    for (final Class<?> parameterType : parameterTypes) {
+      locals += slots(parameterType);
+    }
+
+    final ClassFileWriter.Code code =
+        writer
+            .method(
+                ACC_PUBLIC,
+                method.getName(),
+                MethodType.methodType(method.getReturnType(), parameterTypes)
+                    .toMethodDescriptorString(),
+                locals)
+            .load(Object.class, 0)
+            .field(GETFIELD, name, rendererField(index), RENDERER_DESCRIPTOR)
+            .load(Object.class, 0)
+            .load(Object.class, 0)
+            .field(GETFIELD, name, CONTEXT_FIELD, CONTEXT_DESCRIPTOR);
+
+    if (parameterTypes.length == 0) {
+      code.insn(ACONST_NULL, 1);
+    } else {
+      code.push(parameterTypes.length).type(ANEWARRAY, OBJECT, 0);
+      int slot = 1;
+      for (int i = 0; i < parameterTypes.length; i++) {
+        final Class<?> parameterType = parameterTypes[i];
+        code.insn(DUP, 1).push(i).load(parameterType, slot);
+        box(code, parameterType);
+        code.insn(AASTORE, -3);
+        slot += slots(parameterType);
+      }
+    }
+
+    code.invoke(INVOKEINTERFACE, RENDERER, true, "render", RENDER_DESCRIPTOR, 4, 1);
+    unbox(code, method.getReturnType());
+    code.returnValue(method.getReturnType()).end();
+  }
+
+  private static void box(final ClassFileWriter.Code code, final Class<?> type) {
+    final Class<?> wrapper = WRAPPERS.get(type);
+    if (wrapper != null) {
+      code.invoke(
+          INVOKESTATIC,
+          internalName(wrapper),
+          false,
+          "valueOf",
+          MethodType.methodType(wrapper, type).toMethodDescriptorString(),
+          slots(type),
+          1);
+    }
+  }
+
+  private static void unbox(final ClassFileWriter.Code code, final Class<?> type) {
+    if (type == void.class) {
+      code.insn(POP, -1);
+      return;
+    }
+    final Class<?> wrapper = WRAPPERS.get(type);
+    if (wrapper == null) {
+      code.type(CHECKCAST, internalName(type), 0);
+      return;
+    }
+    code.type(CHECKCAST, internalName(wrapper), 0)
+        .invoke(
+            INVOKEVIRTUAL,
+            internalName(wrapper),
+            false,
+            type.getName() + "Value",
+            MethodType.methodType(type).toMethodDescriptorString(),
+            1,
+            slots(type));
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T newInstance(final Renderer.Context context, final Object[] properties) {
+    Objects.requireNonNull(context, "context cannot be null");
+    Objects.requireNonNull(properties, "properties cannot be null");
+
+    try {
+      return (T) (Object) constructor.invokeExact(context, properties);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
+      throw new AssertionError(e); // The constructor doesn't throw checked exceptions
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T newView(final Supplier<? extends T> snapshot) {
+    Objects.requireNonNull(snapshot, "snapshot cannot be null");
+
+    MethodHandle viewConstructor = this.viewConstructor;
+    if (viewConstructor == null) {
+      try {
+        final MethodHandles.Lookup viewLookup =
+            lookup.defineHiddenClass(generateView(configurationClass, methods), true);
+        viewConstructor =
+            viewLookup
+                .findConstructor(viewLookup.lookupClass(), VIEW_CONSTRUCTOR_TYPE)
+                .asType(MethodType.methodType(Object.class, Supplier.class));
+      } catch (final IllegalAccessException | NoSuchMethodException e) {
+        throw new AssertionError(e); // Shouldn't happen; the lookup has full privilege access
+      }
+      this.viewConstructor = viewConstructor;
+    }
+
+    try {
+      return (T) (Object) viewConstructor.invokeExact(snapshot);
+    } catch (final RuntimeException | Error e) {
+      throw e;
+    } catch (final Throwable e) {
+      throw new AssertionError(e); // The constructor doesn't throw checked exceptions
+    }
+  }
+
+  @Override
+  public InternalRenderer<?> defaultRenderer(final int index) {
+    final Method method = methods.get(index);
+    if (!method.isDefault()) {
+      throw new IllegalArgumentException("Method " + method + " must be a default method");
+    }
+    final MethodHandle handle;
+    try {
+      handle =
+          lookup
+              .findSpecial(
+                  configurationClass,
+                  method.getName(),
+                  MethodType.methodType(method.getReturnType(), method.getParameterTypes()),
+                  lookup.lookupClass())
+              .asSpreader(Object[].class, method.getParameterCount())
+              .asType(MethodType.methodType(Object.class, Object.class, Object[].class));
+    } catch (final IllegalAccessException | NoSuchMethodException e) {
+      throw new AssertionError(e); // Shouldn't happen; the lookup has full privilege access
+    }
+    return (proxy, context, arguments) -> {
+      final Object[] spread = arguments == null ? EMPTY_ARGUMENTS : arguments;
+      return Objects.requireNonNull(handle.invokeExact(proxy, spread), "Renderer returned null");
+    };
+  }
+}
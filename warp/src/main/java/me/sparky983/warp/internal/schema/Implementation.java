@@ -0,0 +1,96 @@
+package me.sparky983.warp.internal.schema;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+import me.sparky983.warp.Configuration;
+import me.sparky983.warp.Renderer;
+
+/**
+ * An implementation of a {@linkplain Configuration configuration class}.
+ *
+ * <p>Each property method is identified by its index in the list of methods the implementation was
+ * created for.
+ *
+ * <p>The rendered value of a <em>value property</em> is stored in a field of each instance, and
+ * returned as is by its property method. Every other property method invokes its renderer on each
+ * call. Value properties are property methods without parameters that don't have a default
+ * implementation and return neither {@code void} nor a type containing arrays.
+ *
+ * @param <T> the type of the configuration class
+ */
+interface Implementation<T> {
+  /**
+   * Creates an {@code Implementation} of the given configuration class.
+   *
+   * <p>If possible, a {@linkplain Class#isHidden() hidden class} is defined in the package of the
+   * configuration class, otherwise the implementation falls back to {@link java.lang.reflect.Proxy
+   * proxies}. Defining a hidden class requires full privilege access to the configuration class,
+   * which is only the case when it is in the same module as Warp.
+   *
+   * @param configurationClass the configuration class
+   * @param methods the property methods
+   * @param isValue whether each property method is a value property
+   * @return the implementation
+   * @param <T> the type of the configuration class
+   * @throws IllegalArgumentException if the methods list and the value array have different
+   *     lengths.
+   * @throws NullPointerException if the configuration class, the methods list, one of the methods
+   *     or the value array are {@code null}.
+   */
+  static <T> Implementation<T> of(
+      final Class<T> configurationClass, final List<Method> methods, final boolean[] isValue) {
+    Objects.requireNonNull(configurationClass, "configurationClass cannot be null");
+    Objects.requireNonNull(methods, "methods cannot be null");
+    Objects.requireNonNull(isValue, "isValue cannot be null");
+
+    final MethodHandles.Lookup lookup;
+    try {
+      lookup = MethodHandles.privateLookupIn(configurationClass, MethodHandles.lookup());
+    } catch (final IllegalAccessException e) {
+      return new ProxyImplementation<>(configurationClass, methods, isValue);
+    }
+    if (!lookup.hasFullPrivilegeAccess()) {
+      return new ProxyImplementation<>(configurationClass, methods, isValue);
+    }
+    return new HiddenClassImplementation<>(lookup, configurationClass, methods, isValue);
+  }
+
+  /**
+   * Creates a new instance of the configuration class.
+   *
+   * @param context the context the configuration was rendered with
+   * @param properties the rendered value of each value property and the {@link InternalRenderer}
+   *     of each other property method
+   * @return the new instance
+   * @throws NullPointerException if the context or the properties array is {@code null}.
+   */
+  T newInstance(Renderer.Context context, Object[] properties);
+
+  /**
+   * Creates a view of the configuration class.
+   *
+   * <p>Each property method of the view invokes the same property method of the instance returned
+   * by the given supplier, which is called once per property method call. Views are
+   * identity-based, like other instances.
+   *
+   * @param snapshot the supplier of the current instance, which must never return {@code null}
+   * @return the view
+   * @throws NullPointerException if the supplier is {@code null}.
+   */
+  T newView(Supplier<? extends T> snapshot);
+
+  /**
+   * Returns a renderer that invokes the default implementation of the given property method.
+   *
+   * <p>The renderer throws a {@link NullPointerException} if the default implementation returns
+   * {@code null}.
+   *
+   * @param index the index of the property method
+   * @return the renderer
+   * @throws IllegalArgumentException if the property method is not a default method.
+   */
+  InternalRenderer<?> defaultRenderer(int index);
+}
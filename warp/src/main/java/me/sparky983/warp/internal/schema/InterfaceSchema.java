@@ -1,22 +1,21 @@
 package me.sparky983.warp.internal.schema;
 
-import java.lang.reflect.InvocationHandler;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Supplier;
 import me.sparky983.warp.Configuration;
 import me.sparky983.warp.ConfigurationError;
 import me.sparky983.warp.ConfigurationNode;
@@ -24,7 +23,11 @@ import me.sparky983.warp.DeserializationException;
 import me.sparky983.warp.Deserializer;
 import me.sparky983.warp.Property;
 import me.sparky983.warp.Renderer;
+import me.sparky983.warp.generated.GeneratedConfiguration;
+import me.sparky983.warp.generated.GeneratedProperty;
+import me.sparky983.warp.generated.GeneratedType;
 import me.sparky983.warp.internal.DeserializerRegistry;
+import me.sparky983.warp.internal.ParallelDeserialization;
 import me.sparky983.warp.internal.ParameterizedType;
 import org.jspecify.annotations.Nullable;
 
@@ -34,18 +37,70 @@ import org.jspecify.annotations.Nullable;
  * @param <T> the type of the {@linkplain Configuration configuration class}
  */
 final class InterfaceSchema<T> implements Schema<T> {
+  /** The smallest number of properties that is deserialized in parallel. */
+  private static final int PARALLEL_THRESHOLD = 2;
+
+  /** The context constant configurations are rendered with. */
+  private static final Renderer.Context CONSTANT_CONTEXT = () -> new Object[0];
+
+  /**
+   * The schema of each configuration class.
+   *
+   * <p>Since a schema is associated with its configuration class rather than held in a map, it
+   * doesn't prevent the configuration class or its class loader from being unloaded.
+   */
+  private static final ClassValue<InterfaceSchema<?>> SCHEMAS =
+      new ClassValue<>() {
+        @Override
+        protected InterfaceSchema<?> computeValue(final Class<?> configurationClass) {
+          return new InterfaceSchema<>(configurationClass);
+        }
+      };
+
   private final Class<T> configurationClass;
-  private final Map<Method, PropertyMethod<?>> properties;
+  private final List<PropertyMethod<?>> properties;
+  private final Implementation<T> implementation;
+  private final PathResolver paths;
+
+  /**
+   * The renderers that invoke the default implementation of each property method, or {@code null}
+   * if the property method doesn't have a default implementation.
+   */
+  private final @Nullable InternalRenderer<?>[] defaultRenderers;
+
+  /**
+   * Returns the {@code InterfaceSchema} for the given {@linkplain Configuration configuration
+   * class}.
+   *
+   * <p>Schemas are cached, so the configuration class is only inspected the first time its schema
+   * is requested.
+   *
+   * @param configurationClass the configuration class
+   * @return the schema
+   * @param <T> the type of the configuration class
+   * @throws IllegalArgumentException if the configuration class is invalid or not an interface.
+   * @throws NullPointerException if the configuration class is {@code null}.
+   */
+  @SuppressWarnings("unchecked")
+  static <T> InterfaceSchema<T> of(final Class<T> configurationClass) {
+    Objects.requireNonNull(configurationClass, "configurationClass cannot be null");
+
+    return (InterfaceSchema<T>) SCHEMAS.get(configurationClass);
+  }
 
   /**
    * Constructs an {@code InterfaceSchema} for the given {@linkplain Configuration configuration
    * class}.
    *
+   * <p>If the configuration class has a {@linkplain GeneratedConfiguration generated schema}, its
+   * property methods, path resolver and implementation are used instead of reflecting over the
+   * configuration class.
+   *
    * @param configurationClass the configuration class
    * @throws IllegalArgumentException if the configuration class is {@code null}.
    * @throws NullPointerException if the configuration class is {@code null}.
    */
-  InterfaceSchema(final Class<T> configurationClass) {
+  private InterfaceSchema(final Class<T> configurationClass) {
     Objects.requireNonNull(configurationClass, "configurationClass");
 
     if (!configurationClass.isAnnotationPresent(Configuration.class)) {
@@ -72,78 +127,158 @@ final class InterfaceSchema<T> implements Schema<T> {
       throw new IllegalArgumentException(configurationClass + " must not be generic");
     }
 
-    properties =
-        Stream.of(configurationClass.getMethods())
-            .filter(
-                (method) ->
-                    method.isAnnotationPresent(Property.class)
-                        || Modifier.isAbstract(method.getModifiers()))
-            .collect(Collectors.toMap(Function.identity(), PropertyMethod::new));
-
     this.configurationClass = configurationClass;
-  }
 
-  private static @Nullable ConfigurationNode get(
-      final List<String> keysList, final Map<String, ConfigurationNode> configuration) {
-    Map<String, ConfigurationNode> currentMap = configuration;
-    final Queue<String> keys = new LinkedList<>(keysList);
-    while (true) {
-      final ConfigurationNode node = currentMap.get(keys.remove());
-      if (node == null) {
-        return null;
+    final GeneratedConfiguration<T> generated = GeneratedImplementation.find(configurationClass);
+    if (generated != null) {
+      final List<PropertyMethod<?>> properties = new ArrayList<>();
+      for (final GeneratedProperty property : generated.properties()) {
+        properties.add(new PropertyMethod<>(configurationClass, property));
+      }
+      this.properties = List.copyOf(properties);
+      this.implementation = new GeneratedImplementation<>(generated);
+      this.paths = generated::resolve;
+    } else {
+      final Map<String, PropertyMethod<?>> properties = new LinkedHashMap<>();
+      final List<Method> methods = new ArrayList<>();
+      for (final Method method : configurationClass.getMethods()) {
+        if (method.isAnnotationPresent(Property.class)
+            || Modifier.isAbstract(method.getModifiers())) {
+          // Methods inherited from multiple interfaces are implemented once
+          final String signature =
+              method.getName()
+                  + MethodType.methodType(method.getReturnType(), method.getParameterTypes());
+          if (!properties.containsKey(signature)) {
+            properties.put(signature, new PropertyMethod<>(method));
+            methods.add(method);
+          }
+        }
+      }
+      this.properties = List.copyOf(properties.values());
+      final boolean[] isValue = new boolean[this.properties.size()];
+      for (int i = 0; i < isValue.length; i++) {
+        isValue[i] = this.properties.get(i).isValue;
       }
-      if (keys.isEmpty()) {
-        return node;
+      this.implementation = Implementation.of(configurationClass, methods, isValue);
+
+      final List<String> paths = new ArrayList<>();
+      for (final PropertyMethod<?> property : this.properties) {
+        paths.add(property.path);
       }
-      try {
-        currentMap = node.asMap();
-      } catch (final DeserializationException e) {
-        return null;
+      this.paths = PathTrie.of(paths)::resolve;
+    }
+
+    this.defaultRenderers = new InternalRenderer<?>[this.properties.size()];
+    for (int i = 0; i < this.properties.size(); i++) {
+      if (this.properties.get(i).isDefault) {
+        defaultRenderers[i] = implementation.defaultRenderer(i);
       }
     }
   }
 
+  @Override
+  public Class<T> configurationClass() {
+    return configurationClass;
+  }
+
+  @Override
+  public String path(final Function<? super T, ?> property) {
+    Objects.requireNonNull(property, "property cannot be null");
+
+    final List<String> path = new ArrayList<>();
+    property.apply(recorder(path));
+    if (path.isEmpty()) {
+      throw new IllegalArgumentException("Function must read a property of " + configurationClass);
+    }
+    return String.join(".", path);
+  }
+
   /**
-   * Creates a new proxy.
+   * Creates an instance of the configuration class that records the path of the property read from
+   * it.
+   *
+   * <p>Reading a nested configuration returns a recorder of the nested configuration, so chains of
+   * property methods are recorded as a single path.
    *
-   * @param invocationHandler the invocation handler
-   * @throws NullPointerException if the invocation handler is {@code null}.
+   * @param path the list to add the path of the read property to
+   * @return the recorder
    */
   @SuppressWarnings("unchecked")
-  private T newProxyInstance(final InvocationHandler invocationHandler) {
+  private T recorder(final List<String> path) {
+    final boolean[] isRead = {false};
     return (T)
         Proxy.newProxyInstance(
             configurationClass.getClassLoader(),
-            new Class[] {configurationClass},
-            invocationHandler);
+            new Class<?>[] {configurationClass},
+            (proxy, method, arguments) -> {
+              if (isRead[0]) {
+                throw new IllegalArgumentException("Function must read exactly one property");
+              }
+              final PropertyMethod<?> property = zeroParameterProperty(method);
+              if (property == null) {
+                throw new IllegalArgumentException(
+                    "Method " + method + " must be a property method without parameters");
+              }
+              isRead[0] = true;
+              path.add(property.path);
+
+              final Class<?> returnType = method.getReturnType();
+              if (returnType.isInterface() && returnType.isAnnotationPresent(Configuration.class)) {
+                return InterfaceSchema.of(returnType).recorder(path);
+              } else if (returnType.isPrimitive()) {
+                // The default value of the primitive type
+                return Array.get(Array.newInstance(returnType, 1), 0);
+              }
+              return null;
+            });
+  }
+
+  private @Nullable PropertyMethod<?> zeroParameterProperty(final Method method) {
+    if (method.getParameterCount() != 0) {
+      return null;
+    }
+    for (final PropertyMethod<?> property : properties) {
+      if (property.parameterCount == 0 && property.name.equals(method.getName())) {
+        return property;
+      }
+    }
+    return null;
   }
 
   @Override
-  public Deserializer<T> deserializer(final DeserializerRegistry deserializers) {
-    final Map<PropertyMethod<?>, Deserializer<?>> propertyDeserializers =
-        properties.values().stream()
-            .collect(
-                Collectors.toMap(
-                    Function.identity(),
-                    (property) -> {
-                      final ParameterizedType<?> type = property.type;
-                      return deserializers
-                          .get(type)
-                          .orElseThrow(
-                              () ->
-                                  new IllegalStateException(
-                                      "Property with path \""
-                                          + property.path
-                                          + "\" required a deserializer of type "
-                                          + type
-                                          + ", but none was found"));
-                    }));
+  public T view(final Supplier<? extends T> snapshot) {
+    Objects.requireNonNull(snapshot, "snapshot cannot be null");
+
+    return implementation.newView(snapshot);
+  }
+
+  @Override
+  public Deserializer<T> deserializer(
+      final DeserializerRegistry deserializers, final @Nullable ForkJoinPool pool) {
+    final Deserializer<?>[] propertyDeserializers = new Deserializer<?>[properties.size()];
+    for (int i = 0; i < properties.size(); i++) {
+      final PropertyMethod<?> property = properties.get(i);
+      final ParameterizedType<?> type = property.type;
+      propertyDeserializers[i] =
+          deserializers
+              .get(type)
+              .orElseThrow(
+                  () ->
+                      new IllegalStateException(
+                          "Property with path \""
+                              + property.path
+                              + "\" required a deserializer of type "
+                              + type
+                              + ", but none was found"));
+    }
 
     return (node, deserializerContext) -> {
       Objects.requireNonNull(deserializerContext, "context cannot be null");
 
       final List<ConfigurationError> errors = new ArrayList<>();
       boolean erroneous = false;
+      // Reuses the renderers of unchanged properties when the configuration is reloaded
+      final RendererCache cache = RendererCache.of(deserializerContext);
 
       final Map<String, ConfigurationNode> nodeConfiguration;
       if (node == null) {
@@ -156,56 +291,66 @@ final class InterfaceSchema<T> implements Schema<T> {
         nodeConfiguration = node.asMap();
       }
 
-      final Map<Method, InternalRenderer<?>> mappedConfiguration = new HashMap<>();
-
-      final UnseenKeys unseenKeys = new UnseenKeys(nodeConfiguration);
-
-      for (final Map.Entry<Method, PropertyMethod<?>> entry : properties.entrySet()) {
-        final Method key = entry.getKey();
-        final PropertyMethod<?> property = entry.getValue();
-        final String path = property.path;
-        final List<String> keys = Arrays.asList(path.split("\\."));
-        unseenKeys.remove(keys);
-        final ConfigurationNode value = get(keys, nodeConfiguration);
-        final InternalRenderer<?> defaultRenderer = property.defaultRenderer;
-        if (value == null && defaultRenderer != null) {
-          mappedConfiguration.put(key, defaultRenderer);
+      // The value of each value property and the renderer of each other property, see
+      // Implementation
+      final Object[] fields = new Object[properties.size()];
+      // The renderers of properties without parameters, which are rendered once per instance
+      final @Nullable Renderer<?>[] instanceRenderers = new Renderer<?>[properties.size()];
+      // Whether every property is either constant or uses its default implementation
+      boolean isConstant = true;
+
+      final @Nullable ConfigurationNode[] values = new ConfigurationNode[properties.size()];
+      final List<ConfigurationError> unknownPropertyErrors =
+          paths.resolve(nodeConfiguration, values);
+
+      // Properties are independent, so they may be deserialized in parallel. The results are
+      // then read in order, so errors are reported in the order of the properties.
+      final @Nullable Object[] results =
+          ParallelDeserialization.deserializeAll(
+              properties.size(),
+              (i) ->
+                  values[i] == null && defaultRenderers[i] != null
+                      ? null
+                      : deserializeProperty(
+                          properties.get(i),
+                          propertyDeserializers[i],
+                          values[i],
+                          deserializerContext,
+                          cache),
+              pool,
+              PARALLEL_THRESHOLD);
+
+      for (int i = 0; i < properties.size(); i++) {
+        final PropertyMethod<?> property = properties.get(i);
+        final Object result = results[i];
+        if (result == null) {
+          fields[i] = defaultRenderers[i];
+        } else if (result instanceof final DeserializationException e) {
+          erroneous = true;
+          errors.add(ConfigurationError.group(property.path, e.errors()));
+        } else if (result instanceof final Renderer.Constant<?> constant
+            && !property.containsArrays) {
+          final Object value = Objects.requireNonNull(constant.value(), "Renderer returned null");
+          fields[i] = property.isValue ? value : valueRenderer(value);
+        } else if (property.parameterCount == 0 && !property.containsArrays) {
+          isConstant = false;
+          instanceRenderers[i] = (Renderer<?>) result;
         } else {
-          try {
-            final Deserializer<?> deserializer = propertyDeserializers.get(property);
-            final Deserializer.Context context;
-            if (key.getParameterCount() == 0) {
-              context = deserializerContext;
-            } else {
-              context =
-                  new Deserializer.Context() {
-                    @Override
-                    public Parameter[] parameters() {
-                      return combineArrays(deserializerContext.parameters(), key.getParameters());
-                    }
-
-                    @Override
-                    public <T> Optional<Deserializer<T>> deserializer(final Class<T> type) {
-                      return deserializerContext.deserializer(type);
-                    }
-                  };
-            }
-            final Renderer<?> renderer =
-                Objects.requireNonNull(
-                    deserializer.deserialize(value, context), "Deserializer returned null");
-            mappedConfiguration.put(
-                key, (proxy, rendererContext) -> renderer.render(rendererContext));
-          } catch (final DeserializationException e) {
-            erroneous = true;
-            errors.add(ConfigurationError.group(path, e.errors()));
-          }
+          // Properties with parameters or arrays are rendered on every call
+          isConstant = false;
+          final Renderer<?> renderer = (Renderer<?>) result;
+          final InternalRenderer<?> propertyRenderer =
+              (proxy, rendererContext, arguments) ->
+                  Objects.requireNonNull(
+                      renderer.render(() -> combineArrays(rendererContext.arguments(), arguments)),
+                      "Renderer returned null");
+          fields[i] = propertyRenderer;
         }
       }
 
-      final List<ConfigurationError> unseenPropertyErrors = unseenKeys.makeErrors();
-      if (!unseenPropertyErrors.isEmpty()) {
+      if (!unknownPropertyErrors.isEmpty()) {
         erroneous = true;
-        errors.addAll(unseenPropertyErrors);
+        errors.addAll(unknownPropertyErrors);
       }
 
       if (erroneous) {
@@ -215,36 +360,82 @@ final class InterfaceSchema<T> implements Schema<T> {
         throw new DeserializationException(errors);
       }
 
+      if (isConstant) {
+        // None of the renderers depend on the context, so a single instance can be shared
+        return Renderer.of(implementation.newInstance(CONSTANT_CONTEXT, fields));
+      }
+
       return (rendererContext) -> {
         Objects.requireNonNull(rendererContext, "context cannot be null");
 
-        return newProxyInstance(
-            (proxy, method, innerArgs) -> {
-              if (method.getDeclaringClass().equals(Object.class)) {
-                final String name = method.getName();
-                final int parameterCount = method.getParameterCount();
-                if (name.equals("toString") && parameterCount == 0) {
-                  return configurationClass.getName();
-                } else if (name.equals("hashCode") && parameterCount == 0) {
-                  return super.hashCode();
-                  // this is fine since our configurations are identity-based
-                } else if (name.equals("equals")
-                    && parameterCount == 1
-                    && method.getParameters()[0].getType() == Object.class) {
-                  return proxy == innerArgs[0];
-                }
-              }
-              final Renderer.Context context =
-                  () -> combineArrays(rendererContext.arguments(), innerArgs);
-              final Object result = mappedConfiguration.get(method).render(proxy, context);
-
-              return Objects.requireNonNull(result, "Renderer returned null");
-            });
+        // A property without parameters always renders the same value for a given context, so
+        // it is rendered once here and the value is returned on every call
+        final Object[] contextFields = fields.clone();
+        for (int i = 0; i < contextFields.length; i++) {
+          final Renderer<?> renderer = instanceRenderers[i];
+          if (renderer != null) {
+            final Object value =
+                Objects.requireNonNull(renderer.render(rendererContext), "Renderer returned null");
+            contextFields[i] = properties.get(i).isValue ? value : valueRenderer(value);
+          }
+        }
+        return implementation.newInstance(rendererContext, contextFields);
       };
     };
   }
 
-  private <T extends @Nullable Object> T[] combineArrays(
+  /** Returns a renderer that returns the given value. */
+  private static InternalRenderer<?> valueRenderer(final Object value) {
+    return (proxy, context, arguments) -> value;
+  }
+
+  /**
+   * Deserializes the given property, reusing its renderer from the cache if its value is
+   * unchanged.
+   */
+  private static Renderer<?> deserializeProperty(
+      final PropertyMethod<?> property,
+      final Deserializer<?> deserializer,
+      final @Nullable ConfigurationNode value,
+      final Deserializer.Context deserializerContext,
+      final @Nullable RendererCache cache)
+      throws DeserializationException {
+    final Renderer<?> cachedRenderer =
+        cache == null || value == null
+            ? null
+            : cache.get(property, value, deserializerContext.parameters());
+    if (cachedRenderer != null) {
+      return cachedRenderer;
+    }
+
+    final Deserializer.Context context;
+    if (property.parameterCount == 0) {
+      context = deserializerContext;
+    } else {
+      final Deserializer.Context parameterContext =
+          new Deserializer.Context() {
+            @Override
+            public Parameter[] parameters() {
+              return combineArrays(deserializerContext.parameters(), property.parameters());
+            }
+
+            @Override
+            public <T> Optional<Deserializer<T>> deserializer(final Class<T> type) {
+              return deserializerContext.deserializer(type);
+            }
+          };
+      context = cache == null ? parameterContext : cache.context(parameterContext);
+    }
+    final Renderer<?> renderer =
+        Objects.requireNonNull(
+            deserializer.deserialize(value, context), "Deserializer returned null");
+    if (cache != null && value != null) {
+      cache.put(property, value, deserializerContext.parameters(), renderer);
+    }
+    return renderer;
+  }
+
+  private static <T extends @Nullable Object> T[] combineArrays(
       final T[] first, final T @Nullable [] second) {
     if (second == null || second.length == 0) {
       return first;
@@ -259,17 +450,50 @@ final class InterfaceSchema<T> implements Schema<T> {
     return combinedArgs;
   }
 
+  /**
+   * Resolves the node of each property in a configuration.
+   *
+   * @see PathTrie#resolve(Map, ConfigurationNode[])
+   * @see GeneratedConfiguration#resolve(Map, ConfigurationNode[])
+   */
+  @FunctionalInterface
+  private interface PathResolver {
+    List<ConfigurationError> resolve(
+        Map<String, ConfigurationNode> configuration, @Nullable ConfigurationNode[] nodes);
+  }
+
   /** A {@link PropertyMethod} implementation for property methods. */
   private static final class PropertyMethod<T> {
+    private static final Parameter[] EMPTY_PARAMETERS = new Parameter[0];
+
+    private final String name;
     private final String path;
+    private final ParameterizedType<T> type;
+    private final boolean isDefault;
+    private final int parameterCount;
 
     /**
-     * The renderer for the default value or {@code null} if the property doesn't have a default
-     * value; a default implementation hasn't been specified.
+     * Whether the type of this property contains arrays, such as {@code int[]} or {@code
+     * List<int[]>}, in which case it is rendered on every call so that each call returns new
+     * arrays.
      */
-    private final @Nullable InternalRenderer<T> defaultRenderer;
+    private final boolean containsArrays;
 
-    private final ParameterizedType<T> type;
+    /**
+     * Whether this property is a value property, whose rendered value is stored in a field of each
+     * instance.
+     *
+     * @see Implementation
+     */
+    private final boolean isValue;
+
+    /** The erased parameter types of a generated property, used to look up its parameters. */
+    private final List<Class<?>> parameterTypes;
+
+    private final Class<?> configurationClass;
+
+    /** The parameters, or {@code null} if they have not been looked up yet. */
+    private volatile Parameter @Nullable [] parameters;
 
     /**
      * Constructs a {@code PropertyMethod} for the given method.
@@ -300,15 +524,103 @@ final class InterfaceSchema<T> implements Schema<T> {
         throw new IllegalArgumentException("Method " + method + " must not be generic");
       }
 
+      this.name = method.getName();
       this.path = property.value();
-      if (method.isDefault()) {
-        this.defaultRenderer =
-            (proxy, context) -> (T) InvocationHandler.invokeDefault(proxy, method);
-      } else {
-        this.defaultRenderer = null;
+      this.type = (ParameterizedType<T>) ParameterizedType.of(method.getGenericReturnType());
+      this.isDefault = method.isDefault();
+      this.parameterCount = method.getParameterCount();
+      this.containsArrays = containsArrays(type);
+      this.isValue = isValue(parameterCount, isDefault, type, containsArrays);
+      this.parameterTypes = List.of();
+      this.configurationClass = method.getDeclaringClass();
+      this.parameters = method.getParameters();
+    }
+
+    /**
+     * Constructs a {@code PropertyMethod} for the given generated property.
+     *
+     * <p>The property is assumed to be valid since it was validated at compile time.
+     *
+     * @param configurationClass the configuration class
+     * @param property the generated property
+     * @throws NullPointerException if the configuration class or property is {@code null}.
+     */
+    @SuppressWarnings("unchecked")
+    PropertyMethod(final Class<?> configurationClass, final GeneratedProperty property) {
+      Objects.requireNonNull(configurationClass, "configurationClass cannot be null");
+      Objects.requireNonNull(property, "property cannot be null");
+
+      this.name = property.name();
+      this.path = property.path();
+      this.type = (ParameterizedType<T>) toParameterizedType(property.type());
+      this.isDefault = property.isDefault();
+      this.parameterCount = property.parameterTypes().size();
+      this.containsArrays = containsArrays(type);
+      // Must match the value properties of the generated implementation
+      this.isValue = isValue(parameterCount, isDefault, type, containsArrays);
+      this.parameterTypes = property.parameterTypes();
+      this.configurationClass = configurationClass;
+      // Looked up when a deserializer first reads them, so building the schema never reflects
+      this.parameters = parameterCount == 0 ? EMPTY_PARAMETERS : null;
+    }
+
+    /**
+     * Returns the parameters of this property method.
+     *
+     * <p>{@link Parameter} objects are only available through reflection, so the parameters of a
+     * generated property are looked up the first time they are read.
+     *
+     * @return the parameters
+     * @throws IllegalStateException if the generated schema is out of date.
+     */
+    private Parameter[] parameters() {
+      Parameter[] parameters = this.parameters;
+      if (parameters == null) {
+        // The lookup is idempotent, so racing threads may each look the parameters up
+        try {
+          parameters =
+              configurationClass
+                  .getMethod(name, parameterTypes.toArray(Class<?>[]::new))
+                  .getParameters();
+        } catch (final NoSuchMethodException e) {
+          throw new IllegalStateException(
+              "Generated schema of " + configurationClass + " is out of date", e);
+        }
+        this.parameters = parameters;
       }
+      return parameters;
+    }
 
-      this.type = (ParameterizedType<T>) ParameterizedType.of(method.getGenericReturnType());
+    private static boolean containsArrays(final ParameterizedType<?> type) {
+      if (type.rawType().isArray()) {
+        return true;
+      }
+      for (final ParameterizedType<?> typeArgument : type.typeArguments()) {
+        if (containsArrays(typeArgument)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private static boolean isValue(
+        final int parameterCount,
+        final boolean isDefault,
+        final ParameterizedType<?> type,
+        final boolean containsArrays) {
+      // The default implementation can only be invoked once the instance exists
+      return parameterCount == 0 && !isDefault && type.rawType() != void.class && !containsArrays;
+    }
+
+    private static ParameterizedType<?> toParameterizedType(final GeneratedType type) {
+      if (type.rawType().isArray() && type.typeArguments().size() == 1) {
+        return ParameterizedType.arrayOf(toParameterizedType(type.typeArguments().get(0)));
+      }
+      return ParameterizedType.of(
+          type.rawType(),
+          type.typeArguments().stream()
+              .map(PropertyMethod::toParameterizedType)
+              .toArray(ParameterizedType<?>[]::new));
     }
   }
 }
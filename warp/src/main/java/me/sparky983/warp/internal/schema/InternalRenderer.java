@@ -1,21 +1,30 @@
 package me.sparky983.warp.internal.schema;
 
 import me.sparky983.warp.Renderer;
+import me.sparky983.warp.generated.GeneratedConfiguration;
+import org.jspecify.annotations.Nullable;
 
 /**
  * An internal version of {@link Renderer} that allows for private access to additional context such
  * as the proxy that the renderer was called on.
  *
+ * <p>Internal renderers are {@linkplain GeneratedConfiguration.PropertyRenderer property
+ * renderers}, so they are passed to generated implementations as is.
+ *
  * @param <T> the type of the value
  */
-public interface InternalRenderer<T> {
+public interface InternalRenderer<T> extends GeneratedConfiguration.PropertyRenderer {
   /**
    * Renders the value.
    *
    * @param proxy the proxy the renderer was called on
-   * @param context the context
+   * @param context the context of the configuration the renderer was called on
+   * @param arguments the arguments passed to the property method, or {@code null} if there were
+   *     none
    * @return the rendered value
    * @throws Throwable if there was an exception; may only be thrown by user code.
    */
-  T render(Object proxy, Renderer.Context context) throws Throwable;
+  @Override
+  T render(Object proxy, Renderer.Context context, @Nullable Object @Nullable [] arguments)
+      throws Throwable;
 }
@@ -0,0 +1,123 @@
+package me.sparky983.warp.internal.schema;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import me.sparky983.warp.ConfigurationError;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import me.sparky983.warp.generated.GeneratedConfiguration;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A trie of property paths, split on {@code .}.
+ *
+ * <p>The trie is built once per schema, and resolves the nodes of all properties and finds the
+ * unknown keys of a configuration in a single walk over the configuration. Generated schemas
+ * resolve their paths with {@link GeneratedConfiguration#resolve(Map, ConfigurationNode[])}
+ * instead.
+ */
+final class PathTrie {
+  private static final int[] NO_PROPERTIES = new int[0];
+  private static final ConfigurationError UNKNOWN_PROPERTY =
+      ConfigurationError.error("Unknown property");
+
+  private final Map<String, PathTrie> children = new HashMap<>();
+
+  /** The indices of the properties whose path ends at this node. */
+  private int[] properties = NO_PROPERTIES;
+
+  private PathTrie() {}
+
+  /**
+   * Creates a {@code PathTrie} of the given paths.
+   *
+   * <p>Each path is identified by its index in the given list.
+   *
+   * @param paths the paths
+   * @return the trie
+   * @throws NullPointerException if the paths list or one of the paths are {@code null}.
+   */
+  static PathTrie of(final List<String> paths) {
+    Objects.requireNonNull(paths, "paths cannot be null");
+
+    final PathTrie root = new PathTrie();
+    for (int i = 0; i < paths.size(); i++) {
+      PathTrie current = root;
+      for (final String key : paths.get(i).split("\\.")) {
+        current = current.children.computeIfAbsent(key, (k) -> new PathTrie());
+      }
+      current.properties = Arrays.copyOf(current.properties, current.properties.length + 1);
+      current.properties[current.properties.length - 1] = i;
+    }
+    return root;
+  }
+
+  /**
+   * Resolves the node of each path in the given configuration.
+   *
+   * <p>Keys of the configuration that are not part of any path are reported as unknown
+   * properties, in the order they appear in the configuration.
+   *
+   * @param configuration the configuration
+   * @param nodes the array to store the node of each path in; the node is {@code null} if the path
+   *     is absent
+   * @return the errors for unknown properties
+   * @throws NullPointerException if the configuration or the nodes array is {@code null}.
+   */
+  List<ConfigurationError> resolve(
+      final Map<String, ConfigurationNode> configuration,
+      final @Nullable ConfigurationNode[] nodes) {
+    Objects.requireNonNull(configuration, "configuration cannot be null");
+    Objects.requireNonNull(nodes, "nodes cannot be null");
+
+    final List<ConfigurationError> errors = new ArrayList<>();
+    resolve(configuration, nodes, errors, true);
+    return errors;
+  }
+
+  private void resolve(
+      final Map<String, ConfigurationNode> configuration,
+      final @Nullable ConfigurationNode[] nodes,
+      final List<ConfigurationError> errors,
+      final boolean reportUnknown) {
+    for (final Map.Entry<String, ConfigurationNode> entry : configuration.entrySet()) {
+      final String key = entry.getKey();
+      final ConfigurationNode node = entry.getValue();
+      final PathTrie child = children.get(key);
+      if (child == null) {
+        if (reportUnknown) {
+          GeneratedConfiguration.unknown(key, node, errors);
+        }
+        continue;
+      }
+
+      for (final int property : child.properties) {
+        nodes[property] = node;
+      }
+      // Everything under a property is read by that property
+      final boolean reportUnknownChildren = reportUnknown && child.properties.length == 0;
+      if (child.children.isEmpty()) {
+        continue;
+      }
+
+      final Map<String, ConfigurationNode> map;
+      try {
+        map = node.asMap();
+      } catch (final DeserializationException e) {
+        if (reportUnknownChildren) {
+          errors.add(ConfigurationError.group(key, UNKNOWN_PROPERTY));
+        }
+        continue;
+      }
+      final List<ConfigurationError> childErrors = new ArrayList<>();
+      child.resolve(map, nodes, childErrors, reportUnknownChildren);
+      if (!childErrors.isEmpty()) {
+        errors.add(ConfigurationError.group(key, childErrors));
+      }
+    }
+  }
+}
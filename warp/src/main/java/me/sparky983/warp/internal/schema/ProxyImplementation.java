@@ -0,0 +1,142 @@
+package me.sparky983.warp.internal.schema;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import me.sparky983.warp.Renderer;
+
+/**
+ * An {@link Implementation} backed by {@link Proxy proxies}.
+ *
+ * @param <T> the type of the configuration class
+ */
+final class ProxyImplementation<T> implements Implementation<T> {
+  private final Class<T> configurationClass;
+  private final List<Method> methods;
+  private final boolean[] isValue;
+  private final Map<Method, Integer> indices = new HashMap<>();
+
+  /**
+   * Constructs a {@code ProxyImplementation}.
+   *
+   * @param configurationClass the configuration class
+   * @param methods the property methods
+   * @param isValue whether each property method is a value property
+   * @throws IllegalArgumentException if the methods list and the value array have different
+   *     lengths.
+   * @throws NullPointerException if the configuration class, methods or value array are {@code
+   *     null}.
+   */
+  ProxyImplementation(
+      final Class<T> configurationClass, final List<Method> methods, final boolean[] isValue) {
+    Objects.requireNonNull(configurationClass, "configurationClass cannot be null");
+    Objects.requireNonNull(methods, "methods cannot be null");
+    Objects.requireNonNull(isValue, "isValue cannot be null");
+    if (methods.size() != isValue.length) {
+      throw new IllegalArgumentException("isValue must have an element for each method");
+    }
+
+    this.configurationClass = configurationClass;
+    this.methods = List.copyOf(methods);
+    this.isValue = isValue.clone();
+    for (int i = 0; i < methods.size(); i++) {
+      indices.put(methods.get(i), i);
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T newInstance(final Renderer.Context context, final Object[] properties) {
+    Objects.requireNonNull(context, "context cannot be null");
+    Objects.requireNonNull(properties, "properties cannot be null");
+
+    return (T)
+        Proxy.newProxyInstance(
+            configurationClass.getClassLoader(),
+            new Class<?>[] {configurationClass},
+            (proxy, method, arguments) -> {
+              final Integer index = indices.get(method);
+              if (index != null) {
+                final Object property = properties[index];
+                if (isValue[index]) {
+                  return property;
+                }
+                return ((InternalRenderer<?>) property).render(proxy, context, arguments);
+              }
+              if (method.getDeclaringClass().equals(Object.class)) {
+                final String name = method.getName();
+                final int parameterCount = method.getParameterCount();
+                if (name.equals("toString") && parameterCount == 0) {
+                  return configurationClass.getName();
+                } else if (name.equals("hashCode") && parameterCount == 0) {
+                  return System.identityHashCode(proxy);
+                  // this is fine since our configurations are identity-based
+                } else if (name.equals("equals")
+                    && parameterCount == 1
+                    && method.getParameterTypes()[0] == Object.class) {
+                  return proxy == arguments[0];
+                }
+              }
+              // Non-property default methods
+              return InvocationHandler.invokeDefault(proxy, method, arguments);
+            });
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public T newView(final Supplier<? extends T> snapshot) {
+    Objects.requireNonNull(snapshot, "snapshot cannot be null");
+
+    return (T)
+        Proxy.newProxyInstance(
+            configurationClass.getClassLoader(),
+            new Class<?>[] {configurationClass},
+            (proxy, method, arguments) -> {
+              if (method.getDeclaringClass().equals(Object.class)) {
+                final String name = method.getName();
+                final int parameterCount = method.getParameterCount();
+                if (name.equals("toString") && parameterCount == 0) {
+                  return configurationClass.getName();
+                } else if (name.equals("hashCode") && parameterCount == 0) {
+                  return System.identityHashCode(proxy);
+                } else if (name.equals("equals")
+                    && parameterCount == 1
+                    && method.getParameterTypes()[0] == Object.class) {
+                  return proxy == arguments[0];
+                }
+              }
+              return invoke(method, snapshot.get(), arguments);
+            });
+  }
+
+  private static Object invoke(final Method method, final Object target, final Object[] arguments)
+      throws Throwable {
+    try {
+      return method.invoke(target, arguments);
+    } catch (final InvocationTargetException e) {
+      throw e.getCause();
+    } catch (final IllegalAccessException e) {
+      if (!method.trySetAccessible()) {
+        throw new IllegalStateException("Method " + method + " is not accessible", e);
+      }
+      return invoke(method, target, arguments);
+    }
+  }
+
+  @Override
+  public InternalRenderer<?> defaultRenderer(final int index) {
+    final Method method = methods.get(index);
+    if (!method.isDefault()) {
+      throw new IllegalArgumentException("Method " + method + " must be a default method");
+    }
+    return (proxy, context, arguments) ->
+        Objects.requireNonNull(
+            InvocationHandler.invokeDefault(proxy, method, arguments), "Renderer returned null");
+  }
+}
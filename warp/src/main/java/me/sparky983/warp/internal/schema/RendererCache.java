@@ -0,0 +1,134 @@
+package me.sparky983.warp.internal.schema;
+
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.Deserializer;
+import me.sparky983.warp.Renderer;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A cache of the renderers of property nodes between successive deserializations of the same
+ * configuration.
+ *
+ * <p>When a configuration is deserialized with a {@linkplain #context(Deserializer.Context)
+ * caching context}, each property whose node is equal to the node it had in the previous
+ * deserialization reuses the renderer it had, instead of being deserialized again. Since nested
+ * configurations are properties themselves, an unchanged subtree is skipped entirely, and a changed
+ * subtree only deserializes its changed properties.
+ *
+ * <p>Looking a property up hashes and compares its node. The built-in map and list nodes memoize
+ * their hash codes and compare them before their contents, so each subtree is hashed once, only
+ * unchanged subtrees are compared in full, and the cost of a lookup doesn't depend on the depth of
+ * the node.
+ *
+ * <p>Each cache only retains the renderers used by the deserialization it was used for, so the
+ * cache doesn't grow across deserializations.
+ */
+public final class RendererCache {
+  /** The renderers of the previous deserialization. */
+  private final Map<Key, Renderer<?>> previous;
+
+  /** The renderers of the current deserialization. */
+  private final Map<Key, Renderer<?>> current = new ConcurrentHashMap<>();
+
+  /** Constructs an empty {@code RendererCache}. */
+  public RendererCache() {
+    this(Map.of());
+  }
+
+  private RendererCache(final Map<Key, Renderer<?>> previous) {
+    this.previous = previous;
+  }
+
+  /**
+   * Returns a cache for the next deserialization, which reuses the renderers of the deserialization
+   * this cache was used for.
+   *
+   * @return the next cache
+   */
+  public RendererCache next() {
+    return new RendererCache(current);
+  }
+
+  /**
+   * Returns a context that deserializes with this cache.
+   *
+   * @param context the context to delegate to
+   * @return the caching context
+   * @throws NullPointerException if the context is {@code null}.
+   */
+  public Deserializer.Context context(final Deserializer.Context context) {
+    Objects.requireNonNull(context, "context cannot be null");
+
+    return new CachingContext(context, this);
+  }
+
+  /**
+   * Returns the cache of the given context.
+   *
+   * @param context the context
+   * @return the cache, or {@code null} if the context is not a {@linkplain
+   *     #context(Deserializer.Context) caching context}
+   */
+  static @Nullable RendererCache of(final Deserializer.Context context) {
+    return context instanceof final CachingContext cachingContext ? cachingContext.cache : null;
+  }
+
+  /**
+   * Returns the renderer the given property had for an equal node in the previous deserialization.
+   *
+   * @param property the property
+   * @param node the node of the property
+   * @param parameters the parameters of the context the property is deserialized with
+   * @return the renderer, or {@code null} if the property had no renderer for an equal node
+   */
+  @Nullable Renderer<?> get(
+      final Object property, final ConfigurationNode node, final Parameter[] parameters) {
+    final Key key = new Key(property, node, List.of(parameters));
+    final Renderer<?> renderer = previous.get(key);
+    if (renderer != null) {
+      current.put(key, renderer);
+    }
+    return renderer;
+  }
+
+  /**
+   * Stores the renderer of the given property for the given node.
+   *
+   * @param property the property
+   * @param node the node of the property
+   * @param parameters the parameters of the context the property is deserialized with
+   * @param renderer the renderer
+   */
+  void put(
+      final Object property,
+      final ConfigurationNode node,
+      final Parameter[] parameters,
+      final Renderer<?> renderer) {
+    current.put(new Key(property, node, List.of(parameters)), renderer);
+  }
+
+  /**
+   * A property node, which is identified by the property, its node and the contextual parameters.
+   */
+  private record Key(Object property, ConfigurationNode node, List<Parameter> parameters) {}
+
+  /** A {@link Deserializer.Context} that carries a {@link RendererCache}. */
+  private record CachingContext(Deserializer.Context context, RendererCache cache)
+      implements Deserializer.Context {
+    @Override
+    public Parameter[] parameters() {
+      return context.parameters();
+    }
+
+    @Override
+    public <T> Optional<Deserializer<T>> deserializer(final Class<T> type) {
+      return context.deserializer(type);
+    }
+  }
+}
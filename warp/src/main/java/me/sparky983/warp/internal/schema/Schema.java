@@ -1,8 +1,12 @@
 package me.sparky983.warp.internal.schema;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import me.sparky983.warp.Configuration;
 import me.sparky983.warp.Deserializer;
 import me.sparky983.warp.internal.DeserializerRegistry;
+import org.jspecify.annotations.Nullable;
 
 /**
  * A configuration schema.
@@ -10,6 +14,40 @@ import me.sparky983.warp.internal.DeserializerRegistry;
  * @param <T> the type of the {@linkplain Configuration configuration class}
  */
 public interface Schema<T> {
+  /**
+   * Returns the configuration class of this schema.
+   *
+   * @return the configuration class
+   */
+  Class<T> configurationClass();
+
+  /**
+   * Returns the path of the property read by the given function.
+   *
+   * <p>The function is applied to an instance of the configuration class that records the property
+   * method it invokes. The function may read a property of a nested configuration, in which case
+   * the path of the nested property is returned.
+   *
+   * @param property the function, usually a method reference such as {@code Config::property}
+   * @return the path of the property
+   * @throws IllegalArgumentException if the function doesn't read exactly one property without
+   *     parameters.
+   * @throws NullPointerException if the function is {@code null}.
+   */
+  String path(Function<? super T, ?> property);
+
+  /**
+   * Creates a view of the configuration class.
+   *
+   * <p>Each property method of the view invokes the same property method of the instance returned
+   * by the given supplier, so the view always reflects the current instance.
+   *
+   * @param snapshot the supplier of the current instance, which must never return {@code null}
+   * @return the view
+   * @throws NullPointerException if the supplier is {@code null}.
+   */
+  T view(Supplier<? extends T> snapshot);
+
   /**
    * Creates a configurations compliant with this schema.
    *
@@ -18,10 +56,29 @@ public interface Schema<T> {
    * @throws IllegalStateException if a type can not be deserialized.
    * @throws NullPointerException if the configurations is {@code null}.
    */
-  Deserializer<T> deserializer(DeserializerRegistry deserializers);
+  default Deserializer<T> deserializer(final DeserializerRegistry deserializers) {
+    return deserializer(deserializers, null);
+  }
 
   /**
-   * Creates a {@code Schema} for the given configuration class.
+   * Creates a configurations compliant with this schema, that deserializes its properties in
+   * parallel.
+   *
+   * @param deserializers a registry of the allowed deserializers, which must be thread-safe if a
+   *     pool is given
+   * @param pool the pool that deserializes the properties, or {@code null} to deserialize them
+   *     sequentially
+   * @return the created configuration
+   * @throws IllegalStateException if a type can not be deserialized.
+   * @throws NullPointerException if the configurations is {@code null}.
+   */
+  Deserializer<T> deserializer(DeserializerRegistry deserializers, @Nullable ForkJoinPool pool);
+
+  /**
+   * Returns the {@code Schema} for the given configuration class.
+   *
+   * <p>Schemas are cached per configuration class, without preventing the class from being
+   * unloaded.
    *
    * @param configurationClass the configuration class
    * @return the schema
@@ -30,6 +87,6 @@ public interface Schema<T> {
    * @throws NullPointerException if the configuration class is {@code null}.
    */
   static <T> Schema<T> fromClass(final Class<T> configurationClass) {
-    return new InterfaceSchema<>(configurationClass);
+    return InterfaceSchema.of(configurationClass);
   }
 }
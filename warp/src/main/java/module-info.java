@@ -13,4 +13,5 @@ module me.sparky983.warp {
   requires static org.jspecify;
 
   exports me.sparky983.warp;
+  exports me.sparky983.warp.generated;
 }
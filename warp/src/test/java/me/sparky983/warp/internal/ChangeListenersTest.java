@@ -0,0 +1,118 @@
+package me.sparky983.warp.internal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import me.sparky983.warp.ConfigurationNode;
+import org.junit.jupiter.api.Test;
+
+class ChangeListenersTest {
+  @Test
+  void testAdd_Null() {
+    final ChangeListeners<String> listeners = new ChangeListeners<>();
+
+    assertThrows(NullPointerException.class, () -> listeners.add(null, (previous, current) -> {}));
+    assertThrows(NullPointerException.class, () -> listeners.add("path", null));
+  }
+
+  @Test
+  void testAdd_EmptyPath() {
+    final ChangeListeners<String> listeners = new ChangeListeners<>();
+
+    assertThrows(
+        IllegalArgumentException.class, () -> listeners.add("", (previous, current) -> {}));
+  }
+
+  @Test
+  void testDispatch_Unchanged() {
+    final ChangeListeners<String> listeners = new ChangeListeners<>();
+    final List<String> notified = new ArrayList<>();
+    listeners.add("a", record(notified, "a"));
+
+    listeners.dispatch(map("a", string("value")), map("a", string("value")), "previous", "current");
+
+    assertEquals(List.of(), notified);
+  }
+
+  @Test
+  void testDispatch() {
+    final ChangeListeners<String> listeners = new ChangeListeners<>();
+    final List<String> notified = new ArrayList<>();
+    listeners.add("a", record(notified, "a"));
+    listeners.add("b", record(notified, "b"));
+
+    listeners.dispatch(
+        map("a", string("value"), "b", string("value")),
+        map("a", string("changed"), "b", string("value")),
+        "previous",
+        "current");
+
+    assertEquals(List.of("a previous current"), notified);
+  }
+
+  @Test
+  void testDispatch_Nested() {
+    final ChangeListeners<String> listeners = new ChangeListeners<>();
+    final List<String> notified = new ArrayList<>();
+    listeners.add("a", record(notified, "a"));
+    listeners.add("a.b", record(notified, "a.b"));
+    listeners.add("a.c", record(notified, "a.c"));
+
+    listeners.dispatch(
+        map("a", map("b", string("value"), "c", string("value"))),
+        map("a", map("b", string("changed"), "c", string("value"))),
+        "previous",
+        "current");
+
+    assertEquals(List.of("a previous current", "a.b previous current"), notified);
+  }
+
+  @Test
+  void testDispatch_StructureChanged() {
+    final ChangeListeners<String> listeners = new ChangeListeners<>();
+    final List<String> notified = new ArrayList<>();
+    listeners.add("a.b", record(notified, "a.b"));
+    listeners.add("a.c.d", record(notified, "a.c.d"));
+
+    listeners.dispatch(
+        map("a", map("b", string("value"))), map("a", string("value")), "previous", "current");
+
+    assertEquals(2, notified.size());
+  }
+
+  @Test
+  void testDispatch_Added() {
+    final ChangeListeners<String> listeners = new ChangeListeners<>();
+    final List<String> notified = new ArrayList<>();
+    listeners.add("a.b", record(notified, "a.b"));
+
+    listeners.dispatch(
+        ConfigurationNode.map(), map("a", map("b", string("value"))), "previous", "current");
+
+    assertEquals(List.of("a.b previous current"), notified);
+  }
+
+  private static BiConsumer<String, String> record(final List<String> notified, final String path) {
+    return (previous, current) -> notified.add(path + " " + previous + " " + current);
+  }
+
+  private static ConfigurationNode string(final String value) {
+    return ConfigurationNode.string(value);
+  }
+
+  private static ConfigurationNode map(final String key, final ConfigurationNode value) {
+    return ConfigurationNode.map(Map.entry(key, value));
+  }
+
+  private static ConfigurationNode map(
+      final String key1,
+      final ConfigurationNode value1,
+      final String key2,
+      final ConfigurationNode value2) {
+    return ConfigurationNode.map(Map.entry(key1, value1), Map.entry(key2, value2));
+  }
+}
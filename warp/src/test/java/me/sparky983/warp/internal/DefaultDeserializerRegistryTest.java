@@ -1,10 +1,15 @@
 package me.sparky983.warp.internal;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.lang.reflect.Parameter;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
 import me.sparky983.warp.Deserializer;
 import me.sparky983.warp.Renderer;
 import org.junit.jupiter.api.Test;
@@ -157,4 +162,121 @@ class DefaultDeserializerRegistryTest {
     assertThrows(
         IllegalStateException.class, () -> registry.get(ParameterizedType.of(String.class)));
   }
+
+  @Test
+  void testGet_Cached() {
+    final AtomicInteger calls = new AtomicInteger();
+    final Deserializer<String> deserializer = (node, context) -> Renderer.of("test");
+    final DeserializerRegistry registry =
+        DeserializerRegistry.builder()
+            .factory(
+                new DeserializerFactory() {
+                  @SuppressWarnings({"unchecked", "rawtypes"})
+                  @Override
+                  public <T> Optional<Deserializer<? extends T>> create(
+                      DeserializerRegistry registry, ParameterizedType<? extends T> type) {
+                    calls.incrementAndGet();
+                    return (Optional) Optional.of(deserializer);
+                  }
+                })
+            .build();
+
+    assertEquals(Optional.of(deserializer), registry.get(ParameterizedType.of(String.class)));
+    assertEquals(Optional.of(deserializer), registry.get(ParameterizedType.of(String.class)));
+    assertEquals(Optional.of(deserializer), registry.get(String.class));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testGet_CachedAbsence() {
+    final AtomicInteger calls = new AtomicInteger();
+    final DeserializerRegistry registry =
+        DeserializerRegistry.builder()
+            .factory(
+                new DeserializerFactory() {
+                  @Override
+                  public <T> Optional<Deserializer<? extends T>> create(
+                      DeserializerRegistry registry, ParameterizedType<? extends T> type) {
+                    calls.incrementAndGet();
+                    return Optional.empty();
+                  }
+                })
+            .build();
+
+    assertEquals(Optional.empty(), registry.get(ParameterizedType.of(String.class)));
+    assertEquals(Optional.empty(), registry.get(String.class));
+    assertEquals(1, calls.get());
+  }
+
+  @Test
+  void testGet_FactoryThrowsNotCached() {
+    final AtomicInteger calls = new AtomicInteger();
+    final DeserializerRegistry registry =
+        DeserializerRegistry.builder()
+            .factory(
+                new DeserializerFactory() {
+                  @Override
+                  public <T> Optional<Deserializer<? extends T>> create(
+                      DeserializerRegistry registry, ParameterizedType<? extends T> type) {
+                    calls.incrementAndGet();
+                    throw new IllegalStateException();
+                  }
+                })
+            .build();
+
+    assertThrows(
+        IllegalStateException.class, () -> registry.get(ParameterizedType.of(String.class)));
+    assertThrows(
+        IllegalStateException.class, () -> registry.get(ParameterizedType.of(String.class)));
+    assertEquals(2, calls.get());
+  }
+
+  @Test
+  void testGet_Recursive() throws DeserializationException {
+    final AtomicInteger calls = new AtomicInteger();
+    final DeserializerRegistry registry =
+        DeserializerRegistry.builder()
+            .factory(
+                new DeserializerFactory() {
+                  @SuppressWarnings({"unchecked", "rawtypes"})
+                  @Override
+                  public <T> Optional<Deserializer<? extends T>> create(
+                      DeserializerRegistry registry, ParameterizedType<? extends T> type) {
+                    calls.incrementAndGet();
+                    final Deserializer<?> self = registry.get(type).orElseThrow();
+                    final Deserializer<Object> deserializer =
+                        (node, context) -> {
+                          if (node == null) {
+                            return Renderer.of("leaf");
+                          }
+                          return Renderer.of(
+                              self.deserialize(null, context).render(() -> new Object[0]));
+                        };
+                    return (Optional) Optional.of(deserializer);
+                  }
+                })
+            .build();
+
+    final Deserializer.Context context =
+        new Deserializer.Context() {
+          @Override
+          public Parameter[] parameters() {
+            return new Parameter[0];
+          }
+
+          @Override
+          public <T> Optional<Deserializer<T>> deserializer(final Class<T> type) {
+            return Optional.empty();
+          }
+        };
+
+    final Deserializer<? extends String> deserializer =
+        registry.get(ParameterizedType.of(String.class)).orElseThrow();
+
+    assertEquals(
+        "leaf",
+        deserializer.deserialize(ConfigurationNode.nil(), context).render(() -> new Object[0]));
+    assertSame(deserializer, registry.get(ParameterizedType.of(String.class)).orElseThrow());
+    assertEquals(1, calls.get());
+  }
 }
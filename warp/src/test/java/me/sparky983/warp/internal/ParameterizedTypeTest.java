@@ -3,6 +3,7 @@ package me.sparky983.warp.internal;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -179,6 +180,15 @@ class ParameterizedTypeTest {
     assertEquals(List[].class, type.rawType());
     assertEquals(List.of(), type.typeArguments());
     assertEquals(List.of(), type.rawTypeArguments());
+    assertEquals(ParameterizedType.of(List.class, String.class), type.componentType());
+    assertNotEquals(ParameterizedType.of(List[].class), type);
+  }
+
+  @Test
+  void testComponentType() {
+    assertEquals(
+        ParameterizedType.of(int.class), ParameterizedType.of(int[].class).componentType());
+    assertNull(ParameterizedType.of(String.class).componentType());
   }
 
   @Test
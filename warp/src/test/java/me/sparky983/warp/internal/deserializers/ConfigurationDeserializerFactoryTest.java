@@ -366,4 +366,28 @@ class ConfigurationDeserializerFactoryTest {
     verify(propertyRenderer).render(argThat((context) -> context.arguments().length == 0));
     verifyNoMoreInteractions(propertyRenderer);
   }
+
+  @Test
+  void testRender_Constant() throws DeserializationException {
+    when(deserializers.get(ParameterizedType.of(String.class)))
+        .thenReturn(Optional.of(propertyDeserializer));
+    when(propertyDeserializer.deserialize(eq(ConfigurationNode.string("value")), any()))
+        .thenReturn(Renderer.of("value"));
+
+    final Deserializer<? extends Configurations.String> deserializer =
+        factory
+            .create(deserializers, ParameterizedType.of(Configurations.String.class))
+            .orElseThrow(AssertionError::new);
+
+    final ConfigurationNode node =
+        ConfigurationNode.map(Map.of("property", ConfigurationNode.string("value")));
+
+    final Renderer<? extends Configurations.String> renderer =
+        deserializer.deserialize(node, deserializerContext);
+
+    assertInstanceOf(Renderer.Constant.class, renderer);
+    assertSame(renderer.render(rendererContext), renderer.render(rendererContext));
+    assertEquals("value", renderer.render(rendererContext).property());
+    verify(propertyDeserializer).deserialize(eq(ConfigurationNode.string("value")), any());
+  }
 }
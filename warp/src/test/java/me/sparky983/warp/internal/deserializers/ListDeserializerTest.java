@@ -1,13 +1,18 @@
 package me.sparky983.warp.internal.deserializers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 import me.sparky983.warp.ConfigurationError;
 import me.sparky983.warp.ConfigurationNode;
 import me.sparky983.warp.DeserializationException;
@@ -125,4 +130,65 @@ class ListDeserializerTest {
     verify(element2Renderer).render(rendererContext);
     verifyNoMoreInteractions(element1Renderer, element2Renderer);
   }
+
+  @Test
+  void testRender_Constant() throws DeserializationException {
+    when(elementDeserializer.deserialize(ConfigurationNode.integer(1), deserializerContext))
+        .thenReturn(Renderer.of(1));
+    when(elementDeserializer.deserialize(ConfigurationNode.integer(2), deserializerContext))
+        .thenReturn(Renderer.of(2));
+
+    final ConfigurationNode node =
+        ConfigurationNode.list(ConfigurationNode.integer(1), ConfigurationNode.integer(2));
+
+    final Renderer<List<Integer>> renderer = deserializer.deserialize(node, deserializerContext);
+
+    final Renderer.Constant<List<Integer>> constant =
+        assertInstanceOf(Renderer.Constant.class, renderer);
+    assertEquals(List.of(1, 2), constant.value());
+    assertSame(constant.value(), renderer.render(rendererContext));
+  }
+
+  @Test
+  void testDeserialize_Parallel() throws DeserializationException {
+    final Deserializer<List<Integer>> parallelDeserializer =
+        Deserializers.list(Deserializers.INTEGER, ForkJoinPool.commonPool(), 2);
+    final List<ConfigurationNode> elements = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      elements.add(ConfigurationNode.integer(i));
+    }
+
+    final List<Integer> result =
+        parallelDeserializer
+            .deserialize(ConfigurationNode.list(elements), deserializerContext)
+            .render(rendererContext);
+
+    assertEquals(IntStream.range(0, 1000).boxed().toList(), result);
+  }
+
+  @Test
+  void testDeserialize_ParallelErrorOrder() {
+    final Deserializer<List<Integer>> parallelDeserializer =
+        Deserializers.list(Deserializers.INTEGER, ForkJoinPool.commonPool(), 2);
+    final List<ConfigurationNode> elements = new ArrayList<>();
+    final List<ConfigurationError> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      if (i % 3 == 0) {
+        elements.add(ConfigurationNode.nil());
+        expected.add(
+            ConfigurationError.group(
+                "[" + i + "]", ConfigurationError.error("Must be an integer")));
+      } else {
+        elements.add(ConfigurationNode.integer(i));
+      }
+    }
+    final ConfigurationNode node = ConfigurationNode.list(elements);
+
+    final DeserializationException thrown =
+        assertThrows(
+            DeserializationException.class,
+            () -> parallelDeserializer.deserialize(node, deserializerContext));
+
+    assertIterableEquals(expected, thrown.errors());
+  }
 }
@@ -1,15 +1,20 @@
 package me.sparky983.warp.internal.deserializers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import me.sparky983.warp.ConfigurationError;
 import me.sparky983.warp.ConfigurationNode;
 import me.sparky983.warp.DeserializationException;
@@ -162,4 +167,49 @@ class MapDeserializerTest {
     assertThrows(UnsupportedOperationException.class, () -> result.put(1, 2));
     verifyNoMoreInteractions(key1Renderer, value1Renderer, key2Renderer, value2Renderer);
   }
+
+  @Test
+  void testRender_Constant() throws DeserializationException {
+    when(keyDeserializer.deserialize(ConfigurationNode.string("1"), deserializerContext))
+        .thenReturn(Renderer.of(1));
+    when(valueDeserializer.deserialize(ConfigurationNode.integer(2), deserializerContext))
+        .thenReturn(Renderer.of(2));
+
+    final ConfigurationNode node =
+        ConfigurationNode.map(Map.of("1", ConfigurationNode.integer(2)));
+
+    final Renderer<Map<Integer, Integer>> renderer =
+        deserializer.deserialize(node, deserializerContext);
+
+    final Renderer.Constant<Map<Integer, Integer>> constant =
+        assertInstanceOf(Renderer.Constant.class, renderer);
+    assertEquals(Map.of(1, 2), constant.value());
+    assertSame(constant.value(), renderer.render(rendererContext));
+  }
+
+  @Test
+  void testDeserialize_ParallelErrorOrder() {
+    final Deserializer<Map<String, Integer>> parallelDeserializer =
+        Deserializers.map(
+            Deserializers.STRING, Deserializers.INTEGER, ForkJoinPool.commonPool(), 2);
+    final Map<String, ConfigurationNode> entries = new LinkedHashMap<>();
+    final List<ConfigurationError> expected = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      final String key = "key " + i;
+      if (i % 3 == 0) {
+        entries.put(key, ConfigurationNode.nil());
+        expected.add(ConfigurationError.group(key, ConfigurationError.error("Must be an integer")));
+      } else {
+        entries.put(key, ConfigurationNode.integer(i));
+      }
+    }
+    final ConfigurationNode node = ConfigurationNode.map(entries);
+
+    final DeserializationException thrown =
+        assertThrows(
+            DeserializationException.class,
+            () -> parallelDeserializer.deserialize(node, deserializerContext));
+
+    assertIterableEquals(expected, thrown.errors());
+  }
 }
@@ -1,6 +1,8 @@
 package me.sparky983.warp.internal.deserializers;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -76,4 +78,18 @@ class OptionalDeserializerTest {
 
     assertEquals(Optional.of(1), result);
   }
+
+  @Test
+  void testRender_Constant() throws DeserializationException {
+    final ConfigurationNode node = ConfigurationNode.integer(1);
+    when(valueDeserializer.deserialize(node, deserializerContext)).thenReturn(Renderer.of(1));
+
+    final Renderer<Optional<Integer>> renderer =
+        deserializer.deserialize(node, deserializerContext);
+
+    final Renderer.Constant<Optional<Integer>> constant =
+        assertInstanceOf(Renderer.Constant.class, renderer);
+    assertEquals(Optional.of(1), constant.value());
+    assertSame(constant.value(), renderer.render(rendererContext));
+  }
 }
@@ -0,0 +1,138 @@
+package me.sparky983.warp.internal.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class CompactMapTest {
+  @ParameterizedTest
+  @ValueSource(ints = {0, 1, 8, 9, 100})
+  void testCopyOf(final int size) {
+    final Map<String, Integer> expected = new LinkedHashMap<>();
+    for (int i = size; i > 0; i--) {
+      expected.put("key-" + i, i);
+    }
+
+    final Map<String, Integer> map = CompactMap.copyOf(expected);
+
+    assertEquals(expected, map);
+    assertEquals(map, expected);
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertEquals(expected.toString(), map.toString());
+    assertEquals(List.copyOf(expected.keySet()), List.copyOf(map.keySet()));
+    final List<String> keys = new ArrayList<>();
+    map.forEach((key, value) -> keys.add(key));
+    assertEquals(List.copyOf(expected.keySet()), keys);
+    for (int i = 1; i <= size; i++) {
+      assertEquals(Integer.valueOf(i), map.get("key-" + i));
+      assertTrue(map.containsKey("key-" + i));
+    }
+    assertNull(map.get("absent"));
+    assertNull(map.get(null));
+    assertFalse(map.containsKey("absent"));
+    assertEquals(size, map.size());
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 9})
+  void testImmutable(final int size) {
+    final Map<String, Integer> source = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      source.put("key-" + i, i);
+    }
+    final Map<String, Integer> map = CompactMap.copyOf(source);
+
+    source.put("key-0", -1);
+
+    assertEquals(Integer.valueOf(0), map.get("key-0"));
+    assertThrows(UnsupportedOperationException.class, () -> map.put("key", 1));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove("key-0"));
+    assertThrows(UnsupportedOperationException.class, map::clear);
+    assertThrows(
+        UnsupportedOperationException.class, () -> map.entrySet().iterator().next().setValue(1));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 9})
+  void testCopyOf_Null(final int size) {
+    final Map<String, Integer> nullKey = new HashMap<>();
+    final Map<String, Integer> nullValue = new HashMap<>();
+    for (int i = 1; i < size; i++) {
+      nullKey.put("key-" + i, i);
+      nullValue.put("key-" + i, i);
+    }
+    nullKey.put(null, 0);
+    nullValue.put("key-0", null);
+
+    assertThrows(NullPointerException.class, () -> CompactMap.copyOf(null));
+    assertThrows(NullPointerException.class, () -> CompactMap.copyOf(nullKey));
+    assertThrows(NullPointerException.class, () -> CompactMap.copyOf(nullValue));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 9})
+  void testCopyOf_CompactMap(final int size) {
+    final Map<String, Integer> source = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      source.put("key-" + i, i);
+    }
+    final CompactMap<String, Integer> map = CompactMap.copyOf(source);
+
+    assertSame(map, CompactMap.copyOf(map));
+  }
+
+  @ParameterizedTest
+  @ValueSource(ints = {1, 9})
+  void testHashCode_Memoized(final int size) {
+    final int[] hashCodes = new int[1];
+    final Object value =
+        new Object() {
+          @Override
+          public int hashCode() {
+            hashCodes[0]++;
+            return 1;
+          }
+        };
+    final Map<String, Object> source = new HashMap<>();
+    for (int i = 0; i < size; i++) {
+      source.put("key-" + i, value);
+    }
+    final CompactMap<String, Object> map = CompactMap.copyOf(source);
+
+    final int hashCode = map.hashCode();
+
+    assertEquals(hashCode, map.hashCode());
+    assertEquals(size, hashCodes[0]);
+  }
+
+  @Test
+  void testEquals_DifferentHashCodes() {
+    final Object value =
+        new Object() {
+          @Override
+          public boolean equals(final Object other) {
+            throw new AssertionError("Values must not be compared");
+          }
+
+          @Override
+          public int hashCode() {
+            return 1;
+          }
+        };
+    final CompactMap<String, Object> map = CompactMap.copyOf(Map.of("key", value));
+
+    assertFalse(map.equals(CompactMap.copyOf(Map.of("other", value))));
+  }
+}
@@ -0,0 +1,166 @@
+package me.sparky983.warp.internal.node;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertIterableEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.DeserializationException;
+import org.junit.jupiter.api.Test;
+
+class LayeredMapNodeTest {
+  @Test
+  void testMerge_Null() {
+    assertThrows(NullPointerException.class, () -> LayeredMapNode.merge(null));
+    assertThrows(
+        NullPointerException.class,
+        () -> LayeredMapNode.merge(Arrays.asList(ConfigurationNode.map(), null)));
+  }
+
+  @Test
+  void testMerge_Empty() {
+    assertThrows(IllegalArgumentException.class, () -> LayeredMapNode.merge(List.of()));
+  }
+
+  @Test
+  void testMerge_Single() {
+    final ConfigurationNode node = ConfigurationNode.string("value");
+
+    assertSame(node, LayeredMapNode.merge(List.of(node)));
+  }
+
+  @Test
+  void testMerge_NonMapReplaces() {
+    final ConfigurationNode top = ConfigurationNode.list(ConfigurationNode.string("value"));
+
+    final ConfigurationNode merged =
+        LayeredMapNode.merge(
+            List.of(
+                ConfigurationNode.map(Map.entry("key", ConfigurationNode.string("value"))), top));
+
+    assertSame(top, merged);
+  }
+
+  @Test
+  void testMerge_NonMapHidesLowerLayers() {
+    final ConfigurationNode top =
+        ConfigurationNode.map(Map.entry("key 1", ConfigurationNode.string("value 1")));
+
+    final ConfigurationNode merged =
+        LayeredMapNode.merge(
+            List.of(
+                ConfigurationNode.map(Map.entry("key 2", ConfigurationNode.string("value 2"))),
+                ConfigurationNode.nil(),
+                top));
+
+    assertSame(top, merged);
+  }
+
+  @Test
+  void testMerge_SharesOnlyNonEmptyMap() {
+    final ConfigurationNode bottom =
+        ConfigurationNode.map(Map.entry("key", ConfigurationNode.string("value")));
+
+    final ConfigurationNode merged =
+        LayeredMapNode.merge(List.of(bottom, ConfigurationNode.map(), ConfigurationNode.map()));
+
+    assertSame(bottom, merged);
+  }
+
+  @Test
+  void testMerge() throws DeserializationException {
+    final ConfigurationNode shared =
+        ConfigurationNode.map(Map.entry("key", ConfigurationNode.string("value")));
+    final ConfigurationNode bottom =
+        ConfigurationNode.map(
+            Map.entry("a", ConfigurationNode.string("a 1")),
+            Map.entry("b", ConfigurationNode.string("b 1")),
+            Map.entry("shared", shared),
+            Map.entry(
+                "nested",
+                ConfigurationNode.map(
+                    Map.entry("c", ConfigurationNode.string("c 1")),
+                    Map.entry("d", ConfigurationNode.string("d 1")))));
+    final ConfigurationNode top =
+        ConfigurationNode.map(
+            Map.entry("b", ConfigurationNode.string("b 2")),
+            Map.entry("e", ConfigurationNode.string("e 2")),
+            Map.entry("nested", ConfigurationNode.map(Map.entry("d", ConfigurationNode.nil()))));
+
+    final ConfigurationNode merged = LayeredMapNode.merge(List.of(bottom, top));
+
+    final Map<String, ConfigurationNode> map = merged.asMap();
+    assertIterableEquals(List.of("a", "b", "shared", "nested", "e"), map.keySet());
+    assertEquals(ConfigurationNode.string("a 1"), map.get("a"));
+    assertEquals(ConfigurationNode.string("b 2"), map.get("b"));
+    assertEquals(ConfigurationNode.string("e 2"), map.get("e"));
+    assertSame(shared, map.get("shared"));
+    assertEquals(
+        Map.of("c", ConfigurationNode.string("c 1"), "d", ConfigurationNode.nil()),
+        map.get("nested").asMap());
+    assertSame(map.get("nested"), map.get("nested"));
+    assertTrue(map.containsKey("e"));
+    assertFalse(map.containsKey("f"));
+    assertNull(map.get("f"));
+    assertNull(map.get(null));
+    assertEquals(5, map.size());
+  }
+
+  @Test
+  void testMerge_Unmodifiable() throws DeserializationException {
+    final Map<String, ConfigurationNode> map =
+        LayeredMapNode.merge(
+                List.of(
+                    ConfigurationNode.map(Map.entry("a", ConfigurationNode.string("a"))),
+                    ConfigurationNode.map(Map.entry("b", ConfigurationNode.string("b")))))
+            .asMap();
+
+    assertThrows(
+        UnsupportedOperationException.class, () -> map.put("c", ConfigurationNode.nil()));
+    assertThrows(UnsupportedOperationException.class, () -> map.remove("a"));
+  }
+
+  @Test
+  void testEquals() {
+    final List<ConfigurationNode> layers =
+        List.of(
+            ConfigurationNode.map(Map.entry("a", ConfigurationNode.string("a"))),
+            ConfigurationNode.map(Map.entry("b", ConfigurationNode.string("b"))));
+
+    final ConfigurationNode merged1 = LayeredMapNode.merge(layers);
+    final ConfigurationNode merged2 = LayeredMapNode.merge(layers);
+
+    assertInstanceOf(LayeredMapNode.class, merged1);
+    assertEquals(merged1, merged2);
+    assertEquals(merged1.hashCode(), merged2.hashCode());
+    assertEquals("{a=a, b=b}", merged1.toString());
+  }
+
+  @Test
+  void testEquals_MapNode() {
+    final ConfigurationNode merged =
+        LayeredMapNode.merge(
+            List.of(
+                ConfigurationNode.map(Map.entry("a", ConfigurationNode.string("a"))),
+                ConfigurationNode.map(Map.entry("b", ConfigurationNode.string("b")))));
+    final ConfigurationNode map =
+        ConfigurationNode.map(
+            Map.entry("a", ConfigurationNode.string("a")),
+            Map.entry("b", ConfigurationNode.string("b")));
+
+    assertEquals(map, merged);
+    assertEquals(merged, map);
+    assertEquals(map.hashCode(), merged.hashCode());
+    assertNotEquals(merged, ConfigurationNode.map(Map.entry("a", ConfigurationNode.string("a"))));
+    assertNotEquals(merged, ConfigurationNode.string("a"));
+  }
+}
@@ -0,0 +1,172 @@
+package me.sparky983.warp.internal.schema;
+
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ACC_FINAL;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ACC_PUBLIC;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ACC_SUPER;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.ACC_SYNTHETIC;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.INVOKESPECIAL;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.RETURN;
+import static me.sparky983.warp.internal.schema.ClassFileWriter.internalName;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+
+class ClassFileWriterTest {
+  interface Constants {
+    int minusOne();
+
+    int five();
+
+    int bytes();
+
+    int shorts();
+
+    int ints();
+
+    String string();
+  }
+
+  interface Identities {
+    long longValue(long value);
+
+    double doubleValue(double value);
+
+    float floatValue(float value);
+
+    char charValue(char value);
+
+    double last(long first, double second, float third, double last);
+
+    void run();
+  }
+
+  @Test
+  void testConstructor_Null() {
+    assertThrows(
+        NullPointerException.class, () -> new ClassFileWriter(0, null, "java/lang/Object"));
+    assertThrows(NullPointerException.class, () -> new ClassFileWriter(0, "Name", null));
+    assertThrows(
+        NullPointerException.class,
+        () -> new ClassFileWriter(0, "Name", "java/lang/Object", (String[]) null));
+  }
+
+  @Test
+  void testInternalName() {
+    assertEquals("java/lang/String", internalName(String.class));
+    assertEquals("[I", internalName(int[].class));
+    assertEquals("[Ljava/lang/String;", internalName(String[].class));
+  }
+
+  @Test
+  void testSlots() {
+    assertEquals(0, ClassFileWriter.slots(void.class));
+    assertEquals(1, ClassFileWriter.slots(int.class));
+    assertEquals(1, ClassFileWriter.slots(char.class));
+    assertEquals(1, ClassFileWriter.slots(float.class));
+    assertEquals(2, ClassFileWriter.slots(long.class));
+    assertEquals(2, ClassFileWriter.slots(double.class));
+    assertEquals(1, ClassFileWriter.slots(Object.class));
+  }
+
+  @Test
+  void testPush() throws ReflectiveOperationException {
+    final Constants constants =
+        define(
+            Constants.class,
+            (writer) -> {
+              constant(writer, "minusOne", -1);
+              constant(writer, "five", 5);
+              constant(writer, "bytes", Byte.MIN_VALUE);
+              constant(writer, "shorts", Short.MAX_VALUE);
+              constant(writer, "ints", Integer.MAX_VALUE);
+              writer
+                  .method(ACC_PUBLIC, "string", "()Ljava/lang/String;", 1)
+                  .push("value")
+                  .returnValue(String.class)
+                  .end();
+            });
+
+    assertEquals(-1, constants.minusOne());
+    assertEquals(5, constants.five());
+    assertEquals(Byte.MIN_VALUE, constants.bytes());
+    assertEquals(Short.MAX_VALUE, constants.shorts());
+    assertEquals(Integer.MAX_VALUE, constants.ints());
+    assertEquals("value", constants.string());
+  }
+
+  @Test
+  void testLoad() throws ReflectiveOperationException {
+    final Identities identities =
+        define(
+            Identities.class,
+            (writer) -> {
+              identity(writer, "longValue", long.class);
+              identity(writer, "doubleValue", double.class);
+              identity(writer, "floatValue", float.class);
+              identity(writer, "charValue", char.class);
+              writer
+                  .method(
+                      ACC_PUBLIC,
+                      "last",
+                      MethodType.methodType(
+                              double.class, long.class, double.class, float.class, double.class)
+                          .toMethodDescriptorString(),
+                      8)
+                  .load(double.class, 6)
+                  .returnValue(double.class)
+                  .end();
+              writer.method(ACC_PUBLIC, "run", "()V", 1).returnValue(void.class).end();
+            });
+
+    assertEquals(Long.MAX_VALUE, identities.longValue(Long.MAX_VALUE));
+    assertEquals(Double.MIN_VALUE, identities.doubleValue(Double.MIN_VALUE));
+    assertEquals(Float.MAX_VALUE, identities.floatValue(Float.MAX_VALUE));
+    assertEquals(Character.MAX_VALUE, identities.charValue(Character.MAX_VALUE));
+    assertEquals(4.5, identities.last(1, 2.5, 3.5F, 4.5));
+    identities.run();
+  }
+
+  private static void constant(final ClassFileWriter writer, final String name, final int value) {
+    writer.method(ACC_PUBLIC, name, "()I", 1).push(value).returnValue(int.class).end();
+  }
+
+  private static void identity(
+      final ClassFileWriter writer, final String name, final Class<?> type) {
+    writer
+        .method(
+            ACC_PUBLIC,
+            name,
+            MethodType.methodType(type, type).toMethodDescriptorString(),
+            1 + ClassFileWriter.slots(type))
+        .load(type, 1)
+        .returnValue(type)
+        .end();
+  }
+
+  /**
+   * Defines a hidden class that implements the given interface with the methods written by the
+   * given action, and returns a new instance of it.
+   */
+  private static <T> T define(final Class<T> type, final Consumer<ClassFileWriter> methods)
+      throws ReflectiveOperationException {
+    final String name = internalName(ClassFileWriterTest.class) + "$$Generated";
+    final ClassFileWriter writer =
+        new ClassFileWriter(
+            ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, name, "java/lang/Object", internalName(type));
+    writer
+        .method(ACC_PUBLIC, "<init>", "()V", 1)
+        .load(Object.class, 0)
+        .invoke(INVOKESPECIAL, "java/lang/Object", false, "<init>", "()V", 1, 0)
+        .insn(RETURN, 0)
+        .end();
+    methods.accept(writer);
+
+    final Class<?> generated =
+        MethodHandles.lookup().defineHiddenClass(writer.toByteArray(), true).lookupClass();
+    return type.cast(generated.getConstructor().newInstance());
+  }
+}
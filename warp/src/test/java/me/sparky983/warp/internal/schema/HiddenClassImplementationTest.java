@@ -0,0 +1,341 @@
+package me.sparky983.warp.internal.schema;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+import me.sparky983.warp.Renderer;
+import org.junit.jupiter.api.Test;
+
+class HiddenClassImplementationTest {
+  static final Renderer.Context CONTEXT = () -> new Object[0];
+
+  interface Primitives {
+    long longValue();
+
+    double doubleValue();
+
+    float floatValue();
+
+    char charValue();
+
+    long longProperty(long value);
+
+    double doubleProperty(double first, long second);
+
+    float floatProperty(float value);
+
+    char charProperty(char value);
+  }
+
+  interface Methods {
+    void run(int value);
+
+    default String greeting(final String name) {
+      return "Hello " + name;
+    }
+
+    default String name() {
+      return "Warp";
+    }
+
+    String string();
+  }
+
+  static List<Method> methods(final Class<?> type, final String... names) {
+    final List<Method> methods = new ArrayList<>();
+    for (final String name : names) {
+      for (final Method method : type.getMethods()) {
+        if (method.getName().equals(name)) {
+          methods.add(method);
+        }
+      }
+    }
+    return methods;
+  }
+
+  static <T> HiddenClassImplementation<T> implementation(
+      final Class<T> type, final List<Method> methods, final boolean... isValue)
+      throws IllegalAccessException {
+    return new HiddenClassImplementation<>(
+        MethodHandles.privateLookupIn(type, MethodHandles.lookup()), type, methods, isValue);
+  }
+
+  @Test
+  void testConstructor_Null() {
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    final List<Method> methods = methods(Methods.class, "string");
+
+    assertThrows(
+        NullPointerException.class,
+        () -> new HiddenClassImplementation<>(null, Methods.class, methods, new boolean[1]));
+    assertThrows(
+        NullPointerException.class,
+        () -> new HiddenClassImplementation<>(lookup, null, methods, new boolean[1]));
+    assertThrows(
+        NullPointerException.class,
+        () -> new HiddenClassImplementation<>(lookup, Methods.class, null, new boolean[1]));
+    assertThrows(
+        NullPointerException.class,
+        () -> new HiddenClassImplementation<>(lookup, Methods.class, methods, null));
+  }
+
+  @Test
+  void testConstructor_DifferentLengths() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> implementation(Methods.class, methods(Methods.class, "string"), true, false));
+  }
+
+  @Test
+  void testNewInstance_Null() throws IllegalAccessException {
+    final HiddenClassImplementation<Methods> implementation =
+        implementation(Methods.class, methods(Methods.class, "string"), true);
+
+    assertThrows(NullPointerException.class, () -> implementation.newInstance(null, new Object[1]));
+    assertThrows(NullPointerException.class, () -> implementation.newInstance(CONTEXT, null));
+  }
+
+  @Test
+  void testNewInstance_Values() throws IllegalAccessException {
+    final List<Method> methods =
+        methods(Primitives.class, "longValue", "doubleValue", "floatValue", "charValue");
+    final HiddenClassImplementation<Primitives> implementation =
+        implementation(Primitives.class, methods, true, true, true, true);
+
+    final Primitives primitives =
+        implementation.newInstance(
+            CONTEXT, new Object[] {Long.MAX_VALUE, Double.MIN_VALUE, Float.MAX_VALUE, 'a'});
+
+    assertTrue(primitives.getClass().isHidden());
+    assertEquals(Long.MAX_VALUE, primitives.longValue());
+    assertEquals(Double.MIN_VALUE, primitives.doubleValue());
+    assertEquals(Float.MAX_VALUE, primitives.floatValue());
+    assertEquals('a', primitives.charValue());
+  }
+
+  @Test
+  void testNewInstance_ValueFields() throws IllegalAccessException, NoSuchFieldException {
+    final List<Method> methods = methods(Primitives.class, "longValue", "charValue");
+    final HiddenClassImplementation<Primitives> implementation =
+        implementation(Primitives.class, methods, true, false);
+
+    final Primitives primitives =
+        implementation.newInstance(
+            CONTEXT, new Object[] {1L, (InternalRenderer<?>) (proxy, context, arguments) -> 'a'});
+
+    assertEquals(long.class, primitives.getClass().getDeclaredField("value0").getType());
+    assertEquals(
+        InternalRenderer.class, primitives.getClass().getDeclaredField("renderer1").getType());
+    assertEquals(1, primitives.longValue());
+    assertEquals('a', primitives.charValue());
+  }
+
+  @Test
+  void testNewInstance_Parameters() throws IllegalAccessException {
+    final List<Method> methods =
+        methods(
+            Primitives.class, "longProperty", "doubleProperty", "floatProperty", "charProperty");
+    final List<Object[]> calls = new ArrayList<>();
+    final InternalRenderer<?> renderer =
+        (proxy, context, arguments) -> {
+          calls.add(arguments);
+          return arguments[0];
+        };
+    final HiddenClassImplementation<Primitives> implementation =
+        implementation(Primitives.class, methods, false, false, false, false);
+
+    final Primitives primitives =
+        implementation.newInstance(CONTEXT, new Object[] {renderer, renderer, renderer, renderer});
+
+    assertEquals(Long.MIN_VALUE, primitives.longProperty(Long.MIN_VALUE));
+    assertEquals(1.5, primitives.doubleProperty(1.5, 2));
+    assertEquals(Float.MIN_VALUE, primitives.floatProperty(Float.MIN_VALUE));
+    assertEquals('b', primitives.charProperty('b'));
+    assertEquals(4, calls.size());
+    assertArrayEquals(new Object[] {Long.MIN_VALUE}, calls.get(0));
+    assertArrayEquals(new Object[] {1.5, 2L}, calls.get(1));
+    assertArrayEquals(new Object[] {Float.MIN_VALUE}, calls.get(2));
+    assertArrayEquals(new Object[] {'b'}, calls.get(3));
+  }
+
+  @Test
+  void testNewInstance_Renderer() throws IllegalAccessException {
+    final Object[] call = new Object[3];
+    final InternalRenderer<?> renderer =
+        (proxy, context, arguments) -> {
+          call[0] = proxy;
+          call[1] = context;
+          call[2] = arguments;
+          return "value";
+        };
+    final HiddenClassImplementation<Methods> implementation =
+        implementation(Methods.class, methods(Methods.class, "string"), false);
+
+    final Methods configuration = implementation.newInstance(CONTEXT, new Object[] {renderer});
+
+    assertEquals("value", configuration.string());
+    assertSame(configuration, call[0]);
+    assertSame(CONTEXT, call[1]);
+    assertNull(call[2]);
+  }
+
+  @Test
+  void testNewInstance_Void() throws IllegalAccessException {
+    final List<Object> arguments = new ArrayList<>();
+    final InternalRenderer<?> renderer =
+        (proxy, context, callArguments) -> {
+          arguments.add(callArguments[0]);
+          return "ignored";
+        };
+    final HiddenClassImplementation<Methods> implementation =
+        implementation(Methods.class, methods(Methods.class, "run"), false);
+
+    final Methods configuration = implementation.newInstance(CONTEXT, new Object[] {renderer});
+    configuration.run(1);
+    configuration.run(2);
+
+    assertEquals(List.of(1, 2), arguments);
+  }
+
+  @Test
+  void testDefaultRenderer() throws IllegalAccessException {
+    final HiddenClassImplementation<Methods> implementation =
+        implementation(Methods.class, methods(Methods.class, "greeting", "name"), false, false);
+
+    final Methods configuration =
+        implementation.newInstance(
+            CONTEXT,
+            new Object[] {implementation.defaultRenderer(0), implementation.defaultRenderer(1)});
+
+    assertEquals("Hello world", configuration.greeting("world"));
+    assertEquals("Warp", configuration.name());
+  }
+
+  @Test
+  void testDefaultRenderer_Overridden() throws IllegalAccessException {
+    final HiddenClassImplementation<Methods> implementation =
+        implementation(Methods.class, methods(Methods.class, "greeting"), false);
+    final InternalRenderer<?> renderer = (proxy, context, arguments) -> "Hi " + arguments[0];
+
+    final Methods configuration = implementation.newInstance(CONTEXT, new Object[] {renderer});
+
+    assertEquals("Hi world", configuration.greeting("world"));
+    // Default methods that are not property methods are inherited
+    assertEquals("Warp", configuration.name());
+  }
+
+  @Test
+  void testDefaultRenderer_NotDefault() throws IllegalAccessException {
+    final HiddenClassImplementation<Methods> implementation =
+        implementation(Methods.class, methods(Methods.class, "string"), true);
+
+    assertThrows(IllegalArgumentException.class, () -> implementation.defaultRenderer(0));
+  }
+
+  @Test
+  void testToString() throws IllegalAccessException {
+    final HiddenClassImplementation<Methods> implementation =
+        implementation(Methods.class, methods(Methods.class, "string"), true);
+
+    final Methods configuration = implementation.newInstance(CONTEXT, new Object[] {"value"});
+
+    assertEquals(Methods.class.getName(), configuration.toString());
+  }
+
+  @Test
+  void testNewView_Null() throws IllegalAccessException {
+    final HiddenClassImplementation<Methods> implementation =
+        implementation(Methods.class, methods(Methods.class, "string"), true);
+
+    assertThrows(NullPointerException.class, () -> implementation.newView(null));
+  }
+
+  @Test
+  void testNewView() throws IllegalAccessException {
+    final List<Method> methods =
+        methods(Primitives.class, "longValue", "doubleProperty", "charProperty");
+    final HiddenClassImplementation<Primitives> implementation =
+        implementation(Primitives.class, methods, true, false, false);
+    final InternalRenderer<?> renderer = (proxy, context, arguments) -> arguments[0];
+    final Primitives[] snapshot = {
+      implementation.newInstance(CONTEXT, new Object[] {1L, renderer, renderer})
+    };
+
+    final Primitives view = implementation.newView(() -> snapshot[0]);
+
+    assertTrue(view.getClass().isHidden());
+    assertEquals(1, view.longValue());
+    assertEquals(1.5, view.doubleProperty(1.5, 2));
+    assertEquals('a', view.charProperty('a'));
+
+    snapshot[0] = implementation.newInstance(CONTEXT, new Object[] {2L, renderer, renderer});
+
+    assertEquals(2, view.longValue());
+    assertEquals(Primitives.class.getName(), view.toString());
+    assertEquals(view, view);
+    assertEquals(System.identityHashCode(view), view.hashCode());
+  }
+
+  @Test
+  void testNewView_Methods() throws IllegalAccessException {
+    final List<Object> arguments = new ArrayList<>();
+    final InternalRenderer<?> run =
+        (proxy, context, callArguments) -> {
+          arguments.add(callArguments[0]);
+          return "ignored";
+        };
+    final HiddenClassImplementation<Methods> implementation =
+        implementation(Methods.class, methods(Methods.class, "run", "greeting"), false, false);
+    final Methods snapshot =
+        implementation.newInstance(CONTEXT, new Object[] {run, implementation.defaultRenderer(1)});
+
+    final Methods view = implementation.newView(() -> snapshot);
+    view.run(1);
+
+    assertEquals(List.of(1), arguments);
+    assertEquals("Hello world", view.greeting("world"));
+  }
+
+  @Test
+  void testOf() {
+    final Implementation<Methods> implementation =
+        Implementation.of(Methods.class, methods(Methods.class, "string"), new boolean[] {true});
+
+    assertInstanceOf(HiddenClassImplementation.class, implementation);
+  }
+
+  @Test
+  void testOf_NoFullPrivilegeAccess() throws NoSuchMethodException {
+    // java.base doesn't open its packages, so Warp doesn't get full privilege access
+    final Implementation<IntSupplier> implementation =
+        Implementation.of(
+            IntSupplier.class,
+            List.of(IntSupplier.class.getMethod("getAsInt")),
+            new boolean[] {true});
+
+    final IntSupplier supplier = implementation.newInstance(CONTEXT, new Object[] {1});
+
+    assertInstanceOf(ProxyImplementation.class, implementation);
+    assertTrue(Proxy.isProxyClass(supplier.getClass()));
+    assertEquals(1, supplier.getAsInt());
+    assertEquals(IntSupplier.class.getName(), supplier.toString());
+
+    final IntSupplier view = implementation.newView(() -> supplier);
+
+    assertTrue(Proxy.isProxyClass(view.getClass()));
+    assertEquals(1, view.getAsInt());
+    assertEquals(IntSupplier.class.getName(), view.toString());
+    assertEquals(view, view);
+  }
+}
@@ -0,0 +1,110 @@
+package me.sparky983.warp.internal.schema;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import me.sparky983.warp.ConfigurationError;
+import me.sparky983.warp.ConfigurationNode;
+import org.junit.jupiter.api.Test;
+
+class PathTrieTest {
+  static final ConfigurationError UNKNOWN = ConfigurationError.error("Unknown property");
+
+  @Test
+  void testOf_Null() {
+    assertThrows(NullPointerException.class, () -> PathTrie.of(null));
+  }
+
+  @Test
+  void testResolve_Null() {
+    final PathTrie trie = PathTrie.of(List.of("property"));
+
+    assertThrows(NullPointerException.class, () -> trie.resolve(null, new ConfigurationNode[1]));
+    assertThrows(NullPointerException.class, () -> trie.resolve(Map.of(), null));
+  }
+
+  @Test
+  void testResolve() {
+    final ConfigurationNode string = ConfigurationNode.string("value");
+    final ConfigurationNode nestedString = ConfigurationNode.string("nested value");
+    final ConfigurationNode nested = ConfigurationNode.map(Map.entry("string", nestedString));
+    final PathTrie trie = PathTrie.of(List.of("string", "nested.string", "nested", "absent"));
+    final ConfigurationNode[] nodes = new ConfigurationNode[4];
+
+    final List<ConfigurationError> errors =
+        trie.resolve(Map.of("string", string, "nested", nested), nodes);
+
+    assertEquals(List.of(), errors);
+    assertArrayEquals(new ConfigurationNode[] {string, nestedString, nested, null}, nodes);
+  }
+
+  @Test
+  void testResolve_SamePath() {
+    final ConfigurationNode string = ConfigurationNode.string("value");
+    final PathTrie trie = PathTrie.of(List.of("string", "string"));
+    final ConfigurationNode[] nodes = new ConfigurationNode[2];
+
+    final List<ConfigurationError> errors = trie.resolve(Map.of("string", string), nodes);
+
+    assertEquals(List.of(), errors);
+    assertArrayEquals(new ConfigurationNode[] {string, string}, nodes);
+  }
+
+  @Test
+  void testResolve_NestedNonMap() {
+    final PathTrie trie = PathTrie.of(List.of("nested.string"));
+    final ConfigurationNode[] nodes = new ConfigurationNode[1];
+
+    final List<ConfigurationError> errors =
+        trie.resolve(Map.of("nested", ConfigurationNode.string("value")), nodes);
+
+    assertEquals(List.of(ConfigurationError.group("nested", UNKNOWN)), errors);
+    assertArrayEquals(new ConfigurationNode[] {null}, nodes);
+  }
+
+  @Test
+  void testResolve_MapValue() {
+    final PathTrie trie = PathTrie.of(List.of("nested"));
+    final ConfigurationNode nested =
+        ConfigurationNode.map(Map.entry("value", ConfigurationNode.string("string")));
+    final ConfigurationNode[] nodes = new ConfigurationNode[1];
+
+    final List<ConfigurationError> errors = trie.resolve(Map.of("nested", nested), nodes);
+
+    assertEquals(List.of(), errors);
+    assertArrayEquals(new ConfigurationNode[] {nested}, nodes);
+  }
+
+  @Test
+  void testResolve_UnknownProperties() {
+    final Map<String, ConfigurationNode> map = new LinkedHashMap<>();
+    map.put("string", ConfigurationNode.string("value"));
+    map.put(
+        "nested",
+        ConfigurationNode.map(
+            Map.entry("string", ConfigurationNode.string("nested value")),
+            Map.entry("known", ConfigurationNode.string("known value")),
+            Map.entry(
+                "doubly-nested",
+                ConfigurationNode.map(
+                    Map.entry("string", ConfigurationNode.string("doubly nested value"))))));
+    map.put("empty", ConfigurationNode.map());
+    final PathTrie trie = PathTrie.of(List.of("nested.known"));
+
+    final List<ConfigurationError> errors = trie.resolve(map, new ConfigurationNode[1]);
+
+    assertEquals(
+        List.of(
+            ConfigurationError.group("string", UNKNOWN),
+            ConfigurationError.group(
+                "nested",
+                ConfigurationError.group("string", UNKNOWN),
+                ConfigurationError.group(
+                    "doubly-nested", ConfigurationError.group("string", UNKNOWN)))),
+        errors);
+  }
+}
@@ -0,0 +1,86 @@
+package me.sparky983.warp.internal.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Parameter;
+import java.util.Optional;
+import me.sparky983.warp.ConfigurationNode;
+import me.sparky983.warp.Deserializer;
+import me.sparky983.warp.Renderer;
+import org.junit.jupiter.api.Test;
+
+class RendererCacheTest {
+  static final Parameter[] NO_PARAMETERS = new Parameter[0];
+  static final Object PROPERTY = new Object();
+
+  @Test
+  void testGet_Empty() {
+    final RendererCache cache = new RendererCache();
+
+    assertNull(cache.get(PROPERTY, ConfigurationNode.string("value"), NO_PARAMETERS));
+  }
+
+  @Test
+  void testGet_Next() {
+    final Renderer<String> renderer = Renderer.of("value");
+    final RendererCache cache = new RendererCache();
+    cache.put(PROPERTY, ConfigurationNode.string("value"), NO_PARAMETERS, renderer);
+
+    final RendererCache next = cache.next();
+
+    assertSame(renderer, next.get(PROPERTY, ConfigurationNode.string("value"), NO_PARAMETERS));
+    assertNull(next.get(PROPERTY, ConfigurationNode.string("other"), NO_PARAMETERS));
+    assertNull(next.get(new Object(), ConfigurationNode.string("value"), NO_PARAMETERS));
+  }
+
+  @Test
+  void testGet_OnlyRetainsUsedRenderers() {
+    final Renderer<String> renderer = Renderer.of("value");
+    final RendererCache cache = new RendererCache();
+    cache.put(PROPERTY, ConfigurationNode.string("value"), NO_PARAMETERS, renderer);
+    cache.put(PROPERTY, ConfigurationNode.string("unused"), NO_PARAMETERS, renderer);
+    final RendererCache next = cache.next();
+    next.get(PROPERTY, ConfigurationNode.string("value"), NO_PARAMETERS);
+
+    final RendererCache afterNext = next.next();
+
+    assertSame(renderer, afterNext.get(PROPERTY, ConfigurationNode.string("value"), NO_PARAMETERS));
+    assertNull(afterNext.get(PROPERTY, ConfigurationNode.string("unused"), NO_PARAMETERS));
+  }
+
+  @Test
+  void testContext_Null() {
+    final RendererCache cache = new RendererCache();
+
+    assertThrows(NullPointerException.class, () -> cache.context(null));
+  }
+
+  @Test
+  void testContext() {
+    final RendererCache cache = new RendererCache();
+    final Deserializer<String> deserializer = (node, context) -> Renderer.of("value");
+    final Deserializer.Context context =
+        new Deserializer.Context() {
+          @Override
+          public Parameter[] parameters() {
+            return NO_PARAMETERS;
+          }
+
+          @SuppressWarnings({"unchecked", "rawtypes"})
+          @Override
+          public <T> Optional<Deserializer<T>> deserializer(final Class<T> type) {
+            return (Optional) Optional.of(deserializer);
+          }
+        };
+
+    final Deserializer.Context cachingContext = cache.context(context);
+
+    assertSame(cache, RendererCache.of(cachingContext));
+    assertNull(RendererCache.of(context));
+    assertSame(NO_PARAMETERS, cachingContext.parameters());
+    assertEquals(Optional.of(deserializer), cachingContext.deserializer(String.class));
+  }
+}
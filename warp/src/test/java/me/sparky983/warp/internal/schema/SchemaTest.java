@@ -0,0 +1,102 @@
+package me.sparky983.warp.internal.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import me.sparky983.warp.Configurations;
+import org.junit.jupiter.api.Test;
+
+class SchemaTest {
+  @Test
+  void testFromClass_Null() {
+    assertThrows(NullPointerException.class, () -> Schema.fromClass(null));
+  }
+
+  @Test
+  void testFromClass_Invalid() {
+    assertThrows(
+        IllegalArgumentException.class, () -> Schema.fromClass(Configurations.Sealed.class));
+    assertThrows(
+        IllegalArgumentException.class, () -> Schema.fromClass(Configurations.Sealed.class));
+  }
+
+  @Test
+  void testFromClass_Cached() {
+    assertSame(
+        Schema.fromClass(Configurations.String.class),
+        Schema.fromClass(Configurations.String.class));
+  }
+
+  @Test
+  void testFromClass_DifferentClasses() {
+    assertNotSame(
+        Schema.fromClass(Configurations.String.class),
+        Schema.fromClass(Configurations.Empty.class));
+  }
+
+  @Test
+  void testPath_Null() {
+    final Schema<Configurations.String> schema = Schema.fromClass(Configurations.String.class);
+
+    assertThrows(NullPointerException.class, () -> schema.path(null));
+  }
+
+  @Test
+  void testPath() {
+    assertEquals(
+        "property",
+        Schema.fromClass(Configurations.String.class).path(Configurations.String::property));
+    assertEquals(
+        "nested.property",
+        Schema.fromClass(Configurations.NestedProperty.class)
+            .path(Configurations.NestedProperty::property));
+  }
+
+  @Test
+  void testPath_Primitive() {
+    assertEquals(
+        "property",
+        Schema.fromClass(Configurations.Integer.class).path(Configurations.Integer::property));
+  }
+
+  @Test
+  void testPath_NestedConfiguration() {
+    final Schema<Configurations.NestedString> schema =
+        Schema.fromClass(Configurations.NestedString.class);
+
+    assertEquals("property", schema.path(Configurations.NestedString::property));
+    assertEquals(
+        "property.property",
+        schema.path((configuration) -> configuration.property().property()));
+  }
+
+  @Test
+  void testPath_NoProperty() {
+    final Schema<Configurations.String> schema = Schema.fromClass(Configurations.String.class);
+
+    assertThrows(IllegalArgumentException.class, () -> schema.path((configuration) -> "value"));
+    assertThrows(IllegalArgumentException.class, () -> schema.path(Object::toString));
+  }
+
+  @Test
+  void testPath_MultipleProperties() {
+    final Schema<Configurations.Recursive> schema =
+        Schema.fromClass(Configurations.Recursive.class);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> schema.path((configuration) -> configuration.name() + configuration.children()));
+  }
+
+  @Test
+  void testPath_ParameterizedProperty() {
+    final Schema<Configurations.ParameterizedProperty> schema =
+        Schema.fromClass(Configurations.ParameterizedProperty.class);
+
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> schema.path((configuration) -> configuration.property("argument")));
+  }
+}
@@ -165,6 +165,90 @@ public final class Configurations {
     List<Random> property();
   }
 
+  @Configuration
+  public interface IntegerList {
+    @Property("property")
+    List<java.lang.Integer> property();
+  }
+
+  @Configuration
+  public interface LongList {
+    @Property("property")
+    List<java.lang.Long> property();
+  }
+
+  @Configuration
+  public interface DoubleList {
+    @Property("property")
+    List<java.lang.Double> property();
+  }
+
+  @Configuration
+  public interface IntArray {
+    @Property("property")
+    int[] property();
+  }
+
+  @Configuration
+  public interface LongArray {
+    @Property("property")
+    long[] property();
+  }
+
+  @Configuration
+  public interface DoubleArray {
+    @Property("property")
+    double[] property();
+  }
+
+  @Configuration
+  public interface StringArray {
+    @Property("property")
+    java.lang.String[] property();
+  }
+
+  @Configuration
+  public interface BooleanArray {
+    @Property("property")
+    boolean[] property();
+  }
+
+  @Configuration
+  public interface StringListArray {
+    @Property("property")
+    List<java.lang.String>[] property();
+  }
+
+  @Configuration
+  public interface IntArrayArray {
+    @Property("property")
+    int[][] property();
+  }
+
+  @Configuration
+  public interface IntArrayList {
+    @Property("property")
+    List<int[]> property();
+  }
+
+  @Configuration
+  public interface IntArrayMap {
+    @Property("property")
+    java.util.Map<java.lang.String, int[]> property();
+  }
+
+  @Configuration
+  public interface IntArrayOptional {
+    @Property("property")
+    Optional<int[]> property();
+  }
+
+  @Configuration
+  public interface NonDeserializableArray {
+    @Property("property")
+    Random[] property();
+  }
+
   @SuppressWarnings("rawtypes")
   @Configuration
   public interface RawList {
@@ -184,6 +268,43 @@ public final class Configurations {
     java.util.Map<java.lang.Integer, java.lang.String> property();
   }
 
+  @Configuration
+  public interface EnumStringMap {
+    @Property("property")
+    java.util.Map<RetentionPolicy, java.lang.String> property();
+  }
+
+  @Configuration
+  public interface StringSet {
+    @Property("property")
+    java.util.Set<java.lang.String> property();
+  }
+
+  @Configuration
+  public interface EnumSet {
+    @Property("property")
+    java.util.Set<RetentionPolicy> property();
+  }
+
+  @Configuration
+  public interface EnumEnumSet {
+    @Property("property")
+    java.util.EnumSet<RetentionPolicy> property();
+  }
+
+  @Configuration
+  public interface NonDeserializableSet {
+    @Property("property")
+    java.util.Set<Random> property();
+  }
+
+  @SuppressWarnings("rawtypes")
+  @Configuration
+  public interface RawSet {
+    @Property("property")
+    java.util.Set property();
+  }
+
   @Configuration
   public interface NonDeserializableKeyMap {
     @Property("property")
@@ -264,6 +385,15 @@ public final class Configurations {
     Sealed property();
   }
 
+  @Configuration
+  public interface Recursive {
+    @Property("name")
+    java.lang.String name();
+
+    @Property("children")
+    List<Recursive> children();
+  }
+
   @Configuration
   public interface Enum {
     @Property("property")